@@ -11,6 +11,7 @@ import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.security.Actor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,9 +32,9 @@ public class ApiV1AdminController {
 	// ✅ 큐레이션 삭제
 	@DeleteMapping("/curations/{curationId}")
 	public RsData<String> deleteCuration(@PathVariable Long curationId) {
-		Member member = rq.getActor();
+		Actor actor = rq.getActor();
 
-		curationService.deleteCuration(curationId, member);
+		curationService.deleteCuration(curationId, actor);
 		return new RsData<>("204-1", "글이 성공적으로 삭제되었습니다.", null);
 	}
 
@@ -62,6 +62,7 @@ public class AdminService {
 			throw new NotFoundException("멤버를 찾을 수 없습니다.");
 		}
 
+		memberService.revokeAccessTokens(Id);
 		memberRepository.deleteById(Id);
 	}
 
@@ -7,15 +7,14 @@ import com.team8.project2.domain.comment.entity.Comment;
 import com.team8.project2.domain.comment.repository.CommentRepository;
 import com.team8.project2.domain.comment.repository.ReplyCommentRepository;
 import com.team8.project2.domain.comment.service.CommentService;
-import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
+import com.team8.project2.global.security.Actor;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -43,8 +42,7 @@ public class ApiV1CommentController {
 	@PostMapping
 	@PreAuthorize("isAuthenticated()")
 	public RsData<CommentDto> createComment(@PathVariable Long curationId, @RequestBody CommentDto commentDto) {
-		Member actor = rq.getActor();
-		CommentDto createdComment = commentService.createComment(actor, curationId, commentDto);
+		CommentDto createdComment = commentService.createComment(curationId, commentDto);
 		return new RsData("200-2", "댓글이 작성되었습니다.", createdComment);
 	}
 
@@ -74,11 +72,11 @@ public class ApiV1CommentController {
 	 * @return 수정된 댓글
 	 */
 	@PutMapping("/{id}")
-	@PreAuthorize("@commentService.canEditComment(#commentId, #userDetails)")
+	@PreAuthorize("@commentService.canEditComment(#commentId, #actor)")
 	public RsData<CommentDto> updateComment(
 		@PathVariable(name = "id") Long commentId,
 		@RequestBody CommentDto commentDto,
-		@AuthenticationPrincipal UserDetails userDetails
+		@AuthenticationPrincipal Actor actor
 	) {
 		CommentDto updatedComment = commentService.updateComment(commentId, commentDto);
 		return new RsData("200-2", "댓글이 수정되었습니다.", updatedComment);
@@ -89,16 +87,16 @@ public class ApiV1CommentController {
 	 * @param commentId 댓글 ID
 	 * @param replyId 답글 ID
 	 * @param replyDto 변경할 답글 내용 DTO
-	 * @param userDetails 인증 정보
+	 * @param actor 인증 정보
 	 * @return
 	 */
 	@PutMapping("/{commentId}/reply/{id}")
-	@PreAuthorize("@commentService.canEditReply(#replyId, #userDetails)")
+	@PreAuthorize("@commentService.canEditReply(#replyId, #actor)")
 	public RsData<ReplyCommentDto> updateReply(
 		@PathVariable Long commentId,
 		@PathVariable(name = "id") Long replyId,
 		@RequestBody CommentDto replyDto,
-		@AuthenticationPrincipal UserDetails userDetails
+		@AuthenticationPrincipal Actor actor
 	) {
 		ReplyCommentDto updatedReplyDto = commentService.updateReply(replyId, replyDto);
 		return new RsData("200-2", "답글이 수정되었습니다.", updatedReplyDto);
@@ -110,21 +108,21 @@ public class ApiV1CommentController {
 	 * @return 빈 응답 객체를 포함한 응답
 	 */
 	@DeleteMapping("/{id}")
-	@PreAuthorize("@commentService.canDeleteComment(#commentId, #userDetails)")
+	@PreAuthorize("@commentService.canDeleteComment(#commentId, #actor)")
 	public RsData<Void> deleteComment(
 		@PathVariable(name = "id") Long commentId,
-		@AuthenticationPrincipal UserDetails userDetails
+		@AuthenticationPrincipal Actor actor
 	) {
 		commentService.deleteComment(commentId);
 		return new RsData<>("200-1", "댓글이 삭제되었습니다.");
 	}
 
 	@DeleteMapping("/{commentId}/reply/{id}")
-	@PreAuthorize("@commentService.canDeleteReply(#replyId, #userDetails)")
+	@PreAuthorize("@commentService.canDeleteReply(#replyId, #actor)")
 	public RsData<Void> deleteReply(
 		@PathVariable Long commentId,
 		@PathVariable(name = "id") Long replyId,
-		@AuthenticationPrincipal UserDetails userDetails
+		@AuthenticationPrincipal Actor actor
 	) {
 		commentService.deleteReply(replyId);
 		return new RsData<>("200-1", "답글이 삭제되었습니다.");
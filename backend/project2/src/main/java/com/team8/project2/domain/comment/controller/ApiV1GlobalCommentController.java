@@ -5,11 +5,9 @@ import com.team8.project2.domain.comment.entity.Comment;
 import com.team8.project2.domain.comment.service.CommentService;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.service.CurationService;
-import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
-import com.team8.project2.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -30,10 +28,7 @@ public class ApiV1GlobalCommentController {
 
     @GetMapping("/mycomments")
     public RsData<List<CommentDto>> getCommentsByCurationId() {
-        Member author = rq.getActor();
-        Member member = memberService.findById(author.getId())
-                .orElseThrow(() -> new ServiceException("404-1", "해당 회원을 찾을 수 없습니다."));
-        List<CommentDto> commentDtos = commentService.findAllByAuthorId(member.getId());
+        List<CommentDto> commentDtos = commentService.findAllByAuthorId(rq.getActor().getId());
 
         return RsData.success("내 댓글 조회 성공", commentDtos);
     }
@@ -42,7 +37,7 @@ public class ApiV1GlobalCommentController {
     public RsData<Void> deleteComment(
             @PathVariable(name = "id") Long commentId
     ) {
-        Member author = rq.getActor();
+        rq.getActor();
         commentService.deleteComment(commentId);
         return new RsData<>("200-1", "댓글이 삭제되었습니다.");
     }
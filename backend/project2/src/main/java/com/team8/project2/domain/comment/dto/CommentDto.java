@@ -32,6 +32,9 @@ public class CommentDto {
 	/** 댓글 작성자의 프로필 이미지 */
 	private String authorProfileImageUrl;
 
+	/** 댓글 작성자의 프로필 썸네일 (아직 만들어지지 않았으면 null) */
+	private String authorProfileImageThumbUrl;
+
 	/** 댓글 내용 */
 	private String content;
 
@@ -51,6 +54,7 @@ public class CommentDto {
 			.id(comment.getId())
 			.authorName(comment.getAuthor().getUsername())
 			.authorProfileImageUrl(comment.getAuthor().getProfileImage())
+			.authorProfileImageThumbUrl(comment.getAuthorImgThumbUrl())
 			.content(comment.getContent())
 			.createdAt(comment.getCreatedAt())
 			.modifiedAt(comment.getModifiedAt())
@@ -93,6 +93,10 @@ public class Comment {
         return author.getProfileImage();
     }
 
+    public String getAuthorImgThumbUrl() {
+        return author.getProfileImageThumbnail();
+    }
+
     public void updateContent(String content) {
         this.content = content;
     }
@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.hibernate.annotations.Comments;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +18,7 @@ import com.team8.project2.domain.curation.curation.repository.CurationRepository
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.security.Actor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,6 +37,16 @@ public class CommentService {
 	private final ReplyCommentRepository replyCommentRepository;
 	private final Rq rq;
 
+	/**
+	 * 현재 로그인한 회원을 작성자로 새로운 댓글을 생성합니다.
+	 * @param commentDto 댓글 생성 요청 데이터
+	 * @return 생성된 댓글의 정보를 반환합니다.
+	 */
+	@Transactional
+	public CommentDto createComment(Long curationId, CommentDto commentDto) {
+		return createComment(rq.getActorReference(), curationId, commentDto);
+	}
+
 	/**
 	 * 새로운 댓글을 생성합니다.
 	 * @param commentDto 댓글 생성 요청 데이터
@@ -88,15 +98,15 @@ public class CommentService {
 	}
 
 	// 댓글 수정 권한 체크 메서드
-	public boolean canEditComment(Long commentId, UserDetails userDetails) {
-		if (userDetails == null) {
+	public boolean canEditComment(Long commentId, Actor actor) {
+		if (actor == null) {
 			throw new ServiceException("401-1", "사용자 정보가 없습니다.");
 		}
 
 		Comment comment = commentRepository.findById(commentId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 댓글을 찾을 수 없습니다."));
 
-		if (!comment.getAuthor().getMemberId().equals(userDetails.getUsername())) {
+		if (!comment.getAuthor().getId().equals(actor.getId())) {
 			throw new ServiceException("403-2", "댓글을 수정할 권한이 없습니다.");
 		}
 
@@ -104,15 +114,15 @@ public class CommentService {
 	}
 
 	// 댓글 삭제 권한 체크 메서드
-	public boolean canDeleteComment(Long commentId, UserDetails userDetails) {
-		if (userDetails == null) {
+	public boolean canDeleteComment(Long commentId, Actor actor) {
+		if (actor == null) {
 			throw new ServiceException("401-1", "사용자 정보가 없습니다.");
 		}
 
 		Comment comment = commentRepository.findById(commentId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 댓글을 찾을 수 없습니다."));
 
-		if (!comment.getAuthor().getMemberId().equals(userDetails.getUsername())) {
+		if (!comment.getAuthor().getId().equals(actor.getId())) {
 			throw new ServiceException("403-2", "댓글을 삭제할 권한이 없습니다.");
 		}
 
@@ -148,37 +158,37 @@ public class CommentService {
 		ReplyComment reply = ReplyComment.builder()
 			.curation(curation)
 			.comment(comment)
-			.author(rq.getActor())
+			.author(rq.getActorReference())
 			.content(content)
 			.build();
 		ReplyComment savedReply = replyCommentRepository.save(reply);
 		return ReplyCommentDto.fromEntity(savedReply);
 	}
 
-	public boolean canEditReply(Long replyId, UserDetails userDetails) {
-		if (userDetails == null) {
+	public boolean canEditReply(Long replyId, Actor actor) {
+		if (actor == null) {
 			throw new ServiceException("401-1", "사용자 정보가 없습니다.");
 		}
 
 		ReplyComment reply = replyCommentRepository.findById(replyId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 답글을 찾을 수 없습니다."));
 
-		if (!reply.getAuthor().getMemberId().equals(userDetails.getUsername())) {
+		if (!reply.getAuthor().getId().equals(actor.getId())) {
 			throw new ServiceException("403-2", "답글을 수정할 권한이 없습니다.");
 		}
 
 		return true;
 	}
 
-	public boolean canDeleteReply(Long replyId, UserDetails userDetails) {
-		if (userDetails == null) {
+	public boolean canDeleteReply(Long replyId, Actor actor) {
+		if (actor == null) {
 			throw new ServiceException("401-1", "사용자 정보가 없습니다.");
 		}
 
 		ReplyComment reply = replyCommentRepository.findById(replyId)
 			.orElseThrow(() -> new ServiceException("404-2", "해당 답글을 찾을 수 없습니다."));
 
-		if (!reply.getAuthor().getMemberId().equals(userDetails.getUsername())) {
+		if (!reply.getAuthor().getId().equals(actor.getId())) {
 			throw new ServiceException("403-2", "답글을 삭제할 권한이 없습니다.");
 		}
 
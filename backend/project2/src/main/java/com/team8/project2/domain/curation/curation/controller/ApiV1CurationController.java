@@ -4,6 +4,7 @@ import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationReqDTO;
 import com.team8.project2.domain.curation.curation.dto.CurationResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationSearchResDto;
+import com.team8.project2.domain.curation.curation.dto.CurationSummaryResDto;
 import com.team8.project2.domain.curation.curation.dto.TrendingCurationResDto;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.entity.SearchOrder;
@@ -16,7 +17,10 @@ import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.domain.playlist.dto.PlaylistDto;
 import com.team8.project2.domain.playlist.service.PlaylistService;
 import com.team8.project2.global.Rq;
+import com.team8.project2.global.dto.CounterResDto;
 import com.team8.project2.global.dto.RsData;
+import com.team8.project2.global.security.Actor;
+import com.team8.project2.global.web.ResourceVersion;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -26,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -55,7 +60,8 @@ public class ApiV1CurationController {
 	 */
 	@PostMapping
 	public RsData<CurationResDto> createCuration(@RequestBody CurationReqDTO curationReq) {
-		Member member = rq.getActor();
+		// 응답에 작성자 프로필 이미지가 필요하므로 회원 엔티티를 조회
+		Member member = rq.getRealActor();
 
 		Curation createdCuration = curationService.createCuration(curationReq.getTitle(), curationReq.getContent(),
 			curationReq.getLinkReqDtos().stream().map(url -> url.getUrl()).collect(Collectors.toUnmodifiableList()),
@@ -72,12 +78,12 @@ public class ApiV1CurationController {
 	 */
 	@PutMapping("/{id}")
 	public RsData<CurationResDto> updateCuration(@PathVariable Long id, @RequestBody CurationReqDTO curationReq) {
-		Member member = rq.getActor();
+		Actor actor = rq.getActor();
 
 		Curation updatedCuration = curationService.updateCuration(id, curationReq.getTitle(), curationReq.getContent(),
 			curationReq.getLinkReqDtos().stream().map(url -> url.getUrl()).collect(Collectors.toUnmodifiableList()),
 			curationReq.getTagReqDtos().stream().map(tag -> tag.getName()).collect(Collectors.toUnmodifiableList()),
-			member);
+			actor);
 		return new RsData<>("200-1", "글이 성공적으로 수정되었습니다.", new CurationResDto(updatedCuration));
 	}
 
@@ -88,23 +94,52 @@ public class ApiV1CurationController {
 	 */
 	@DeleteMapping("/{id}")
 	public RsData<Void> deleteCuration(@PathVariable Long id) {
-		Member member = rq.getActor();
-		curationService.deleteCuration(id, member);
+		Actor actor = rq.getActor();
+		curationService.deleteCuration(id, actor);
 		return new RsData<>("204-1", "글이 성공적으로 삭제되었습니다.", null);
 	}
 
 	/**
 	 * 특정 큐레이션을 조회합니다.
+	 * 요청의 ETag/수정 시각이 현재 버전과 같으면 상세 응답을 만들지 않고 304로 응답합니다.
+	 * 동시 요청이 로딩 결과를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션은 서비스에서만 엽니다.
 	 * @param id 큐레이션 ID
 	 * @return 조회된 큐레이션 정보 응답
 	 */
 	@GetMapping("/{id}")
-	@Transactional(readOnly = true)
-	public RsData<CurationDetailResDto> getCuration(@PathVariable Long id, HttpServletRequest request) {
+	public ResponseEntity<RsData<CurationDetailResDto>> getCuration(@PathVariable Long id,
+		HttpServletRequest request) {
+		ResourceVersion version = curationService.getCurationVersion(id);
+		if (version.isNotModified(request)) {
+			curationService.recordView(id, request);
+			return version.notModified();
+		}
+
 		// 큐레이션 서비스 호출 시 IP를 전달
 		CurationDetailResDto curationDetailResDto = curationService.getCuration(id, request);
 
-		return new RsData<>("200-1", "조회 성공", curationDetailResDto);
+		return version.ok(new RsData<>("200-1", "조회 성공", curationDetailResDto));
+	}
+
+	/**
+	 * 큐레이션의 실시간 조회수와 좋아요 수를 조회합니다.
+	 * @param id 큐레이션 ID
+	 * @return 카운터 응답
+	 */
+	@GetMapping("/{id}/counters")
+	public RsData<CounterResDto> getCounters(@PathVariable Long id) {
+		return new RsData<>("200-1", "조회 성공", curationService.getCounters(id));
+	}
+
+	/**
+	 * 이 큐레이션을 좋아한 회원들이 함께 좋아한 큐레이션 목록을 조회합니다.
+	 * @param id 큐레이션 ID
+	 * @return 유사 큐레이션 목록 응답
+	 */
+	@GetMapping("/{id}/also-liked")
+	public RsData<List<CurationSummaryResDto>> getAlsoLikedCurations(@PathVariable Long id) {
+		List<CurationSummaryResDto> curations = curationService.getAlsoLikedCurations(id);
+		return new RsData<>("200-1", "함께 좋아한 큐레이션이 조회되었습니다.", curations);
 	}
 
 	/**
@@ -165,7 +200,7 @@ public class ApiV1CurationController {
 	@PreAuthorize("isAuthenticated()")
 	public RsData<List<CurationResDto>> followingCuration(@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "20") int size) {
-		Member actor = rq.getActor();
+		Actor actor = rq.getActor();
 		List<CurationResDto> curations = curationService.getFollowingCurations(actor, page, size);
 		return new RsData<>("200-1", "팔로우중인 큐레이터의 큐레이션이 조회되었습니다.", curations);
 	}
@@ -190,7 +225,7 @@ public class ApiV1CurationController {
 	@GetMapping("/{curationId}/playlists")
 	@Transactional(readOnly = true)
 	public RsData<List<PlaylistDto>> getPlaylistsForCuration(@PathVariable Long curationId) {
-		Member member = rq.getActor();
+		Member member = rq.getActorReference();
 		List<PlaylistDto> playlists = playlistService.getPlaylistsByMemberAndCuration(member, curationId);
 		return RsData.success("플레이리스트 조회 성공", playlists);
 	}
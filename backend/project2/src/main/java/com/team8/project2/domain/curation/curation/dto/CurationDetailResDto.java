@@ -17,7 +17,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class CurationDetailResDto {
@@ -36,6 +36,9 @@ public class CurationDetailResDto {
 
 	private String authorImgUrl;
 
+	/** 작성자 프로필 썸네일 (목록, 아바타용, 아직 만들어지지 않았으면 null) */
+	private String authorImgThumbUrl;
+
 	/** 큐레이션에 포함된 링크 목록 */
 	private List<LinkResDto> urls;
 
@@ -106,6 +109,7 @@ public class CurationDetailResDto {
 		private long authorId;
 		private String authorName;
 		private String authorImgUrl;
+		private String authorImgThumbUrl;
 		private String content;
 		private LocalDateTime createdAt;
 		private LocalDateTime modifiedAt;
@@ -116,6 +120,7 @@ public class CurationDetailResDto {
 			this.authorId = comment.getAuthorId();
 			this.authorName = comment.getAuthorName();
 			this.authorImgUrl = comment.getAuthorImgUrl();
+			this.authorImgThumbUrl = comment.getAuthorImgThumbUrl();
 			this.content = comment.getContent();
 			this.createdAt = comment.getCreatedAt();
 			this.modifiedAt = comment.getModifiedAt();
@@ -126,6 +131,25 @@ public class CurationDetailResDto {
 		}
 	}
 
+	/**
+	 * 공유 중인 상세 DTO에 실시간 좋아요 수와 조회자별 값을 덮어쓴 복사본을 만듭니다.
+	 * 원본은 여러 요청이 함께 사용하므로 변경하지 않습니다.
+	 *
+	 * @param likeCount 실시간 좋아요 수
+	 * @param isLiked 조회자의 좋아요 여부
+	 * @param isFollowed 조회자의 작성자 팔로우 여부
+	 * @param isLogin 조회자의 로그인 여부
+	 * @return 조회자용 상세 DTO
+	 */
+	public CurationDetailResDto overlay(long likeCount, boolean isLiked, boolean isFollowed, boolean isLogin) {
+		return toBuilder()
+			.likeCount(likeCount)
+			.isLiked(isLiked)
+			.isFollowed(isFollowed)
+			.isLogin(isLogin)
+			.build();
+	}
+
 	/**
 	 * 엔티티(Curation) 객체를 DTO(CurationDetailResDto)로 변환합니다.
 	 *
@@ -143,6 +167,7 @@ public class CurationDetailResDto {
 			.authorId(curation.getMemberId())
 			.authorName(curation.getMemberName())
 			.authorImgUrl(curation.getMemberImgUrl())
+			.authorImgThumbUrl(curation.getMemberImgThumbUrl())
 			.urls(curation.getCurationLinks().stream()
 				.map(cl -> new LinkResDto(cl.getLink()))
 				.collect(Collectors.toList()))
@@ -34,6 +34,9 @@ public class CurationResDto {
     /** 이미지 url */
     private String memberImgUrl;
 
+    /** 작성자 프로필 썸네일 url (목록, 아바타용, 아직 만들어지지 않았으면 null) */
+    private String memberImgThumbUrl;
+
     /** 큐레이션에 포함된 링크 목록 */
     private List<LinkResDto> urls;
 
@@ -102,6 +105,7 @@ public class CurationResDto {
         this.modifiedAt = curation.getModifiedAt();
         this.authorName = curation.getMemberName();
         this.memberImgUrl = curation.getMemberImgUrl();
+        this.memberImgThumbUrl = curation.getMemberImgThumbUrl();
         this.likeCount = curation.getLikeCount();
         this.viewCount = curation.getViewCount();
         this.commentCount = curation.getCommentCount();
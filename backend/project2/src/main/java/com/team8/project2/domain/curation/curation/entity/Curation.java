@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -14,6 +16,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.team8.project2.domain.comment.entity.Comment;
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.global.cache.CacheRegions;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -83,6 +86,15 @@ public class Curation {
     @Column(name = "modifiedAt")
     private LocalDateTime modifiedAt;
 
+    /**
+     * 본문 구성(제목, 내용, 링크, 태그)이 바뀔 때마다 1씩 올리는 버전 (상세 응답의 ETag 계산에 사용)
+     * 링크/태그는 연관 엔티티만 바뀌어 수정 시간이 갱신되지 않으므로, 수정하는 서비스 메서드에서 직접 올립니다.
+     */
+    @Builder.Default
+    @Setter(AccessLevel.PRIVATE)
+    @Column(name = "contentVersion", nullable = false)
+    private long contentVersion = 0L;
+
     /**
      * 큐레이션 좋아요 수 (기본값 0)
      */
@@ -108,12 +120,14 @@ public class Curation {
     /**
      * 큐레이션에 포함된 링크 목록 (CurationLink와 1:N 관계)
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CURATION_LINKS)
     @OneToMany(mappedBy = "curation", fetch = FetchType.LAZY, orphanRemoval = true)
     private List<CurationLink> curationLinks = new ArrayList<>();
 
     /**
      * 큐레이션에 포함된 태그 목록 (CurationTag와 1:N 관계)
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CURATION_TAGS)
     @OneToMany(mappedBy = "curation", fetch = FetchType.LAZY, orphanRemoval = true)
     private List<CurationTag> tags = new ArrayList<>();
 
@@ -148,6 +162,10 @@ public class Curation {
         return member.getProfileImage();
     }
 
+    public String getMemberImgThumbUrl() {
+        return member.getProfileImageThumbnail();
+    }
+
     public List<String> getImageNames() {
         List<String> imageFileNames = new ArrayList<>();
         Document document = Jsoup.parse(content);
@@ -170,4 +188,11 @@ public class Curation {
     public int getCommentCount() {
         return comments.size();
     }
+
+    /**
+     * 본문 구성 버전을 올립니다. (엔티티가 변경되므로 수정 시간도 함께 갱신됨)
+     */
+    public void increaseContentVersion() {
+        this.contentVersion++;
+    }
 }
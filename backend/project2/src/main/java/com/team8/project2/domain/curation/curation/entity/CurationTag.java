@@ -1,10 +1,13 @@
 package com.team8.project2.domain.curation.curation.entity;
 
 import com.team8.project2.domain.curation.tag.entity.Tag;
+import com.team8.project2.global.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 
@@ -15,6 +18,8 @@ import java.io.Serializable;
 @Entity
 @Getter
 @Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CURATION_TAG)
 public class CurationTag {
 
     /**
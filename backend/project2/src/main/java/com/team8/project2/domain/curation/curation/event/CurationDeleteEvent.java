@@ -1,5 +1,7 @@
 package com.team8.project2.domain.curation.curation.event;
 
+import java.util.Set;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,4 +9,6 @@ import lombok.Getter;
 @AllArgsConstructor
 public class CurationDeleteEvent {
 	private Long curationId;
+	/** 삭제된 큐레이션 본문에 포함되어 있던 이미지 이름 */
+	private Set<String> imageNames;
 }
@@ -0,0 +1,11 @@
+package com.team8.project2.domain.curation.curation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CurationLikeEvent {
+	private Long curationId;
+	private Long memberId;
+}
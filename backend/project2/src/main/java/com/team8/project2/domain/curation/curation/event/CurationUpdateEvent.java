@@ -1,6 +1,6 @@
 package com.team8.project2.domain.curation.curation.event;
 
-import java.util.List;
+import java.util.Set;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -9,5 +9,6 @@ import lombok.Getter;
 @Builder
 public class CurationUpdateEvent {
 	private Long curationId;
-	private List<String> imageUrls;
+	/** 수정으로 본문에서 빠진 이미지 이름 */
+	private Set<String> removedImageNames;
 }
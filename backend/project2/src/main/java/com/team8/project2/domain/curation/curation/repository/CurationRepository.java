@@ -7,10 +7,12 @@ import com.team8.project2.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -101,4 +103,45 @@ public interface CurationRepository extends JpaRepository<Curation, Long> {
 	List<Curation> findTop3ByOrderByViewCountDesc();
 
 	List<Curation> findByIdIn(List<Long> reportedcurations);
+
+	/**
+	 * 여러 큐레이션의 제목만 한 번에 조회합니다.
+	 *
+	 * @param curationIds 조회할 큐레이션 ID 목록
+	 * @return [큐레이션 ID, 제목] 배열 목록
+	 */
+	@Query("SELECT c.id, c.title FROM Curation c WHERE c.id IN :curationIds")
+	List<Object[]> findTitlesByIds(@Param("curationIds") Collection<Long> curationIds);
+
+	/**
+	 * 큐레이션 상세 응답의 버전(ETag)을 계산하는 데 필요한 값을 한 번에 조회합니다.
+	 * 본문 구성(제목, 내용, 링크, 태그)은 구성 버전으로 확인하고, 다른 엔티티의 변경은 개수와 최종 수정 시각으로 확인합니다.
+	 * 합계처럼 서로 다른 상태가 같은 값이 될 수 있는 집계는 사용하지 않습니다. (링크 클릭 수는 증가만 하므로 합계 사용)
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return [수정 시각, 구성 버전, 조회수, 좋아요 수, 작성자 ID, 작성자 수정 시각,
+	 *          댓글 수, 댓글 최종 수정 시각, 댓글 작성자 최종 수정 시각,
+	 *          답글 수, 답글 최종 수정 시각, 링크 클릭 수 합, 링크 최종 수정 시각] (없으면 빈 목록)
+	 */
+	@Query("SELECT c.modifiedAt, c.contentVersion, c.viewCount, c.likeCount, c.member.id, c.member.modifiedDate, " +
+		"(SELECT COUNT(cm) FROM Comment cm WHERE cm.curation = c), " +
+		"(SELECT MAX(cm.modifiedAt) FROM Comment cm WHERE cm.curation = c), " +
+		"(SELECT MAX(cm.author.modifiedDate) FROM Comment cm WHERE cm.curation = c), " +
+		"(SELECT COUNT(r) FROM ReplyComment r WHERE r.comment.curation = c), " +
+		"(SELECT MAX(r.modifiedAt) FROM ReplyComment r WHERE r.comment.curation = c), " +
+		"(SELECT COALESCE(SUM(cl.link.click), 0) FROM CurationLink cl WHERE cl.curation = c), " +
+		"(SELECT MAX(cl.link.modifiedAt) FROM CurationLink cl WHERE cl.curation = c) " +
+		"FROM Curation c WHERE c.id = :curationId")
+	List<Object[]> findDetailVersion(@Param("curationId") Long curationId);
+
+	/**
+	 * 큐레이션 조회수에 누적된 증가분을 더합니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @param delta 증가분
+	 * @return 변경된 행 수
+	 */
+	@Modifying
+	@Query("UPDATE Curation c SET c.viewCount = c.viewCount + :delta WHERE c.id = :curationId")
+	int increaseViewCount(@Param("curationId") Long curationId, @Param("delta") long delta);
 }
@@ -0,0 +1,53 @@
+package com.team8.project2.domain.curation.curation.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.global.cache.SingleFlight;
+import com.team8.project2.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 큐레이션 상세 응답 중 조회자와 무관한 부분을 로딩하는 컴포넌트입니다.
+ * <p>
+ * 같은 큐레이션에 대한 동시 조회는 {@link SingleFlight}로 합쳐 한 번만 엔티티 그래프를 읽고 DTO를 만듭니다.
+ * 트랜잭션은 실제로 로딩하는 요청에서만 열어, 결과를 기다리는 요청은 DB 커넥션을 점유하지 않습니다.
+ * 반환된 DTO는 여러 요청이 공유하므로 조회자별 값은 {@link CurationDetailResDto#overlay}로 복사본에 덮어씁니다.
+ */
+@Component
+public class CurationDetailLoader {
+
+	private final CurationRepository curationRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final SingleFlight<Long, CurationDetailResDto> singleFlight;
+
+	public CurationDetailLoader(CurationRepository curationRepository, PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry) {
+		this.curationRepository = curationRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.singleFlight = new SingleFlight<>("curation_detail", meterRegistry);
+	}
+
+	/**
+	 * 조회자별 값(좋아요/팔로우/로그인 여부)이 비어 있는 큐레이션 상세를 로딩합니다.
+	 * 좋아요 수와 조회수는 DB에 반영된 값입니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return 여러 요청이 공유하는 상세 DTO (변경 금지)
+	 */
+	public CurationDetailResDto load(Long curationId) {
+		return singleFlight.execute(curationId, () -> readOnlyTransaction.execute(status -> read(curationId)));
+	}
+
+	private CurationDetailResDto read(Long curationId) {
+		Curation curation = curationRepository.findById(curationId)
+			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
+		return CurationDetailResDto.fromEntity(curation, false, false, false);
+	}
+}
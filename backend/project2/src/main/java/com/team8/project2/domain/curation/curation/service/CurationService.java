@@ -1,24 +1,24 @@
 package com.team8.project2.domain.curation.curation.service;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,12 +26,15 @@ import org.springframework.transaction.annotation.Transactional;
 import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationResDto;
 import com.team8.project2.domain.curation.curation.dto.CurationSearchResDto;
+import com.team8.project2.domain.curation.curation.dto.CurationSummaryResDto;
 import com.team8.project2.domain.curation.curation.dto.TrendingCurationResDto;
 import com.team8.project2.domain.curation.curation.entity.Curation;
 import com.team8.project2.domain.curation.curation.entity.CurationLink;
 import com.team8.project2.domain.curation.curation.entity.CurationTag;
 import com.team8.project2.domain.curation.curation.entity.SearchOrder;
+import com.team8.project2.domain.curation.curation.event.CurationCreateEvent;
 import com.team8.project2.domain.curation.curation.event.CurationDeleteEvent;
+import com.team8.project2.domain.curation.curation.event.CurationLikeEvent;
 import com.team8.project2.domain.curation.curation.event.CurationUpdateEvent;
 import com.team8.project2.domain.curation.curation.repository.CurationLinkRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
@@ -42,15 +45,26 @@ import com.team8.project2.domain.curation.report.entity.Report;
 import com.team8.project2.domain.curation.report.entity.ReportType;
 import com.team8.project2.domain.curation.report.repository.ReportRepository;
 import com.team8.project2.domain.curation.tag.service.TagService;
-import com.team8.project2.domain.image.entity.CurationImage;
-import com.team8.project2.domain.image.repository.CurationImageRepository;
+import com.team8.project2.domain.image.service.CurationImageService;
 import com.team8.project2.domain.link.service.LinkService;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.repository.FollowRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
 import com.team8.project2.domain.member.service.MemberService;
+import com.team8.project2.domain.recommendation.entity.LikeTargetType;
+import com.team8.project2.domain.recommendation.service.ItemSimilarityService;
 import com.team8.project2.global.Rq;
+import com.team8.project2.global.dto.CounterResDto;
+import com.team8.project2.global.exception.CounterStoreUnavailableException;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.security.Actor;
+import com.team8.project2.global.redis.LuaScript;
+import com.team8.project2.global.redis.ViewAdmission;
+import com.team8.project2.global.redis.ViewCounter;
+import com.team8.project2.global.redis.ViewTarget;
+import com.team8.project2.global.store.CounterStore;
+import com.team8.project2.global.web.ClientIpFilter;
+import com.team8.project2.global.web.ResourceVersion;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -66,22 +80,24 @@ public class CurationService {
 	private final CurationRepository curationRepository;
 	private final CurationLinkRepository curationLinkRepository;
 	private final CurationTagRepository curationTagRepository;
-	private final CurationImageRepository curationImageRepository;
+	private final CurationImageService curationImageService;
 	private final LinkService linkService;
 	private final TagService tagService;
 	private final MemberRepository memberRepository;
 	private final LikeRepository likeRepository;
 	private final ApplicationEventPublisher eventPublisher;
-	private final CurationViewService curationViewService;
 	private final Rq rq;
 
-	private final RedisTemplate<String, String> redisTemplate;
+	private final CounterStore counterStore;
 	private static final String VIEW_COUNT_KEY = "view_count:"; // Redis 키 접두사
 	private static final String DAY_VIEW_COUNT_KEY = "day_view_count:"; // Redis 키 접두사
 	private static final String LIKE_COUNT_KEY = "curation:like_count"; // 좋아요 수 저장
 	private final FollowRepository followRepository;
 	private final MemberService memberService;
 	private final ReportRepository reportRepository;
+	private final ItemSimilarityService itemSimilarityService;
+	private final ViewCounter viewCounter;
+	private final CurationDetailLoader curationDetailLoader;
 
 	/**
 	 * ✅ 특정 큐레이터의 큐레이션 개수를 반환하는 메서드 추가
@@ -129,21 +145,11 @@ public class CurationService {
 		curationTagRepository.saveAll(curationTags);
 		curation.setTags(curationTags);
 
-		// 작성한 큐레이션에 이미지가 첨부되어 있다면, 이미지에 큐레이션 번호를 연결 (연결이 이미 있는 이미지는 무시)
-		List<String> imageNames = curation.getImageNames();
+		// 작성한 큐레이션에 이미지가 첨부되어 있다면, 이미지 참조 수를 늘리고 큐레이션 번호를 연결 (연결이 이미 있는 이미지는 번호 유지)
+		curationImageService.attach(curation.getId(), new HashSet<>(curation.getImageNames()));
 
-		for (int i = 0; i < imageNames.size(); i++) {
-			System.out.println(i + ": " + imageNames.get(i));
-		}
-
-		for (String imageName : imageNames) {
-			Optional<CurationImage> opImage = curationImageRepository.findByImageName(imageName);
-			if (opImage.isPresent()) {
-				CurationImage curationImage = opImage.get();
-				curationImage.setCurationIdIfNull(curation.getId());
-				curationImageRepository.save(curationImage);
-			}
-		}
+		// 큐레이션 생성 이벤트
+		eventPublisher.publishEvent(new CurationCreateEvent(curation.getId()));
 
 		return curation;
 	}
@@ -159,16 +165,18 @@ public class CurationService {
 	 */
 	@Transactional
 	public Curation updateCuration(Long curationId, String title, String content, List<String> urls,
-		List<String> tags, Member member) {
+		List<String> tags, Actor actor) {
 		Curation curation = curationRepository.findById(curationId)
 			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
 
-		if (!curation.getMember().getId().equals(member.getId())) {
+		if (!curation.getMember().getId().equals(actor.getId())) {
 			throw new ServiceException("403", "권한이 없습니다.");
 		}
 
+		Set<String> oldImageNames = new HashSet<>(curation.getImageNames());
 		curation.setTitle(title);
 		curation.setContent(content);
+		curation.increaseContentVersion();
 
 		// 큐레이션 - 링크 연결 업데이트
 		List<CurationLink> curationLinks = urls.stream()
@@ -192,10 +200,17 @@ public class CurationService {
 
 		Curation result = curationRepository.save(curation);
 
+		// 새로 포함된 이미지는 참조 수를 늘리고, 빠진 이미지는 커밋 후 참조 해제
+		Set<String> newImageNames = new HashSet<>(curation.getImageNames());
+		Set<String> addedImageNames = new HashSet<>(newImageNames);
+		addedImageNames.removeAll(oldImageNames);
+		curationImageService.attach(curation.getId(), addedImageNames);
+		oldImageNames.removeAll(newImageNames);
+
 		// 큐레이션 수정 이벤트
 		eventPublisher.publishEvent(CurationUpdateEvent.builder()
 			.curationId(curation.getId())
-			.imageUrls(curation.getImageNames())
+			.removedImageNames(oldImageNames)
 			.build());
 
 		return result;
@@ -206,16 +221,13 @@ public class CurationService {
 	 * @param curationId 삭제할 큐레이션 ID
 	 */
 	@Transactional
-	public void deleteCuration(Long curationId, Member member) {
+	public void deleteCuration(Long curationId, Actor actor) {
 		// 큐레이션이 존재하는지 확인
 		Curation curation = curationRepository.findById(curationId)
 			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
 
 		// 삭제 권한이 있는지 확인 (작성자와 요청자가 같은지 확인)
-		System.out.println("어드민이야?" + member.isAdmin());
-		System.out.println("어드민이야?" + curation.getMember().getId());
-		System.out.println("어드민이야?" + member.getMemberId());
-		if (!curation.getMember().getId().equals(member.getId()) && !member.isAdmin()) {
+		if (!curation.getMember().getId().equals(actor.getId()) && !actor.isAdmin()) {
 			throw new ServiceException("403-1", "권한이 없습니다."); // 권한 없음
 		}
 		reportRepository.deleteByCurationId(curationId);
@@ -224,97 +236,110 @@ public class CurationService {
 		curationRepository.deleteById(curationId);
 
 		// 조회 IP 정보 삭제
-		Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY + curationId + "*");
+		Set<String> keys = counterStore.keys(VIEW_COUNT_KEY + curationId + "*");
 		if (keys != null && !keys.isEmpty()) {
-			redisTemplate.delete(keys);
+			counterStore.delete(keys);
 		}
 
-		// 일일 조회수 삭제
-		redisTemplate.opsForZSet().remove(DAY_VIEW_COUNT_KEY, String.valueOf(curationId));
+		// 일일 조회수 및 DB 반영 대기 조회수 삭제
+		counterStore.removeFromSortedSet(DAY_VIEW_COUNT_KEY, String.valueOf(curationId));
+		counterStore.hashDelete(ViewTarget.CURATION.getPendingKey(), String.valueOf(curationId));
 
 		// 큐레이션 삭제 이벤트
-		eventPublisher.publishEvent(new CurationDeleteEvent(curationId));
+		eventPublisher.publishEvent(new CurationDeleteEvent(curationId, new HashSet<>(curation.getImageNames())));
 	}
 
 	/**
 	 * 특정 큐레이션을 조회합니다.
+	 * 조회자와 무관한 부분은 {@link CurationDetailLoader}가 동시 요청끼리 한 번만 로딩하고, 조회자별 값은 그 위에 덮어씁니다.
+	 * 좋아요 수는 Redis 값을 반영하고, 조회수는 DB에 반영된 값을 응답해 조회할 때마다 본문이 바뀌지 않도록 합니다.
+	 * 아직 DB에 반영되지 않은 조회수 증가분은 {@link #getCounters(Long)}로 제공합니다.
+	 * 트랜잭션은 로딩을 맡은 요청만 로더 안에서 엽니다. 여기서 열면 결과를 기다리는 요청마다 DB 연결을 붙잡게 됩니다.
 	 * @param curationId 조회할 큐레이션 ID
 	 * @return 조회된 큐레이션 객체
 	 */
-	@Transactional
 	public CurationDetailResDto getCuration(Long curationId, HttpServletRequest request) {
-		String ip = request.getHeader("X-Forwarded-For");
+		// 조회자와 무관한 부분은 동시 요청끼리 한 번만 로딩해 공유
+		CurationDetailResDto detail = curationDetailLoader.load(curationId);
 
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("Proxy-Client-IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("WL-Proxy-Client-IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("HTTP_CLIENT_IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("X-Real-IP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("X-RealIP");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getHeader("REMOTE_ADDR");
-		}
-		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-			ip = request.getRemoteAddr();
-		}
+		// 조회만 기록하고, 응답에는 DB에 반영된 조회수를 사용 (실시간 조회수는 getCounters로 제공)
+		recordView(curationId, request);
 
-		if (ip.equals("0:0:0:0:0:0:0:1") || ip.equals("127.0.0.1")) {
-			InetAddress address = null;
-			try {
-				address = InetAddress.getLocalHost();
-			} catch (UnknownHostException e) {
-				throw new RuntimeException(e);
-			}
-			ip = address.getHostName() + "/" + address.getHostAddress();
-		}
-		String key = VIEW_COUNT_KEY + curationId + ":" + ip;
-		System.out.println("Redis Key: " + key);
-		boolean isNewView = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(true), Duration.ofDays(1));
-		System.out.println("Redis Key Set? " + isNewView + " | Key: " + key);
-
-		// 조회수 증가
-		if (isNewView) {
-			redisTemplate.opsForZSet().incrementScore(DAY_VIEW_COUNT_KEY, String.valueOf(curationId), 1); // curationId에 대한 조회수 증가
-			redisTemplate.expire(DAY_VIEW_COUNT_KEY, Duration.ofDays(1)); // 1일 동안 유효하게 설정 (TTL)
+		boolean isLogin = false;
+		boolean isLiked = false;
+		boolean isFollowed = false;
+		if (rq.isLogin()) {
+			isLogin = true;
+			Actor actor = rq.getActor();
+			isLiked = isLikedByMember(curationId, actor.getId());
+			isFollowed = memberService.isFollowed(detail.getAuthorId(), actor.getId());
 		}
 
-		Curation curation = curationRepository.findById(curationId)
+		// Redis의 좋아요 값(실제 값)과 조회자별 값은 복사본에 덮어씀
+		return detail.overlay(currentLikeCount(curationId, detail.getLikeCount()), isLiked, isFollowed, isLogin);
+	}
+
+	/**
+	 * 큐레이션 상세 응답의 버전(ETag, Last-Modified)을 계산합니다.
+	 * 엔티티를 로딩하지 않고 집계 쿼리 한 번과 조회자별 상태만으로 계산하며,
+	 * 조회할 때마다 바뀌는 조회수 증가분은 포함하지 않습니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return 상세 응답의 버전
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersion getCurationVersion(Long curationId) {
+		Object[] row = curationRepository.findDetailVersion(curationId).stream()
+			.findFirst()
 			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
 
-		// Redis의 좋아요 값(실제 값) 으로 수정
-		String redisKey = "curation_like:" + curationId;
-		Long likeCount = redisTemplate.opsForSet().size(redisKey);
-		curation.setLikeCount(likeCount);
+		Long authorId = (Long) row[4];
+		long likeCount = currentLikeCount(curationId, (Long) row[3]);
 
 		boolean isLogin = false;
 		boolean isLiked = false;
 		boolean isFollowed = false;
 		if (rq.isLogin()) {
 			isLogin = true;
-			Member actor = rq.getActor();
+			Actor actor = rq.getActor();
 			isLiked = isLikedByMember(curationId, actor.getId());
-			isFollowed = memberService.isFollowed(curation.getMemberId(), actor.getId());
+			isFollowed = memberService.isFollowed(authorId, actor.getId());
 		}
 
-		if (isNewView) {
-			curationViewService.increaseViewCount(curation);
-		} else {
-			System.out.println("조회수 증가 안 함 (이미 조회된 IP)");
-		}
+		LocalDateTime lastModified = Stream.of(row[0], row[5], row[7], row[8], row[10], row[12])
+			.filter(LocalDateTime.class::isInstance)
+			.map(LocalDateTime.class::cast)
+			.max(Comparator.naturalOrder())
+			.orElse(null);
+		return ResourceVersion.of(lastModified, curationId, row[0], row[1], row[2], likeCount, authorId, row[5],
+			row[6], row[7], row[8], row[9], row[10], row[11], row[12], isLogin, isLiked, isFollowed);
+	}
+
+	/**
+	 * 큐레이션 조회를 기록합니다.
+	 * - 중복 조회 확인, 일간 조회수 증가, DB 반영 대기 증가분 기록을 한 번에 처리
+	 * - 304 응답으로 상세 조회를 처리한 경우에도 호출됨
+	 *
+	 * @return 조회 인정 여부와 아직 DB에 반영되지 않은 증가분
+	 */
+	public ViewAdmission recordView(Long curationId, HttpServletRequest request) {
+		return viewCounter.admit(ViewTarget.CURATION, curationId, ClientIpFilter.getClientIp(request));
+	}
 
-		return CurationDetailResDto.fromEntity(curation, isLiked, isFollowed, isLogin);
+	/**
+	 * 큐레이션의 실시간 조회수와 좋아요 수를 조회합니다.
+	 * 조회수는 DB 값에 아직 반영되지 않은 증가분을 더해 계산합니다.
+	 *
+	 * @param curationId 큐레이션 ID
+	 * @return 실시간 카운터
+	 */
+	@Transactional(readOnly = true)
+	public CounterResDto getCounters(Long curationId) {
+		Curation curation = curationRepository.findById(curationId)
+			.orElseThrow(() -> new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
+
+		long viewCount = curation.getViewCount() + viewCounter.pending(ViewTarget.CURATION, curationId);
+		return new CounterResDto(viewCount, currentLikeCount(curation));
 	}
 
 	/**
@@ -343,8 +368,7 @@ public class CurationService {
 			curationPage = curationRepository.searchByFiltersWithoutTags(tags, title, content, author, pageable);
 			curations = curationPage.getContent().stream()
 				.map(curation -> {
-					String redisKey = "curation_like:" + curation.getId();
-					curation.setLikeCount(redisTemplate.opsForSet().size(redisKey));
+					curation.setLikeCount(currentLikeCount(curation));
 					return curation;
 				}).collect(Collectors.toList());
 		} else {
@@ -352,8 +376,7 @@ public class CurationService {
 			curationPage = curationRepository.searchByFilters(tags, tags.size(), title, content, author, pageable);
 				curations = curationPage.getContent().stream()
 				.map(curation -> {
-					String redisKey = "curation_like:" + curation.getId();
-					curation.setLikeCount(redisTemplate.opsForSet().size(redisKey));
+					curation.setLikeCount(currentLikeCount(curation));
 					return curation;
 				}).collect(Collectors.toList());
 		}
@@ -362,6 +385,22 @@ public class CurationService {
 			curationPage.getNumberOfElements(), curationPage.getSize());
 	}
 
+	/**
+	 * Redis의 좋아요 수를 반환합니다.
+	 * Redis를 사용할 수 없으면 마지막으로 DB에 동기화된 좋아요 수를 반환합니다.
+	 */
+	private long currentLikeCount(Curation curation) {
+		return currentLikeCount(curation.getId(), curation.getLikeCount());
+	}
+
+	private long currentLikeCount(Long curationId, long persistedLikeCount) {
+		try {
+			return counterStore.setSize("curation_like:" + curationId);
+		} catch (CounterStoreUnavailableException e) {
+			return persistedLikeCount;
+		}
+	}
+
 	@Transactional
 	public void likeCuration(Long curationId, Long memberId) {
 		// 큐레이션과 멤버를 찾음
@@ -371,39 +410,60 @@ public class CurationService {
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new ServiceException("404-1", "해당 멤버를 찾을 수 없습니다."));
 
-		// Redis Key 설정
-		String redisKey = "curation_like:" + curationId;
-		String value = String.valueOf(memberId);
-
-		// LUA 스크립트: 좋아요가 있으면 삭제, 없으면 추가
-		String luaScript =
-				"if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
-						"   redis.call('SREM', KEYS[1], ARGV[1]); " +
-						"   return 0; " +  // 0이면 좋아요 삭제됨
-						"else " +
-						"   redis.call('SADD', KEYS[1], ARGV[1]); " +
-						"   return 1; " +  // 1이면 좋아요 추가됨
-						"end";
-
-		// LUA 스크립트 실행
-		Long result = redisTemplate.execute(
-				new DefaultRedisScript<>(luaScript, Long.class),
-				Collections.singletonList(redisKey),
-				value
+		// 좋아요 토글과 유사 큐레이션 재계산 대상 표시를 스크립트 한 번으로 처리
+		counterStore.execute(
+				LuaScript.CURATION_LIKE_TOGGLE,
+				List.of("curation_like:" + curationId, LikeTargetType.CURATION.dirtyKey()),
+				memberId,
+				curationId
 		);
+
+		// 큐레이션 좋아요 이벤트
+		eventPublisher.publishEvent(new CurationLikeEvent(curationId, memberId));
+	}
+
+	/**
+	 * 이 큐레이션을 좋아한 회원들이 함께 좋아한 큐레이션 목록을 조회합니다.
+	 * 유사도 배치가 미리 계산해 둔 목록을 사용하며, 유사도 순서를 유지합니다.
+	 * @param curationId 기준 큐레이션 ID
+	 * @return 유사 큐레이션 요약 목록
+	 */
+	@Transactional(readOnly = true)
+	public List<CurationSummaryResDto> getAlsoLikedCurations(Long curationId) {
+		List<Long> neighborIds = itemSimilarityService.getNeighborIds(LikeTargetType.CURATION, curationId);
+		if (neighborIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<Long, Curation> curations = curationRepository.findAllById(neighborIds).stream()
+			.collect(Collectors.toMap(Curation::getId, Function.identity()));
+		return neighborIds.stream()
+			.map(curations::get)
+			.filter(curation -> curation != null)
+			.map(CurationSummaryResDto::of)
+			.toList();
+	}
+
+	/**
+	 * Redis에 누적된 큐레이션 조회수 증가분을 DB에 반영합니다.
+	 */
+	@Scheduled(fixedRate = 600000) // 10분마다 실행
+	@Transactional
+	public void syncViewCountsToDatabase() {
+		viewCounter.flushPending(ViewTarget.CURATION, curationRepository::increaseViewCount);
 	}
 
 	@Scheduled(fixedRate = 600000) // 10분마다 실행
 	public void syncLikesToDatabase() {
 		// Redis에서 모든 큐레이션의 좋아요 개수를 가져와서 DB에 업데이트
-		Set<String> keys = redisTemplate.keys("curation_like:*");
+		Set<String> keys = counterStore.keys("curation_like:*");
 
 		for (String key : keys) {
 			String[] parts = key.split(":");
 			Long curationId = Long.parseLong(parts[1]);
 
 			// Like Repo에 좋아요 정보 추가
-			Set<String> memberIds = redisTemplate.opsForSet().members(key);
+			Set<String> memberIds = counterStore.members(key);
 			for (String memberId : memberIds) {
 				Curation curation = curationRepository.findById(curationId).get();
 				Member member = memberRepository.findByMemberId(memberId).get();
@@ -412,7 +472,7 @@ public class CurationService {
 
 			// Redis에서 좋아요 개수 구하기
 			String redisKey = "curation_like:" + curationId;
-			Long likesCount = redisTemplate.opsForSet().size(redisKey);
+			Long likesCount = counterStore.setSize(redisKey);
 
 			if (likesCount != null) {
 				// 큐레이션을 DB에 반영
@@ -434,17 +494,17 @@ public class CurationService {
 	 */
 	public boolean isLikedByMember(Long curationId, Long memberId) {
 		String redisKey = "curation_like:" + curationId;
-		return redisTemplate.opsForSet().isMember(redisKey, String.valueOf(memberId));
+		return counterStore.isMember(redisKey, String.valueOf(memberId));
 	}
 
 	/**
 	 * ✅ 특정 멤버가 팔로우하는 큐레이션 목록을 조회하는 메서드 추가
-	 * @param member 팔로우한 멤버
+	 * @param actor 팔로우한 멤버
 	 * @return 팔로우한 멤버의 큐레이션 목록
 	 */
-	public List<CurationResDto> getFollowingCurations(Member member, int page, int size) {
+	public List<CurationResDto> getFollowingCurations(Actor actor, int page, int size) {
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-		List<Curation> followingCurations = curationRepository.findFollowingCurations(member.getId(), pageable);
+		List<Curation> followingCurations = curationRepository.findFollowingCurations(actor.getId(), pageable);
 		return followingCurations.stream()
 			.map(CurationResDto::new)
 			.collect(Collectors.toList());
@@ -452,7 +512,7 @@ public class CurationService {
 
 	@Transactional
 	public void reportCuration(Long curationId, ReportType reportType) {
-		Member actor = rq.getActor();
+		Actor actor = rq.getActor();
 		Curation curation = curationRepository.findById(curationId)
 			.orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 큐레이션입니다."));
 
@@ -464,7 +524,7 @@ public class CurationService {
 		Report report = Report.builder()
 			.reportType(reportType)
 			.curation(curation)
-			.reporter(actor)
+			.reporter(rq.getActorReference())
 			.build();
 
 		reportRepository.save(report);
@@ -476,15 +536,15 @@ public class CurationService {
 
 	@Transactional(readOnly = true)
 	public TrendingCurationResDto getTrendingCuration() {// 조회수가 가장 높은 3개의 큐레이션을 가져옴
-		List<Curation> topCurations = redisTemplate.opsForZSet().reverseRange(DAY_VIEW_COUNT_KEY, 0, 2).stream()
+		List<Curation> topCurations = counterStore.reverseRange(DAY_VIEW_COUNT_KEY, 0, 2).stream()
 			.map(curationId -> curationRepository.findById(Long.parseLong(curationId))
 				.orElseGet(() -> {
-					redisTemplate.opsForZSet().remove(DAY_VIEW_COUNT_KEY, curationId);
+					counterStore.removeFromSortedSet(DAY_VIEW_COUNT_KEY, curationId);
 					return null;
 				}))
 			.filter(curation -> curation != null)
 			.map(curation -> {
-				curation.setViewCount(redisTemplate.opsForZSet().score(DAY_VIEW_COUNT_KEY, String.valueOf(curation.getId())).longValue());
+				curation.setViewCount(counterStore.score(DAY_VIEW_COUNT_KEY, String.valueOf(curation.getId())).longValue());
 				return curation;
 			})
 			.toList();
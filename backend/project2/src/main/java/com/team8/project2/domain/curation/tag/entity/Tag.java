@@ -2,8 +2,11 @@ package com.team8.project2.domain.curation.tag.entity;
 
 import com.team8.project2.domain.curation.curation.entity.CurationTag;
 import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.global.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.List;
@@ -20,6 +23,8 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "tags")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TAG)
 public class Tag {
 
     /**
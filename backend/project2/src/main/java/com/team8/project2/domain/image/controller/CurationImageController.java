@@ -4,14 +4,20 @@ import java.io.IOException;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.team8.project2.domain.image.dto.ImageConfirmReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
 import com.team8.project2.domain.image.service.CurationImageService;
+import com.team8.project2.global.dto.RsData;
 import com.team8.project2.global.exception.ServiceException;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -21,6 +27,11 @@ public class CurationImageController {
 
 	private final CurationImageService curationImageService;
 
+	/**
+	 * 파일을 서버를 거쳐 업로드합니다.
+	 * 업로드 대역폭을 서버에서 덜어내기 위해 presigned URL 흐름({@link #issueUploadUrl}, {@link #confirmUpload})을 사용합니다.
+	 */
+	@Deprecated
 	@PostMapping("/upload")
 	public ResponseEntity<String> uploadCurationImage(@RequestParam("file") MultipartFile file) {
 		String imageUrl;
@@ -35,4 +46,24 @@ public class CurationImageController {
 
 		return ResponseEntity.ok(imageUrl);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 큐레이션 이미지를 저장소에 직접 업로드할 presigned PUT URL을 발급합니다.
+	 * @param request 파일 이름, 형식, 크기
+	 * @return 객체 키와 업로드 URL
+	 */
+	@PostMapping("/presigned")
+	public RsData<PresignedUploadResDto> issueUploadUrl(@RequestBody @Valid PresignedUploadReqDto request) {
+		return new RsData<>("200-1", "이미지 업로드 URL이 발급되었습니다.", curationImageService.issueUploadUrl(request));
+	}
+
+	/**
+	 * 직접 업로드가 끝난 이미지를 확인하고 등록합니다.
+	 * @param request 발급받은 객체 키
+	 * @return 이미지 URL
+	 */
+	@PostMapping("/confirm")
+	public RsData<String> confirmUpload(@RequestBody @Valid ImageConfirmReqDto request) {
+		return new RsData<>("200-1", "이미지가 등록되었습니다.", curationImageService.confirmUpload(request.getImageName()));
+	}
+}
@@ -0,0 +1,17 @@
+package com.team8.project2.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 직접 업로드한 이미지의 등록(업로드 확인) 요청 DTO입니다.
+ */
+@Getter
+@Setter
+public class ImageConfirmReqDto {
+
+	/** presigned URL 발급 시 받은 객체 키 */
+	@NotBlank
+	private String imageName;
+}
@@ -0,0 +1,27 @@
+package com.team8.project2.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 이미지 직접 업로드용 presigned URL 발급 요청 DTO입니다.
+ * 클라이언트는 발급받은 URL로 같은 Content-Type, Content-Length의 파일을 PUT 해야 합니다.
+ */
+@Getter
+@Setter
+public class PresignedUploadReqDto {
+
+	/** 원본 파일 이름 (확장자 추출용) */
+	@NotBlank
+	private String fileName;
+
+	/** 파일 MIME 타입 (image/*) */
+	@NotBlank
+	private String contentType;
+
+	/** 파일 크기 (바이트) */
+	@Positive
+	private long contentLength;
+}
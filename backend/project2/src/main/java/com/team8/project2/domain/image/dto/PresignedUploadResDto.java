@@ -0,0 +1,27 @@
+package com.team8.project2.domain.image.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * presigned URL 발급 응답 DTO입니다.
+ * 업로드가 끝나면 {@code imageName}으로 업로드 확인 API를 호출해야 이미지가 등록됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedUploadResDto {
+
+	/** 저장소의 객체 키 */
+	private String imageName;
+
+	/** 파일을 PUT 할 presigned URL */
+	private String uploadUrl;
+
+	/** 업로드 후 이미지에 접근할 URL */
+	private String imageUrl;
+
+	/** presigned URL 만료 시각 */
+	private LocalDateTime expiresAt;
+}
@@ -19,6 +19,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 업로드된 큐레이션 이미지입니다.
+ * 같은 내용의 파일은 내용 해시로 찾아 하나의 객체를 공유하고, 이미지를 본문에 포함한 큐레이션 수를 참조 수로 관리합니다.
+ */
 @Getter
 @Builder
 @AllArgsConstructor
@@ -35,13 +39,23 @@ public class CurationImage {
 	@Column(name = "imageName", nullable = false, unique = true, updatable = false)
 	private String imageName;
 
-	// 이벤트 기반으로 처리하기 위해 외래키 미사용
+	/** 파일 내용의 SHA-256 (직접 업로드된 이미지는 null) */
+	@Column(name = "contentHash", unique = true, length = 64, updatable = false)
+	private String contentHash;
+
+	// 이벤트 기반으로 처리하기 위해 외래키 미사용 (처음 연결된 큐레이션)
 	@Column(name = "curationId")
 	private Long curationId;
 
+	/** 이미지를 본문에 포함한 큐레이션 수 */
+	@Builder.Default
+	@Column(name = "refCount", nullable = false)
+	private int refCount = 0;
+
+	/** 업로드 시각 (참조가 모두 해제되면 그 시각으로 갱신되어 정리 유예 기간의 기준이 됨) */
 	@CreatedDate
 	@Setter(AccessLevel.PRIVATE)
-	@Column(name = "uploadedAt", nullable = false, updatable = false)
+	@Column(name = "uploadedAt", nullable = false)
 	private LocalDateTime uploadedAt;
 
 	public void setCurationIdIfNull(Long curationId) {
@@ -49,4 +63,38 @@ public class CurationImage {
 			this.curationId = curationId;
 		}
 	}
+
+	/**
+	 * 큐레이션 하나가 이미지를 참조합니다.
+	 * 참조 수 도입 전에 연결된 이미지는 큐레이션 ID만 있고 참조 수가 0이므로, 처음 연결된 큐레이션의 참조를
+	 * 먼저 센 뒤 늘립니다. 그렇지 않으면 처음 큐레이션이 참조를 해제할 때 다른 큐레이션이 쓰는 이미지가 정리됩니다.
+	 * @param curationId 참조하는 큐레이션 ID
+	 */
+	public void retain(Long curationId) {
+		if (this.curationId != null && refCount == 0) {
+			this.refCount = 1;
+			if (this.curationId.equals(curationId)) {
+				return;
+			}
+		}
+		setCurationIdIfNull(curationId);
+		this.refCount++;
+	}
+
+	/**
+	 * 큐레이션 하나가 이미지 참조를 해제합니다.
+	 * 남은 참조가 없으면 바로 지우지 않고 미사용 이미지로 되돌려, 정리 유예 기간 동안 다른 큐레이션이
+	 * (같은 내용을 다시 업로드해 기존 이미지를 받은 작성자 포함) 다시 연결할 수 있게 합니다.
+	 * 참조 수 도입 전에 연결된 이미지는 참조 수가 0이므로, 해제 시 바로 미사용 이미지가 됩니다.
+	 * @param now 현재 시각 (정리 유예 기간의 기준)
+	 * @return 남은 참조가 없으면 true
+	 */
+	public boolean release(LocalDateTime now) {
+		this.refCount = Math.max(refCount - 1, 0);
+		if (refCount == 0) {
+			this.curationId = null;
+			this.uploadedAt = now;
+		}
+		return refCount == 0;
+	}
 }
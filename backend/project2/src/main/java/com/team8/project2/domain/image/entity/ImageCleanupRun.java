@@ -0,0 +1,72 @@
+package com.team8.project2.domain.image.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미사용 이미지 정리 작업의 진행 상황(체크포인트)입니다.
+ * 청크를 삭제하는 트랜잭션에서 함께 갱신되므로, 중간에 중단되어도 마지막으로 커밋된 청크 다음부터 이어서 처리합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "imageCleanupRuns")
+public class ImageCleanupRun {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "imageCleanupRunId", nullable = false)
+	private Long id;
+
+	/** 이 시각 이전에 업로드된 미사용 이미지를 정리 */
+	@Column(name = "cutoffDate", nullable = false, updatable = false)
+	private LocalDateTime cutoffDate;
+
+	/** 마지막으로 처리한 이미지 ID */
+	@Builder.Default
+	@Column(name = "lastImageId", nullable = false)
+	private Long lastImageId = 0L;
+
+	@Builder.Default
+	@Column(name = "deletedCount", nullable = false)
+	private long deletedCount = 0;
+
+	@Column(name = "startedAt", nullable = false, updatable = false)
+	private LocalDateTime startedAt;
+
+	/** 완료 시각 (null이면 진행 중이거나 중단된 작업) */
+	@Column(name = "finishedAt")
+	private LocalDateTime finishedAt;
+
+	public static ImageCleanupRun start(LocalDateTime cutoffDate, LocalDateTime now) {
+		return ImageCleanupRun.builder()
+			.cutoffDate(cutoffDate)
+			.startedAt(now)
+			.build();
+	}
+
+	public void advance(Long lastImageId, int deleted) {
+		this.lastImageId = lastImageId;
+		this.deletedCount += deleted;
+	}
+
+	public void finish(LocalDateTime now) {
+		this.finishedAt = now;
+	}
+
+	public boolean isFinished() {
+		return finishedAt != null;
+	}
+}
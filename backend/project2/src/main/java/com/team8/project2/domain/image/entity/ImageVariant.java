@@ -0,0 +1,91 @@
+package com.team8.project2.domain.image.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 이미지 업로드 시 원본 옆에 함께 저장하는 축소 이미지 종류입니다.
+ * 변형 이미지의 객체 키는 원본 키에서 정해집니다.
+ * (예: {@code profile_1_v-abc.png} → {@code profile_1_v-abc.png.thumb.jpg})
+ * <p>
+ * 변형 이미지는 ImageIO로 읽을 수 있는 형식으로 올린 원본에만 만들고, 이런 원본의 객체 키 ID 앞에는 {@code v-}를 붙입니다.
+ * 이 표시가 없는 이미지(SVG 등 다른 형식, 변형 이미지 도입 전에 올린 이미지)는 원본을 그대로 사용합니다.
+ * 변형 이미지는 업로드가 커밋된 뒤 만들어지므로, 만들어졌다고 기록된 뒤에만 URL로 노출합니다. ({@code ImageVariantService})
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+	/** 큐레이션 목록, 댓글 등에 작게 표시하는 프로필 아바타 */
+	THUMBNAIL("thumb", 160);
+
+	/** 변형 이미지를 만드는 원본의 객체 키 ID 앞에 붙이는 표시 */
+	private static final String VARIANT_ID_MARKER = "v-";
+
+	/** 표시 뒤에는 UUID나 내용 해시가 오므로, 원본 파일 이름에 우연히 들어간 "v-"와 구분됨 */
+	private static final Pattern VARIANT_KEY = Pattern.compile("(?:^|_)v-[0-9a-f-]{32,}");
+
+	/** ImageIO가 읽을 수 있는 형식 */
+	private static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of("image/jpeg", "image/jpg", "image/png",
+		"image/gif", "image/bmp");
+
+	private final String suffix;
+
+	/** 긴 변의 최대 픽셀 수 (원본이 더 작으면 확대하지 않음) */
+	private final int maxSize;
+
+	/**
+	 * 원본 객체 키로 변형 이미지 객체 키를 만듭니다.
+	 * @param imageName 원본 객체 키
+	 * @return 변형 이미지 객체 키
+	 */
+	public String keyOf(String imageName) {
+		return imageName + "." + suffix + ".jpg";
+	}
+
+	/**
+	 * 새 원본의 객체 키 ID를 만듭니다. 변형 이미지를 만들 수 있는 형식이면 표시를 붙입니다.
+	 * @param contentType 원본 MIME 타입
+	 * @param id UUID 또는 내용 해시
+	 * @return 객체 키 ID
+	 */
+	public static String keyIdOf(String contentType, String id) {
+		boolean supported = contentType != null && SUPPORTED_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+		return supported ? VARIANT_ID_MARKER + id : id;
+	}
+
+	/**
+	 * 원본에 변형 이미지가 있는지 객체 키로 판단합니다.
+	 * @param imageName 원본 객체 키
+	 * @return 변형 이미지를 만드는 원본이면 true
+	 */
+	public static boolean hasVariants(String imageName) {
+		return imageName != null && VARIANT_KEY.matcher(imageName).find();
+	}
+
+	/**
+	 * 원본 객체 키와 각 원본의 변형 이미지 객체 키를 모읍니다. (원본을 지울 때 변형 이미지도 함께 지우기 위함)
+	 * @param imageNames 원본 객체 키 목록
+	 * @return 원본과 변형 이미지 객체 키 목록
+	 */
+	public static List<String> withVariants(Collection<String> imageNames) {
+		List<String> keys = new ArrayList<>(imageNames.size() * (values().length + 1));
+		for (String imageName : imageNames) {
+			keys.add(imageName);
+			if (!hasVariants(imageName)) {
+				continue;
+			}
+			for (ImageVariant variant : values()) {
+				keys.add(variant.keyOf(imageName));
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,86 @@
+package com.team8.project2.domain.image.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 변형 이미지를 아직 만들지 못한 원본입니다.
+ * 원본을 등록하는 트랜잭션 안에서 함께 저장되고 변형 이미지를 모두 올린 뒤에 지워지므로,
+ * 처리 중 애플리케이션이 재시작되거나 저장소 오류가 나도 생성 요청이 유실되지 않습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Entity
+@Table(name = "imageVariantTasks", indexes = {
+	@Index(name = "idx_image_variant_next_attempt", columnList = "nextAttemptAt"),
+	@Index(name = "idx_image_variant_object_key", columnList = "objectKey")
+})
+public class ImageVariantTask {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "imageVariantTaskId", nullable = false)
+	private Long id;
+
+	/** 원본 객체 키 */
+	@Column(name = "objectKey", nullable = false, updatable = false)
+	private String objectKey;
+
+	/** 실패한 생성 시도 횟수 */
+	@Builder.Default
+	@Column(name = "attempts", nullable = false)
+	private int attempts = 0;
+
+	/** 주기적 재시도에서 처리할 수 있는 시각 */
+	@Column(name = "nextAttemptAt", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "lastError", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@CreatedDate
+	@Setter(AccessLevel.PRIVATE)
+	@Column(name = "createdAt", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public static ImageVariantTask of(String objectKey, LocalDateTime nextAttemptAt) {
+		return ImageVariantTask.builder()
+			.objectKey(objectKey)
+			.nextAttemptAt(nextAttemptAt)
+			.build();
+	}
+
+	/**
+	 * 생성 실패를 기록하고 지정한 대기 시간 뒤에 다시 시도하도록 합니다.
+	 */
+	public void retryAfter(Duration backoff, String error, LocalDateTime now) {
+		this.attempts++;
+		this.nextAttemptAt = now.plus(backoff);
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+	}
+}
@@ -0,0 +1,84 @@
+package com.team8.project2.domain.image.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 삭제 대기 중인 S3 객체입니다.
+ * 이미지 레코드를 지우는 트랜잭션 안에서 함께 저장되어, 애플리케이션이 재시작되어도 삭제 요청이 유실되지 않습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Entity
+@Table(name = "s3DeletionTasks", indexes = {
+	@Index(name = "idx_s3_deletion_next_attempt", columnList = "nextAttemptAt"),
+	@Index(name = "idx_s3_deletion_object_key", columnList = "objectKey")
+})
+public class S3DeletionTask {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "s3DeletionTaskId", nullable = false)
+	private Long id;
+
+	@Column(name = "objectKey", nullable = false, updatable = false)
+	private String objectKey;
+
+	/** 실패한 삭제 시도 횟수 */
+	@Builder.Default
+	@Column(name = "attempts", nullable = false)
+	private int attempts = 0;
+
+	/** 다음 삭제 시도 가능 시각 */
+	@Column(name = "nextAttemptAt", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "lastError", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@CreatedDate
+	@Setter(AccessLevel.PRIVATE)
+	@Column(name = "createdAt", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public static S3DeletionTask of(String objectKey, LocalDateTime nextAttemptAt) {
+		return S3DeletionTask.builder()
+			.objectKey(objectKey)
+			.nextAttemptAt(nextAttemptAt)
+			.build();
+	}
+
+	/**
+	 * 삭제 실패를 기록하고 지정한 대기 시간 뒤에 다시 시도하도록 합니다.
+	 */
+	public void retryAfter(Duration backoff, String error, LocalDateTime now) {
+		this.attempts++;
+		this.nextAttemptAt = now.plus(backoff);
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+	}
+}
@@ -0,0 +1,14 @@
+package com.team8.project2.domain.image.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 원본 이미지가 저장소에 올라가 등록되었음을 알리는 이벤트입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageUploadedEvent {
+	/** 원본 객체 키 */
+	private String imageName;
+}
@@ -0,0 +1,15 @@
+package com.team8.project2.domain.image.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 원본 이미지의 변형 이미지가 모두 저장소에 올라가 URL로 노출할 수 있게 되었음을 알리는 이벤트입니다.
+ * 변형 이미지 작업을 완료 처리하는 트랜잭션 안에서 발행됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageVariantsCreatedEvent {
+	/** 원본 객체 키 */
+	private String imageName;
+}
@@ -1,26 +1,56 @@
 package com.team8.project2.domain.image.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.team8.project2.domain.image.entity.CurationImage;
 
+import jakarta.persistence.LockModeType;
+
 public interface CurationImageRepository extends JpaRepository<CurationImage, Long> {
 
 	Optional<CurationImage> findByImageName(String imageUrl);
 
-	List<CurationImage> findByCurationId(Long curationId);
-
-	void deleteByImageName(String imageName);
-
-	void deleteByCurationId(Long curationId);
-
-	@Query("SELECT c FROM CurationImage c WHERE c.curationId IS NULL AND c.uploadedAt <= :cutoffDate")
-	List<CurationImage> findUnusedImages(LocalDateTime cutoffDate);
+	Optional<CurationImage> findByContentHash(String contentHash);
+
+	/**
+	 * 참조 수를 변경할 이미지를 잠그고 조회합니다.
+	 * @param imageNames 이미지 이름 목록
+	 * @return 이미지 목록
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<CurationImage> findByImageNameIn(Collection<String> imageNames);
+
+	/**
+	 * 중복 업로드로 다시 사용되는 이미지가 아직 큐레이션에 연결되지 않았다면 업로드 시각을 갱신해,
+	 * 큐레이션 작성 중에 미사용 이미지로 정리되지 않게 합니다.
+	 * 이미 연결된 이미지는 참조가 모두 해제될 때 시각이 갱신되므로 그때부터 같은 유예 기간을 가집니다.
+	 * @param id 이미지 ID
+	 * @param now 현재 시각
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE CurationImage c SET c.uploadedAt = :now WHERE c.id = :id AND c.curationId IS NULL")
+	void refreshUploadedAtIfUnused(Long id, LocalDateTime now);
+
+	/**
+	 * 기준 시각 이전에 업로드되어 큐레이션에 연결되지 않은 이미지를 ID 순으로 한 청크 조회합니다.
+	 * 조회한 행은 잠가, 삭제 전에 큐레이션에 연결되는 경우와 겹치지 않게 합니다.
+	 * @param cutoffDate 기준 시각
+	 * @param lastId 이전 청크의 마지막 이미지 ID
+	 * @param pageable 청크 크기
+	 * @return 미사용 이미지 목록
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM CurationImage c WHERE c.curationId IS NULL AND c.uploadedAt <= :cutoffDate AND c.id > :lastId ORDER BY c.id")
+	List<CurationImage> findUnusedImages(LocalDateTime cutoffDate, Long lastId, Pageable pageable);
 }
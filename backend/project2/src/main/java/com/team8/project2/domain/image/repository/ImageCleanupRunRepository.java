@@ -0,0 +1,16 @@
+package com.team8.project2.domain.image.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.team8.project2.domain.image.entity.ImageCleanupRun;
+
+public interface ImageCleanupRunRepository extends JpaRepository<ImageCleanupRun, Long> {
+
+	/**
+	 * 완료되지 않은 가장 최근 정리 작업을 조회합니다.
+	 * @return 중단된 정리 작업
+	 */
+	Optional<ImageCleanupRun> findFirstByFinishedAtIsNullOrderByIdDesc();
+}
@@ -0,0 +1,23 @@
+package com.team8.project2.domain.image.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.team8.project2.domain.image.entity.ImageVariantTask;
+
+public interface ImageVariantTaskRepository extends JpaRepository<ImageVariantTask, Long> {
+
+	Optional<ImageVariantTask> findFirstByObjectKey(String objectKey);
+
+	/**
+	 * 재시도 시각이 된 작업을 먼저 등록된 순서대로 조회합니다.
+	 * @param now 기준 시각
+	 * @param pageable 한 번에 가져올 개수
+	 * @return 처리할 작업 목록
+	 */
+	List<ImageVariantTask> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
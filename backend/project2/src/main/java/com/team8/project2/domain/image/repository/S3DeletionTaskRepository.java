@@ -0,0 +1,33 @@
+package com.team8.project2.domain.image.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team8.project2.domain.image.entity.S3DeletionTask;
+
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+	/**
+	 * 삭제 시도 시각이 된 작업을 먼저 등록된 순서대로 조회합니다.
+	 * @param now 기준 시각
+	 * @param pageable 한 번에 가져올 개수
+	 * @return 삭제할 작업 목록
+	 */
+	List<S3DeletionTask> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+
+	/**
+	 * 객체의 삭제 예약을 취소합니다.
+	 * @param objectKey 객체 키
+	 * @return 취소한 작업 수
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM S3DeletionTask t WHERE t.objectKey = :objectKey")
+	int deleteByObjectKey(String objectKey);
+}
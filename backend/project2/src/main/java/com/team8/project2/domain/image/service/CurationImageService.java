@@ -1,12 +1,24 @@
 package com.team8.project2.domain.image.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
 import com.team8.project2.domain.image.entity.CurationImage;
 import com.team8.project2.domain.image.repository.CurationImageRepository;
 
@@ -16,34 +28,118 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CurationImageService {
 
+	/** 큐레이션 이미지 객체 키 접두사 */
+	static final String IMAGE_NAME_PREFIX = "curation_";
+
 	private final S3Uploader s3Uploader;
+	private final ImageUploadService imageUploadService;
 	private final CurationImageRepository curationImageRepository;
+	private final S3DeletionQueue s3DeletionQueue;
 
-	@Transactional
+	/**
+	 * 이미지를 업로드합니다. 내용이 같은 이미지가 이미 있으면 업로드하지 않고 기존 이미지 URL을 반환합니다.
+	 * 객체 키는 내용 해시로 정하므로, 같은 파일이 동시에 업로드되어도 같은 객체를 덮어쓸 뿐입니다.
+	 * @param file 업로드할 파일
+	 * @return 이미지 URL
+	 */
 	public String uploadImage(MultipartFile file) throws IOException {
-		String imageName;
-		imageName = s3Uploader.uploadFile(file);
+		String contentHash = sha256(file);
+		Optional<CurationImage> duplicate = curationImageRepository.findByContentHash(contentHash);
+		if (duplicate.isPresent()) {
+			curationImageRepository.refreshUploadedAtIfUnused(duplicate.get().getId(), LocalDateTime.now());
+			return s3Uploader.getBaseUrl() + duplicate.get().getImageName();
+		}
+
+		String imageName = IMAGE_NAME_PREFIX + contentHash + ImageUploadService.extension(file.getOriginalFilename());
+		s3Uploader.uploadFile(file, imageName);
+		try {
+			curationImageRepository.saveAndFlush(CurationImage.builder()
+				.imageName(imageName)
+				.contentHash(contentHash)
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			// 같은 내용이 먼저 등록된 경우 (확장자가 달라 객체 키가 다르면 방금 올린 객체는 삭제)
+			CurationImage registered = curationImageRepository.findByContentHash(contentHash).orElseThrow(() -> e);
+			if (!registered.getImageName().equals(imageName)) {
+				s3DeletionQueue.enqueue(List.of(imageName));
+			}
+			return s3Uploader.getBaseUrl() + registered.getImageName();
+		}
+		return s3Uploader.getBaseUrl() + imageName;
+	}
+
+	/**
+	 * 큐레이션 이미지를 저장소에 직접 업로드할 presigned URL을 발급합니다.
+	 * 발급과 함께 큐레이션에 연결되지 않은 이미지로 등록해 두므로, 업로드 확인 없이 버려진 객체도
+	 * 유예 기간이 지나면 {@link UnusedImageCleanerService}가 정리합니다.
+	 * @param request 파일 정보
+	 * @return 객체 키와 업로드 URL
+	 */
+	public PresignedUploadResDto issueUploadUrl(PresignedUploadReqDto request) {
+		PresignedUploadResDto upload = imageUploadService.issue(IMAGE_NAME_PREFIX, request, false);
+		curationImageRepository.save(CurationImage.builder()
+			.imageName(upload.getImageName())
+			.build());
+		return upload;
+	}
 
-		CurationImage curationImage = CurationImage.builder()
-			.imageName(imageName)
-			.build();
-		curationImageRepository.save(curationImage);
+	/**
+	 * 직접 업로드가 끝난 이미지를 확인합니다. 발급 시 등록되지 않은 이미지(이전에 발급된 URL)면 등록합니다.
+	 * @param imageName 발급받은 객체 키
+	 * @return 이미지 URL
+	 */
+	public String confirmUpload(String imageName) {
+		imageUploadService.verifyUploaded(IMAGE_NAME_PREFIX, imageName);
 
+		if (curationImageRepository.findByImageName(imageName).isEmpty()) {
+			curationImageRepository.save(CurationImage.builder()
+				.imageName(imageName)
+				.build());
+		}
 		return s3Uploader.getBaseUrl() + imageName;
 	}
 
+	/**
+	 * 큐레이션 본문에 새로 포함된 이미지의 참조 수를 늘립니다.
+	 * @param curationId 큐레이션 ID
+	 * @param imageNames 새로 포함된 이미지 이름 (중복 없이)
+	 */
 	@Transactional
-	public List<CurationImage> findByCurationId(Long curationId) {
-		return curationImageRepository.findByCurationId(curationId);
+	public void attach(Long curationId, Collection<String> imageNames) {
+		if (imageNames.isEmpty()) {
+			return;
+		}
+		curationImageRepository.findByImageNameIn(imageNames).forEach(image -> image.retain(curationId));
 	}
 
+	/**
+	 * 큐레이션 본문에서 빠진 이미지의 참조 수를 줄입니다.
+	 * 더 이상 참조되지 않는 이미지는 바로 지우지 않고 미사용 이미지로 되돌립니다. 그 사이 같은 내용을 업로드해
+	 * 이 이미지를 받은 작성자가 있을 수 있으므로, 삭제는 유예 기간이 지난 뒤 {@link UnusedImageCleanerService}가 합니다.
+	 * @param imageNames 본문에서 빠진 이미지 이름 (중복 없이)
+	 */
 	@Transactional
-	public void deleteByImageName(String imageName) {
-		curationImageRepository.deleteByImageName(imageName);
+	public void release(Collection<String> imageNames) {
+		if (imageNames.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		curationImageRepository.findByImageNameIn(imageNames).forEach(image -> image.release(now));
 	}
 
-	@Transactional
-	public void deleteByCurationId(Long curationId) {
-		curationImageRepository.deleteByCurationId(curationId);
+	/**
+	 * 파일을 스트림으로 읽으며 SHA-256을 계산합니다. (파일 전체를 메모리에 올리지 않음)
+	 */
+	private static String sha256(MultipartFile file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
 	}
 }
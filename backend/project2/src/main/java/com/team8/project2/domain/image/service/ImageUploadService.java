@@ -0,0 +1,99 @@
+package com.team8.project2.domain.image.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
+import com.team8.project2.domain.image.entity.ImageVariant;
+import com.team8.project2.global.exception.ServiceException;
+
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * 클라이언트가 이미지를 저장소에 직접 올리는 2단계 업로드 흐름을 처리합니다.
+ * <ol>
+ *     <li>presigned PUT URL 발급: 용도별 접두사를 붙인 객체 키를 만들고, 형식과 크기를 서명에 포함합니다.</li>
+ *     <li>업로드 확인: 객체 키가 해당 용도로 발급된 것인지, 실제로 업로드되었는지 확인합니다.</li>
+ * </ol>
+ * 파일 바이트가 애플리케이션 서버를 거치지 않으므로 업로드 중 요청 스레드와 메모리를 점유하지 않습니다.
+ */
+@Service
+public class ImageUploadService {
+
+	/** 발급 후 업로드 확인이 없는 객체를 정리하기까지의 유예 기간 (미사용 큐레이션 이미지 정리 기준과 같음) */
+	public static final Duration UNCONFIRMED_UPLOAD_GRACE = Duration.ofDays(1);
+
+	private final S3Uploader s3Uploader;
+	private final DataSize maxSize;
+	private final Duration urlExpiry;
+
+	public ImageUploadService(S3Uploader s3Uploader,
+		@Value("${custom.image.upload.max-size:10MB}") DataSize maxSize,
+		@Value("${custom.image.upload.url-expiry:10m}") Duration urlExpiry) {
+		this.s3Uploader = s3Uploader;
+		this.maxSize = maxSize;
+		this.urlExpiry = urlExpiry;
+	}
+
+	/**
+	 * 직접 업로드용 presigned URL을 발급합니다.
+	 * @param keyPrefix 용도별 객체 키 접두사 (업로드 확인 시 같은 접두사인지 검사)
+	 * @param request 파일 정보
+	 * @param withVariants 변형 이미지를 만들 원본이면 true ({@link ImageVariant#keyIdOf})
+	 * @return 객체 키와 업로드 URL
+	 */
+	public PresignedUploadResDto issue(String keyPrefix, PresignedUploadReqDto request, boolean withVariants) {
+		String contentType = request.getContentType().toLowerCase(Locale.ROOT);
+		validate(contentType, request.getContentLength());
+
+		String id = UUID.randomUUID().toString();
+		String imageName = keyPrefix + (withVariants ? ImageVariant.keyIdOf(contentType, id) : id)
+			+ extension(request.getFileName());
+		String uploadUrl = s3Uploader.presignUpload(imageName, contentType, request.getContentLength(), urlExpiry);
+		return new PresignedUploadResDto(imageName, uploadUrl, s3Uploader.getBaseUrl() + imageName,
+			LocalDateTime.now().plus(urlExpiry));
+	}
+
+	/**
+	 * 발급한 객체 키로 이미지가 업로드되었는지 확인합니다.
+	 * @param keyPrefix 발급 시 사용한 접두사
+	 * @param imageName 객체 키
+	 */
+	public void verifyUploaded(String keyPrefix, String imageName) {
+		if (!imageName.startsWith(keyPrefix) || imageName.contains("/")) {
+			throw new ServiceException("400-1", "발급되지 않은 이미지 이름입니다.");
+		}
+
+		HeadObjectResponse object = s3Uploader.findObject(imageName)
+			.orElseThrow(() -> new ServiceException("404-1", "업로드된 이미지를 찾을 수 없습니다."));
+		validate(object.contentType(), object.contentLength());
+	}
+
+	private void validate(String contentType, Long contentLength) {
+		if (contentType == null || !contentType.startsWith("image/")) {
+			throw new ServiceException("400-1", "이미지 파일만 업로드할 수 있습니다.");
+		}
+		if (contentLength == null || contentLength <= 0 || contentLength > maxSize.toBytes()) {
+			throw new ServiceException("400-1", "이미지 크기는 %dMB 이하여야 합니다.".formatted(maxSize.toMegabytes()));
+		}
+	}
+
+	/**
+	 * 원본 파일 이름에서 확장자만 남깁니다. (영문/숫자 10자 이내, 그 외는 생략)
+	 */
+	static String extension(String fileName) {
+		int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+		if (dot < 0) {
+			return "";
+		}
+		String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+		return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+	}
+}
@@ -0,0 +1,36 @@
+package com.team8.project2.domain.image.service;
+
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.image.entity.ImageVariant;
+
+/**
+ * 이미지를 올리는 버킷의 객체 키로 공개 URL을 만듭니다.
+ */
+@Component
+public class ImageUrls {
+
+	/** 버킷 URL (예: {@code https://linkurator-bucket.s3.amazonaws.com/}) */
+	private final String baseUrl;
+
+	public ImageUrls(S3Uploader s3Uploader) {
+		this.baseUrl = s3Uploader.getBaseUrl();
+	}
+
+	/**
+	 * @param imageName 객체 키
+	 * @return 이미지 URL
+	 */
+	public String urlOf(String imageName) {
+		return baseUrl + imageName;
+	}
+
+	/**
+	 * @param variant 변형 이미지 종류
+	 * @param imageName 원본 객체 키
+	 * @return 변형 이미지 URL
+	 */
+	public String urlOf(ImageVariant variant, String imageName) {
+		return baseUrl + variant.keyOf(imageName);
+	}
+}
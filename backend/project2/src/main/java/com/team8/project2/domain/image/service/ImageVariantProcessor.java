@@ -0,0 +1,154 @@
+package com.team8.project2.domain.image.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.domain.image.entity.ImageVariant;
+
+/**
+ * ImageIO로 원본 이미지를 읽어 변형 이미지(JPEG)를 만듭니다. 상태가 없어 여러 스레드에서 동시에 사용할 수 있습니다.
+ * <ul>
+ *     <li>가장 큰 변형 이미지의 두 배 이상으로 큰 원본은 디코딩 단계에서 서브샘플링해 메모리와 디코딩 시간을 줄입니다.</li>
+ *     <li>축소는 절반씩 여러 번 나누어 계단 현상을 줄이고, 작은 변형 이미지는 직전에 만든 큰 변형 이미지에서 축소합니다.</li>
+ *     <li>투명 배경은 흰색으로 채웁니다.</li>
+ * </ul>
+ */
+@Component
+public class ImageVariantProcessor {
+
+	private static final List<ImageVariant> LARGEST_FIRST = Arrays.stream(ImageVariant.values())
+		.sorted(Comparator.comparingInt(ImageVariant::getMaxSize).reversed())
+		.toList();
+
+	static {
+		// 디스크 임시 파일 없이 메모리에서 처리
+		ImageIO.setUseCache(false);
+	}
+
+	private final float jpegQuality;
+	private final long maxPixels;
+
+	public ImageVariantProcessor(
+		@Value("${custom.image.variant.jpeg-quality:0.85}") float jpegQuality,
+		@Value("${custom.image.variant.max-pixels:40000000}") long maxPixels) {
+		this.jpegQuality = jpegQuality;
+		this.maxPixels = maxPixels;
+	}
+
+	/**
+	 * 원본 이미지로 변형 이미지를 만듭니다.
+	 * @param original 원본 이미지 바이트
+	 * @return 변형 이미지별 JPEG 바이트 (ImageIO가 읽을 수 없는 형식이면 빈 Map)
+	 * @throws IOException 이미지가 손상되었거나 허용된 픽셀 수를 넘는 경우
+	 */
+	public Map<ImageVariant, byte[]> process(byte[] original) throws IOException {
+		BufferedImage image = read(original);
+		if (image == null) {
+			return Map.of();
+		}
+
+		Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+		for (ImageVariant variant : LARGEST_FIRST) {
+			image = resize(image, variant.getMaxSize());
+			variants.put(variant, writeJpeg(image));
+		}
+		return variants;
+	}
+
+	private BufferedImage read(byte[] original) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if ((long)width * height > maxPixels) {
+					throw new IOException("이미지가 너무 큽니다. (%dx%d)".formatted(width, height));
+				}
+
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = Math.max(1, Math.max(width, height) / (LARGEST_FIRST.get(0).getMaxSize() * 2));
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * 긴 변이 maxSize 이하가 되도록 비율을 유지해 축소합니다.
+	 */
+	static BufferedImage resize(BufferedImage image, int maxSize) {
+		double scale = Math.min(1.0, (double)maxSize / Math.max(image.getWidth(), image.getHeight()));
+		int targetWidth = Math.max(1, (int)Math.round(image.getWidth() * scale));
+		int targetHeight = Math.max(1, (int)Math.round(image.getHeight() * scale));
+
+		BufferedImage current = image;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			current = draw(current, width, height);
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+
+	private static BufferedImage draw(BufferedImage source, int width, int height) {
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private byte[] writeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(jpegQuality);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,187 @@
+package com.team8.project2.domain.image.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team8.project2.domain.image.entity.ImageVariant;
+import com.team8.project2.domain.image.entity.ImageVariantTask;
+import com.team8.project2.domain.image.event.ImageUploadedEvent;
+import com.team8.project2.domain.image.event.ImageVariantsCreatedEvent;
+import com.team8.project2.domain.image.repository.ImageVariantTaskRepository;
+import com.team8.project2.global.AsyncConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * 업로드된 원본 이미지로 변형 이미지를 만들어 원본 옆에 저장합니다.
+ * <p>
+ * 원본을 등록하는 트랜잭션에서 {@link ImageVariantTask}를 함께 남기고, 커밋된 뒤 코어 수로 제한된 이미지 처리 실행기에서
+ * 바로 처리하므로 업로드 응답을 늦추지 않습니다. 변형 이미지를 모두 올리면 작업을 지우고 {@link ImageVariantsCreatedEvent}를
+ * 발행하며, 그 전까지는 변형 이미지 URL을 노출하지 않습니다.
+ * 저장소 오류로 실패하거나 처리 중 재시작된 작업은 주기적으로 지수 백오프로 다시 시도합니다.
+ * 변형 이미지를 만들지 못하는 원본(손상, 지원하지 않는 내용)은 원본을 변형 이미지 키에 그대로 복사합니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+	/** 주기적 재시도 한 번에 처리할 최대 작업 수 */
+	static final int RETRY_BATCH_SIZE = 50;
+
+	private final S3Uploader s3Uploader;
+	private final ImageVariantProcessor imageVariantProcessor;
+	private final ImageVariantTaskRepository imageVariantTaskRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transaction;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+
+	private final Timer processTimer;
+	private final Counter failures;
+
+	public ImageVariantService(S3Uploader s3Uploader, ImageVariantProcessor imageVariantProcessor,
+		ImageVariantTaskRepository imageVariantTaskRepository, ApplicationEventPublisher eventPublisher,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${custom.image.variant.initial-backoff:30s}") Duration initialBackoff,
+		@Value("${custom.image.variant.max-backoff:1h}") Duration maxBackoff) {
+		this.s3Uploader = s3Uploader;
+		this.imageVariantProcessor = imageVariantProcessor;
+		this.imageVariantTaskRepository = imageVariantTaskRepository;
+		this.eventPublisher = eventPublisher;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.processTimer = Timer.builder("image.variant.process")
+			.description("원본 한 장의 변형 이미지 생성 시간 (디코딩, 축소, 인코딩)")
+			.register(meterRegistry);
+		this.failures = Counter.builder("image.variant.failures")
+			.description("변형 이미지 생성 실패 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 원본을 등록하는 트랜잭션에서 변형 이미지 작업을 남깁니다.
+	 * 주기적 재시도는 커밋 직후의 처리가 끝날 시간을 두고 시작합니다.
+	 */
+	@EventListener
+	public void enqueue(ImageUploadedEvent event) {
+		if (!ImageVariant.hasVariants(event.getImageName())) {
+			return;
+		}
+		imageVariantTaskRepository.save(ImageVariantTask.of(event.getImageName(),
+			LocalDateTime.now().plus(initialBackoff)));
+	}
+
+	@Async(AsyncConfig.IMAGE_PROCESSING_EXECUTOR)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onImageUploaded(ImageUploadedEvent event) {
+		imageVariantTaskRepository.findFirstByObjectKey(event.getImageName()).ifPresent(this::run);
+	}
+
+	/**
+	 * 실패했거나 처리되지 못한 작업 중 시각이 된 작업을 다시 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.image.variant.retry-interval:1m}",
+		initialDelayString = "${custom.image.variant.retry-interval:1m}")
+	public void retryPending() {
+		retryPending(LocalDateTime.now());
+	}
+
+	void retryPending(LocalDateTime now) {
+		imageVariantTaskRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now,
+			PageRequest.of(0, RETRY_BATCH_SIZE)).forEach(this::run);
+	}
+
+	/**
+	 * 작업 하나를 처리합니다. 성공하면 작업을 지우고, 저장소 오류면 다음 시도 시각을 늦춥니다.
+	 */
+	void run(ImageVariantTask task) {
+		String imageName = task.getObjectKey();
+		try {
+			generate(imageName);
+		} catch (NoSuchKeyException e) {
+			// 처리 전에 원본이 지워진 경우 (그 사이 프로필 이미지를 다시 바꿈)
+			log.info("원본이 없어 변형 이미지 작업을 건너뜁니다. ({})", imageName);
+			transaction.executeWithoutResult(status -> imageVariantTaskRepository.deleteAllByIdInBatch(
+				List.of(task.getId())));
+			return;
+		} catch (SdkException e) {
+			failures.increment();
+			log.warn("변형 이미지 생성에 실패해 다시 시도합니다. ({}, {}번째)", imageName, task.getAttempts() + 1, e);
+			LocalDateTime now = LocalDateTime.now();
+			transaction.executeWithoutResult(status -> imageVariantTaskRepository.findById(task.getId())
+				.ifPresent(pending -> pending.retryAfter(backoff(pending.getAttempts()), e.getMessage(), now)));
+			return;
+		}
+
+		transaction.executeWithoutResult(status -> {
+			imageVariantTaskRepository.deleteAllByIdInBatch(List.of(task.getId()));
+			eventPublisher.publishEvent(new ImageVariantsCreatedEvent(imageName));
+		});
+	}
+
+	/**
+	 * 원본 이미지의 변형 이미지를 만들어 업로드합니다.
+	 * @param imageName 원본 객체 키
+	 * @throws SdkException 원본을 내려받거나 변형 이미지를 올리지 못한 경우
+	 */
+	void generate(String imageName) {
+		byte[] original = s3Uploader.downloadFile(imageName);
+
+		Map<ImageVariant, byte[]> variants;
+		long start = System.nanoTime();
+		try {
+			variants = imageVariantProcessor.process(original);
+		} catch (IOException e) {
+			failures.increment();
+			log.warn("변형 이미지 생성에 실패해 원본을 복사합니다. ({})", imageName, e);
+			variants = Map.of();
+		}
+		processTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		if (variants.isEmpty()) {
+			copyOriginal(imageName, original);
+			return;
+		}
+		variants.forEach((variant, bytes) -> s3Uploader.uploadBytes(variant.keyOf(imageName), "image/jpeg", bytes));
+	}
+
+	private void copyOriginal(String imageName, byte[] original) {
+		String contentType = s3Uploader.findObject(imageName)
+			.map(HeadObjectResponse::contentType)
+			.orElse("application/octet-stream");
+		for (ImageVariant variant : ImageVariant.values()) {
+			s3Uploader.uploadBytes(variant.keyOf(imageName), contentType, original);
+		}
+	}
+
+	/**
+	 * 실패 횟수에 따라 대기 시간을 두 배씩 늘립니다. (최대 maxBackoff)
+	 */
+	Duration backoff(int attempts) {
+		Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+		return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+	}
+}
@@ -0,0 +1,182 @@
+package com.team8.project2.domain.image.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team8.project2.domain.image.entity.S3DeletionTask;
+import com.team8.project2.domain.image.repository.S3DeletionTaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+
+/**
+ * S3 객체 삭제를 DB에 쌓아 두었다가 DeleteObjects 요청으로 묶어 처리하는 삭제 큐입니다.
+ * <p>
+ * {@link #enqueue}는 호출한 트랜잭션에 참여하므로, 이미지 레코드 삭제가 커밋될 때만 삭제 작업도 함께 남습니다.
+ * 주기적으로 시각이 된 작업을 최대 {@value #BATCH_SIZE}개씩 묶어 삭제하고,
+ * 실패한 객체는 지수 백오프로 다시 시도합니다. S3 삭제는 멱등이므로 같은 키를 여러 번 삭제해도 안전합니다.
+ */
+@Slf4j
+@Service
+public class S3DeletionQueue {
+
+	/** DeleteObjects 한 번에 보낼 수 있는 최대 객체 수 */
+	public static final int BATCH_SIZE = 1000;
+
+	private final S3DeletionTaskRepository s3DeletionTaskRepository;
+	private final S3Uploader s3Uploader;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+
+	private final MeterRegistry meterRegistry;
+	private final Counter deletedObjects;
+	private final Counter failedObjects;
+
+	public S3DeletionQueue(S3DeletionTaskRepository s3DeletionTaskRepository, S3Uploader s3Uploader,
+		MeterRegistry meterRegistry,
+		@Value("${custom.s3.deletion.initial-backoff:30s}") Duration initialBackoff,
+		@Value("${custom.s3.deletion.max-backoff:1h}") Duration maxBackoff) {
+		this.s3DeletionTaskRepository = s3DeletionTaskRepository;
+		this.s3Uploader = s3Uploader;
+		this.meterRegistry = meterRegistry;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.deletedObjects = Counter.builder("s3.delete.objects").tag("result", "deleted").register(meterRegistry);
+		this.failedObjects = Counter.builder("s3.delete.objects").tag("result", "failed").register(meterRegistry);
+	}
+
+	/**
+	 * 객체 삭제를 예약합니다.
+	 * @param objectKeys 삭제할 S3 객체 키 목록
+	 */
+	@Transactional
+	public void enqueue(Collection<String> objectKeys) {
+		enqueue(objectKeys, LocalDateTime.now());
+	}
+
+	/**
+	 * 지정한 시각 이후에 객체 삭제를 예약합니다. 그 전에 {@link #cancel}하면 삭제되지 않습니다.
+	 * @param objectKeys 삭제할 S3 객체 키 목록
+	 * @param notBefore 삭제를 시작할 시각
+	 */
+	@Transactional
+	public void enqueue(Collection<String> objectKeys, LocalDateTime notBefore) {
+		s3DeletionTaskRepository.saveAll(objectKeys.stream()
+			.distinct()
+			.map(key -> S3DeletionTask.of(key, notBefore))
+			.toList());
+	}
+
+	/**
+	 * 아직 처리되지 않은 객체 삭제 예약을 취소합니다.
+	 * @param objectKey 객체 키
+	 */
+	@Transactional
+	public void cancel(String objectKey) {
+		s3DeletionTaskRepository.deleteByObjectKey(objectKey);
+	}
+
+	/**
+	 * 시각이 된 삭제 작업을 모두 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.s3.deletion.interval:10s}",
+		initialDelayString = "${custom.s3.deletion.interval:10s}")
+	public void drain() {
+		drain(LocalDateTime.now());
+	}
+
+	void drain(LocalDateTime now) {
+		int processed;
+		do {
+			processed = drainBatch(now);
+		} while (processed == BATCH_SIZE);
+	}
+
+	/**
+	 * 한 번의 DeleteObjects 요청으로 삭제 작업을 처리합니다.
+	 * @return 처리한 작업 수
+	 */
+	private int drainBatch(LocalDateTime now) {
+		List<S3DeletionTask> tasks = s3DeletionTaskRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now,
+			PageRequest.of(0, BATCH_SIZE));
+		if (tasks.isEmpty()) {
+			return 0;
+		}
+
+		Set<String> keys = new LinkedHashSet<>();
+		tasks.forEach(task -> keys.add(task.getObjectKey()));
+
+		Map<String, String> failures = Map.of();
+		String requestError = null;
+		String result;
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			failures = s3Uploader.deleteFiles(keys);
+			result = failures.isEmpty() ? "success" : "partial";
+		} catch (SdkException e) {
+			log.warn("S3 객체 일괄 삭제에 실패했습니다. ({}개)", keys.size(), e);
+			requestError = e.getMessage();
+			result = "failure";
+		}
+		sample.stop(Timer.builder("s3.delete.batch")
+			.description("DeleteObjects 요청 처리 시간")
+			.tag("result", result)
+			.register(meterRegistry));
+
+		complete(tasks, failures, requestError, now);
+		return tasks.size();
+	}
+
+	/**
+	 * 삭제된 작업은 제거하고, 실패한 작업은 다음 시도 시각을 늦춥니다.
+	 * @param failures 실패한 객체 키와 오류
+	 * @param requestError 요청 자체가 실패한 경우의 오류 (있으면 모든 작업을 실패로 처리)
+	 */
+	private void complete(List<S3DeletionTask> tasks, Map<String, String> failures, String requestError,
+		LocalDateTime now) {
+		List<S3DeletionTask> done = new ArrayList<>();
+		List<S3DeletionTask> retry = new ArrayList<>();
+		for (S3DeletionTask task : tasks) {
+			String error = requestError != null ? requestError : failures.get(task.getObjectKey());
+			if (error == null) {
+				done.add(task);
+			} else {
+				task.retryAfter(backoff(task.getAttempts()), error, now);
+				retry.add(task);
+			}
+		}
+
+		if (!done.isEmpty()) {
+			s3DeletionTaskRepository.deleteAllInBatch(done);
+			deletedObjects.increment(done.size());
+		}
+		if (!retry.isEmpty()) {
+			s3DeletionTaskRepository.saveAll(retry);
+			failedObjects.increment(retry.size());
+			log.warn("S3 객체 {}개 삭제에 실패해 다시 시도합니다. (예: {})", retry.size(), retry.get(0).getObjectKey());
+		}
+	}
+
+	/**
+	 * 실패 횟수에 따라 대기 시간을 두 배씩 늘립니다. (최대 maxBackoff)
+	 */
+	Duration backoff(int attempts) {
+		Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+		return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+	}
+}
@@ -1,6 +1,11 @@
 package com.team8.project2.domain.image.service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -8,14 +13,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.team8.project2.domain.image.entity.ImageVariant;
+
 import lombok.RequiredArgsConstructor;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Service
 @RequiredArgsConstructor
@@ -37,10 +53,40 @@ public class S3Uploader {
 		s3Client.deleteObject(deleteObjectRequest);
 	}
 
+	/**
+	 * 여러 객체를 한 번의 DeleteObjects 요청으로 삭제합니다. (최대 1000개)
+	 * @param imageNames 삭제할 객체 키 목록
+	 * @return 삭제에 실패한 객체 키와 오류 내용 (모두 성공하면 빈 맵)
+	 */
+	public Map<String, String> deleteFiles(Collection<String> imageNames) {
+		DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+			.bucket(bucketName)
+			.delete(Delete.builder()
+				.objects(imageNames.stream().map(name -> ObjectIdentifier.builder().key(name).build()).toList())
+				.quiet(true) // 실패한 객체만 응답에 포함
+				.build())
+			.build();
+
+		DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+
+		Map<String, String> failures = new LinkedHashMap<>();
+		response.errors().forEach(error -> failures.put(error.key(), error.code() + ": " + error.message()));
+		return failures;
+	}
+
 	@Transactional
 	public String uploadFile(MultipartFile file) throws IOException {
-		String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+		String keyId = ImageVariant.keyIdOf(file.getContentType(), UUID.randomUUID().toString());
+		return uploadFile(file, keyId + "_" + file.getOriginalFilename());
+	}
 
+	/**
+	 * 지정한 객체 키로 파일을 업로드합니다.
+	 * @param file 업로드할 파일
+	 * @param fileName 객체 키
+	 * @return 객체 키
+	 */
+	public String uploadFile(MultipartFile file, String fileName) throws IOException {
 		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
 			.bucket(bucketName)
 			.key(fileName)
@@ -52,6 +98,73 @@ public class S3Uploader {
 		return fileName;
 	}
 
+	/**
+	 * 바이트 배열을 지정한 객체 키로 업로드합니다.
+	 * @param fileName 객체 키
+	 * @param contentType MIME 타입
+	 * @param bytes 파일 내용
+	 */
+	public void uploadBytes(String fileName, String contentType, byte[] bytes) {
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(bucketName)
+			.key(fileName)
+			.contentType(contentType)
+			.build();
+
+		s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+	}
+
+	/**
+	 * 객체를 내려받습니다.
+	 * @param fileName 객체 키
+	 * @return 파일 내용
+	 */
+	public byte[] downloadFile(String fileName) {
+		GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+			.bucket(bucketName)
+			.key(fileName)
+			.build();
+
+		return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+	}
+
+	/**
+	 * 클라이언트가 저장소에 직접 업로드할 수 있는 presigned PUT URL을 발급합니다.
+	 * Content-Type과 Content-Length가 서명에 포함되므로 다른 형식이나 크기의 파일은 업로드되지 않습니다.
+	 * @param imageName 업로드할 객체 키
+	 * @param contentType 파일 MIME 타입
+	 * @param contentLength 파일 크기 (바이트)
+	 * @param expiresIn URL 유효 시간
+	 * @return presigned PUT URL
+	 */
+	public String presignUpload(String imageName, String contentType, long contentLength, Duration expiresIn) {
+		PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+			.signatureDuration(expiresIn)
+			.putObjectRequest(req -> req.bucket(bucketName)
+				.key(imageName)
+				.contentType(contentType)
+				.contentLength(contentLength))
+			.build();
+
+		return s3Presigner.presignPutObject(presignRequest).url().toString();
+	}
+
+	/**
+	 * 업로드된 객체의 메타데이터를 조회합니다.
+	 * @param imageName 객체 키
+	 * @return 객체 메타데이터 (없으면 빈 값)
+	 */
+	public Optional<HeadObjectResponse> findObject(String imageName) {
+		try {
+			return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+				.bucket(bucketName)
+				.key(imageName)
+				.build()));
+		} catch (NoSuchKeyException e) {
+			return Optional.empty();
+		}
+	}
+
 	private String getPresignedUrl(String fileName) {
 		GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
 			.signatureDuration(java.time.Duration.ofMinutes(10)) // 유효 시간 설정
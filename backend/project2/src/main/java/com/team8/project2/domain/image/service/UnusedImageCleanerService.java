@@ -1,37 +1,154 @@
 package com.team8.project2.domain.image.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.team8.project2.domain.image.entity.CurationImage;
+import com.team8.project2.domain.image.entity.ImageCleanupRun;
+import com.team8.project2.domain.image.entity.ImageVariant;
 import com.team8.project2.domain.image.repository.CurationImageRepository;
+import com.team8.project2.domain.image.repository.ImageCleanupRunRepository;
+import com.team8.project2.global.AsyncConfig;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 큐레이션에 연결되지 않은 채 하루가 지난 이미지를 정리합니다.
+ * <p>
+ * 미사용 이미지를 ID 순으로 청크 단위로 읽어, 청크마다 짧은 트랜잭션에서 일괄 삭제하고 S3 삭제를 예약합니다.
+ * 진행 상황은 같은 트랜잭션에서 {@link ImageCleanupRun}에 기록하므로, 중단되면 다음 실행(또는 재기동 직후)에
+ * 마지막으로 커밋된 청크 다음부터 이어서 처리합니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class UnusedImageCleanerService {
 
 	private final CurationImageRepository curationImageRepository;
-	private final S3Uploader s3Uploader;
+	private final ImageCleanupRunRepository imageCleanupRunRepository;
+	private final S3DeletionQueue s3DeletionQueue;
+	private final TransactionTemplate transaction;
+	private final int chunkSize;
 
-	// 매일 오후 18시에 실행
-	@Transactional
+	private final Timer runTimer;
+	private final Counter deletedImages;
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public UnusedImageCleanerService(CurationImageRepository curationImageRepository,
+		ImageCleanupRunRepository imageCleanupRunRepository, S3DeletionQueue s3DeletionQueue,
+		PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+		@Value("${custom.image-cleanup.chunk-size:500}") int chunkSize) {
+		this.curationImageRepository = curationImageRepository;
+		this.imageCleanupRunRepository = imageCleanupRunRepository;
+		this.s3DeletionQueue = s3DeletionQueue;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.runTimer = Timer.builder("image.cleanup.run")
+			.description("미사용 이미지 정리 작업 소요 시간")
+			.register(meterRegistry);
+		this.deletedImages = Counter.builder("image.cleanup.deleted")
+			.description("정리된 미사용 이미지 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 정리 작업 한 번의 결과입니다.
+	 */
+	public record CleanupReport(Long runId, long deleted, int chunks, Duration elapsed) {
+
+		/** 초당 정리한 이미지 수 */
+		public double throughput() {
+			return elapsed.isZero() ? deleted : deleted / (elapsed.toNanos() / 1e9);
+		}
+	}
+
+	// 매일 오전 5시에 실행
 	@Scheduled(cron = "0 0 5 * * *")
 	public void cleanUnusedImages() {
-		// 현재 시간에서 하루를 빼 삭제 기준 시간 설정
-		LocalDateTime cutoffDate = LocalDateTime.now().minus(1, ChronoUnit.DAYS);
-
-		// 하루가 지난 사용되지 않은 이미지 S3, DB에서 삭제
-		List<CurationImage> unusedImages = curationImageRepository.findUnusedImages(cutoffDate);
-		for (CurationImage unusedImage : unusedImages) {
-			s3Uploader.deleteFile(unusedImage.getImageName());
-			curationImageRepository.delete(unusedImage);
+		clean(LocalDateTime.now());
+	}
+
+	/**
+	 * 이전 실행이 중단된 채 남아 있으면 기동 직후 이어서 처리합니다.
+	 */
+	@Async(AsyncConfig.S3_CLEANUP_EXECUTOR)
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterruptedRun() {
+		if (imageCleanupRunRepository.findFirstByFinishedAtIsNullOrderByIdDesc().isPresent()) {
+			log.info("중단된 미사용 이미지 정리 작업을 이어서 처리합니다.");
+			cleanUnusedImages();
 		}
 	}
+
+	/**
+	 * 중단된 작업이 있으면 이어서, 없으면 하루 전을 기준으로 새로 정리합니다.
+	 * @return 이번 실행 결과 (이미 실행 중이면 null)
+	 */
+	CleanupReport clean(LocalDateTime now) {
+		if (!running.compareAndSet(false, true)) {
+			log.info("미사용 이미지 정리 작업이 이미 실행 중입니다.");
+			return null;
+		}
+		try {
+			ImageCleanupRun run = transaction.execute(status -> imageCleanupRunRepository
+				.findFirstByFinishedAtIsNullOrderByIdDesc()
+				.orElseGet(() -> imageCleanupRunRepository.save(
+					ImageCleanupRun.start(now.minus(1, ChronoUnit.DAYS), now))));
+
+			long start = System.nanoTime();
+			long deleted = 0;
+			int chunks = 0;
+			int chunkDeleted;
+			while ((chunkDeleted = transaction.execute(status -> cleanChunk(run.getId()))) > 0) {
+				deleted += chunkDeleted;
+				chunks++;
+			}
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+			CleanupReport report = new CleanupReport(run.getId(), deleted, chunks, elapsed);
+			runTimer.record(elapsed.toNanos(), TimeUnit.NANOSECONDS);
+			log.info("미사용 이미지 정리 완료 (작업 {}): {}건, {}개 청크, {}ms, {}건/초",
+				report.runId(), report.deleted(), report.chunks(), elapsed.toMillis(),
+				String.format("%.1f", report.throughput()));
+			return report;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	/**
+	 * 다음 청크를 삭제하고 체크포인트를 갱신합니다. 남은 이미지가 없으면 작업을 완료 처리합니다.
+	 * @return 삭제한 이미지 수
+	 */
+	private int cleanChunk(Long runId) {
+		ImageCleanupRun run = imageCleanupRunRepository.findById(runId).orElseThrow();
+		List<CurationImage> images = curationImageRepository.findUnusedImages(run.getCutoffDate(),
+			run.getLastImageId(), PageRequest.of(0, chunkSize));
+		if (images.isEmpty()) {
+			run.finish(LocalDateTime.now());
+			return 0;
+		}
+
+		curationImageRepository.deleteAllByIdInBatch(images.stream().map(CurationImage::getId).toList());
+		s3DeletionQueue.enqueue(ImageVariant.withVariants(images.stream().map(CurationImage::getImageName).toList()));
+		run.advance(images.get(images.size() - 1).getId(), images.size());
+		deletedImages.increment(images.size());
+		return images.size();
+	}
 }
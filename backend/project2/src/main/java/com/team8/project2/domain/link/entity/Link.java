@@ -2,16 +2,20 @@ package com.team8.project2.domain.link.entity;
 
 import com.team8.project2.domain.curation.curation.entity.CurationLink;
 import com.team8.project2.domain.link.dto.LinkResDTO;
+import com.team8.project2.global.cache.CacheRegions;
 import com.team8.project2.global.exception.ServiceException;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.IOException;
@@ -30,6 +34,8 @@ import java.util.List;
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "Link")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LINK)
 public class Link {
 
 	/**
@@ -60,6 +66,14 @@ public class Link {
 	@Column(name = "createdAt", nullable = false)
 	private LocalDateTime createdAt;
 
+	/**
+	 * 링크 정보(URL, 제목, 설명, 이미지) 수정 시간 (자동 설정, 상세 응답의 버전 계산에 사용)
+	 */
+	@LastModifiedDate
+	@Setter(AccessLevel.PRIVATE)
+	@Column(name = "modifiedAt")
+	private LocalDateTime modifiedAt;
+
 	/**
 	 * 링크와 연관된 큐레이션 목록 (1:N 관계)
 	 */
@@ -2,6 +2,9 @@ package com.team8.project2.domain.link.repository;
 
 import com.team8.project2.domain.link.entity.Link;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -17,4 +20,14 @@ public interface LinkRepository extends JpaRepository<Link, Long> {
      * @return 해당 URL을 가진 링크 객체 (없을 경우 빈 Optional 반환)
      */
     Optional<Link> findByUrl(String url);
+
+    /**
+     * 링크 클릭수에 누적된 증가분을 더합니다.
+     * @param linkId 링크 ID
+     * @param delta 증가분
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Link l SET l.click = l.click + :delta WHERE l.id = :linkId")
+    int increaseClick(@Param("linkId") Long linkId, @Param("delta") int delta);
 }
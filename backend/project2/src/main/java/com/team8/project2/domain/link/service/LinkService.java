@@ -1,12 +1,9 @@
 package com.team8.project2.domain.link.service;
 
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.Duration;
 import java.util.Optional;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,16 +12,12 @@ import com.team8.project2.domain.link.dto.LinkReqDTO;
 import com.team8.project2.domain.link.entity.Link;
 import com.team8.project2.domain.link.repository.LinkRepository;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.redis.ViewAdmission;
+import com.team8.project2.global.redis.ViewCounter;
+import com.team8.project2.global.redis.ViewTarget;
+import com.team8.project2.global.web.ClientIpFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.time.Duration;
-import java.util.Optional;
 
 /**
  * 링크(Link) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -35,9 +28,8 @@ import java.util.Optional;
 public class LinkService {
 
     private final LinkRepository linkRepository;
-    private final LinkClickService linkClickService;
-    private final RedisTemplate<String, String> redisTemplate; // RedisTemplate 추가
-    private static final String CLICK_KEY = "link:click:"; // Redis 키 접두사
+    private final ViewCounter viewCounter;
+
     /**
      * 특정 링크를 조회하고 클릭수를 증가시킵니다.
      *
@@ -45,67 +37,31 @@ public class LinkService {
      * @param request 클라이언트 요청 객체
      * @return 클릭된 링크 객체
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public LinkClickResDto getLinkAndIncrementClick(Long linkId, HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-RealIP");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("REMOTE_ADDR");
-        }
-        if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-
-        if(ip.equals("0:0:0:0:0:0:0:1") || ip.equals("127.0.0.1"))
-        {
-            InetAddress address = null;
-            try {
-                address = InetAddress.getLocalHost();
-            } catch (UnknownHostException e) {
-                throw new RuntimeException(e);
-            }
-            ip = address.getHostName() + "/" + address.getHostAddress();
-        }
-
-        String key = CLICK_KEY + linkId + ":" + ip;
-
-        // Redis에 먼저 키 저장 (최초 요청만 true 반환, 10분 유지)
-        boolean isNewClick = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(true), Duration.ofMinutes(10));
-        System.out.println("Redis Key Set? " + isNewClick + " | Key: " + key);
+        String ip = ClientIpFilter.getClientIp(request);
 
         // 링크 조회
         Link link = linkRepository.findById(linkId)
                 .orElseThrow(() -> new ServiceException("404-1", "해당 링크를 찾을 수 없습니다."));
 
-        // 새로운 조회일 때만 클릭수 증가
-        if (isNewClick) {
-            linkClickService.increaseClickCount(link);
-            System.out.println("클릭수 증가! 현재 조회수: " + link.getClick());
-        } else {
-            System.out.println("클릭수 증가 안 함 (이미 조회된 IP)");
-        }
+        // 중복 클릭 확인과 클릭수 증가를 한 번에 처리 (IP당 10분에 한 번), DB에는 배치로 반영
+        ViewAdmission click = viewCounter.admit(ViewTarget.LINK, linkId, ip);
+        link.setClick(link.getClick() + (int) click.pending()); // 응답 표시용 (읽기 전용 트랜잭션이라 flush되지 않음)
 
         return LinkClickResDto.fromEntity(link);
     }
 
+    /**
+     * Redis에 누적된 링크 클릭수 증가분을 DB에 반영합니다.
+     */
+    @Scheduled(fixedRate = 600000)
+    @Transactional
+    public void syncClickCountsToDB() {
+        viewCounter.flushPending(ViewTarget.LINK,
+                (linkId, delta) -> linkRepository.increaseClick(linkId, Math.toIntExact(delta)));
+    }
+
 
     /**
      * 새로운 링크를 추가합니다.
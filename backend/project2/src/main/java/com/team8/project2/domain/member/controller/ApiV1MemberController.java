@@ -15,6 +15,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.team8.project2.domain.curation.curation.service.CurationService;
+import com.team8.project2.domain.image.dto.ImageConfirmReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
 import com.team8.project2.domain.member.dto.AllMemberResDto;
 import com.team8.project2.domain.member.dto.CuratorInfoDto;
 import com.team8.project2.domain.member.dto.FollowResDto;
@@ -29,6 +32,7 @@ import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.dto.RsData;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.security.Actor;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -107,11 +111,11 @@ public class ApiV1MemberController {
     public RsData<MemberResDTO> getMyInfo() {
         log.info("🔍 [/me] 요청 수신됨");
 
-        // ✅ JWT에서 사용자 정보 가져오기
-        Member member = rq.getActor();
+        // ✅ 프로필 이미지, 소개 등 토큰에 없는 정보가 필요하므로 회원 엔티티 조회
+        Member member = rq.getRealActor();
 
         if (member == null) {
-            log.warn("⚠️ [/me] 인증된 사용자 정보 없음 (rq.getActor() == null)");
+            log.warn("⚠️ [/me] 인증된 사용자 정보 없음 (rq.getRealActor() == null)");
             throw new ServiceException("401-3", "유효하지 않은 인증 정보입니다.");
         }
 
@@ -129,6 +133,10 @@ public class ApiV1MemberController {
     }
     @PostMapping("/logout")
     public RsData<Void> logout() {
+        String accessToken = rq.getAccessToken();
+        if (accessToken != null) {
+            memberService.logout(accessToken); // 만료 전이라도 다시 사용할 수 없도록 폐기
+        }
         rq.removeCookie("accessToken"); // JWT 삭제
         rq.removeCookie("role");
 
@@ -147,7 +155,7 @@ public class ApiV1MemberController {
             @PathVariable String memberId,
             @RequestBody @Valid MemberUpdateReqDTO updateReqDTO) {
 
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
         if (actor == null || !actor.getMemberId().equals(memberId)) {
             throw new ServiceException("403-1", "권한이 없습니다.");
@@ -159,6 +167,8 @@ public class ApiV1MemberController {
         existingMember.setIntroduce(updateReqDTO.getIntroduce());
 
         Member updatedMember = memberService.updateMember(existingMember);
+        // 토큰의 username 클레임이 바뀐 이름을 담도록 다시 발급
+        rq.addCookie("accessToken", memberService.genAccessToken(updatedMember));
         return new RsData<>("200-5", "회원 정보가 수정되었습니다.", MemberResDTO.fromEntity(updatedMember));
     }
 
@@ -166,7 +176,7 @@ public class ApiV1MemberController {
     @PostMapping("/{username}/follow")
     @PreAuthorize("isAuthenticated()")
     public RsData<FollowResDto> follow(@PathVariable String username) {
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
         FollowResDto followResDto = memberService.followUser(actor, username);
         return new RsData<>("200-1", "%s님을 팔로우했습니다.".formatted(username), followResDto);
     }
@@ -174,7 +184,7 @@ public class ApiV1MemberController {
     @PostMapping("/{username}/unfollow")
     @PreAuthorize("isAuthenticated()")
     public RsData<UnfollowResDto> unfollow(@PathVariable String username) {
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
         UnfollowResDto unfollowResDto = memberService.unfollowUser(actor, username);
         return new RsData<>("200-1", "%s님을 팔로우 취소했습니다.".formatted(username), unfollowResDto);
     }
@@ -182,7 +192,7 @@ public class ApiV1MemberController {
     @GetMapping("/following")
     @PreAuthorize("isAuthenticated()")
     public RsData<FollowingResDto> following() {
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
         FollowingResDto followingResDto = memberService.getFollowingUsers(actor);
         return new RsData<>("200-1", "팔로우 중인 사용자를 조회했습니다.", followingResDto);
     }
@@ -198,14 +208,28 @@ public class ApiV1MemberController {
 		return new RsData<>("200-1", "프로필 이미지가 변경되었습니다.");
     }
 
+    @PostMapping("/profile/images/presigned")
+    @PreAuthorize("isAuthenticated()")
+    public RsData<PresignedUploadResDto> issueProfileImageUploadUrl(@RequestBody @Valid PresignedUploadReqDto request) {
+        return new RsData<>("200-1", "프로필 이미지 업로드 URL이 발급되었습니다.",
+            memberService.issueProfileImageUploadUrl(request));
+    }
+
+    @PostMapping("/profile/images/confirm")
+    @PreAuthorize("isAuthenticated()")
+    public RsData<Void> confirmProfileImage(@RequestBody @Valid ImageConfirmReqDto request) {
+        memberService.confirmProfileImage(request.getImageName());
+        return new RsData<>("200-1", "프로필 이미지가 변경되었습니다.");
+    }
+
     @GetMapping("/members")
     @PreAuthorize("isAuthenticated()")
     public RsData<AllMemberResDto> findAllMember(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size)
     {
-        Member member = rq.getActor();
-        if (!member.isAdmin()) {
+        Actor actor = rq.getActor();
+        if (!actor.isAdmin()) {
             return new RsData<>("403-1", "관리자 권한이 없습니다.");
         }
         AllMemberResDto allMemberResDto = adminService.getAllMembers(page, size);
@@ -214,7 +238,7 @@ public class ApiV1MemberController {
 
     @DeleteMapping("/delete")
     public RsData<Void> deleteMember() {
-        Member actor = rq.getActor();
+        Member actor = rq.getRealActor();
         List<Curation> curations = curationService.findAllByMember(actor);
         List<Comment> comments = commentService.findAllByAuthor(actor);
         adminService.deleteMember(actor);
@@ -6,12 +6,16 @@ import java.util.Collection;
 import java.util.List;
 
 import com.team8.project2.domain.member.dto.MemberUpdateReqDTO;
+import com.team8.project2.global.cache.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -34,6 +38,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MEMBER)
 public class Member {
     @Id // PRIMARY KEY
     @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT
@@ -61,6 +67,9 @@ public class Member {
     private RoleEnum role = RoleEnum.MEMBER;
     @Column
     private String profileImage;
+    /** 프로필 이미지 썸네일 URL (썸네일이 저장소에 만들어진 뒤에 채워지며, 그 전에는 원본을 사용) */
+    @Column
+    private String profileImageThumbnail;
     @Column
     private String email;
     @Column
@@ -0,0 +1,12 @@
+package com.team8.project2.domain.member.event;
+
+import lombok.Getter;
+
+@Getter
+public class MemberUpdateEvent {
+	private Long memberId;
+
+	public MemberUpdateEvent(Long memberId) {
+		this.memberId = memberId;
+	}
+}
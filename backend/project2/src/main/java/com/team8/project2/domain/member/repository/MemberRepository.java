@@ -13,5 +13,6 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, Long> {
   Optional<Member> findByMemberId(String MemberId);
   Optional<Member> findByUsername(String username);
+  List<Member> findByProfileImage(String profileImage);
   Page<Member> findAll(Pageable pageable);
 }
@@ -1,65 +1,84 @@
 package com.team8.project2.domain.member.service;
 
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.entity.RoleEnum;
+import com.team8.project2.global.security.AccessTokenVerifier;
+import com.team8.project2.global.security.Actor;
+import com.team8.project2.global.security.revocation.TokenRevocationService;
 import com.team8.project2.standard.util.Ut;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.SecretKey;
-import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class AuthTokenService {
 
-    private static final Logger log = LoggerFactory.getLogger(AuthTokenService.class);
     @Value("${custom.jwt.secret-key}")
     private String keyString;
 
     @Value("${custom.jwt.expire-seconds}")
     private int expireSeconds;
 
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 액세스 토큰을 발급합니다.
+     * 권한 확인과 화면 표시에 쓰는 role, username도 함께 담아, 요청마다 회원을 다시 조회하지 않아도 되게 합니다.
+     */
     @Transactional
     public String genAccessToken(Member member) {
-        SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
-        String a = Ut.Jwt.createToken(
-                keyString,
-                expireSeconds,
-                Map.of(
-                        "id", member.getId(),
-                        "memberId", member.getMemberId()
-                )
-        );
-        Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseClaimsJws(a);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("jti", UUID.randomUUID().toString());
+        claims.put("id", member.getId());
+        claims.put("memberId", member.getMemberId());
+        claims.put("username", member.getUsername());
+        claims.put("role", member.getRole().name());
 
-        Date expiration = claimsJws.getBody().getExpiration();
-        log.info("[body expiration]"+expiration);
+        return Ut.Jwt.createToken(keyString, expireSeconds, claims);
+    }
 
-        return a;
+    /**
+     * 액세스 토큰을 검증하고 인증 주체를 만듭니다.
+     * role 클레임이 없는 이전 토큰은 일반 회원(MEMBER)으로 취급합니다.
+     * @param token 액세스 토큰
+     * @return 인증 주체 (유효하지 않거나 폐기된 토큰이면 빈 값)
+     */
+    public Optional<Actor> getActor(String token) {
+        return accessTokenVerifier.verify(token)
+                .filter(claims -> !tokenRevocationService.isRevoked(token, claims))
+                .map(claims -> {
+                    String role = claims.get("role", String.class);
+                    return new Actor(
+                            ((Number) claims.get("id")).longValue(),
+                            claims.get("memberId", String.class),
+                            claims.get("username", String.class),
+                            role == null ? RoleEnum.MEMBER : RoleEnum.valueOf(role)
+                    );
+                });
     }
 
-    public Map<String, Object> getPayload(String token) {
-        if (!Ut.Jwt.isValidToken(keyString, token)) return null;
+    /**
+     * 액세스 토큰을 만료 전에 폐기합니다. 유효하지 않은 토큰은 무시합니다.
+     * @param token 액세스 토큰
+     */
+    public void revoke(String token) {
+        accessTokenVerifier.verify(token)
+                .ifPresent(claims -> tokenRevocationService.revoke(token, claims));
+    }
 
-        Map<String, Object> payload = Ut.Jwt.getPayload(keyString, token);
-        Number idNo = (Number) payload.get("id");
-        long id = idNo.longValue();
-        String memberId = (String) payload.get("memberId");
-        return Map.of(
-                "id", id,
-                "memberId", memberId
-        );
+    /**
+     * 회원이 지금까지 발급받은 액세스 토큰을 모두 폐기합니다. (탈퇴, 권한 변경 시)
+     * @param memberId 회원 ID
+     */
+    public void revokeAll(long memberId) {
+        tokenRevocationService.revokeMember(memberId);
     }
 }
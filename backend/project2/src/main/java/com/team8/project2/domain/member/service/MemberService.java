@@ -3,10 +3,14 @@ package com.team8.project2.domain.member.service;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
+import com.team8.project2.domain.image.event.ImageUploadedEvent;
+import com.team8.project2.domain.image.service.ImageUploadService;
+import com.team8.project2.domain.image.service.S3DeletionQueue;
 import com.team8.project2.domain.image.service.S3Uploader;
 import com.team8.project2.domain.member.dto.CuratorInfoDto;
 import com.team8.project2.domain.member.dto.MemberReqDTO;
@@ -23,12 +27,14 @@ import com.team8.project2.domain.member.dto.UnfollowResDto;
 import com.team8.project2.domain.member.entity.Follow;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.entity.RoleEnum;
+import com.team8.project2.domain.member.event.MemberUpdateEvent;
 import com.team8.project2.domain.member.event.ProfileImageUpdateEvent;
 import com.team8.project2.domain.member.repository.FollowRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
 import com.team8.project2.domain.member.dto.FollowResDto;
 import com.team8.project2.global.Rq;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.security.Actor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,6 +49,8 @@ public class MemberService {
 	private final Rq rq;
 	private final CurationRepository curationRepository;
 	private final S3Uploader s3Uploader;
+	private final ImageUploadService imageUploadService;
+	private final S3DeletionQueue s3DeletionQueue;
 	private final ApplicationEventPublisher eventPublisher;
 
 	public Member join(String memberId, String password, RoleEnum role, String email, String profileImage) {
@@ -97,21 +105,54 @@ public class MemberService {
 	public void deleteMember(String memberId) {
 		Member member = memberRepository.findByMemberId(memberId)
 				.orElseThrow(() -> new ServiceException("404-1", "해당 회원을 찾을 수 없습니다."));
+		// 토큰만으로 인증하므로, 탈퇴한 회원의 토큰이 만료 전까지 쓰이지 않도록 폐기
+		authTokenService.revokeAll(member.getId());
 		memberRepository.delete(member);
 	}
 
+	/**
+	 * 회원의 권한을 변경합니다.
+	 * 토큰에 담긴 이전 권한이 만료 전까지 쓰이지 않도록 발급된 토큰을 모두 폐기하므로, 회원은 다시 로그인해야 합니다.
+	 */
 	@Transactional
-	public Optional<Member> getMemberByAccessToken(String accessToken) {
-		Map<String, Object> payload = authTokenService.getPayload(accessToken);
-		log.info("[JWT PAYLOAD] :" + payload);
-		if (payload == null) {
-			return Optional.empty();
+	public Member changeRole(String memberId, RoleEnum role) {
+		Member member = memberRepository.findByMemberId(memberId)
+				.orElseThrow(() -> new ServiceException("404-1", "해당 회원을 찾을 수 없습니다."));
+		if (member.getRole() == role) {
+			return member;
 		}
+		authTokenService.revokeAll(member.getId());
+		member.setRole(role);
+		eventPublisher.publishEvent(new MemberUpdateEvent(member.getId()));
+		return member;
+	}
+
+	/**
+	 * 회원이 발급받은 액세스 토큰을 모두 폐기합니다.
+	 */
+	public void revokeAccessTokens(long id) {
+		authTokenService.revokeAll(id);
+	}
 
-		long id = (long)payload.get("id");
-		String memberId = (String)payload.get("memberId");
+	/**
+	 * 액세스 토큰의 클레임만으로 인증 주체를 만듭니다. (DB 조회 없음)
+	 */
+	public Optional<Actor> getActorByAccessToken(String accessToken) {
+		return authTokenService.getActor(accessToken);
+	}
+
+	/**
+	 * 로그아웃한 액세스 토큰을 폐기해, 만료 전이라도 다시 사용할 수 없게 합니다.
+	 */
+	public void logout(String accessToken) {
+		authTokenService.revoke(accessToken);
+	}
 
-		return Optional.of(Member.builder().id(id).memberId(memberId).build());
+	/**
+	 * 회원을 조회하지 않고 식별자만 가진 참조를 반환합니다. (연관관계 지정용)
+	 */
+	public Member getReference(long id) {
+		return memberRepository.getReferenceById(id);
 	}
 
 	public String genAccessToken(Member member) {
@@ -119,14 +160,15 @@ public class MemberService {
 	}
 
 	@Transactional
-	public FollowResDto followUser(Member follower, String username) {
+	public FollowResDto followUser(Actor actor, String username) {
 		Member followee = findByUsername(username).orElseThrow(
 			() -> new ServiceException("404-1", "존재하지 않는 사용자입니다."));
 
-		if (follower.getMemberId().equals(followee.getMemberId())) {
+		if (followee.getId().equals(actor.getId())) {
 			throw new ServiceException("400-1", "자신을 팔로우할 수 없습니다.");
 		}
 
+		Member follower = memberRepository.getReferenceById(actor.getId());
 		Follow follow = new Follow();
 		follow.setFollowerAndFollowee(follower, followee);
 
@@ -139,14 +181,15 @@ public class MemberService {
 	}
 
 	@Transactional
-	public UnfollowResDto unfollowUser(Member follower, String followeeId) {
+	public UnfollowResDto unfollowUser(Actor actor, String followeeId) {
 		Member followee = findByUsername(followeeId).orElseThrow(
 			() -> new ServiceException("404-1", "존재하지 않는 사용자입니다."));
 
-		if (follower.getMemberId().equals(followee.getMemberId())) {
+		if (followee.getId().equals(actor.getId())) {
 			throw new ServiceException("400-1", "자신을 팔로우할 수 없습니다.");
 		}
 
+		Member follower = memberRepository.getReferenceById(actor.getId());
 		Follow follow = new Follow();
 		follow.setFollowerAndFollowee(follower, followee);
 
@@ -158,8 +201,8 @@ public class MemberService {
 	}
 
 	@Transactional(readOnly = true)
-	public FollowingResDto getFollowingUsers(Member actor) {
-		List<Follow> followings = followRepository.findByFollower(actor)
+	public FollowingResDto getFollowingUsers(Actor actor) {
+		List<Follow> followings = followRepository.findByFollower(memberRepository.getReferenceById(actor.getId()))
 			.stream()
 			.sorted(Comparator.comparing(Follow::getFollowedAt).reversed())
 			.toList();
@@ -168,7 +211,9 @@ public class MemberService {
 
 	@Transactional
 	public Member updateMember(Member member) {
-		return memberRepository.save(member);
+		Member updated = memberRepository.save(member);
+		eventPublisher.publishEvent(new MemberUpdateEvent(updated.getId()));
+		return updated;
 	}
 
 	@Transactional(readOnly = true)
@@ -186,7 +231,7 @@ public class MemberService {
 		boolean isFollowed = false;
 		if (rq.isLogin()) {
 			isLogin = true;
-			Member actor = rq.getActor();
+			Actor actor = rq.getActor();
 			isFollowed = followRepository.existsByFollowerIdAndFolloweeId(actor.getId(), member.getId());
 		}
 
@@ -196,12 +241,53 @@ public class MemberService {
 
 	@Transactional
 	public void updateProfileImage(MultipartFile imageFile) throws IOException {
-		Member actor = rq.getActor();
+		Member actor = rq.getRealActor();
 		String imageFileName = s3Uploader.uploadFile(imageFile);
+		changeProfileImage(actor, imageFileName);
+	}
+
+	/**
+	 * 프로필 이미지를 저장소에 직접 업로드할 presigned URL을 발급합니다.
+	 * 객체 키에 회원 ID를 넣어, 다른 회원이 발급받은 키로는 확인할 수 없게 합니다.
+	 * 업로드 확인 없이 버려진 객체가 남지 않도록, 유예 기간 뒤의 삭제를 예약해 두고 확인할 때 취소합니다.
+	 */
+	@Transactional
+	public PresignedUploadResDto issueProfileImageUploadUrl(PresignedUploadReqDto request) {
+		PresignedUploadResDto upload = imageUploadService.issue(profileImagePrefix(rq.getActor()), request, true);
+		s3DeletionQueue.enqueue(List.of(upload.getImageName()),
+			upload.getExpiresAt().plus(ImageUploadService.UNCONFIRMED_UPLOAD_GRACE));
+		return upload;
+	}
+
+	/**
+	 * 직접 업로드가 끝난 이미지를 확인하고 프로필 이미지로 변경합니다.
+	 */
+	@Transactional
+	public void confirmProfileImage(String imageName) {
+		imageUploadService.verifyUploaded(profileImagePrefix(rq.getActor()), imageName);
+		s3DeletionQueue.cancel(imageName);
+		changeProfileImage(rq.getRealActor(), imageName);
+	}
+
+	private String profileImagePrefix(Actor actor) {
+		return "profile_" + actor.getId() + "_";
+	}
+
+	/**
+	 * 프로필 이미지를 변경합니다.
+	 * 같은 이미지로 다시 확인(confirm)하면 현재 이미지를 이전 이미지로 보고 삭제하게 되므로 아무것도 하지 않습니다.
+	 */
+	private void changeProfileImage(Member actor, String imageName) {
 		String oldProfileImageUrl = actor.getProfileImage();
-		actor.setProfileImage(s3Uploader.getBaseUrl() + imageFileName);
+		String newProfileImageUrl = s3Uploader.getBaseUrl() + imageName;
+		if (newProfileImageUrl.equals(oldProfileImageUrl)) {
+			return;
+		}
+		actor.setProfileImage(newProfileImageUrl);
+		actor.setProfileImageThumbnail(null);
 
 		memberRepository.save(actor);
+		eventPublisher.publishEvent(new ImageUploadedEvent(imageName));
 		eventPublisher.publishEvent(new ProfileImageUpdateEvent(oldProfileImageUrl));
 	}
 }
@@ -1,13 +1,21 @@
 package com.team8.project2.domain.member.service;
 
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.team8.project2.domain.image.service.S3Uploader;
+import com.team8.project2.domain.image.entity.ImageVariant;
+import com.team8.project2.domain.image.event.ImageVariantsCreatedEvent;
+import com.team8.project2.domain.image.service.ImageUrls;
+import com.team8.project2.domain.image.service.S3DeletionQueue;
 import com.team8.project2.domain.member.event.ProfileImageUpdateEvent;
+import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.global.AsyncConfig;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,9 +26,11 @@ import lombok.extern.slf4j.Slf4j;
 public class ProfileImageEventListener {
 
 	private static final String DEAFULT_PROFILE_IMAGE_NAME = "default-profile.svg";
-	private final S3Uploader s3Uploader;
+	private final S3DeletionQueue s3DeletionQueue;
+	private final MemberRepository memberRepository;
+	private final ImageUrls imageUrls;
 
-	@Async
+	@Async(AsyncConfig.S3_CLEANUP_EXECUTOR)
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	@TransactionalEventListener
 	public void deleteOldProfileImage(ProfileImageUpdateEvent event) {
@@ -28,7 +38,18 @@ public class ProfileImageEventListener {
 		if (isDefaultProfile(oldProfileImageName)) {
 			return;
 		}
-		s3Uploader.deleteFile(oldProfileImageName);
+		s3DeletionQueue.enqueue(ImageVariant.withVariants(List.of(oldProfileImageName)));
+	}
+
+	/**
+	 * 프로필 이미지의 썸네일이 만들어지면 그 이미지를 쓰는 회원에게 썸네일 URL을 기록합니다.
+	 * 썸네일 작업을 완료 처리하는 트랜잭션에 참여하므로, 기록에 실패하면 작업이 남아 다시 시도됩니다.
+	 */
+	@EventListener
+	public void useProfileThumbnail(ImageVariantsCreatedEvent event) {
+		String thumbnailUrl = imageUrls.urlOf(ImageVariant.THUMBNAIL, event.getImageName());
+		memberRepository.findByProfileImage(imageUrls.urlOf(event.getImageName()))
+			.forEach(member -> member.setProfileImageThumbnail(thumbnailUrl));
 	}
 
 	private boolean isDefaultProfile(String oldProfileImageName) {
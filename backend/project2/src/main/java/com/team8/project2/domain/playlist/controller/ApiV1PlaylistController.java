@@ -5,16 +5,19 @@ import com.team8.project2.domain.link.entity.Link;
 import com.team8.project2.domain.link.service.LinkService;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.playlist.dto.*;
+import com.team8.project2.domain.playlist.entity.PlaylistExploreSort;
 import com.team8.project2.domain.playlist.entity.PlaylistItem;
 import com.team8.project2.domain.playlist.repository.PlaylistLikeRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
 import com.team8.project2.domain.playlist.service.PlaylistService;
 import com.team8.project2.global.Rq;
+import com.team8.project2.global.dto.CounterResDto;
 import com.team8.project2.global.dto.RsData;
+import com.team8.project2.global.web.ResourceVersion;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
@@ -36,7 +39,6 @@ public class ApiV1PlaylistController {
     private final PlaylistRepository playlistRepository;
     private final PlaylistLikeRepository playlistLikeRepository;
     private final Rq rq;
-    private final RedisTemplate<String, Object> redisTemplate;
 
     /**
      * 플레이리스트를 생성합니다.
@@ -53,13 +55,32 @@ public class ApiV1PlaylistController {
     /**
      * 특정 플레이리스트를 조회합니다.
      *
+     * 요청의 ETag/수정 시각이 현재 버전과 같으면 상세 응답을 만들지 않고 304로 응답합니다.
+     *
      * @param id 조회할 플레이리스트의 ID
      * @return 조회된 플레이리스트 정보
      */
     @GetMapping("/{id}")
-    public RsData<PlaylistDto> getPlaylist(@PathVariable Long id, HttpServletRequest request) {
+    public ResponseEntity<RsData<PlaylistDto>> getPlaylist(@PathVariable Long id, HttpServletRequest request) {
+        ResourceVersion version = playlistService.getPlaylistVersion(id);
+        if (version.isNotModified(request)) {
+            playlistService.recordView(id, request);
+            return version.notModified();
+        }
+
         PlaylistDto playlist = playlistService.getPlaylist(id, request);
-        return RsData.success("플레이리스트 조회 성공", playlist);
+        return version.ok(RsData.success("플레이리스트 조회 성공", playlist));
+    }
+
+    /**
+     * 플레이리스트의 실시간 조회수와 좋아요 수를 조회합니다.
+     *
+     * @param id 플레이리스트 ID
+     * @return 카운터 응답
+     */
+    @GetMapping("/{id}/counters")
+    public RsData<CounterResDto> getCounters(@PathVariable Long id) {
+        return RsData.success("카운터 조회 성공", playlistService.getCounters(id));
     }
 
 
@@ -171,12 +192,31 @@ public class ApiV1PlaylistController {
         return RsData.success("플레이리스트 아이템 순서가 변경되었습니다.", updatedPlaylist);
     }
 
+    /**
+     * 플레이리스트 아이템 하나를 이동합니다.
+     * 이동한 아이템(그룹이면 하위 아이템 포함)의 순서만 변경됩니다.
+     *
+     * @param id      플레이리스트의 ID
+     * @param itemId  이동할 아이템의 식별자
+     * @param request 이동 후 앞/뒤 아이템 및 그룹 정보
+     * @return 순서가 변경된 플레이리스트 정보
+     */
+    @PatchMapping("/{id}/items/{itemId}/move")
+    public RsData<PlaylistDto> movePlaylistItem(
+            @PathVariable("id") Long id,
+            @PathVariable("itemId") Long itemId,
+            @RequestBody PlaylistItemMoveDto request
+    ) {
+        PlaylistDto updatedPlaylist = playlistService.movePlaylistItem(id, itemId, request);
+        return RsData.success("플레이리스트 아이템이 이동되었습니다.", updatedPlaylist);
+    }
+
     /** ✅ 좋아요 증가 API */
     @PostMapping("/{id}/like")
-    public RsData<Void> likePlaylist(@PathVariable Long id) {
+    public RsData<Long> likePlaylist(@PathVariable Long id) {
         Long memberId = rq.getActor().getId();
-        playlistService.likePlaylist(id, memberId);
-        return RsData.success("좋아요 상태가 토글되었습니다.", null);
+        long likeCount = playlistService.likePlaylist(id, memberId);
+        return RsData.success("좋아요 상태가 토글되었습니다.", likeCount);
     }
 
     /** ✅ 좋아요 상태 조회 API */
@@ -208,18 +248,43 @@ public class ApiV1PlaylistController {
         return RsData.success("추천 플레이리스트 목록을 조회하였습니다.", recommended);
     }
 
+    /** 함께 좋아한 플레이리스트 조회 API */
+    @GetMapping("/{id}/also-liked")
+    public RsData<List<PlaylistDto>> getAlsoLikedPlaylists(@PathVariable Long id) {
+        List<PlaylistDto> playlists = playlistService.getAlsoLikedPlaylists(id);
+        return RsData.success("함께 좋아한 플레이리스트 목록을 조회하였습니다.", playlists);
+    }
+
     private final LinkService linkService;
 
+    /**
+     * 공개 플레이리스트를 탐색합니다. (커서 기반 페이지네이션)
+     *
+     * @param sort   정렬 기준 (RECENT, LIKES, VIEWS, COMBINED)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size   페이지 크기
+     * @return 공개 플레이리스트 페이지
+     */
     @GetMapping("/explore")
-    public RsData<List<PlaylistDto>> getAllPublicPlaylists(){
-        List<PlaylistDto> playlists = playlistService.getAllPublicPlaylists();
-        return RsData.success("공개 플레이리스트 전체 조회를 하였습니다.", playlists);
+    public RsData<PlaylistExplorePageDto> getPublicPlaylists(
+            @RequestParam(defaultValue = "RECENT") PlaylistExploreSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PlaylistExplorePageDto page = playlistService.getPublicPlaylists(sort, cursor, size);
+        return RsData.success("공개 플레이리스트 목록을 조회하였습니다.", page);
     }
 
+    /**
+     * 공개 플레이리스트를 내 플레이리스트로 복제합니다.
+     *
+     * @param playlistId 복제할 플레이리스트 ID
+     * @return 새로 생성된 플레이리스트 ID
+     */
     @PostMapping("/{id}")
-    public RsData<PlaylistDto> addPublicPlaylist(@PathVariable(name = "id") Long playlistId) {
-        PlaylistDto playlistDto = playlistService.addPublicPlaylist(playlistId);
-        return RsData.success("플레이리스트가 복제되었습니다.", playlistDto);
+    public RsData<Long> addPublicPlaylist(@PathVariable(name = "id") Long playlistId) {
+        Long newPlaylistId = playlistService.addPublicPlaylist(playlistId);
+        return RsData.success("플레이리스트가 복제되었습니다.", newPlaylistId);
     }
 
     /** 좋아요한 플레이리스트 조회 API */
@@ -1,15 +1,13 @@
 package com.team8.project2.domain.playlist.dto;
 
-import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.global.security.Actor;
 import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * 플레이리스트(Playlist) 데이터를 전송하는 DTO 클래스입니다.
@@ -56,11 +54,12 @@ public class PlaylistDto {
     private boolean isOwner;
 
     /**
-     * 플레이리스트 엔티티를 DTO로 변환합니다.
+     * 미리 변환한 아이템 목록으로 플레이리스트 DTO를 생성합니다.
      * @param playlist 변환할 플레이리스트 엔티티
+     * @param items 표시 순서대로 정렬된 아이템 DTO 목록
      * @return 변환된 PlaylistDto 객체
      */
-    public static PlaylistDto fromEntity(Playlist playlist, Member actor) {
+    public static PlaylistDto of(Playlist playlist, List<PlaylistItemDto> items, Actor actor) {
         boolean isOwner = (actor != null && playlist.getMember().getId().equals(actor.getId()));
 
         return PlaylistDto.builder()
@@ -70,10 +69,7 @@ public class PlaylistDto {
                 .isPublic(playlist.isPublic())
                 .viewCount(playlist.getViewCount())
                 .likeCount(playlist.getLikeCount())
-                .items(playlist.getItems().stream()
-                        .sorted(Comparator.comparing(item -> item.getDisplayOrder()))
-                        .map(PlaylistItemDto::fromEntity)
-                        .collect(Collectors.toList()))
+                .items(items)
                 .tags(playlist.getTagNames())
                 .createdAt(playlist.getCreatedAt())
                 .isOwner(isOwner)
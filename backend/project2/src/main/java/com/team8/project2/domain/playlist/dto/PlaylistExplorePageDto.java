@@ -0,0 +1,26 @@
+package com.team8.project2.domain.playlist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공개 플레이리스트 탐색 결과 한 페이지를 전달하는 DTO 클래스입니다.
+ * 다음 페이지는 nextCursor 값을 cursor 파라미터로 전달하여 조회합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaylistExplorePageDto {
+
+    private List<PlaylistSummaryDto> playlists;
+
+    /** 다음 페이지 조회용 커서 (마지막 페이지이면 null) */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
@@ -1,5 +1,6 @@
 package com.team8.project2.domain.playlist.dto;
 
+import com.team8.project2.domain.link.entity.Link;
 import com.team8.project2.domain.playlist.entity.PlaylistItem;
 import lombok.Builder;
 import lombok.Data;
@@ -35,21 +36,31 @@ public class PlaylistItemDto {
     private Long parentItemId;
 
     /**
-     * 플레이리스트 항목 엔티티를 DTO로 변환합니다.
+     * 표시 순서 키 (값이 작을수록 앞, 연속된 값이 아닐 수 있음)
+     */
+    private Integer displayOrder;
+
+    /**
+     * 미리 조회한 링크와 큐레이션 제목으로 플레이리스트 항목 DTO를 생성합니다.
+     * 연관 엔티티를 다시 조회하지 않으므로 여러 플레이리스트를 한 번에 변환할 때 사용합니다.
      * @param playlistItem 변환할 플레이리스트 항목 엔티티
+     * @param link 링크 항목의 링크 (없으면 null)
+     * @param curationTitle 큐레이션 항목의 제목 (없으면 null)
      * @return 변환된 PlaylistItemDto 객체
      */
-    public static PlaylistItemDto fromEntity(PlaylistItem playlistItem) {
+    public static PlaylistItemDto of(PlaylistItem playlistItem, Link link, String curationTitle) {
+        boolean isCuration = playlistItem.getItemType() == PlaylistItem.PlaylistItemType.CURATION;
+
         return PlaylistItemDto.builder()
                 .id(playlistItem.getId())
                 .itemId(playlistItem.getItemId())
                 .itemType(playlistItem.getItemType().name())
-                .title(playlistItem.getLink() != null ? playlistItem.getLink().getTitle() : "")
-                .description(playlistItem.getLink() != null ? playlistItem.getLink().getDescription() : "")
-                .url(playlistItem.getLink() != null ? playlistItem.getLink().getUrl() : "")
-                .curationId(playlistItem.getCuration() != null ? playlistItem.getCuration().getId() : null)
+                .title(link != null ? link.getTitle() : (curationTitle != null ? curationTitle : ""))
+                .description(link != null ? link.getDescription() : "")
+                .url(link != null ? link.getUrl() : "")
+                .curationId(isCuration ? playlistItem.getItemId() : null)
                 .parentItemId(playlistItem.getParentItemId())
+                .displayOrder(playlistItem.getDisplayOrder())
                 .build();
     }
 }
-
@@ -0,0 +1,23 @@
+package com.team8.project2.domain.playlist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플레이리스트 아이템 이동 요청 DTO 클래스입니다.
+ * 이동 후 바로 앞/뒤에 위치할 아이템을 지정합니다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlaylistItemMoveDto {
+    // 이동 후 바로 앞에 위치할 아이템 ID (맨 앞으로 이동 시 null)
+    private Long beforeItemId;
+
+    // 이동 후 바로 뒤에 위치할 아이템 ID (맨 뒤로 이동 시 null)
+    private Long afterItemId;
+
+    // 이동할 그룹(큐레이션 그룹 헤더)의 ID (최상위로 이동 시 null)
+    private Long parentItemId;
+}
@@ -0,0 +1,49 @@
+package com.team8.project2.domain.playlist.dto;
+
+import com.team8.project2.domain.playlist.entity.Playlist;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 플레이리스트 목록 화면에 사용하는 요약 DTO 클래스입니다.
+ * 아이템 목록을 로딩하지 않고 아이템 개수만 전달합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaylistSummaryDto {
+
+    private Long id;
+    private String title;
+    private String description;
+    private long viewCount;
+    private long likeCount;
+    private long itemCount;
+    private Set<String> tags;
+    private LocalDateTime createdAt;
+
+    /**
+     * 플레이리스트 엔티티를 요약 DTO로 변환합니다.
+     * @param playlist 변환할 플레이리스트 엔티티
+     * @param itemCount 플레이리스트 아이템 개수
+     * @return 변환된 PlaylistSummaryDto 객체
+     */
+    public static PlaylistSummaryDto fromEntity(Playlist playlist, long itemCount) {
+        return PlaylistSummaryDto.builder()
+                .id(playlist.getId())
+                .title(playlist.getTitle())
+                .description(playlist.getDescription())
+                .viewCount(playlist.getViewCount())
+                .likeCount(playlist.getLikeCount())
+                .itemCount(itemCount)
+                .tags(playlist.getTagNames())
+                .createdAt(playlist.getCreatedAt())
+                .build();
+    }
+}
@@ -2,8 +2,11 @@ package com.team8.project2.domain.playlist.entity;
 
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.global.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,6 +23,10 @@ import java.util.stream.Collectors;
  * 사용자가 생성한 플레이리스트 정보를 저장합니다.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_playlist_public_like", columnList = "is_public, like_count, id"),
+        @Index(name = "idx_playlist_public_view", columnList = "is_public, view_count, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -62,6 +69,15 @@ public class Playlist {
     @Column(nullable = false)
     private long likeCount = 0L; // 기본값 0
 
+    /**
+     * 플레이리스트 정보, 태그, 아이템 구성/순서가 바뀔 때마다 1씩 올리는 버전 (상세 응답의 ETag 계산에 사용)
+     * 아이템/태그는 연관 엔티티만 바뀌어 수정 시간이 갱신되지 않으므로, 수정하는 서비스 메서드에서 직접 올립니다.
+     */
+    @Builder.Default
+    @Setter(AccessLevel.PRIVATE)
+    @Column(nullable = false)
+    private long contentVersion = 0L;
+
     /**
      * 플레이리스트에 포함된 항목 목록 (1:N 관계)
      */
@@ -82,10 +98,18 @@ public class Playlist {
         if (isPublic != null) this.isPublic = isPublic;
     }
 
+    /**
+     * 구성 버전을 올립니다. (엔티티가 변경되므로 수정 시간도 함께 갱신됨)
+     */
+    public void increaseContentVersion() {
+        this.contentVersion++;
+    }
+
     /**
      * 플레이리스트 연관 추천 태그
      */
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PLAYLIST_TAGS)
     @ManyToMany
     @JoinTable(
             name = "PlaylistTag",
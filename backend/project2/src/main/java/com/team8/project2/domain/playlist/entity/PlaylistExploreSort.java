@@ -0,0 +1,32 @@
+package com.team8.project2.domain.playlist.entity;
+
+/**
+ * 공개 플레이리스트 탐색 정렬 기준을 정의하는 열거형(enum) 클래스입니다.
+ */
+public enum PlaylistExploreSort {
+
+    /** 최신순 정렬 */
+    RECENT,
+
+    /** 좋아요순 정렬 */
+    LIKES,
+
+    /** 조회수순 정렬 */
+    VIEWS,
+
+    /** 좋아요 + 조회수 복합 점수순 정렬 */
+    COMBINED;
+
+    /**
+     * 정렬 기준이 되는 값을 반환합니다. (커서 생성용)
+     * 최신순은 생성 순서와 일치하는 ID를 기준 값으로 사용합니다.
+     */
+    public long sortValueOf(long id, long likeCount, long viewCount) {
+        return switch (this) {
+            case RECENT -> id;
+            case LIKES -> likeCount;
+            case VIEWS -> viewCount;
+            case COMBINED -> likeCount + viewCount;
+        };
+    }
+}
@@ -47,14 +47,14 @@ public class PlaylistItem {
     /**
      * 해당 항목이 속한 플레이리스트 (N:1 관계)
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "playlist_id", nullable = false) // NULL 허용 안 함 (반드시 Playlist와 연결)
     private Playlist playlist;
 
     /**
      * 해당 항목이 속한 큐레이션 (N:1 관계)
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "curation_id", nullable = true) // NULL 허용
     private Curation curation;
 
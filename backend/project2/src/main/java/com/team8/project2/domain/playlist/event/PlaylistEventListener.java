@@ -0,0 +1,59 @@
+package com.team8.project2.domain.playlist.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.playlist.service.PlaylistExploreCache;
+import com.team8.project2.domain.playlist.service.PlaylistService;
+import com.team8.project2.global.AsyncConfig;
+import com.team8.project2.global.cache.CachedEndpoint;
+import com.team8.project2.global.cache.CachedResponseServedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaylistEventListener {
+
+	private final PlaylistService playlistService;
+	private final PlaylistExploreCache playlistExploreCache;
+
+	/**
+	 * 아이템 이동으로 순서 키 간격이 좁아졌을 때, 플레이리스트 아이템 순서 키를 다시 균등하게 배치한다
+	 * @param event 순서 키 재배치 이벤트
+	 */
+	@Async(AsyncConfig.PLAYLIST_MAINTENANCE_EXECUTOR)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void rebalanceItemOrder(PlaylistItemRebalanceEvent event) {
+		playlistService.rebalanceItemOrder(event.getPlaylistId());
+	}
+
+	/**
+	 * 공개 플레이리스트 목록이 바뀌면 탐색 페이지 캐시를 무효화한다
+	 * 커밋 전에 무효화하면 그 사이 다른 요청이 변경 전 목록을 다시 캐싱할 수 있으므로 커밋 후에 실행한다
+	 * @param event 공개 목록 변경 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void invalidateExploreCache(PlaylistExploreChangeEvent event) {
+		playlistExploreCache.invalidate();
+	}
+
+	/**
+	 * 플레이리스트 상세 조회가 캐시된 응답으로 처리되었을 때도 조회수를 집계한다
+	 * @param event 캐시 응답 이벤트
+	 */
+	@EventListener
+	public void recordViewForCachedResponse(CachedResponseServedEvent event) {
+		if (event.getEndpoint() == CachedEndpoint.PLAYLIST_DETAIL) {
+			playlistService.recordView(Long.parseLong(event.getPathId()), event.getRequest());
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.team8.project2.domain.playlist.event;
+
+/**
+ * 공개 플레이리스트 목록이 바뀌었을 때(공개 플레이리스트 생성/삭제, 공개 여부 변경) 발행되는 이벤트
+ */
+public class PlaylistExploreChangeEvent {
+}
@@ -0,0 +1,14 @@
+package com.team8.project2.domain.playlist.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 플레이리스트 좋아요가 토글되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PlaylistLikeEvent {
+	private Long playlistId;
+	private Long memberId;
+}
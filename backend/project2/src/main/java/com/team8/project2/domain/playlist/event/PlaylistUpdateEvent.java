@@ -0,0 +1,13 @@
+package com.team8.project2.domain.playlist.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 플레이리스트 정보나 아이템 구성이 변경(삭제 포함)되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PlaylistUpdateEvent {
+	private Long playlistId;
+}
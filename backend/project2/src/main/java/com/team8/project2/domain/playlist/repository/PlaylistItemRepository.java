@@ -0,0 +1,79 @@
+package com.team8.project2.domain.playlist.repository;
+
+import com.team8.project2.domain.playlist.entity.PlaylistItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 플레이리스트 아이템(PlaylistItem) 데이터를 관리하는 레포지토리 인터페이스입니다.
+ * 플레이리스트 복제 시 아이템을 한 번에 복사하는 집합 단위 쿼리를 제공합니다.
+ */
+@Repository
+public interface PlaylistItemRepository extends JpaRepository<PlaylistItem, Long> {
+
+    /**
+     * 원본 플레이리스트의 모든 아이템을 대상 플레이리스트로 한 번에 복사합니다. (INSERT ... SELECT)
+     * 원본 ID 순서대로 삽입하므로 새 아이템 ID도 같은 순서로 증가합니다.
+     * 부모 아이템 ID는 원본 값 그대로 복사되므로 {@link #updateParentItemId}로 재연결해야 합니다.
+     * 네이티브 쿼리가 변경하는 테이블을 지정해 관련 없는 2차 캐시 리전까지 비워지지 않게 합니다.
+     *
+     * @param sourcePlaylistId 원본 플레이리스트 ID
+     * @param targetPlaylistId 대상 플레이리스트 ID
+     * @return 복사된 아이템 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "playlist_item"))
+    @Query(value = "INSERT INTO playlist_item " +
+            "(item_id, parent_item_id, item_type, playlist_id, curation_id, display_order) " +
+            "SELECT item_id, parent_item_id, item_type, :targetPlaylistId, curation_id, display_order " +
+            "FROM playlist_item WHERE playlist_id = :sourcePlaylistId ORDER BY id",
+            nativeQuery = true)
+    int copyItems(@Param("sourcePlaylistId") Long sourcePlaylistId,
+                  @Param("targetPlaylistId") Long targetPlaylistId);
+
+    /**
+     * 여러 플레이리스트의 아이템을 한 번에 조회합니다.
+     * 플레이리스트별로 표시 순서(displayOrder)대로 정렬됩니다.
+     *
+     * @param playlistIds 조회할 플레이리스트 ID 목록
+     * @return 아이템 목록
+     */
+    @Query("SELECT pi FROM PlaylistItem pi " +
+            "WHERE pi.playlist.id IN :playlistIds " +
+            "ORDER BY pi.playlist.id, pi.displayOrder")
+    List<PlaylistItem> findAllByPlaylistIds(@Param("playlistIds") Collection<Long> playlistIds);
+
+    /**
+     * 플레이리스트의 아이템 ID를 오름차순으로 조회합니다.
+     */
+    @Query("SELECT pi.id FROM PlaylistItem pi WHERE pi.playlist.id = :playlistId ORDER BY pi.id")
+    List<Long> findIdsByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 플레이리스트 내에서 부모로 참조되는 아이템 ID 목록을 조회합니다.
+     */
+    @Query("SELECT DISTINCT pi.parentItemId FROM PlaylistItem pi " +
+            "WHERE pi.playlist.id = :playlistId AND pi.parentItemId IS NOT NULL")
+    List<Long> findParentItemIdsByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 플레이리스트 내 부모 아이템 ID를 일괄 변경합니다.
+     *
+     * @return 변경된 아이템 수
+     */
+    @Modifying
+    @Query("UPDATE PlaylistItem pi SET pi.parentItemId = :newParentItemId " +
+            "WHERE pi.playlist.id = :playlistId AND pi.parentItemId = :oldParentItemId")
+    int updateParentItemId(@Param("playlistId") Long playlistId,
+                           @Param("oldParentItemId") Long oldParentItemId,
+                           @Param("newParentItemId") Long newParentItemId);
+}
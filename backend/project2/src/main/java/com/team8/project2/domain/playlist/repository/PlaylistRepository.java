@@ -3,11 +3,18 @@ package com.team8.project2.domain.playlist.repository;
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.domain.playlist.entity.PlaylistItem.PlaylistItemType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -59,7 +66,111 @@ public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
      */
     List<Playlist> findByMember(Member member);
 
-    List<Playlist> findAllByIsPublicTrue();
+    /**
+     * 공개 플레이리스트를 최신순으로 키셋 페이지 조회합니다.
+     * ID는 생성 순서와 일치하므로 ID 내림차순을 최신순으로 사용합니다.
+     *
+     * @param lastId 이전 페이지 마지막 플레이리스트 ID
+     * @param pageable 조회 개수 (정렬 정보는 사용하지 않음)
+     * @return 공개 플레이리스트 목록
+     */
+    @Query("SELECT p FROM Playlist p " +
+            "WHERE p.isPublic = true AND p.id < :lastId " +
+            "ORDER BY p.id DESC")
+    List<Playlist> findPublicByRecent(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 공개 플레이리스트를 좋아요순으로 키셋 페이지 조회합니다.
+     */
+    @Query("SELECT p FROM Playlist p " +
+            "WHERE p.isPublic = true " +
+            "AND (p.likeCount < :lastValue OR (p.likeCount = :lastValue AND p.id < :lastId)) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<Playlist> findPublicByLikes(@Param("lastValue") long lastValue, @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
+    /**
+     * 공개 플레이리스트를 조회수순으로 키셋 페이지 조회합니다.
+     */
+    @Query("SELECT p FROM Playlist p " +
+            "WHERE p.isPublic = true " +
+            "AND (p.viewCount < :lastValue OR (p.viewCount = :lastValue AND p.id < :lastId)) " +
+            "ORDER BY p.viewCount DESC, p.id DESC")
+    List<Playlist> findPublicByViews(@Param("lastValue") long lastValue, @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
+    /**
+     * 공개 플레이리스트를 복합 점수(좋아요 + 조회수)순으로 키셋 페이지 조회합니다.
+     */
+    @Query("SELECT p FROM Playlist p " +
+            "WHERE p.isPublic = true " +
+            "AND ((p.likeCount + p.viewCount) < :lastValue " +
+            "OR ((p.likeCount + p.viewCount) = :lastValue AND p.id < :lastId)) " +
+            "ORDER BY (p.likeCount + p.viewCount) DESC, p.id DESC")
+    List<Playlist> findPublicByCombined(@Param("lastValue") long lastValue, @Param("lastId") Long lastId,
+                                        Pageable pageable);
+
+    /**
+     * 원본 플레이리스트의 태그 연결을 대상 플레이리스트로 한 번에 복사합니다. (INSERT ... SELECT)
+     * 네이티브 쿼리가 변경하는 테이블을 지정해 관련 없는 2차 캐시 리전까지 비워지지 않게 합니다.
+     *
+     * @param sourcePlaylistId 원본 플레이리스트 ID
+     * @param targetPlaylistId 대상 플레이리스트 ID
+     * @return 복사된 태그 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "playlist_tag"))
+    @Query(value = "INSERT INTO playlist_tag (playlist_id, tag_id) " +
+            "SELECT :targetPlaylistId, tag_id FROM playlist_tag WHERE playlist_id = :sourcePlaylistId",
+            nativeQuery = true)
+    int copyTags(@Param("sourcePlaylistId") Long sourcePlaylistId,
+                 @Param("targetPlaylistId") Long targetPlaylistId);
+
+    /**
+     * 플레이리스트 조회수에 누적된 증가분을 더합니다.
+     *
+     * @param playlistId 플레이리스트 ID
+     * @param delta 증가분
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Playlist p SET p.viewCount = p.viewCount + :delta WHERE p.id = :playlistId")
+    int increaseViewCount(@Param("playlistId") Long playlistId, @Param("delta") long delta);
+
+    /**
+     * 플레이리스트 상세 응답의 버전(ETag)을 계산하는 데 필요한 값을 한 번에 조회합니다.
+     * 정보, 태그, 아이템 구성/순서는 구성 버전으로 확인하고, 아이템이 가리키는 큐레이션과 링크의 변경은
+     * 아이템 ID(itemId)로 찾은 최종 수정 시각으로 확인합니다.
+     *
+     * @param playlistId 플레이리스트 ID
+     * @return [수정 시각, 구성 버전, 조회수, 좋아요 수, 작성자 ID,
+     *          큐레이션 아이템 최종 수정 시각, 링크 아이템 최종 수정 시각] (없으면 빈 목록)
+     */
+    default List<Object[]> findDetailVersion(Long playlistId) {
+        return findDetailVersion(playlistId, PlaylistItemType.CURATION, PlaylistItemType.LINK);
+    }
+
+    @Query("SELECT p.modifiedAt, p.contentVersion, p.viewCount, p.likeCount, p.member.id, " +
+            "(SELECT MAX(c.modifiedAt) FROM PlaylistItem pi JOIN Curation c ON c.id = pi.itemId " +
+            "WHERE pi.playlist = p AND pi.itemType = :curationType), " +
+            "(SELECT MAX(l.modifiedAt) FROM PlaylistItem pi JOIN Link l ON l.id = pi.itemId " +
+            "WHERE pi.playlist = p AND pi.itemType = :linkType) " +
+            "FROM Playlist p WHERE p.id = :playlistId")
+    List<Object[]> findDetailVersion(@Param("playlistId") Long playlistId,
+                                     @Param("curationType") PlaylistItemType curationType,
+                                     @Param("linkType") PlaylistItemType linkType);
+
+    /**
+     * 플레이리스트별 아이템 개수를 한 번에 조회합니다.
+     * 아이템 컬렉션을 로딩하지 않고 개수만 필요할 때 사용합니다.
+     *
+     * @param playlistIds 조회할 플레이리스트 ID 목록
+     * @return [플레이리스트 ID, 아이템 개수] 배열 목록
+     */
+    @Query("SELECT pi.playlist.id, COUNT(pi) FROM PlaylistItem pi " +
+            "WHERE pi.playlist.id IN :playlistIds " +
+            "GROUP BY pi.playlist.id")
+    List<Object[]> countItemsByPlaylistIds(@Param("playlistIds") Collection<Long> playlistIds);
 
     /**
      * 특정 사용자의 플레이리스트 중 특정 큐레이션이 포함된 플레이리스트를 조회하는 메서드입니다.
@@ -0,0 +1,118 @@
+package com.team8.project2.domain.playlist.service;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.repository.LinkRepository;
+import com.team8.project2.domain.playlist.dto.PlaylistDto;
+import com.team8.project2.domain.playlist.dto.PlaylistItemDto;
+import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.domain.playlist.entity.PlaylistItem;
+import com.team8.project2.domain.playlist.repository.PlaylistItemRepository;
+import com.team8.project2.global.security.Actor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 플레이리스트를 한 번에 PlaylistDto로 변환하는 컴포넌트입니다.
+ * <p>
+ * 플레이리스트 수와 관계없이 아이템, 링크, 큐레이션 제목을 각각 한 번의 쿼리로 조회합니다.
+ * 큐레이션 아이템은 아이템 ID(itemId)로 제목을 찾습니다. (PlaylistItem의 curation 연관관계는 채워지지 않음)
+ * (태그는 default_batch_fetch_size 설정으로 일괄 조회됩니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaylistAssembler {
+
+    private final PlaylistItemRepository playlistItemRepository;
+    private final LinkRepository linkRepository;
+    private final CurationRepository curationRepository;
+
+    /**
+     * 플레이리스트 하나를 DTO로 변환합니다.
+     */
+    public PlaylistDto toDto(Playlist playlist, Actor actor) {
+        return toDtos(List.of(playlist), actor).get(0);
+    }
+
+    /**
+     * 아이템 목록을 이미 불러온 플레이리스트 하나를 DTO로 변환합니다.
+     * 아이템을 추가하거나 수정한 직후처럼 엔티티의 아이템 목록을 그대로 응답할 때 사용하며, 아이템은 다시 조회하지 않습니다.
+     * 엔티티의 @OrderBy는 불러올 때만 적용되므로, 순서를 바꾼 직후에도 맞도록 표시 순서(같으면 ID)로 다시 정렬합니다.
+     */
+    public PlaylistDto toDtoWithItems(Playlist playlist, Actor actor) {
+        List<PlaylistItem> items = playlist.getItems() == null ? Collections.emptyList()
+                : playlist.getItems().stream()
+                        .sorted(Comparator.comparing(PlaylistItem::getDisplayOrder)
+                                .thenComparing(PlaylistItem::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .toList();
+        return PlaylistDto.of(playlist, toItemDtos(items), actor);
+    }
+
+    /**
+     * 플레이리스트 목록을 순서를 유지한 채 DTO 목록으로 변환합니다.
+     *
+     * @param playlists 변환할 플레이리스트 목록
+     * @param actor 현재 사용자 (비로그인 시 null)
+     * @return 변환된 PlaylistDto 목록
+     */
+    public List<PlaylistDto> toDtos(List<Playlist> playlists, Actor actor) {
+        if (playlists.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> playlistIds = playlists.stream().map(Playlist::getId).toList();
+        List<PlaylistItem> items = playlistItemRepository.findAllByPlaylistIds(playlistIds);
+        List<PlaylistItemDto> itemDtos = toItemDtos(items);
+
+        // 쿼리가 플레이리스트별 표시 순서로 정렬되어 있으므로 그대로 묶음
+        Map<Long, List<PlaylistItemDto>> itemsByPlaylist = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            itemsByPlaylist.computeIfAbsent(items.get(i).getPlaylist().getId(), id -> new ArrayList<>())
+                    .add(itemDtos.get(i));
+        }
+
+        return playlists.stream()
+                .map(playlist -> PlaylistDto.of(playlist,
+                        itemsByPlaylist.getOrDefault(playlist.getId(), new ArrayList<>()), actor))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 아이템을 순서대로 DTO로 변환합니다. 링크와 큐레이션 제목은 아이템 ID로 각각 한 번에 조회합니다.
+     */
+    private List<PlaylistItemDto> toItemDtos(List<PlaylistItem> items) {
+        Set<Long> linkIds = new HashSet<>();
+        Set<Long> curationIds = new HashSet<>();
+        for (PlaylistItem item : items) {
+            if (item.getItemType() == PlaylistItem.PlaylistItemType.LINK) {
+                linkIds.add(item.getItemId());
+            } else {
+                curationIds.add(item.getItemId());
+            }
+        }
+
+        Map<Long, Link> links = linkIds.isEmpty() ? Collections.emptyMap()
+                : linkRepository.findAllById(linkIds).stream()
+                        .collect(Collectors.toMap(Link::getId, Function.identity()));
+
+        Map<Long, String> curationTitles = new HashMap<>();
+        if (!curationIds.isEmpty()) {
+            for (Object[] row : curationRepository.findTitlesByIds(curationIds)) {
+                curationTitles.put((Long) row[0], (String) row[1]);
+            }
+        }
+
+        List<PlaylistItemDto> itemDtos = new ArrayList<>(items.size());
+        for (PlaylistItem item : items) {
+            boolean isLink = item.getItemType() == PlaylistItem.PlaylistItemType.LINK;
+            itemDtos.add(PlaylistItemDto.of(item,
+                    isLink ? links.get(item.getItemId()) : null,
+                    isLink ? null : curationTitles.get(item.getItemId())));
+        }
+        return itemDtos;
+    }
+}
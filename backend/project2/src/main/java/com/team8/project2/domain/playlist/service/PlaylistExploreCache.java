@@ -0,0 +1,51 @@
+package com.team8.project2.domain.playlist.service;
+
+import com.team8.project2.domain.playlist.dto.PlaylistExplorePageDto;
+import com.team8.project2.domain.playlist.entity.PlaylistExploreSort;
+import com.team8.project2.global.cache.VersionedCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 공개 플레이리스트 탐색 페이지를 카운터 저장소(Redis)에 짧게 캐싱하는 컴포넌트입니다.
+ * <p>
+ * 로그인 여부와 관계없이 같은 페이지를 보여 주므로 비로그인 응답 캐시({@code CachedEndpoint}) 대신 서비스에서 캐싱하고,
+ * 공개 여부가 바뀌면 {@link VersionedCache}의 버전을 올려 전체 페이지를 한 번에 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaylistExploreCache {
+
+    private static final String NAMESPACE = "playlist:explore";
+    private static final Duration PAGE_TTL = Duration.ofSeconds(60);
+
+    private final VersionedCache versionedCache;
+
+    /**
+     * 캐시된 페이지를 조회합니다.
+     */
+    public Optional<PlaylistExplorePageDto> get(PlaylistExploreSort sort, String cursor, int size) {
+        return Optional.ofNullable(versionedCache.get(pageKey(sort, cursor, size), PlaylistExplorePageDto.class));
+    }
+
+    /**
+     * 조회한 페이지를 캐시에 저장합니다.
+     */
+    public void put(PlaylistExploreSort sort, String cursor, int size, PlaylistExplorePageDto page) {
+        versionedCache.put(pageKey(sort, cursor, size), page, PAGE_TTL);
+    }
+
+    /**
+     * 캐시 버전을 올려 모든 탐색 페이지 캐시를 무효화합니다.
+     */
+    public void invalidate() {
+        versionedCache.invalidate(NAMESPACE);
+    }
+
+    private String pageKey(PlaylistExploreSort sort, String cursor, int size) {
+        return versionedCache.key(NAMESPACE, sort.name() + ":" + (cursor != null ? cursor : "first") + ":" + size);
+    }
+}
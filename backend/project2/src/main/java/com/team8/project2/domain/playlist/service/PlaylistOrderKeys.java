@@ -0,0 +1,91 @@
+package com.team8.project2.domain.playlist.service;
+
+import java.util.List;
+
+import com.team8.project2.domain.playlist.entity.PlaylistItem;
+
+/**
+ * 플레이리스트 아이템 순서 키(displayOrder) 계산 유틸리티입니다.
+ * <p>
+ * 순서 키는 {@link #GAP} 간격으로 배치하고, 아이템 이동 시 앞/뒤 키 사이의 빈 값을 새 키로 사용합니다.
+ * 빈 값이 없으면 전체 재배치가 필요합니다.
+ */
+final class PlaylistOrderKeys {
+
+    /** 재배치 시 순서 키 간격 */
+    static final int GAP = 1024;
+
+    /** 이 간격보다 좁아지면 백그라운드 재배치를 요청 */
+    static final int MIN_GAP = 16;
+
+    private PlaylistOrderKeys() {
+    }
+
+    /**
+     * lower와 upper 사이(양 끝 제외)에 균등한 간격으로 count개의 키를 생성합니다.
+     *
+     * @param lower 앞 아이템의 키 (맨 앞이면 null)
+     * @param upper 뒤 아이템의 키 (맨 뒤면 null)
+     * @param count 필요한 키 개수
+     * @return 생성된 키 배열, 빈 값이 부족하면 null
+     */
+    static int[] between(Integer lower, Integer upper, int count) {
+        long low;
+        long high;
+        if (lower == null && upper == null) {
+            low = 0;
+            high = (long) GAP * (count + 1);
+        } else if (lower == null) {
+            high = upper;
+            low = high - (long) GAP * (count + 1);
+        } else if (upper == null) {
+            low = lower;
+            high = low + (long) GAP * (count + 1);
+        } else {
+            low = lower;
+            high = upper;
+        }
+
+        long step = (high - low) / (count + 1);
+        if (step < 1 || low < Integer.MIN_VALUE || high > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = (int) (low + step * (i + 1));
+        }
+        return keys;
+    }
+
+    /**
+     * 생성된 키 간격이 좁아 재배치가 필요한지 확인합니다.
+     */
+    static boolean isCrowded(Integer lower, Integer upper, int[] keys) {
+        if (keys.length == 0) {
+            return false;
+        }
+        long first = lower != null ? (long) keys[0] - lower : GAP;
+        long last = upper != null ? (long) upper - keys[keys.length - 1] : GAP;
+        return Math.min(first, last) < MIN_GAP;
+    }
+
+    /**
+     * 주어진 순서대로 아이템 순서 키를 GAP 간격으로 다시 배치합니다.
+     *
+     * @param orderedItems 표시 순서대로 정렬된 아이템 목록
+     * @return 키가 변경된 아이템 수
+     */
+    static int renumber(List<PlaylistItem> orderedItems) {
+        int changed = 0;
+        for (int i = 0; i < orderedItems.size(); i++) {
+            int key = (i + 1) * GAP;
+            PlaylistItem item = orderedItems.get(i);
+            if (item.getDisplayOrder() == null || item.getDisplayOrder() != key) {
+                item.setDisplayOrder(key);
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
@@ -8,28 +8,48 @@ import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.repository.MemberRepository;
 import com.team8.project2.domain.playlist.dto.*;
 import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.domain.playlist.entity.PlaylistExploreSort;
 import com.team8.project2.domain.playlist.entity.PlaylistItem;
 import com.team8.project2.domain.playlist.entity.PlaylistLike;
+import com.team8.project2.domain.playlist.event.PlaylistExploreChangeEvent;
+import com.team8.project2.domain.playlist.event.PlaylistItemRebalanceEvent;
+import com.team8.project2.domain.playlist.event.PlaylistLikeEvent;
+import com.team8.project2.domain.playlist.event.PlaylistUpdateEvent;
+import com.team8.project2.domain.playlist.repository.PlaylistItemRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistLikeRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
+import com.team8.project2.domain.recommendation.entity.LikeTargetType;
+import com.team8.project2.domain.recommendation.service.ItemSimilarityService;
 import com.team8.project2.global.Rq;
+import com.team8.project2.global.security.Actor;
+import com.team8.project2.global.dto.CounterResDto;
 import com.team8.project2.global.exception.BadRequestException;
+import com.team8.project2.global.exception.CounterStoreUnavailableException;
 import com.team8.project2.global.exception.NotFoundException;
+import com.team8.project2.global.redis.LuaScript;
+import com.team8.project2.global.redis.ViewAdmission;
+import com.team8.project2.global.redis.ViewCounter;
+import com.team8.project2.global.redis.ViewTarget;
+import com.team8.project2.global.store.CounterStore;
+import com.team8.project2.global.web.ClientIpFilter;
+import com.team8.project2.standard.util.Ut;
+import com.team8.project2.global.web.ResourceVersion;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 플레이리스트(Playlist) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -42,15 +62,25 @@ import java.util.stream.Collectors;
 public class PlaylistService {
 
     private final PlaylistRepository playlistRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final PlaylistItemRepository playlistItemRepository;
+    private final CounterStore counterStore;
     private final MemberRepository memberRepository;
     private final PlaylistLikeRepository playlistLikeRepository;
     private final TagRepository tagRepository;
     private static final String VIEW_COUNT_KEY = "playlist:view_count:"; // 조회수 저장
     private static final String LIKE_COUNT_KEY = "playlist:like_count:"; // 좋아요 수 저장
     private static final String RECOMMEND_KEY = "playlist:recommend:"; // 추천 캐싱
+    private static final String LIKE_DIRTY_KEY = "playlist:like_dirty"; // 좋아요 DB 동기화 대상
+    private static final String LIKE_DIRTY_PROCESSING_KEY = "playlist:like_dirty:processing"; // 동기화 진행 중인 대상
+
     private final Rq rq;
     private final LinkService linkService;
+    private final ItemSimilarityService itemSimilarityService;
+    private final PlaylistExploreCache playlistExploreCache;
+    private final PlaylistAssembler playlistAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCounter viewCounter;
+    private static final int MAX_EXPLORE_PAGE_SIZE = 50;
 
     /**
      * ✅ 플레이리스트 추천 로직
@@ -59,29 +89,29 @@ public class PlaylistService {
      * - 정렬 기준 (좋아요, 조회수, 복합)
      */
     public List<PlaylistDto> recommendPlaylist(Long playlistId, String sortType) {
-        String cachedRecommendationsStr = (String) redisTemplate.opsForValue().get(RECOMMEND_KEY + playlistId);
+        String cachedRecommendationsStr = counterStore.get(RECOMMEND_KEY + playlistId);
         if (cachedRecommendationsStr != null && !cachedRecommendationsStr.isEmpty()) {
             try {
                 List<Long> cachedRecommendations = Arrays.stream(cachedRecommendationsStr.split(","))
                         .map(Long::parseLong)
                         .collect(Collectors.toList());
-                System.out.println("Redis 캐시 HIT Playlist ID " + playlistId + " | 추천 리스트: " + cachedRecommendations);
+                log.debug("Redis 캐시 HIT Playlist ID {} | 추천 리스트: {}", playlistId, cachedRecommendations);
 
                 return getPlaylistsByIds(cachedRecommendations);
             } catch (NumberFormatException e) {
                 // 캐시 데이터 오류 발생 시 캐시 삭제 후 재계산
-                redisTemplate.delete(RECOMMEND_KEY + playlistId);
-                System.err.println("Redis 캐시 데이터 형식 오류로 캐시 삭제: " + RECOMMEND_KEY + playlistId);
+                counterStore.delete(RECOMMEND_KEY + playlistId);
+                log.warn("Redis 캐시 데이터 형식 오류로 캐시 삭제: {}{}", RECOMMEND_KEY, playlistId);
             }
         }
 
         // 1️⃣ 최근 24시간 동안 인기 플레이리스트 추천
-        Set<Object> trendingRecent = redisTemplate.opsForZSet().reverseRange("trending:24h", 0, 5);
-        Set<Object> popularRecent = redisTemplate.opsForZSet().reverseRange("popular:24h", 0, 5);
+        List<String> trendingRecent = counterStore.reverseRange("trending:24h", 0, 5);
+        List<String> popularRecent = counterStore.reverseRange("popular:24h", 0, 5);
 
         // 2️⃣ 전체 인기 플레이리스트 추천 (조회수 + 좋아요)
-        Set<Object> trendingPlaylists = redisTemplate.opsForZSet().reverseRange(VIEW_COUNT_KEY, 0, 5);
-        Set<Object> popularPlaylists = redisTemplate.opsForZSet().reverseRange(LIKE_COUNT_KEY, 0, 5);
+        List<String> trendingPlaylists = counterStore.reverseRange(VIEW_COUNT_KEY, 0, 5);
+        List<String> popularPlaylists = counterStore.reverseRange(LIKE_COUNT_KEY, 0, 5);
 
         // 3️⃣ 태그 기반 유사 플레이리스트 추천
         Playlist currentPlaylist = playlistRepository.findById(playlistId)
@@ -92,8 +122,7 @@ public class PlaylistService {
                 ? findSimilarPlaylistsByTag(currentPlaylist) : Collections.emptyList();
 
         // 현재 사용자의 플레이리스트 조회
-        Member currentMember = rq.getActor();
-        List<Long> memberPlaylistIds = playlistRepository.findByMember(currentMember)
+        List<Long> memberPlaylistIds = playlistRepository.findByMember(rq.getActorReference())
                 .stream()
                 .map(Playlist::getId)
                 .collect(Collectors.toList());
@@ -115,11 +144,11 @@ public class PlaylistService {
         }
 
         // 5️⃣ Redis에 추천 데이터 캐싱 (30분 유지)
-        redisTemplate.opsForValue().set(RECOMMEND_KEY + playlistId, recommendedPlaylistIds.stream()
+        counterStore.set(RECOMMEND_KEY + playlistId, recommendedPlaylistIds.stream()
                 .map(String::valueOf)
                 .collect(Collectors.joining(",")), Duration.ofMinutes(30));
 
-        System.out.println("Redis 캐시 저장 완료 Playlist ID " + playlistId + " | 추천 리스트: " + recommendedPlaylistIds);
+        log.debug("Redis 캐시 저장 완료 Playlist ID {} | 추천 리스트: {}", playlistId, recommendedPlaylistIds);
 
         // 6️⃣ 정렬 기준 적용
         return getSortedPlaylists(new ArrayList<>(recommendedPlaylistIds), sortType);
@@ -174,7 +203,7 @@ public class PlaylistService {
      */
     private List<PlaylistDto> getSortedPlaylists(List<Long> playlistIds, String sortType) {
         List<Playlist> playlists = new ArrayList<>(playlistRepository.findAllById(playlistIds));
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
         switch (sortType) {
             case "likes":
@@ -190,9 +219,7 @@ public class PlaylistService {
                 break;
         }
 
-        return playlists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
-                .collect(Collectors.toList());
+        return playlistAssembler.toDtos(playlists, actor);
     }
 
     /**
@@ -200,48 +227,58 @@ public class PlaylistService {
      */
     private List<PlaylistDto> getPlaylistsByIds(List<Long> playlistIds) {
         List<Playlist> playlists = playlistRepository.findAllById(playlistIds);
-        Member actor = rq.isLogin() ? rq.getActor() : null;
+        Actor actor = rq.isLogin() ? rq.getActor() : null;
 
-        return playlists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
-                .collect(Collectors.toList());
+        return playlistAssembler.toDtos(playlists, actor);
     }
 
     /**
      * 좋아요 토글 처리
+     * - 플레이리스트 좋아요 집합, 회원별 좋아요 목록, 동기화/유사도 재계산 대상 표시를 Lua 스크립트 한 번으로 처리
+     * - DB likeCount는 배치 동기화(syncPlaylistLikesToDB)에서만 갱신하여 클릭마다 행 잠금이 걸리지 않음
+     *
+     * @return 토글 후 좋아요 수
      */
-    @Transactional
-    public void likePlaylist(Long playlistId, Long memberId) {
-        String redisKey = "playlist_like:" + playlistId;
-        String memberLikedKey = "member_liked_playlists:" + memberId;
-        String memberStr = String.valueOf(memberId);
-
-        String luaScript =
-                "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
-                        "   redis.call('SREM', KEYS[1], ARGV[1]); return 0; " +  // 좋아요 취소
-                        "else " +
-                        "   redis.call('SADD', KEYS[1], ARGV[1]); return 1; " +  // 좋아요 추가
-                        "end";
-
-        Long result = redisTemplate.execute(
-                new DefaultRedisScript<>(luaScript, Long.class),
-                Collections.singletonList(redisKey),
-                memberStr
+    @Transactional(readOnly = true)
+    public long likePlaylist(Long playlistId, Long memberId) {
+        if (!playlistRepository.existsById(playlistId)) {
+            throw new NotFoundException("해당 플레이리스트를 찾을 수 없습니다.");
+        }
+
+        List<Object> result = counterStore.execute(
+                LuaScript.PLAYLIST_LIKE_TOGGLE,
+                List.of(
+                        "playlist_like:" + playlistId,
+                        "member_liked_playlists:" + memberId,
+                        LIKE_DIRTY_KEY,
+                        LikeTargetType.PLAYLIST.dirtyKey()
+                ),
+                memberId,
+                playlistId
         );
 
-        if (result != null && result == 1) {
-            redisTemplate.opsForSet().add(memberLikedKey, String.valueOf(playlistId));
-        } else if (result != null && result == 0) {
-            redisTemplate.opsForSet().remove(memberLikedKey, String.valueOf(playlistId));
-        }
+        eventPublisher.publishEvent(new PlaylistLikeEvent(playlistId, memberId));
 
-        Long likeCount = redisTemplate.opsForSet().size(redisKey);
+        if (result == null || result.size() < 2) {
+            return 0L;
+        }
+        return Long.parseLong(result.get(1).toString());
+    }
 
-        Playlist playlist = playlistRepository.findById(playlistId)
-                .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
-        playlist.setLikeCount(likeCount != null ? likeCount : 0);
-        playlistRepository.save(playlist);
+    /**
+     * 이 플레이리스트를 좋아한 회원들이 함께 좋아한 플레이리스트 목록 조회
+     * - 유사도 배치가 미리 계산해 둔 목록을 사용 (유사도 순 유지)
+     */
+    @Transactional(readOnly = true)
+    public List<PlaylistDto> getAlsoLikedPlaylists(Long playlistId) {
+        List<Long> neighborIds = itemSimilarityService.getNeighborIds(LikeTargetType.PLAYLIST, playlistId);
+        if (neighborIds.isEmpty()) {
+            return Collections.emptyList();
+        }
 
+        List<PlaylistDto> playlists = new ArrayList<>(getPlaylistsByIds(neighborIds));
+        playlists.sort(Comparator.comparingInt(dto -> neighborIds.indexOf(dto.getId())));
+        return playlists;
     }
 
     /**
@@ -250,41 +287,35 @@ public class PlaylistService {
     @Transactional(readOnly = true)
     public List<PlaylistDto> getLikedPlaylistsFromRedis(Long memberId) {
         String memberLikedKey = "member_liked_playlists:" + memberId;
-        Set<Object> playlistIdObjs = redisTemplate.opsForSet().members(memberLikedKey);
-        if (playlistIdObjs == null || playlistIdObjs.isEmpty()) {
+        Set<String> playlistIdStrs = counterStore.members(memberLikedKey);
+        if (playlistIdStrs.isEmpty()) {
             return Collections.emptyList();
         }
-        List<Long> playlistIds = playlistIdObjs.stream()
-                .map(obj -> Long.parseLong(obj.toString()))
+        List<Long> playlistIds = playlistIdStrs.stream()
+                .map(Long::parseLong)
                 .collect(Collectors.toList());
         List<Playlist> playlists = playlistRepository.findAllById(playlistIds);
-        Member actor = rq.getActor();
-        return playlists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
-                .collect(Collectors.toList());
+        Actor actor = rq.getActor();
+        return playlistAssembler.toDtos(playlists, actor);
     }
 
     /**
      * Redis에 저장된 플레이리스트 좋아요 수를 DB 동기화
+     * - 마지막 동기화 이후 좋아요가 토글된 플레이리스트만 처리
+     * - 처리 중 목록은 커밋된 뒤에 비워, 롤백되면 다음 동기화가 다시 처리
      */
     @Scheduled(fixedRate = 600000)
     @Transactional
     public void syncPlaylistLikesToDB() {
-        Set<String> keys = redisTemplate.keys("playlist_like:*");
+        Set<String> dirtyPlaylistIds = drainDirtyLikes();
 
-        for (String key : keys) {
-            Long playlistId = Long.parseLong(key.split(":")[1]);
+        for (String dirtyPlaylistId : dirtyPlaylistIds) {
+            Long playlistId = Long.parseLong(dirtyPlaylistId);
+            String key = "playlist_like:" + playlistId;
             Playlist playlist = playlistRepository.findById(playlistId).orElse(null);
             if (playlist == null) continue;
 
-            Set<Object> rawMemberIds = redisTemplate.opsForSet().members(key);
-            if (rawMemberIds == null) continue;
-
-            Set<String> memberIds = rawMemberIds.stream()
-                    .map(Object::toString)
-                    .collect(Collectors.toSet());
-
-            if (memberIds == null) continue;
+            Set<String> memberIds = counterStore.members(key);
 
             for (String memberStr : memberIds) {
                 Long memberId = Long.parseLong(memberStr);
@@ -301,8 +332,7 @@ public class PlaylistService {
                 }
             }
 
-            Long likeCount = redisTemplate.opsForSet().size(key);
-            playlist.setLikeCount(likeCount != null ? likeCount : 0);
+            playlist.setLikeCount(memberIds.size());
             playlistRepository.save(playlist);
 
             List<PlaylistLike> currentLikesInDB = playlistLikeRepository.findAllById_PlaylistId(playlistId);
@@ -315,6 +345,22 @@ public class PlaylistService {
             }
         }
 
+        Ut.Tx.afterCommit(() -> counterStore.delete(LIKE_DIRTY_PROCESSING_KEY));
+    }
+
+    /**
+     * 동기화 대상 목록을 처리 중 키로 옮기고 그 내용을 반환합니다.
+     * 이전 동기화가 중단되어 처리 중 키가 남아 있으면 그 목록을 먼저 처리합니다.
+     */
+    private Set<String> drainDirtyLikes() {
+        if (!counterStore.hasKey(LIKE_DIRTY_PROCESSING_KEY)) {
+            if (!counterStore.hasKey(LIKE_DIRTY_KEY)) {
+                return Collections.emptySet();
+            }
+            counterStore.rename(LIKE_DIRTY_KEY, LIKE_DIRTY_PROCESSING_KEY);
+        }
+
+        return counterStore.members(LIKE_DIRTY_PROCESSING_KEY);
     }
 
 
@@ -323,30 +369,36 @@ public class PlaylistService {
      */
     public boolean hasLikedPlaylist(Long playlistId, Long memberId) {
         String redisKey = "playlist_like:" + playlistId;
-        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(redisKey, memberId.toString()));
+        return counterStore.isMember(redisKey, memberId.toString());
     }
 
 
     /**
      * 전체 좋아요 수 조회 반환
+     * - Redis를 사용할 수 없으면 마지막으로 DB에 동기화된 좋아요 수 반환
      */
     @Transactional(readOnly = true)
     public long getLikeCount(Long playlistId) {
         String redisKey = "playlist_like:" + playlistId;
-        Long count = redisTemplate.opsForSet().size(redisKey);
-        return Optional.ofNullable(count).orElse(0L);
+        try {
+            return counterStore.setSize(redisKey);
+        } catch (CounterStoreUnavailableException e) {
+            return playlistRepository.findById(playlistId)
+                    .map(Playlist::getLikeCount)
+                    .orElse(0L);
+        }
     }
 
     /**
      * ✅ 추천 리스트 병합
      */
-    private void addRecommendations(Set<Long> recommendedPlaylistIds, Set<Object> redisResults) {
+    private void addRecommendations(Set<Long> recommendedPlaylistIds, List<String> redisResults) {
         if (redisResults != null) {
-            for (Object id : redisResults) {
+            for (String id : redisResults) {
                 try {
-                    recommendedPlaylistIds.add(Long.parseLong(id.toString()));
+                    recommendedPlaylistIds.add(Long.parseLong(id));
                 } catch (NumberFormatException e) {
-                    System.err.println("addRecommendations() 오류: 파싱 불가한 값 = " + id);
+                    log.warn("addRecommendations() 오류: 파싱 불가한 값 = {}", id);
                 }
             }
         }
@@ -360,12 +412,14 @@ public class PlaylistService {
      * @return 생성된 플레이리스트 DTO
      */
     public PlaylistDto createPlaylist(PlaylistCreateDto request) {
-        Member actor = rq.getActor();
-
-        return createPlaylist(request, actor);
+        return playlistAssembler.toDtoWithItems(savePlaylist(request, rq.getActorReference()), rq.getActor());
     }
 
     public PlaylistDto createPlaylist(PlaylistCreateDto request, Member member) {
+        return playlistAssembler.toDtoWithItems(savePlaylist(request, member), Actor.from(member));
+    }
+
+    private Playlist savePlaylist(PlaylistCreateDto request, Member member) {
         Playlist playlist = Playlist.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
@@ -381,119 +435,113 @@ public class PlaylistService {
 
             playlist.setTags(tags);
         }
-        return PlaylistDto.fromEntity(playlistRepository.save(playlist), member);
+        Playlist savedPlaylist = playlistRepository.save(playlist);
+
+        if (savedPlaylist.isPublic()) {
+            eventPublisher.publishEvent(new PlaylistExploreChangeEvent());
+        }
+        return savedPlaylist;
     }
 
 
     /**
      * 특정 플레이리스트를 조회합니다.
+     * 조회수는 DB에 반영된 값을 응답해 조회할 때마다 본문이 바뀌지 않도록 하며,
+     * Redis에 쌓인 증가분은 배치(syncViewCountsToDB)로 반영되기 전까지 {@link #getCounters(Long)}로 제공합니다.
+     * 좋아요 수는 배치를 기다리지 않도록 Redis 값을 응답합니다. (Redis를 사용할 수 없으면 DB 값)
      *
      * @param id 조회할 플레이리스트 ID
      * @return 조회된 플레이리스트 DTO
      */
+    @Transactional(readOnly = true)
     public PlaylistDto getPlaylist(Long id, HttpServletRequest request) {
         Playlist playlist = playlistRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        long currentViewCount = Optional.ofNullable(redisTemplate.opsForZSet().score(VIEW_COUNT_KEY, id.toString()))
-                .orElse(0.0)
-                .longValue();
-        playlist.setViewCount(currentViewCount);
-
         if (playlist.getItems() == null) {
             playlist.setItems(new ArrayList<>());
         }
 
-        String ip = getClientIp(request);
-        String redisKey = "playlist_view_" + id + "_" + ip;
-        Boolean isNewView = redisTemplate.opsForValue().setIfAbsent(redisKey, "true", Duration.ofDays(1));
+        recordView(id, request);
 
-        if (Boolean.TRUE.equals(isNewView)) {
-            redisTemplate.opsForZSet().incrementScore(VIEW_COUNT_KEY, id.toString(), 1);
-            playlist.setViewCount(currentViewCount + 1);
-        }
-
-        Member actor = rq.isLogin() ? rq.getActor() : null;
-        return PlaylistDto.fromEntity(playlist, actor);
+        Actor actor = rq.isLogin() ? rq.getActor() : null;
+        PlaylistDto dto = playlistAssembler.toDtoWithItems(playlist, actor);
+        dto.setLikeCount(currentLikeCount(id, playlist.getLikeCount()));
+        return dto;
     }
 
-
     /**
-     * Redis에 저장된 조회수 DB에 동기화
+     * 플레이리스트 상세 응답의 버전(ETag, Last-Modified)을 계산합니다.
+     * 엔티티와 아이템을 로딩하지 않고 집계 쿼리 한 번과 Redis 좋아요 수로 계산합니다. (본문과 같은 좋아요 수를 반영)
+     *
+     * @param id 플레이리스트 ID
+     * @return 상세 응답의 버전
      */
-    @Scheduled(fixedRate = 600000)
-    public void syncViewCountsToDB() {
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY + "*");
+    @Transactional(readOnly = true)
+    public ResourceVersion getPlaylistVersion(Long id) {
+        Object[] row = playlistRepository.findDetailVersion(id).stream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        if (keys != null) {
-            for (String key : keys) {
-                try {
-                    String idStr = key.replace(VIEW_COUNT_KEY, "").trim();
-                    if (idStr.isEmpty()) continue;
+        Long ownerId = (Long) row[4];
+        boolean isOwner = rq.isLogin() && ownerId.equals(rq.getActor().getId());
 
-                    Long id = Long.parseLong(idStr);
+        LocalDateTime lastModified = Stream.of(row[0], row[5], row[6])
+                .filter(LocalDateTime.class::isInstance)
+                .map(LocalDateTime.class::cast)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        long likeCount = currentLikeCount(id, (Long) row[3]);
+        return ResourceVersion.of(lastModified, id, row[0], row[1], row[2], likeCount, ownerId,
+                row[5], row[6], isOwner);
+    }
 
-                    Double redisViewCount = redisTemplate.opsForZSet().score(VIEW_COUNT_KEY, id.toString());
-                    if (redisViewCount == null) {
-                        redisViewCount = 0.0;
-                    }
+    /**
+     * 플레이리스트의 실시간 조회수와 좋아요 수를 조회합니다.
+     * 조회수는 DB 값에 아직 반영되지 않은 증가분을 더해 계산합니다.
+     *
+     * @param id 플레이리스트 ID
+     * @return 실시간 카운터
+     */
+    @Transactional(readOnly = true)
+    public CounterResDto getCounters(Long id) {
+        Playlist playlist = playlistRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-                    Playlist playlist = playlistRepository.findById(id).orElse(null);
-                    if (playlist != null) {
-                        playlist.setViewCount(redisViewCount.longValue());
-                        playlistRepository.save(playlist);
-                    } else {
-                        System.out.println("Playlist not found in DB for ID: " + id);
-                    }
-                } catch (NumberFormatException e) {
-                    System.err.println("syncViewCountsToDB() 오류: 잘못된 키 형식 " + key);
-                    redisTemplate.delete(key);
-                }
-            }
-        }
+        long viewCount = playlist.getViewCount() + viewCounter.pending(ViewTarget.PLAYLIST, id);
+        return new CounterResDto(viewCount, currentLikeCount(id, playlist.getLikeCount()));
     }
 
-    // getCuration의  IP 기반 조회수 증가 방지 로직 추가
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-RealIP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("REMOTE_ADDR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-
-        if ("0:0:0:0:0:0:0:1".equals(ip) || "127.0.0.1".equals(ip)) {
-            try {
-                InetAddress address = InetAddress.getLocalHost();
-                ip = address.getHostName() + "/" + address.getHostAddress();
-            } catch (UnknownHostException e) {
-                throw new RuntimeException(e);
-            }
+    /**
+     * Redis의 좋아요 수(실제 값)를 반환합니다. Redis를 사용할 수 없으면 DB에 반영된 값을 반환합니다.
+     */
+    private long currentLikeCount(Long id, long persistedLikeCount) {
+        try {
+            return counterStore.setSize("playlist_like:" + id);
+        } catch (CounterStoreUnavailableException e) {
+            return persistedLikeCount;
         }
+    }
 
-        return ip;
+    /**
+     * 플레이리스트 조회를 기록합니다.
+     * - 중복 조회 확인, 누적 조회수 랭킹 증가, DB 반영 대기 증가분 기록을 한 번에 처리
+     * - 캐시된 응답이나 304 응답으로 상세 조회를 처리한 경우에도 호출됨
+     *
+     * @return 조회 인정 여부와 아직 DB에 반영되지 않은 증가분
+     */
+    public ViewAdmission recordView(Long id, HttpServletRequest request) {
+        return viewCounter.admit(ViewTarget.PLAYLIST, id, ClientIpFilter.getClientIp(request));
     }
 
 
+    /**
+     * Redis에 누적된 조회수 증가분을 DB에 반영
+     */
+    @Scheduled(fixedRate = 600000)
+    public void syncViewCountsToDB() {
+        viewCounter.flushPending(ViewTarget.PLAYLIST, playlistRepository::increaseViewCount);
+    }
 
     /**
      * 사용자의 모든 플레이리스트를 조회합니다.
@@ -502,54 +550,138 @@ public class PlaylistService {
      * 예외 대신 빈 리스트 반환
      */
     public List<PlaylistDto> getAllPlaylists() {
-        Member actor = rq.getActor();
-        List<Playlist> playlists = playlistRepository.findByMember(actor);
+        Actor actor = rq.getActor();
+        List<Playlist> playlists = playlistRepository.findByMember(rq.getActorReference());
 
-        return playlists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
-                .collect(Collectors.toList());
+        return playlistAssembler.toDtos(playlists, actor);
     }
 
-    /*
-     * 공개 플레이리스트 전체 조회
+    /**
+     * 공개 플레이리스트 탐색 (키셋 페이지네이션)
+     * - 아이템 목록은 로딩하지 않고 요약 정보만 반환
+     * - 페이지 단위로 Redis에 짧게 캐싱 (공개 여부 변경 시 무효화)
+     *
+     * @param sort 정렬 기준
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 공개 플레이리스트 페이지
      */
-    public List<PlaylistDto> getAllPublicPlaylists() {
-        List<Playlist> playlists = playlistRepository.findAllByIsPublicTrue();
+    @Transactional(readOnly = true)
+    public PlaylistExplorePageDto getPublicPlaylists(PlaylistExploreSort sort, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_EXPLORE_PAGE_SIZE);
 
-        Member actor = rq.isLogin() ? rq.getActor() : null;
+        Optional<PlaylistExplorePageDto> cached = playlistExploreCache.get(sort, cursor, pageSize);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long lastValue = Long.MAX_VALUE;
+        long lastId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_");
+            try {
+                lastValue = Long.parseLong(parts[0]);
+                lastId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new BadRequestException("잘못된 커서 값입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Playlist> playlists = switch (sort) {
+            case RECENT -> playlistRepository.findPublicByRecent(lastId, pageable);
+            case LIKES -> playlistRepository.findPublicByLikes(lastValue, lastId, pageable);
+            case VIEWS -> playlistRepository.findPublicByViews(lastValue, lastId, pageable);
+            case COMBINED -> playlistRepository.findPublicByCombined(lastValue, lastId, pageable);
+        };
+
+        boolean hasNext = playlists.size() > pageSize;
+        if (hasNext) {
+            playlists = playlists.subList(0, pageSize);
+        }
+
+        Map<Long, Long> itemCounts = new HashMap<>();
+        if (!playlists.isEmpty()) {
+            List<Long> playlistIds = playlists.stream().map(Playlist::getId).toList();
+            for (Object[] row : playlistRepository.countItemsByPlaylistIds(playlistIds)) {
+                itemCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
 
-        return playlists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
+        List<PlaylistSummaryDto> summaries = playlists.stream()
+                .map(playlist -> PlaylistSummaryDto.fromEntity(playlist, itemCounts.getOrDefault(playlist.getId(), 0L)))
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            Playlist last = playlists.get(playlists.size() - 1);
+            nextCursor = sort.sortValueOf(last.getId(), last.getLikeCount(), last.getViewCount()) + "_" + last.getId();
+        }
+
+        PlaylistExplorePageDto page = PlaylistExplorePageDto.builder()
+                .playlists(summaries)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+        playlistExploreCache.put(sort, cursor, pageSize, page);
+        return page;
     }
 
     /**
-     * 공개 플레이리스트를 내 플레이리스트로 추가
+     * 공개 플레이리스트를 내 플레이리스트로 추가 (복제)
+     * - 아이템과 태그는 INSERT ... SELECT로 한 번에 복사하여 아이템 수와 무관하게 쿼리 수가 일정
+     * - 그룹(부모 아이템) 관계는 원본과 새 아이템 ID를 순서대로 매칭하여 재연결
+     *
+     * @param playlistId 복제할 플레이리스트 ID
+     * @return 새로 생성된 플레이리스트 ID
      */
-    public PlaylistDto addPublicPlaylist(Long playlistId) {
+    public Long addPublicPlaylist(Long playlistId) {
         Playlist publicPlaylist = playlistRepository.findById(playlistId)
                 .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
-        Playlist copiedPlaylist = new Playlist();
-        copiedPlaylist.setTitle(publicPlaylist.getTitle());
-        copiedPlaylist.setDescription(publicPlaylist.getDescription());
-        copiedPlaylist.setPublic(false);
-        copiedPlaylist.setMember(actor);
+        if (!publicPlaylist.isPublic() && !publicPlaylist.getMember().getId().equals(actor.getId())) {
+            throw new BadRequestException("공개 플레이리스트만 복제할 수 있습니다.");
+        }
+
+        Playlist copiedPlaylist = Playlist.builder()
+                .title(publicPlaylist.getTitle())
+                .description(publicPlaylist.getDescription())
+                .isPublic(false)
+                .member(rq.getActorReference())
+                .build();
 
-        Playlist savedPlaylist = playlistRepository.save(copiedPlaylist);
+        Long newPlaylistId = playlistRepository.save(copiedPlaylist).getId();
 
-        for (PlaylistItem item : publicPlaylist.getItems()) {
-            PlaylistItem copiedItem = new PlaylistItem();
-            copiedItem.setItemId(item.getItemId());
-            copiedItem.setItemType(item.getItemType());
-            copiedItem.setDisplayOrder(item.getDisplayOrder());
-            copiedItem.setPlaylist(savedPlaylist);
-            savedPlaylist.getItems().add(copiedItem);
+        playlistItemRepository.copyItems(playlistId, newPlaylistId);
+        playlistRepository.copyTags(playlistId, newPlaylistId);
+
+        relinkParentItems(playlistId, newPlaylistId);
+
+        return newPlaylistId;
+    }
+
+    /**
+     * 복제된 아이템의 부모 아이템 ID를 새 아이템 ID로 재연결합니다.
+     * 원본 ID 순서로 복사했으므로 두 ID 목록을 순서대로 짝지으면 원본 → 복제본 매핑이 됩니다.
+     * 새 ID는 항상 원본 ID보다 크므로 갱신 도중 값이 겹치지 않습니다.
+     */
+    private void relinkParentItems(Long sourcePlaylistId, Long targetPlaylistId) {
+        Set<Long> parentIds = new HashSet<>(playlistItemRepository.findParentItemIdsByPlaylistId(sourcePlaylistId));
+        if (parentIds.isEmpty()) {
+            return;
         }
 
-        return PlaylistDto.fromEntity(savedPlaylist, actor);
+        List<Long> sourceIds = playlistItemRepository.findIdsByPlaylistId(sourcePlaylistId);
+        List<Long> targetIds = playlistItemRepository.findIdsByPlaylistId(targetPlaylistId);
+
+        for (int i = 0; i < sourceIds.size() && i < targetIds.size(); i++) {
+            if (parentIds.contains(sourceIds.get(i))) {
+                playlistItemRepository.updateParentItemId(targetPlaylistId, sourceIds.get(i), targetIds.get(i));
+            }
+        }
     }
 
     /**
@@ -563,10 +695,11 @@ public class PlaylistService {
         Playlist playlist = playlistRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
         if (request.getTitle() != null) playlist.setTitle(request.getTitle());
         if (request.getDescription() != null) playlist.setDescription(request.getDescription());
+        boolean wasPublic = playlist.isPublic();
         if (request.getIsPublic() != null) playlist.setPublic(request.getIsPublic());
 
         if (request.getTags() != null) {
@@ -577,8 +710,15 @@ public class PlaylistService {
 
             playlist.setTags(tags);
         }
+        playlist.increaseContentVersion();
+
+        // 공개 여부가 바뀌면 탐색 페이지 캐시 무효화
+        if (wasPublic != playlist.isPublic()) {
+            eventPublisher.publishEvent(new PlaylistExploreChangeEvent());
+        }
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(id));
 
-        return PlaylistDto.fromEntity(playlistRepository.save(playlist), actor);
+        return playlistAssembler.toDtoWithItems(playlistRepository.save(playlist), actor);
     }
 
     /**
@@ -590,7 +730,7 @@ public class PlaylistService {
         Playlist playlist = playlistRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
         if (!playlist.getMember().getId().equals(actor.getId())) {
             throw new BadRequestException("자신이 소유한 플레이리스트만 삭제할 수 있습니다.");
         }
@@ -599,6 +739,11 @@ public class PlaylistService {
             playlistLikeRepository.deleteById_PlaylistId(id);
         }
         playlistRepository.deleteById(id);
+
+        if (playlist.isPublic()) {
+            eventPublisher.publishEvent(new PlaylistExploreChangeEvent());
+        }
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(id));
     }
 
 
@@ -609,8 +754,13 @@ public class PlaylistService {
         Playlist playlist = playlistRepository.findById(playlistId)
                 .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        int newDisplayOrder = playlist.getItems().size();
-        Member actor = rq.getActor();
+        // 마지막 아이템의 순서 키 뒤에 배치
+        int newDisplayOrder = playlist.getItems().stream()
+                .map(PlaylistItem::getDisplayOrder)
+                .max(Integer::compare)
+                .map(lastOrder -> lastOrder + PlaylistOrderKeys.GAP)
+                .orElse(PlaylistOrderKeys.GAP);
+        Actor actor = rq.getActor();
 
         if (!playlist.getMember().getId().equals(actor.getId())) {
             throw new BadRequestException("자신의 플레이리스트에만 아이템을 추가할 수 있습니다.");
@@ -624,9 +774,11 @@ public class PlaylistService {
                 .build();
 
         playlist.getItems().add(newItem);
+        playlist.increaseContentVersion();
         playlistRepository.save(playlist);
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(playlistId));
 
-        return PlaylistDto.fromEntity(playlist, actor);
+        return playlistAssembler.toDtoWithItems(playlist, actor);
     }
 
     /**
@@ -642,12 +794,14 @@ public class PlaylistService {
             throw new NotFoundException("해당 플레이리스트 아이템을 찾을 수 없습니다.");
         }
 
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
         if (!playlist.getMember().getId().equals(actor.getId())) {
             throw new BadRequestException("자신이 소유한 플레이리스트 아이템만 삭제할 수 있습니다.");
         }
 
+        playlist.increaseContentVersion();
         playlistRepository.save(playlist);
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(playlistId));
     }
 
     /**
@@ -703,10 +857,158 @@ public class PlaylistService {
             }
             mainIndex++;
         }
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
+        playlist.increaseContentVersion();
         playlistRepository.save(playlist);
-        return PlaylistDto.fromEntity(playlist, actor);
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(playlistId));
+        return playlistAssembler.toDtoWithItems(playlist, actor);
+    }
+
+    /**
+     * 플레이리스트 아이템 이동
+     * - 앞/뒤 아이템의 순서 키 사이 값을 새 키로 사용하여 이동한 아이템(그룹이면 하위 아이템 포함)만 갱신
+     * - 키 간격이 부족하면 즉시 전체 재배치, 간격이 좁아지면 커밋 후 백그라운드 재배치
+     *
+     * @param playlistId 플레이리스트 ID
+     * @param itemId 이동할 아이템 ID
+     * @param request 이동 후 앞/뒤 아이템 및 그룹 정보
+     * @return 순서가 변경된 플레이리스트 정보
+     */
+    @Transactional
+    public PlaylistDto movePlaylistItem(Long playlistId, Long itemId, PlaylistItemMoveDto request) {
+        Playlist playlist = playlistRepository.findById(playlistId)
+                .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
+
+        Actor actor = rq.getActor();
+        if (!playlist.getMember().getId().equals(actor.getId())) {
+            throw new BadRequestException("자신이 소유한 플레이리스트 아이템만 이동할 수 있습니다.");
+        }
+
+        List<PlaylistItem> ordered = new ArrayList<>(playlist.getItems());
+        ordered.sort(Comparator.comparing(PlaylistItem::getDisplayOrder).thenComparing(PlaylistItem::getId));
+
+        PlaylistItem movedItem = findItem(ordered, itemId);
+        Long targetParentId = request.getParentItemId();
+
+        // 이동 대상과 그룹 하위 아이템을 하나의 블록으로 함께 이동
+        List<PlaylistItem> block = new ArrayList<>();
+        block.add(movedItem);
+        if (movedItem.getParentItemId() == null) {
+            ordered.stream()
+                    .filter(item -> itemId.equals(item.getParentItemId()))
+                    .forEach(block::add);
+        }
+
+        if (targetParentId != null) {
+            PlaylistItem parent = findItem(ordered, targetParentId);
+            if (block.contains(parent) || parent.getParentItemId() != null) {
+                throw new BadRequestException("이동할 수 없는 그룹입니다: " + targetParentId);
+            }
+            if (block.size() > 1) {
+                throw new BadRequestException("그룹은 다른 그룹 안으로 이동할 수 없습니다.");
+            }
+        }
+
+        List<PlaylistItem> remaining = new ArrayList<>(ordered);
+        remaining.removeAll(block);
+        int insertAt = resolveInsertIndex(remaining, request, targetParentId);
+
+        Integer lower = insertAt > 0 ? remaining.get(insertAt - 1).getDisplayOrder() : null;
+        Integer upper = insertAt < remaining.size() ? remaining.get(insertAt).getDisplayOrder() : null;
+        int[] keys = PlaylistOrderKeys.between(lower, upper, block.size());
+
+        movedItem.setParentItemId(targetParentId);
+        if (keys == null) {
+            // 빈 순서 키가 없으면 전체 재배치
+            remaining.addAll(insertAt, block);
+            PlaylistOrderKeys.renumber(remaining);
+        } else {
+            for (int i = 0; i < block.size(); i++) {
+                block.get(i).setDisplayOrder(keys[i]);
+            }
+            if (PlaylistOrderKeys.isCrowded(lower, upper, keys)) {
+                eventPublisher.publishEvent(new PlaylistItemRebalanceEvent(playlistId));
+            }
+        }
+        playlist.increaseContentVersion();
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(playlistId));
+
+        return playlistAssembler.toDto(playlist, actor);
+    }
+
+    /**
+     * 플레이리스트 아이템 순서 키를 현재 순서 그대로 균등한 간격으로 재배치합니다.
+     *
+     * @param playlistId 플레이리스트 ID
+     */
+    @Transactional
+    public void rebalanceItemOrder(Long playlistId) {
+        playlistRepository.findById(playlistId).ifPresent(playlist -> {
+            List<PlaylistItem> ordered = new ArrayList<>(playlist.getItems());
+            ordered.sort(Comparator.comparing(PlaylistItem::getDisplayOrder).thenComparing(PlaylistItem::getId));
+            int changed = PlaylistOrderKeys.renumber(ordered);
+            if (changed > 0) {
+                playlist.increaseContentVersion();
+            }
+            log.info("플레이리스트 {} 아이템 순서 키 재배치: {}건", playlistId, changed);
+        });
+    }
+
+    private PlaylistItem findItem(List<PlaylistItem> items, Long itemId) {
+        return items.stream()
+                .filter(item -> item.getId().equals(itemId))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("해당 플레이리스트 아이템을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 이동 블록이 들어갈 위치(remaining 기준 인덱스)를 계산합니다.
+     * 앞 아이템이 있으면 그 뒤(최상위 이동이면 앞 아이템의 그룹 하위 아이템 뒤), 없으면 뒤 아이템 앞에 위치합니다.
+     */
+    private int resolveInsertIndex(List<PlaylistItem> remaining, PlaylistItemMoveDto request, Long targetParentId) {
+        int insertAt;
+        if (request.getBeforeItemId() != null) {
+            PlaylistItem before = findSibling(remaining, request.getBeforeItemId(), targetParentId);
+            insertAt = endOfBlock(remaining, before) + 1;
+        } else if (request.getAfterItemId() != null) {
+            PlaylistItem after = findSibling(remaining, request.getAfterItemId(), targetParentId);
+            insertAt = remaining.indexOf(after);
+        } else if (targetParentId != null) {
+            insertAt = endOfBlock(remaining, findItem(remaining, targetParentId)) + 1;
+        } else {
+            insertAt = remaining.size();
+        }
+
+        // 앞/뒤 아이템이 모두 지정된 경우 두 아이템이 실제로 인접해 있는지 확인
+        if (request.getBeforeItemId() != null && request.getAfterItemId() != null) {
+            if (insertAt >= remaining.size() || !remaining.get(insertAt).getId().equals(request.getAfterItemId())) {
+                throw new BadRequestException("이동 기준 아이템의 위치가 일치하지 않습니다. 목록을 새로고침해 주세요.");
+            }
+        }
+        return insertAt;
+    }
+
+    private PlaylistItem findSibling(List<PlaylistItem> items, Long itemId, Long targetParentId) {
+        PlaylistItem sibling = findItem(items, itemId);
+        if (!Objects.equals(sibling.getParentItemId(), targetParentId)) {
+            throw new BadRequestException("이동 기준 아이템이 같은 그룹에 속해 있지 않습니다: " + itemId);
+        }
+        return sibling;
+    }
+
+    /**
+     * 아이템이 그룹 헤더이면 마지막 하위 아이템의 인덱스를, 아니면 자신의 인덱스를 반환합니다.
+     */
+    private int endOfBlock(List<PlaylistItem> items, PlaylistItem head) {
+        int index = items.indexOf(head);
+        if (head.getParentItemId() != null) {
+            return index;
+        }
+        while (index + 1 < items.size() && head.getId().equals(items.get(index + 1).getParentItemId())) {
+            index++;
+        }
+        return index;
     }
 
     /**
@@ -715,15 +1017,13 @@ public class PlaylistService {
     @Transactional(readOnly = true)
     public List<PlaylistDto> getLikedPlaylists(Long memberId) {
         List<PlaylistLike> likedEntities = playlistLikeRepository.findByIdMemberId(memberId);
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
         List<Playlist> likedPlaylists = likedEntities.stream()
                 .map(PlaylistLike::getPlaylist)
                 .collect(Collectors.toList());
 
-        return likedPlaylists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
-                .collect(Collectors.toList());
+        return playlistAssembler.toDtos(likedPlaylists, actor);
     }
 
     /**
@@ -731,11 +1031,9 @@ public class PlaylistService {
      */
     public List<PlaylistDto> getPlaylistsByMemberAndCuration(Member member, Long curationId) {
         List<Playlist> playlists = playlistRepository.findByMemberAndCuration(member, curationId);
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
-        return playlists.stream()
-                .map(playlist -> PlaylistDto.fromEntity(playlist, actor))
-                .collect(Collectors.toList());
+        return playlistAssembler.toDtos(playlists, actor);
     }
 
 
@@ -748,7 +1046,7 @@ public class PlaylistService {
         Playlist playlist = playlistRepository.findById(playlistId)
                 .orElseThrow(() -> new NotFoundException("해당 플레이리스트를 찾을 수 없습니다."));
 
-        Member actor = rq.getActor();
+        Actor actor = rq.getActor();
 
         PlaylistItem itemToUpdate = playlist.getItems().stream()
                 .filter(item -> item.getId().equals(playlistItemId))
@@ -766,8 +1064,10 @@ public class PlaylistService {
         } else {
             throw new BadRequestException("현재 아이템은 수정할 수 없습니다.");
         }
+        playlist.increaseContentVersion();
+        eventPublisher.publishEvent(new PlaylistUpdateEvent(playlistId));
 
-        return PlaylistDto.fromEntity(playlist, actor);
+        return playlistAssembler.toDtoWithItems(playlist, actor);
     }
 
 }
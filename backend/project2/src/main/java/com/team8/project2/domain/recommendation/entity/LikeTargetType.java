@@ -0,0 +1,60 @@
+package com.team8.project2.domain.recommendation.entity;
+
+/**
+ * 좋아요 기반 유사도 계산 대상 유형을 정의하는 열거형(enum) 클래스입니다.
+ * 유형마다 Redis 좋아요 Set 키와 이웃 목록 키의 접두사를 가집니다.
+ */
+public enum LikeTargetType {
+
+	/** 큐레이션 (curation_like:{id}) */
+	CURATION("curation_like:", "curation:also_liked:"),
+
+	/** 플레이리스트 (playlist_like:{id}) */
+	PLAYLIST("playlist_like:", "playlist:also_liked:");
+
+	private final String likeKeyPrefix;
+	private final String neighborKeyPrefix;
+
+	LikeTargetType(String likeKeyPrefix, String neighborKeyPrefix) {
+		this.likeKeyPrefix = likeKeyPrefix;
+		this.neighborKeyPrefix = neighborKeyPrefix;
+	}
+
+	/** 좋아요한 회원 ID Set 키 */
+	public String likeKey(Long id) {
+		return likeKeyPrefix + id;
+	}
+
+	public String likeKeyPattern() {
+		return likeKeyPrefix + "*";
+	}
+
+	/** "이 항목을 좋아한 회원들이 좋아한 항목" 목록 키 */
+	public String neighborKey(Long id) {
+		return neighborKeyPrefix + id;
+	}
+
+	/** 마지막 계산 이후 좋아요가 변경된 항목 ID Set 키 */
+	public String dirtyKey() {
+		return "similarity:dirty:" + name().toLowerCase();
+	}
+
+	/** 전체 계산이 한 번 이상 완료되었는지 표시하는 키 */
+	public String builtKey() {
+		return "similarity:built:" + name().toLowerCase();
+	}
+
+	/** 여러 서버에서 동시에 작업이 실행되지 않도록 하는 락 키 */
+	public String lockKey() {
+		return "similarity:lock:" + name().toLowerCase();
+	}
+
+	/** Redis 키에서 항목 ID를 추출합니다. 형식이 맞지 않으면 null을 반환합니다. */
+	public Long parseId(String likeKey) {
+		try {
+			return Long.parseLong(likeKey.substring(likeKeyPrefix.length()));
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+}
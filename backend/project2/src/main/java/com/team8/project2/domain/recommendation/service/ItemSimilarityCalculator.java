@@ -0,0 +1,173 @@
+package com.team8.project2.domain.recommendation.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 데이터를 기반으로 아이템-아이템 코사인 유사도를 계산하는 클래스입니다.
+ * 항목별 좋아요 회원 집합을 희소 벡터로 보고, 회원 → 항목 역색인을 통해 실제로 겹치는 항목만 방문합니다.
+ * 계산은 병렬 스트림(ForkJoin 공용 풀)으로 수행되며, 스레드마다 재사용 버퍼를 하나씩 가집니다.
+ */
+public class ItemSimilarityCalculator {
+
+	/**
+	 * 유사 항목과 유사도 점수
+	 */
+	public record Neighbor(long itemId, double score) {
+	}
+
+	private static final Comparator<Neighbor> BY_SCORE_DESC =
+		Comparator.comparingDouble(Neighbor::score).reversed().thenComparingLong(Neighbor::itemId);
+
+	private final long[] itemIds;
+	private final Map<Long, Integer> itemIndex;
+	private final int[][] itemMembers;
+	private final int[][] memberItems;
+
+	/**
+	 * @param itemLikers 항목 ID → 좋아요한 회원 ID 목록
+	 */
+	public ItemSimilarityCalculator(Map<Long, ? extends Collection<Long>> itemLikers) {
+		int itemCount = itemLikers.size();
+		this.itemIds = new long[itemCount];
+		this.itemIndex = new HashMap<>(itemCount * 2);
+		this.itemMembers = new int[itemCount][];
+
+		Map<Long, Integer> memberIndex = new HashMap<>();
+		int item = 0;
+		for (Map.Entry<Long, ? extends Collection<Long>> entry : itemLikers.entrySet()) {
+			itemIds[item] = entry.getKey();
+			itemIndex.put(entry.getKey(), item);
+
+			int[] members = new int[entry.getValue().size()];
+			int i = 0;
+			for (Long memberId : entry.getValue()) {
+				Integer index = memberIndex.get(memberId);
+				if (index == null) {
+					index = memberIndex.size();
+					memberIndex.put(memberId, index);
+				}
+				members[i++] = index;
+			}
+			itemMembers[item++] = members;
+		}
+
+		// 회원 → 항목 역색인 구성
+		int[] counts = new int[memberIndex.size()];
+		for (int[] members : itemMembers) {
+			for (int member : members) {
+				counts[member]++;
+			}
+		}
+		this.memberItems = new int[counts.length][];
+		for (int member = 0; member < counts.length; member++) {
+			memberItems[member] = new int[counts[member]];
+		}
+		int[] fill = new int[counts.length];
+		for (int i = 0; i < itemMembers.length; i++) {
+			for (int member : itemMembers[i]) {
+				memberItems[member][fill[member]++] = i;
+			}
+		}
+	}
+
+	public int itemCount() {
+		return itemIds.length;
+	}
+
+	public Set<Long> itemIds() {
+		return itemIndex.keySet();
+	}
+
+	/**
+	 * 주어진 항목들과, 그 항목들과 한 명 이상의 회원을 공유하는 항목들을 함께 반환합니다.
+	 * 좋아요가 바뀐 항목의 유사도는 이 범위의 항목들에 대해서만 달라지므로 증분 계산 대상으로 사용합니다.
+	 */
+	public Set<Long> withCoLikedItems(Collection<Long> changedItemIds) {
+		Set<Long> result = new HashSet<>(changedItemIds);
+		for (Long itemId : changedItemIds) {
+			Integer index = itemIndex.get(itemId);
+			if (index == null) {
+				continue;
+			}
+			for (int member : itemMembers[index]) {
+				for (int other : memberItems[member]) {
+					result.add(itemIds[other]);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 대상 항목마다 유사도가 높은 상위 k개의 항목을 계산합니다.
+	 * 좋아요가 없는 항목은 빈 목록을 가집니다.
+	 */
+	public Map<Long, List<Neighbor>> topK(Collection<Long> targetItemIds, int k) {
+		ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(() -> new Scratch(itemIds.length));
+		return new HashSet<>(targetItemIds).parallelStream()
+			.collect(Collectors.toConcurrentMap(Function.identity(), id -> neighborsOf(id, k, scratch.get())));
+	}
+
+	private List<Neighbor> neighborsOf(Long itemId, int k, Scratch scratch) {
+		Integer index = itemIndex.get(itemId);
+		if (index == null || k <= 0) {
+			return List.of();
+		}
+
+		// 희소 내적: 같은 회원이 좋아한 항목의 공동 좋아요 수를 누적
+		int touchedCount = 0;
+		for (int member : itemMembers[index]) {
+			for (int other : memberItems[member]) {
+				if (other == index) {
+					continue;
+				}
+				if (scratch.coCounts[other]++ == 0) {
+					scratch.touched[touchedCount++] = other;
+				}
+			}
+		}
+
+		PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1, BY_SCORE_DESC.reversed());
+		double norm = itemMembers[index].length;
+		for (int i = 0; i < touchedCount; i++) {
+			int other = scratch.touched[i];
+			int coCount = scratch.coCounts[other];
+			scratch.coCounts[other] = 0;
+
+			Neighbor neighbor = new Neighbor(itemIds[other], coCount / Math.sqrt(norm * itemMembers[other].length));
+			if (heap.size() < k) {
+				heap.add(neighbor);
+			} else if (BY_SCORE_DESC.compare(neighbor, heap.peek()) < 0) {
+				heap.poll();
+				heap.add(neighbor);
+			}
+		}
+
+		List<Neighbor> result = new ArrayList<>(heap);
+		result.sort(BY_SCORE_DESC);
+		return result;
+	}
+
+	/**
+	 * 스레드별 누적 버퍼 (항목 수 크기의 배열을 매번 새로 만들지 않기 위해 재사용)
+	 */
+	private static class Scratch {
+		private final int[] coCounts;
+		private final int[] touched;
+
+		private Scratch(int size) {
+			this.coCounts = new int[size];
+			this.touched = new int[size];
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.team8.project2.domain.recommendation.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.team8.project2.domain.recommendation.entity.LikeTargetType;
+import com.team8.project2.domain.recommendation.service.ItemSimilarityCalculator.Neighbor;
+import com.team8.project2.global.redis.LuaScript;
+import com.team8.project2.global.store.CounterStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * "이 항목을 좋아한 회원들이 좋아한 항목" 추천을 위한 아이템-아이템 유사도 배치 서비스입니다.
+ * 좋아요 Set(curation_like:{id}, playlist_like:{id})을 읽어 항목별 상위 K개 이웃을 계산하고,
+ * 결과를 항목당 하나의 키(curation:also_liked:{id}, playlist:also_liked:{id})에 저장합니다.
+ *
+ * 좋아요가 바뀐 항목은 dirty Set에 기록되며, 배치는 dirty 항목과 이들과 회원을 공유하는 항목, 그리고 dirty 항목의
+ * 이전 이웃(좋아요 취소로 더 이상 회원을 공유하지 않게 된 항목 포함)만 다시 계산합니다.
+ * 처리 중인 dirty 목록은 별도 키로 옮겨 두었다가 결과 저장 후에 삭제하므로, 중간에 중단되어도 다음 실행에서 이어서 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemSimilarityService {
+
+	private static final int TOP_K = 20;
+	private static final int WRITE_CHUNK_SIZE = 500;
+	private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+	private final CounterStore counterStore;
+
+	/**
+	 * 좋아요가 변경된 항목을 다음 배치의 재계산 대상으로 표시합니다.
+	 */
+	public void markDirty(LikeTargetType type, Long id) {
+		counterStore.addToSet(type.dirtyKey(), String.valueOf(id));
+	}
+
+	/**
+	 * 미리 계산된 유사 항목 ID 목록을 유사도 순으로 반환합니다. (단일 키 조회)
+	 */
+	public List<Long> getNeighborIds(LikeTargetType type, Long id) {
+		String encoded = counterStore.get(type.neighborKey(id));
+		if (encoded == null || encoded.isEmpty()) {
+			return Collections.emptyList();
+		}
+		try {
+			return Arrays.stream(encoded.split(","))
+				.map(entry -> Long.parseLong(entry.substring(0, entry.indexOf(':'))))
+				.toList();
+		} catch (RuntimeException e) {
+			log.warn("유사 항목 데이터 형식 오류로 캐시 삭제: {}", type.neighborKey(id));
+			counterStore.delete(type.neighborKey(id));
+			return Collections.emptyList();
+		}
+	}
+
+	@Scheduled(fixedDelay = 1800000, initialDelay = 60000) // 30분마다 실행
+	public void refreshAll() {
+		for (LikeTargetType type : LikeTargetType.values()) {
+			refresh(type);
+		}
+	}
+
+	/**
+	 * 변경된 항목 기준으로 유사 항목 목록을 다시 계산합니다.
+	 * 아직 한 번도 계산되지 않았다면 전체 항목을 계산합니다.
+	 *
+	 * @return 다시 계산된 항목 수
+	 */
+	public int refresh(LikeTargetType type) {
+		// 작업이 락 TTL보다 오래 걸려 다른 서버가 락을 잡은 경우 그 락을 지우지 않도록 소유자 토큰을 저장
+		String lockToken = UUID.randomUUID().toString();
+		if (!counterStore.setIfAbsent(type.lockKey(), lockToken, LOCK_TTL)) {
+			return 0;
+		}
+
+		try {
+			String processingKey = type.dirtyKey() + ":processing";
+			// 이전 실행이 중단되어 처리 중 목록이 남아 있다면 그것부터 이어서 처리
+			if (!counterStore.hasKey(processingKey) && counterStore.hasKey(type.dirtyKey())) {
+				counterStore.rename(type.dirtyKey(), processingKey);
+			}
+			Set<String> changed = counterStore.members(processingKey);
+			boolean fullRebuild = !counterStore.hasKey(type.builtKey());
+
+			if (!fullRebuild && changed.isEmpty()) {
+				return 0;
+			}
+
+			long startedAt = System.currentTimeMillis();
+			ItemSimilarityCalculator calculator = new ItemSimilarityCalculator(loadLikeSets(type));
+			Set<Long> targets = fullRebuild
+				? calculator.itemIds()
+				: incrementalTargets(type, calculator, parseIds(changed));
+
+			Map<Long, List<Neighbor>> neighbors = calculator.topK(targets, TOP_K);
+			writeNeighbors(type, neighbors);
+
+			counterStore.delete(processingKey);
+			counterStore.set(type.builtKey(), String.valueOf(System.currentTimeMillis()));
+
+			log.info("[ItemSimilarity] {} 유사도 갱신 완료 - 전체 항목: {}, 재계산: {}, 소요: {}ms",
+				type, calculator.itemCount(), targets.size(), System.currentTimeMillis() - startedAt);
+			return targets.size();
+		} finally {
+			counterStore.execute(LuaScript.LOCK_RELEASE, List.of(type.lockKey()), lockToken);
+		}
+	}
+
+	/**
+	 * 변경된 항목과 현재 회원을 공유하는 항목에 더해, 변경된 항목의 이전 이웃도 재계산 대상에 넣습니다.
+	 * 좋아요가 취소되어 더 이상 회원을 공유하지 않는 항목은 현재 좋아요로는 찾을 수 없지만, 이웃 목록에는 남아 있기 때문입니다.
+	 */
+	private Set<Long> incrementalTargets(LikeTargetType type, ItemSimilarityCalculator calculator, Set<Long> changed) {
+		Set<Long> targets = calculator.withCoLikedItems(changed);
+		for (Long id : changed) {
+			targets.addAll(getNeighborIds(type, id));
+		}
+		return targets;
+	}
+
+	private Map<Long, Set<Long>> loadLikeSets(LikeTargetType type) {
+		Map<Long, Set<Long>> itemLikers = new HashMap<>();
+		Set<String> keys = counterStore.keys(type.likeKeyPattern());
+		for (String key : keys) {
+			Long itemId = type.parseId(key);
+			if (itemId == null) {
+				continue;
+			}
+			Set<String> memberIds = counterStore.members(key);
+			if (memberIds.isEmpty()) {
+				continue;
+			}
+			itemLikers.put(itemId, parseIds(memberIds));
+		}
+		return itemLikers;
+	}
+
+	private void writeNeighbors(LikeTargetType type, Map<Long, List<Neighbor>> neighbors) {
+		Map<String, String> values = new HashMap<>();
+		List<String> emptyKeys = new ArrayList<>();
+
+		for (Map.Entry<Long, List<Neighbor>> entry : neighbors.entrySet()) {
+			String key = type.neighborKey(entry.getKey());
+			if (entry.getValue().isEmpty()) {
+				emptyKeys.add(key);
+				continue;
+			}
+			values.put(key, entry.getValue().stream()
+				.map(n -> String.format(Locale.ROOT, "%d:%.4f", n.itemId(), n.score()))
+				.collect(Collectors.joining(",")));
+
+			if (values.size() >= WRITE_CHUNK_SIZE) {
+				counterStore.multiSet(values);
+				values.clear();
+			}
+		}
+		if (!values.isEmpty()) {
+			counterStore.multiSet(values);
+		}
+		if (!emptyKeys.isEmpty()) {
+			counterStore.delete(emptyKeys);
+		}
+	}
+
+	private Set<Long> parseIds(Set<String> values) {
+		return values.stream()
+			.map(value -> {
+				try {
+					return Long.parseLong(value);
+				} catch (NumberFormatException e) {
+					return null;
+				}
+			})
+			.filter(id -> id != null)
+			.collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,117 @@
+package com.team8.project2.global;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋 이후의 부수 작업(@Async 리스너)을 실행하는 전용 실행기 설정입니다.
+ * <p>
+ * 실행기마다 스레드 수와 큐 크기를 제한하고, 큐가 가득 차면 {@code executor.rejected} 카운터를 올린 뒤 실행기별 정책을 따릅니다.
+ * 큐 길이, 활성 스레드 수 등은 Actuator가 실행기 빈 이름으로 {@code executor.*} 메트릭을 노출합니다.
+ * 종료 시에는 웹 서버가 요청 처리를 마칠 때까지 작업을 계속 받고, 쌓인 작업을 처리한 뒤 종료합니다.
+ */
+@Slf4j
+@EnableAsync
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+	/** S3 객체 삭제 등 이미지 정리 작업 */
+	public static final String S3_CLEANUP_EXECUTOR = "s3CleanupExecutor";
+
+	/** 플레이리스트 순서 키 재배치 등 유지보수 작업 */
+	public static final String PLAYLIST_MAINTENANCE_EXECUTOR = "playlistMaintenanceExecutor";
+
+	/** 업로드된 이미지의 변형 이미지 생성 (CPU 사용) */
+	public static final String IMAGE_PROCESSING_EXECUTOR = "imageProcessingExecutor";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+
+	@Value("${custom.async.await-termination:30s}")
+	private Duration awaitTermination;
+
+	/**
+	 * 큐가 가득 차면 요청 스레드에서 직접 실행합니다. (삭제 누락 대신 요청 지연을 택해 부하를 되돌림)
+	 */
+	@Bean(name = S3_CLEANUP_EXECUTOR)
+	@DependsOn({"entityManagerFactory", "amazonS3"})
+	public ThreadPoolTaskExecutor s3CleanupExecutor(
+		@Value("${custom.async.s3-cleanup.pool-size:4}") int poolSize,
+		@Value("${custom.async.s3-cleanup.queue-capacity:1000}") int queueCapacity) {
+		return executor(S3_CLEANUP_EXECUTOR, "s3-cleanup-", poolSize, queueCapacity,
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * 큐가 가득 차면 작업을 버립니다. (재배치는 다음 이동 때 다시 요청되므로 유실돼도 안전)
+	 */
+	@Bean(name = PLAYLIST_MAINTENANCE_EXECUTOR)
+	@DependsOn("entityManagerFactory")
+	public ThreadPoolTaskExecutor playlistMaintenanceExecutor(
+		@Value("${custom.async.playlist-maintenance.pool-size:1}") int poolSize,
+		@Value("${custom.async.playlist-maintenance.queue-capacity:100}") int queueCapacity) {
+		return executor(PLAYLIST_MAINTENANCE_EXECUTOR, "playlist-maintenance-", poolSize, queueCapacity,
+			new ThreadPoolExecutor.DiscardPolicy());
+	}
+
+	/**
+	 * CPU를 쓰는 작업이므로 스레드 수는 기본적으로 코어 수로 제한합니다.
+	 * 큐가 가득 차면 버립니다. 변형 이미지 작업은 DB에 남아 있으므로 주기적 재시도에서 처리됩니다.
+	 */
+	@Bean(name = IMAGE_PROCESSING_EXECUTOR)
+	@DependsOn("amazonS3")
+	public ThreadPoolTaskExecutor imageProcessingExecutor(
+		@Value("${custom.async.image-processing.pool-size:0}") int poolSize,
+		@Value("${custom.async.image-processing.queue-capacity:200}") int queueCapacity) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		return executor(IMAGE_PROCESSING_EXECUTOR, "image-processing-", threads, queueCapacity,
+			new ThreadPoolExecutor.DiscardPolicy());
+	}
+
+	ThreadPoolTaskExecutor executor(String name, String threadNamePrefix, int poolSize, int queueCapacity,
+		RejectedExecutionHandler rejectionPolicy) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setBeanName(name);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		if (virtualThreads) {
+			executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+		}
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setRejectedExecutionHandler(counting(name, rejectionPolicy));
+		executor.setAcceptTasksAfterContextClose(true);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationMillis(awaitTermination.toMillis());
+		return executor;
+	}
+
+	private RejectedExecutionHandler counting(String name, RejectedExecutionHandler rejectionPolicy) {
+		Counter rejected = Counter.builder("executor.rejected")
+			.description("큐가 가득 차 거부된 비동기 작업 수")
+			.tag("name", name)
+			.register(meterRegistry);
+		return (task, pool) -> {
+			rejected.increment();
+			log.warn("비동기 작업 큐가 가득 찼습니다. ({}, 대기 {}건, 정책 {})",
+				name, pool.getQueue().size(), rejectionPolicy.getClass().getSimpleName());
+			rejectionPolicy.rejectedExecution(task, pool);
+		};
+	}
+}
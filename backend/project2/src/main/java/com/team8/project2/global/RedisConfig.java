@@ -1,13 +1,21 @@
 package com.team8.project2.global;
 
+import java.time.Duration;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.beans.factory.annotation.Value;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+
 @Configuration
 public class RedisConfig {
 
@@ -18,11 +26,29 @@ public class RedisConfig {
     private int redisPort;
 
     @Value("${spring.data.redis.timeout}")
-    private String redisTimeout;
+    private Duration redisTimeout;
 
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration redisConnectTimeout;
+
+    /**
+     * 명령/연결 타임아웃을 적용한 Lettuce 연결 팩토리입니다.
+     * 연결이 끊긴 동안에는 명령을 큐에 쌓지 않고 즉시 실패시켜, 서킷 브레이커가 빠르게 대체 동작으로 전환하게 합니다.
+     */
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(redisConnectTimeout).build())
+                .timeoutOptions(TimeoutOptions.enabled(redisTimeout))
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(redisTimeout)
+                .clientOptions(clientOptions)
+                .build();
+
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort), clientConfiguration);
     }
 
     @Bean
@@ -34,4 +60,3 @@ public class RedisConfig {
         return template;
     }
 }
-
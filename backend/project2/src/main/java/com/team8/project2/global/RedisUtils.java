@@ -1,17 +1,18 @@
 package com.team8.project2.global;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import com.team8.project2.global.store.CounterStore;
+
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class RedisUtils {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final CounterStore counterStore;
 
 	public void clearAllData() {
-		redisTemplate.getConnectionFactory().getConnection().flushAll();
+		counterStore.clear();
 	}
 }
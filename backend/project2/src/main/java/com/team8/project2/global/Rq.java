@@ -3,7 +3,7 @@ package com.team8.project2.global;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.global.exception.ServiceException;
-import com.team8.project2.global.security.SecurityUser;
+import com.team8.project2.global.security.Actor;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,7 +14,6 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
@@ -31,45 +30,34 @@ public class Rq {
     /**
      * 현재 요청에서 로그인한 유저 정보를 SecurityContext에 설정
      */
-    public void setLogin(Member member) {
-        Authentication authentication = getAuthentication(member);
+    public void setLogin(Actor actor) {
+        Authentication authentication = getAuthentication(actor);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     /**
-     * Member 객체 기반으로 Authentication 생성
+     * 인증 주체(Actor) 기반으로 Authentication 생성
      */
-    public Authentication getAuthentication(Member member) {
-        UserDetails userDetails = new SecurityUser(member.getId(), member.getMemberId(), "", member.getAuthorities());
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    public Authentication getAuthentication(Actor actor) {
+        return new UsernamePasswordAuthenticationToken(actor, null, actor.getAuthorities());
     }
 
     /**
      * 현재 로그인한 유저 정보 가져오기
+     * 액세스 토큰의 클레임으로 만든 인증 주체를 그대로 반환하므로 DB를 조회하지 않습니다.
      */
-    public Member getActor() {
+    public Actor getActor() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new ServiceException("401-2", "로그인이 필요합니다.");
-        } else {
-            log.info("Authentication: {}", authentication);
-            log.info("Authentication class: {}", authentication.getClass());
-            log.info("Authentication isAuthenticated: {}", authentication.isAuthenticated());
-            log.info("Authentication principal: {}", authentication.getPrincipal());
         }
 
-
-        Object principal = authentication.getPrincipal();
-        if (!(principal instanceof SecurityUser)) {
-            log.info("[principal] : "+ principal.getClass().toString());
-            log.info("[principal] : "+ principal);
+        if (!(authentication.getPrincipal() instanceof Actor actor)) {
+            log.debug("[principal] : {}", authentication.getPrincipal());
             throw new ServiceException("401-3", "잘못된 인증 정보입니다.");
         }
-        SecurityUser user = (SecurityUser) principal;
-
-        return memberService.findById(user.getId())
-                .orElseThrow(() -> new ServiceException("404-1", "사용자를 찾을 수 없습니다."));
+        return actor;
     }
 
     /**
@@ -83,6 +71,17 @@ public class Rq {
         return authentication.isAuthenticated();
     }
 
+    /**
+     * 요청의 액세스 토큰 가져오기 (Authorization: Bearer 헤더 우선, 없으면 쿠키)
+     */
+    public String getAccessToken() {
+        String authorizationHeader = getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring("Bearer ".length()).trim();
+        }
+        return getValueFromCookie("accessToken");
+    }
+
     /**
      * 요청 헤더에서 특정 값 가져오기
      */
@@ -127,12 +126,21 @@ public class Rq {
 
     /**
      * 현재 유저의 실제 정보 가져오기
+     * 회원 정보를 수정하거나 토큰에 없는 정보가 필요할 때만 사용합니다.
      */
-    public Member getRealActor(Member actor) {
-        return memberService.findById(actor.getId())
+    public Member getRealActor() {
+        return memberService.findById(getActor().getId())
                 .orElseThrow(() -> new ServiceException("404-1", "사용자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 현재 유저를 조회하지 않고 식별자만 가진 참조 가져오기
+     * 작성자, 소유자 등 연관관계를 지정할 때 사용하며, 다른 필드는 트랜잭션 안에서만 읽을 수 있습니다.
+     */
+    public Member getActorReference() {
+        return memberService.getReference(getActor().getId());
+    }
+
     /**
      * 쿠키 삭제하기
      */
@@ -0,0 +1,35 @@
+package com.team8.project2.global.cache;
+
+/**
+ * Hibernate 2차 캐시 리전 이름입니다.
+ * 리전별 크기와 만료 시간은 hibernate-cache.conf에 같은 이름으로 설정합니다.
+ */
+public final class CacheRegions {
+
+	/** 태그 엔티티 */
+	public static final String TAG = "tag";
+
+	/** 링크 엔티티 (URL, 메타 정보) */
+	public static final String LINK = "link";
+
+	/** 회원 엔티티 (작성자 이름, 프로필 이미지) */
+	public static final String MEMBER = "member";
+
+	/** 큐레이션-태그 연결 엔티티 */
+	public static final String CURATION_TAG = "curation-tag";
+
+	/** 큐레이션-링크 연결 엔티티 */
+	public static final String CURATION_LINK = "curation-link";
+
+	/** 큐레이션의 태그 연결 컬렉션 */
+	public static final String CURATION_TAGS = "curation-tags";
+
+	/** 큐레이션의 링크 연결 컬렉션 */
+	public static final String CURATION_LINKS = "curation-links";
+
+	/** 플레이리스트의 태그 컬렉션 */
+	public static final String PLAYLIST_TAGS = "playlist-tags";
+
+	private CacheRegions() {
+	}
+}
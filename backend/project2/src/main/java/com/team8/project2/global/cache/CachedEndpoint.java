@@ -0,0 +1,78 @@
+package com.team8.project2.global.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+/**
+ * 비로그인 GET 응답을 캐싱하는 엔드포인트 목록입니다.
+ * <ul>
+ *     <li>목록형(versioned): 조회 파라미터별로 캐싱하고, 변경 시 버전을 올려 전체를 무효화</li>
+ *     <li>상세형: 경로 변수(ID)별로 캐싱하고, 변경 시 해당 키만 삭제 (쿼리 파라미터는 키에 포함하지 않음)</li>
+ * </ul>
+ */
+@Getter
+public enum CachedEndpoint {
+
+	/** 큐레이션 검색/전체 조회 */
+	CURATION_SEARCH("curation_search", "/api/v1/curation", Duration.ofSeconds(30), true),
+
+	/** 트렌딩 큐레이션 */
+	TRENDING_CURATION("trending_curation", "/api/v1/curation/trending-curation", Duration.ofSeconds(60), true),
+
+	/** 트렌딩 태그 */
+	TRENDING_TAG("trending_tag", "/api/v1/curation/trending-tag", Duration.ofSeconds(60), true),
+
+	/** 큐레이터 정보 */
+	MEMBER_PROFILE("member_profile", "/api/v1/members/(?<id>[^/]+)", Duration.ofSeconds(60), true),
+
+	/** 플레이리스트 상세 */
+	PLAYLIST_DETAIL("playlist_detail", "/api/v1/playlists/(?<id>\\d+)", Duration.ofSeconds(10), false);
+
+	/** /api/v1/members/{username}과 겹치는 다른 GET 엔드포인트 */
+	private static final Set<String> RESERVED_MEMBER_PATHS = Set.of("me", "following", "members");
+
+	private final String name;
+	private final Pattern pathPattern;
+	private final Duration ttl;
+	private final boolean versioned;
+
+	CachedEndpoint(String name, String pathRegex, Duration ttl, boolean versioned) {
+		this.name = name;
+		this.pathPattern = Pattern.compile(pathRegex);
+		this.ttl = ttl;
+		this.versioned = versioned;
+	}
+
+	/**
+	 * 요청 경로에 해당하는 엔드포인트를 찾습니다.
+	 */
+	public static Optional<CachedEndpoint> resolve(String path) {
+		return Arrays.stream(values())
+			.filter(endpoint -> endpoint.matches(path))
+			.findFirst();
+	}
+
+	/**
+	 * 경로 변수(ID, 사용자명) 값을 반환합니다. (없으면 null)
+	 */
+	public String pathId(String path) {
+		Matcher matcher = pathPattern.matcher(path);
+		if (!matcher.matches() || !pathPattern.pattern().contains("(?<id>")) {
+			return null;
+		}
+		return matcher.group("id");
+	}
+
+	private boolean matches(String path) {
+		if (!pathPattern.matcher(path).matches()) {
+			return false;
+		}
+		return this != MEMBER_PROFILE || !RESERVED_MEMBER_PATHS.contains(pathId(path));
+	}
+}
@@ -0,0 +1,17 @@
+package com.team8.project2.global.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 컨트롤러를 거치지 않고 캐시된 응답을 내보냈을 때 발행되는 이벤트
+ * (조회수 집계처럼 응답과 별개로 매 요청마다 처리해야 하는 작업에 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponseServedEvent {
+	private CachedEndpoint endpoint;
+	private String pathId;
+	private HttpServletRequest request;
+}
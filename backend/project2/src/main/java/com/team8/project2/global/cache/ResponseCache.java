@@ -0,0 +1,105 @@
+package com.team8.project2.global.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직렬화된 RsData 응답 본문을 카운터 저장소(Redis)에 캐싱하는 컴포넌트입니다.
+ * 본문과 함께 조건부 GET에 필요한 검증 헤더(ETag, Last-Modified 등)를 저장합니다.
+ * <p>
+ * 캐시 키는 엔드포인트, 경로, 정렬된 쿼리 파라미터로 만들어 파라미터 순서가 달라도 같은 키를 사용합니다.
+ * 목록형 엔드포인트는 엔드포인트별 버전을 키에 포함시켜 한 번에 무효화합니다. ({@link VersionedCache})
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCache {
+
+	private static final String KEY_PREFIX = "response:";
+
+	private final VersionedCache versionedCache;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 캐시에 저장하는 응답입니다.
+	 *
+	 * @param body 응답 본문
+	 * @param headers 함께 내보낼 헤더 (이름 → 값)
+	 */
+	public record CachedResponse(String body, Map<String, String> headers) {
+	}
+
+	/**
+	 * 요청에 해당하는 캐시 키를 만듭니다.
+	 */
+	public String key(CachedEndpoint endpoint, HttpServletRequest request) {
+		if (!endpoint.isVersioned()) {
+			return namespace(endpoint) + ":" + endpoint.pathId(request.getRequestURI());
+		}
+		return versionedCache.key(namespace(endpoint),
+			request.getRequestURI() + "?" + normalizeQuery(request.getParameterMap()));
+	}
+
+	/**
+	 * 캐시된 응답을 조회합니다. 읽을 수 없는 값은 캐시 미스로 처리합니다.
+	 */
+	public CachedResponse get(String key) {
+		return versionedCache.get(key, CachedResponse.class);
+	}
+
+	public void put(CachedEndpoint endpoint, String key, CachedResponse response) {
+		versionedCache.put(key, response, endpoint.getTtl());
+	}
+
+	/**
+	 * 목록형 엔드포인트의 버전을 올려 캐시 전체를 무효화합니다.
+	 */
+	public void invalidate(CachedEndpoint endpoint) {
+		versionedCache.invalidate(namespace(endpoint));
+	}
+
+	/**
+	 * 상세형 엔드포인트에서 특정 ID의 캐시를 삭제합니다.
+	 */
+	public void evict(CachedEndpoint endpoint, Object id) {
+		versionedCache.evict(namespace(endpoint) + ":" + id);
+	}
+
+	/**
+	 * 캐시 적중 결과를 기록합니다. (hit, miss, coalesced)
+	 */
+	public void record(CachedEndpoint endpoint, String result) {
+		meterRegistry.counter("http.response.cache", "endpoint", endpoint.getName(), "result", result).increment();
+	}
+
+	private static String namespace(CachedEndpoint endpoint) {
+		return KEY_PREFIX + endpoint.getName();
+	}
+
+	/**
+	 * 파라미터 이름과 값을 정렬하고 빈 값은 제외합니다.
+	 * (예: tags=b&tags=a&page=0&title= → page=0&tags=a,b)
+	 */
+	static String normalizeQuery(Map<String, String[]> parameters) {
+		Map<String, String> sorted = new TreeMap<>();
+		parameters.forEach((name, values) -> {
+			String joined = Arrays.stream(values)
+				.filter(value -> value != null && !value.isBlank())
+				.sorted()
+				.collect(Collectors.joining(","));
+			if (!joined.isEmpty()) {
+				sorted.put(name, joined);
+			}
+		});
+		return sorted.entrySet().stream()
+			.map(entry -> entry.getKey() + "=" + entry.getValue())
+			.collect(Collectors.joining("&"));
+	}
+}
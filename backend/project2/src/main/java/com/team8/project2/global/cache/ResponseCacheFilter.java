@@ -0,0 +1,156 @@
+package com.team8.project2.global.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.team8.project2.global.Rq;
+import com.team8.project2.global.cache.ResponseCache.CachedResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CachedEndpoint}에 해당하는 비로그인 GET 요청의 응답을 {@link ResponseCache}로 캐싱하는 필터입니다.
+ * <p>
+ * 로그인 사용자의 응답에는 좋아요/팔로우 여부가 포함되므로 캐싱하지 않습니다. (인증 필터 이후에 실행)
+ * 같은 키의 캐시 미스가 동시에 들어오면 한 요청만 컨트롤러를 실행하고,
+ * 나머지는 그 결과를 기다렸다가 함께 응답합니다. (요청 병합)
+ * 조건부 요청(If-None-Match, If-Modified-Since)은 컨트롤러가 304로 응답할 수 있도록 캐싱하지 않으며,
+ * 캐시된 응답에도 검증 헤더를 함께 내보내 클라이언트가 이후 조건부 요청을 보낼 수 있게 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+	private static final String CACHE_HEADER = "X-Cache";
+	private static final long COALESCE_WAIT_MILLIS = 3000;
+	private static final List<String> CACHED_HEADERS = List.of(
+		HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+	private final ResponseCache responseCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Rq rq;
+
+	private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.GET.matches(request.getMethod())
+			|| request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+			|| request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null
+			|| CachedEndpoint.resolve(request.getRequestURI()).isEmpty();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		if (rq.isLogin()) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		CachedEndpoint endpoint = CachedEndpoint.resolve(request.getRequestURI()).orElseThrow();
+		String key = responseCache.key(endpoint, request);
+
+		CachedResponse cached = responseCache.get(key);
+		if (cached != null) {
+			responseCache.record(endpoint, "hit");
+			writeCached(endpoint, request, response, cached, "HIT");
+			return;
+		}
+
+		CompletableFuture<CachedResponse> loading = new CompletableFuture<>();
+		CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, loading);
+		if (leader != null) {
+			Optional<CachedResponse> result = await(leader);
+			if (result.isPresent()) {
+				responseCache.record(endpoint, "coalesced");
+				writeCached(endpoint, request, response, result.get(), "COALESCED");
+				return;
+			}
+			// 선행 요청이 실패했거나 너무 오래 걸리면 직접 처리
+			responseCache.record(endpoint, "miss");
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		responseCache.record(endpoint, "miss");
+		response.setHeader(CACHE_HEADER, "MISS");
+		ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+		CachedResponse result = null;
+		try {
+			filterChain.doFilter(request, wrapper);
+			if (wrapper.getStatus() == HttpStatus.OK.value()) {
+				result = new CachedResponse(
+					new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8), validators(wrapper));
+				responseCache.put(endpoint, key, result);
+			}
+		} finally {
+			inFlight.remove(key, loading);
+			loading.complete(result);
+			wrapper.copyBodyToResponse();
+		}
+	}
+
+	private Map<String, String> validators(HttpServletResponse response) {
+		Map<String, String> headers = new LinkedHashMap<>();
+		for (String name : CACHED_HEADERS) {
+			String value = response.getHeader(name);
+			if (value != null) {
+				headers.put(name, value);
+			}
+		}
+		return headers;
+	}
+
+	private Optional<CachedResponse> await(CompletableFuture<CachedResponse> leader) {
+		try {
+			return Optional.ofNullable(leader.get(COALESCE_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		} catch (ExecutionException | TimeoutException e) {
+			return Optional.empty();
+		}
+	}
+
+	private void writeCached(CachedEndpoint endpoint, HttpServletRequest request, HttpServletResponse response,
+		CachedResponse cached, String cacheResult) throws IOException {
+		eventPublisher.publishEvent(
+			new CachedResponseServedEvent(endpoint, endpoint.pathId(request.getRequestURI()), request));
+
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setHeader(CACHE_HEADER, cacheResult);
+		if (cached.headers() != null) {
+			cached.headers().forEach(response::setHeader);
+		}
+		response.getWriter().write(cached.body());
+	}
+}
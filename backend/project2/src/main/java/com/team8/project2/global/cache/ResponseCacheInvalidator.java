@@ -0,0 +1,82 @@
+package com.team8.project2.global.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.team8.project2.domain.curation.curation.event.CurationCreateEvent;
+import com.team8.project2.domain.curation.curation.event.CurationDeleteEvent;
+import com.team8.project2.domain.curation.curation.event.CurationUpdateEvent;
+import com.team8.project2.domain.member.event.MemberUpdateEvent;
+import com.team8.project2.domain.member.event.ProfileImageUpdateEvent;
+import com.team8.project2.domain.playlist.event.PlaylistLikeEvent;
+import com.team8.project2.domain.playlist.event.PlaylistUpdateEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 변경 이벤트를 받아 관련 응답 캐시를 무효화합니다.
+ * 커밋된 변경만 반영되도록 트랜잭션 커밋 후에 실행하며, 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.
+ * <p>
+ * 큐레이션 좋아요는 목록을 무효화하지 않습니다. 좋아요마다 버전을 올리면 인기 큐레이션의 목록 캐시가 거의 적중하지 않으므로,
+ * 검색 결과의 좋아요 수는 TTL(30초) 동안 늦게 반영되는 것을 허용합니다. (상세 조회는 캐시하지 않아 바로 반영)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ResponseCacheInvalidator {
+
+	private final ResponseCache responseCache;
+
+	/**
+	 * 큐레이션 생성/삭제 시 목록, 트렌딩, 큐레이터 정보(큐레이션 수)를 무효화한다
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCurationCreated(CurationCreateEvent event) {
+		invalidateCurationViews();
+		responseCache.invalidate(CachedEndpoint.MEMBER_PROFILE);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCurationDeleted(CurationDeleteEvent event) {
+		invalidateCurationViews();
+		responseCache.invalidate(CachedEndpoint.MEMBER_PROFILE);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onCurationUpdated(CurationUpdateEvent event) {
+		invalidateCurationViews();
+	}
+
+	/**
+	 * 회원 정보 변경 시 큐레이터 정보와 작성자 정보가 보이는 검색 결과를 무효화한다
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberUpdated(MemberUpdateEvent event) {
+		responseCache.invalidate(CachedEndpoint.MEMBER_PROFILE);
+		responseCache.invalidate(CachedEndpoint.CURATION_SEARCH);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onProfileImageUpdated(ProfileImageUpdateEvent event) {
+		responseCache.invalidate(CachedEndpoint.MEMBER_PROFILE);
+		responseCache.invalidate(CachedEndpoint.CURATION_SEARCH);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPlaylistUpdated(PlaylistUpdateEvent event) {
+		responseCache.evict(CachedEndpoint.PLAYLIST_DETAIL, event.getPlaylistId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onPlaylistLiked(PlaylistLikeEvent event) {
+		responseCache.evict(CachedEndpoint.PLAYLIST_DETAIL, event.getPlaylistId());
+	}
+
+	private void invalidateCurationViews() {
+		responseCache.invalidate(CachedEndpoint.CURATION_SEARCH);
+		responseCache.invalidate(CachedEndpoint.TRENDING_CURATION);
+		responseCache.invalidate(CachedEndpoint.TRENDING_TAG);
+	}
+}
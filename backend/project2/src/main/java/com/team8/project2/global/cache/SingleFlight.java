@@ -0,0 +1,87 @@
+package com.team8.project2.global.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키에 대한 동시 로딩을 하나로 합치는 요청 병합기입니다. (single-flight)
+ * <p>
+ * 키별로 먼저 들어온 호출만 로더를 실행하고, 로딩 중에 들어온 호출은 그 결과(또는 예외)를 함께 받습니다.
+ * 결과를 저장해 두지 않으므로 로딩이 끝난 뒤의 호출은 다시 로더를 실행합니다.
+ * 로더는 호출한 스레드에서 실행되며, 결과 객체는 여러 스레드가 공유하므로 변경하지 않아야 합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+	private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Counter loaded;
+	private final Counter shared;
+
+	/**
+	 * @param name 메트릭 태그로 사용할 이름
+	 * @param meterRegistry 로딩/공유 횟수를 기록할 레지스트리
+	 */
+	public SingleFlight(String name, MeterRegistry meterRegistry) {
+		this.loaded = meterRegistry.counter("single.flight.calls", "name", name, "result", "loaded");
+		this.shared = meterRegistry.counter("single.flight.calls", "name", name, "result", "shared");
+	}
+
+	/**
+	 * 같은 키의 로딩이 진행 중이면 그 결과를 기다리고, 아니면 직접 로더를 실행합니다.
+	 *
+	 * @param key 병합 기준 키
+	 * @param loader 결과를 만드는 로더
+	 * @return 로딩 결과
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> call = new CompletableFuture<>();
+		CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+		if (leader != null) {
+			shared.increment();
+			return await(leader);
+		}
+
+		loaded.increment();
+		try {
+			V value = loader.get();
+			call.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, call);
+		}
+	}
+
+	/**
+	 * 현재 로딩 중인 키 개수
+	 */
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private V await(CompletableFuture<V> leader) {
+		try {
+			return leader.join();
+		} catch (CompletionException e) {
+			// 선행 호출에서 발생한 예외를 그대로 전달 (예: 404 ServiceException)
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.team8.project2.global.cache;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team8.project2.global.exception.CounterStoreUnavailableException;
+import com.team8.project2.global.store.CounterStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카운터 저장소(Redis)에 값을 JSON으로 짧게 캐싱하는 공통 컴포넌트입니다.
+ * <p>
+ * 영역(namespace)마다 버전 값을 두고 캐시 키에 포함시켜, 버전만 올리면 영역 전체가 한 번에 무효화됩니다.
+ * 이전 버전의 키는 TTL이 지나면 자연스럽게 만료되므로, 저장소를 사용할 수 없어 무효화하지 못해도 TTL 안에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionedCache {
+
+	private final CounterStore counterStore;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 영역의 현재 버전을 포함한 캐시 키를 만듭니다.
+	 * @param namespace 영역 (예: {@code playlist:explore})
+	 * @param suffix 영역 안에서 값을 구분하는 키
+	 * @return 캐시 키
+	 */
+	public String key(String namespace, String suffix) {
+		String version = counterStore.get(versionKey(namespace));
+		return namespace + ":" + (version != null ? version : "0") + ":" + suffix;
+	}
+
+	/**
+	 * 캐시된 값을 조회합니다. 읽을 수 없는 값은 캐시 미스로 처리합니다.
+	 * @return 캐시된 값 (없으면 null)
+	 */
+	public <T> T get(String key, Class<T> type) {
+		String value = counterStore.get(key);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(value, type);
+		} catch (JsonProcessingException e) {
+			log.warn("캐시 역직렬화 실패, 캐시 미스로 처리합니다. (key={})", key);
+			return null;
+		}
+	}
+
+	public void put(String key, Object value, Duration ttl) {
+		try {
+			counterStore.set(key, objectMapper.writeValueAsString(value), ttl);
+		} catch (JsonProcessingException e) {
+			log.warn("캐시 직렬화 실패 (key={})", key);
+		}
+	}
+
+	/**
+	 * 영역의 버전을 올려 영역 전체를 무효화합니다.
+	 */
+	public void invalidate(String namespace) {
+		try {
+			counterStore.increment(versionKey(namespace));
+		} catch (CounterStoreUnavailableException e) {
+			log.warn("{} 캐시 무효화 실패, TTL 만료로 대체합니다.", namespace);
+		}
+	}
+
+	/**
+	 * 버전 없이 저장한 키 하나를 삭제합니다.
+	 */
+	public void evict(String key) {
+		try {
+			counterStore.delete(key);
+		} catch (CounterStoreUnavailableException e) {
+			log.warn("캐시 삭제 실패, TTL 만료로 대체합니다. (key={})", key);
+		}
+	}
+
+	private static String versionKey(String namespace) {
+		return namespace + ":version";
+	}
+}
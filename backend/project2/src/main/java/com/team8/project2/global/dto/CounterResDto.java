@@ -0,0 +1,20 @@
+package com.team8.project2.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상세 응답과 분리해 제공하는 실시간 카운터 DTO입니다.
+ * 상세 본문은 조회할 때마다 바뀌지 않아야 조건부 GET(304)을 사용할 수 있으므로,
+ * 자주 바뀌는 조회수/좋아요 수는 이 DTO로 따로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CounterResDto {
+
+	/** 아직 DB에 반영되지 않은 증가분을 포함한 조회수 */
+	private long viewCount;
+
+	/** 좋아요 수 */
+	private long likeCount;
+}
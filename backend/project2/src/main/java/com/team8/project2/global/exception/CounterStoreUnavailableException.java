@@ -0,0 +1,12 @@
+package com.team8.project2.global.exception;
+
+/**
+ * 카운터 저장소(Redis)에 접근할 수 없어 대체 값도 제공할 수 없을 때 발생하는 예외입니다.
+ * 조회 화면은 이 예외를 잡아 DB에 저장된 값으로 응답하고, 처리되지 않으면 503으로 응답합니다.
+ */
+public class CounterStoreUnavailableException extends ServiceException {
+
+	public CounterStoreUnavailableException() {
+		super("503-1", "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+	}
+}
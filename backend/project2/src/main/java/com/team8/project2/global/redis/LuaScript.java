@@ -0,0 +1,37 @@
+package com.team8.project2.global.redis;
+
+import org.springframework.data.redis.connection.ReturnType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link RedisScriptRegistry}에 등록되는 Lua 스크립트 목록입니다.
+ * 스크립트 본문은 classpath의 scripts 디렉터리에 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LuaScript {
+
+	/** 큐레이션 좋아요 토글 (반환값: 1 추가, 0 취소) */
+	CURATION_LIKE_TOGGLE("scripts/curation_like_toggle.lua", ReturnType.INTEGER),
+
+	/** 플레이리스트 좋아요 토글 (반환값: {좋아요 여부, 좋아요 수}) */
+	PLAYLIST_LIKE_TOGGLE("scripts/playlist_like_toggle.lua", ReturnType.MULTI),
+
+	/** 조회 중복 확인과 집계 (반환값: {인정 여부, DB 반영 대기 증가분}) */
+	VIEW_ADMIT("scripts/view_admit.lua", ReturnType.MULTI),
+
+	/** 소유자 토큰이 같을 때만 락 해제 (반환값: 1 해제, 0 다른 소유자) */
+	LOCK_RELEASE("scripts/lock_release.lua", ReturnType.INTEGER);
+
+	private final String location;
+	private final ReturnType returnType;
+
+	/**
+	 * 메트릭 태그에 사용할 스크립트 이름을 반환합니다. (예: curation_like_toggle)
+	 */
+	public String metricName() {
+		return name().toLowerCase();
+	}
+}
@@ -0,0 +1,169 @@
+package com.team8.project2.global.redis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이름이 붙은 Lua 스크립트를 한 곳에서 관리하고 EVALSHA로 실행하는 컴포넌트입니다.
+ * <p>
+ * 애플리케이션 시작 시 SCRIPT LOAD로 모든 스크립트를 미리 올려 두고, 이후에는 SHA만 전송합니다.
+ * Redis 재시작 등으로 스크립트 캐시가 비어 NOSCRIPT 오류가 나면 다시 로드한 뒤 한 번 재시도합니다.
+ * 스크립트별 실행 시간은 redis.script 타이머(히스토그램)로 기록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisScriptRegistry {
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Map<LuaScript, LoadedScript> scripts = new EnumMap<>(LuaScript.class);
+	private final Map<LuaScript, Timer> timers = new EnumMap<>(LuaScript.class);
+	private final Map<LuaScript, Counter> reloadCounters = new EnumMap<>(LuaScript.class);
+
+	public RedisScriptRegistry(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+
+		for (LuaScript script : LuaScript.values()) {
+			byte[] body = readScript(script);
+			scripts.put(script, new LoadedScript(body, sha1Hex(body)));
+			timers.put(script, Timer.builder("redis.script")
+				.description("Lua 스크립트 실행 시간")
+				.tag("script", script.metricName())
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+			reloadCounters.put(script, Counter.builder("redis.script.reload")
+				.description("NOSCRIPT로 인한 스크립트 재로드 횟수")
+				.tag("script", script.metricName())
+				.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * 등록된 모든 스크립트를 Redis 스크립트 캐시에 올립니다.
+	 * Redis에 연결할 수 없어도 기동은 계속되며, 첫 실행 시 NOSCRIPT 복구 경로로 로드됩니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadAll() {
+		try {
+			redisTemplate.execute((RedisCallback<Void>)connection -> {
+				scripts.forEach((script, loaded) -> {
+					String sha = connection.scriptingCommands().scriptLoad(loaded.body());
+					log.info("Lua 스크립트 로드: {} ({})", script.metricName(), sha);
+				});
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("Lua 스크립트 사전 로드 실패, 첫 실행 시 다시 로드합니다: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 스크립트를 EVALSHA로 실행합니다.
+	 *
+	 * @param script 실행할 스크립트
+	 * @param keys KEYS 인자
+	 * @param args ARGV 인자 (문자열로 변환되어 전달됨)
+	 * @return INTEGER 스크립트는 Long, MULTI 스크립트는 원소가 Long 또는 String인 List
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(LuaScript script, List<String> keys, Object... args) {
+		LoadedScript loaded = scripts.get(script);
+		byte[][] keysAndArgs = toKeysAndArgs(keys, args);
+
+		return timers.get(script).record(() -> (T)redisTemplate.execute((RedisCallback<Object>)connection ->
+			convert(evalSha(connection, script, loaded, keys.size(), keysAndArgs))));
+	}
+
+	private Object evalSha(RedisConnection connection, LuaScript script, LoadedScript loaded,
+		int numKeys, byte[][] keysAndArgs) {
+		try {
+			return connection.scriptingCommands().evalSha(loaded.sha(), script.getReturnType(), numKeys, keysAndArgs);
+		} catch (RuntimeException e) {
+			if (!isNoScriptError(e)) {
+				throw e;
+			}
+			log.warn("Redis 스크립트 캐시에 {}가 없어 다시 로드합니다.", script.metricName());
+			reloadCounters.get(script).increment();
+			connection.scriptingCommands().scriptLoad(loaded.body());
+			return connection.scriptingCommands().evalSha(loaded.sha(), script.getReturnType(), numKeys, keysAndArgs);
+		}
+	}
+
+	static boolean isNoScriptError(Throwable e) {
+		for (Throwable current = e; current != null; current = current.getCause()) {
+			if (current.getMessage() != null && current.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	private Object convert(Object result) {
+		if (result instanceof byte[] bytes) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		if (result instanceof List<?> list) {
+			List<Object> converted = new ArrayList<>(list.size());
+			for (Object element : list) {
+				converted.add(convert(element));
+			}
+			return converted;
+		}
+		return result;
+	}
+
+	private byte[][] toKeysAndArgs(List<String> keys, Object[] args) {
+		byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+		int i = 0;
+		for (String key : keys) {
+			keysAndArgs[i++] = key.getBytes(StandardCharsets.UTF_8);
+		}
+		for (Object arg : args) {
+			keysAndArgs[i++] = String.valueOf(arg).getBytes(StandardCharsets.UTF_8);
+		}
+		return keysAndArgs;
+	}
+
+	private byte[] readScript(LuaScript script) {
+		try {
+			return new ClassPathResource(script.getLocation()).getContentAsByteArray();
+		} catch (IOException e) {
+			throw new IllegalStateException("Lua 스크립트를 읽을 수 없습니다: " + script.getLocation(), e);
+		}
+	}
+
+	private static String sha1Hex(byte[] body) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record LoadedScript(byte[] body, String sha) {
+	}
+}
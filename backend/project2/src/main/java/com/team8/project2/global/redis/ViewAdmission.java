@@ -0,0 +1,10 @@
+package com.team8.project2.global.redis;
+
+/**
+ * {@link ViewCounter#admit} 결과입니다.
+ *
+ * @param admitted 새 조회로 인정되었는지 여부
+ * @param pending 아직 DB에 반영되지 않은 조회수 증가분 (이번 조회 포함)
+ */
+public record ViewAdmission(boolean admitted, long pending) {
+}
@@ -0,0 +1,93 @@
+package com.team8.project2.global.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.global.store.CounterStore;
+import com.team8.project2.standard.util.Ut;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큐레이션, 플레이리스트, 링크가 함께 사용하는 조회수 집계 컴포넌트입니다.
+ * <p>
+ * 중복 조회 확인, 랭킹 ZSET 증가, DB 반영 대기 증가분 기록을 Lua 스크립트 한 번으로 처리하므로
+ * 조회 한 건당 Redis 왕복이 한 번이고, 중복 확인과 증가 사이에 경쟁 구간이 없습니다.
+ * DB 조회수는 각 서비스의 배치가 {@link #flushPending}으로 증가분만 모아 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCounter {
+
+	private final CounterStore counterStore;
+
+	/**
+	 * 조회를 기록합니다.
+	 *
+	 * @param target 집계 대상 종류
+	 * @param id 대상 ID
+	 * @param viewer 중복 조회 판별 기준 (IP 등)
+	 * @return 조회 인정 여부와 아직 DB에 반영되지 않은 증가분
+	 */
+	public ViewAdmission admit(ViewTarget target, Long id, String viewer) {
+		List<String> keys = new ArrayList<>(3);
+		keys.add(target.dedupeKey(id, viewer));
+		keys.add(target.getPendingKey());
+		if (target.getRankingKey() != null) {
+			keys.add(target.getRankingKey());
+		}
+		long rankingTtl = target.getRankingTtl() != null ? target.getRankingTtl().toSeconds() : 0;
+
+		List<Object> result = counterStore.execute(LuaScript.VIEW_ADMIT, keys,
+			id, target.getDedupeTtl().toSeconds(), rankingTtl);
+
+		if (result == null || result.size() < 2) {
+			return new ViewAdmission(false, 0);
+		}
+		return new ViewAdmission(
+			Long.parseLong(result.get(0).toString()) == 1,
+			Long.parseLong(result.get(1).toString()));
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 증가분을 반환합니다. (배치가 처리 중인 증가분 포함)
+	 */
+	public long pending(ViewTarget target, Long id) {
+		String field = String.valueOf(id);
+		return parse(counterStore.hashGet(target.getPendingKey(), field))
+			+ parse(counterStore.hashGet(target.processingKey(), field));
+	}
+
+	/**
+	 * DB 반영 대기 중인 증가분을 꺼내 전달하고, 모두 처리되면 비웁니다.
+	 * 직전 배치가 중간에 실패했다면 남아 있는 처리 중 목록부터 다시 처리합니다.
+	 * 트랜잭션 안에서 호출되면 처리 중 목록은 커밋된 뒤에 비우므로, 롤백되어도 다음 배치가 다시 반영합니다.
+	 *
+	 * @param target 집계 대상 종류
+	 * @param applier (대상 ID, 증가분)을 DB에 반영하는 함수
+	 * @return 반영한 대상 수
+	 */
+	public int flushPending(ViewTarget target, BiConsumer<Long, Long> applier) {
+		String processingKey = target.processingKey();
+		if (!counterStore.hasKey(processingKey)) {
+			if (!counterStore.hasKey(target.getPendingKey())) {
+				return 0;
+			}
+			counterStore.rename(target.getPendingKey(), processingKey);
+		}
+
+		Map<String, String> entries = counterStore.hashEntries(processingKey);
+		entries.forEach((id, delta) -> applier.accept(Long.parseLong(id), Long.parseLong(delta)));
+
+		Ut.Tx.afterCommit(() -> counterStore.delete(processingKey));
+		return entries.size();
+	}
+
+	private long parse(String value) {
+		return value != null ? Long.parseLong(value) : 0L;
+	}
+}
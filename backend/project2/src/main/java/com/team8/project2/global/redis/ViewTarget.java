@@ -0,0 +1,38 @@
+package com.team8.project2.global.redis;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ViewCounter}로 조회수를 집계하는 대상 목록입니다.
+ * 대상별로 중복 조회 방지 키, DB 반영 대기 해시, 랭킹 ZSET을 정의합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ViewTarget {
+
+	/** 큐레이션 조회 (일간 조회수 랭킹은 하루 뒤 만료) */
+	CURATION("view_count:", Duration.ofDays(1), "curation:view_pending", "day_view_count:", Duration.ofDays(1)),
+
+	/** 플레이리스트 조회 (누적 조회수 랭킹) */
+	PLAYLIST("playlist:view:", Duration.ofDays(1), "playlist:view_pending", "playlist:view_count:", null),
+
+	/** 링크 클릭 */
+	LINK("link:click:", Duration.ofMinutes(10), "link:click_pending", null, null);
+
+	private final String dedupeKeyPrefix;
+	private final Duration dedupeTtl;
+	private final String pendingKey;
+	private final String rankingKey;
+	private final Duration rankingTtl;
+
+	public String dedupeKey(Long id, String viewer) {
+		return dedupeKeyPrefix + id + ":" + viewer;
+	}
+
+	public String processingKey() {
+		return pendingKey + ":processing";
+	}
+}
@@ -0,0 +1,95 @@
+package com.team8.project2.global.security;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 액세스 토큰(JWT)을 검증합니다.
+ * <p>
+ * 서명 키와 파서는 기동 시 한 번만 만들고, 토큰마다 서명 검증과 파싱을 한 번만 수행합니다.
+ * 검증에 성공한 토큰의 클레임은 토큰 만료 시각까지 캐시해, 같은 토큰으로 들어오는 이후 요청은 HMAC 계산과 JSON 파싱을 생략합니다.
+ * 캐시 키는 토큰 문자열 전체이므로 한 글자라도 다른 토큰은 항상 새로 검증되고, 실패한 토큰은 캐시하지 않습니다.
+ * 캐시 적중률 등은 {@code cache.*{cache=jwt.verified}} 메트릭으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenVerifier {
+
+	private final JwtParser parser;
+	private final Cache<String, Claims> verifiedTokens;
+
+	public AccessTokenVerifier(@Value("${custom.jwt.secret-key}") String keyString,
+		@Value("${custom.jwt.verified-cache-size:10000}") long cacheSize, MeterRegistry meterRegistry) {
+		SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
+		this.parser = Jwts.parser().verifyWith(secretKey).build();
+		this.verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfter(new UntilTokenExpiration())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+	}
+
+	/**
+	 * 토큰의 서명과 만료 시각을 검증합니다.
+	 * @param token 액세스 토큰
+	 * @return 검증된 클레임 (위조, 만료, 형식 오류면 빈 값)
+	 */
+	public Optional<Claims> verify(String token) {
+		Claims cached = verifiedTokens.getIfPresent(token);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		try {
+			Claims claims = parser.parseSignedClaims(token).getPayload();
+			if (claims.getExpiration() != null) {
+				verifiedTokens.put(token, claims);
+			}
+			return Optional.of(claims);
+		} catch (JwtException | IllegalArgumentException e) {
+			log.debug("[JWT] 유효하지 않은 토큰: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 캐시 항목은 토큰의 만료 시각에 함께 만료됩니다.
+	 */
+	private static class UntilTokenExpiration implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String token, Claims claims, long currentTime) {
+			long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(token, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.team8.project2.global.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.entity.RoleEnum;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 액세스 토큰 클레임으로 만든 현재 요청의 인증 주체입니다.
+ * 권한 확인과 화면 표시에 필요한 정보만 담고 있어, 인증된 요청마다 회원을 DB에서 다시 조회하지 않아도 됩니다.
+ * 회원 정보를 수정해야 할 때만 {@link com.team8.project2.global.Rq#getRealActor()}로 엔티티를 조회합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class Actor {
+
+	private final long id;
+	private final String memberId;
+	private final String username;
+	private final RoleEnum role;
+
+	public static Actor from(Member member) {
+		return new Actor(member.getId(), member.getMemberId(), member.getUsername(), member.getRole());
+	}
+
+	public boolean isAdmin() {
+		return role == RoleEnum.ADMIN;
+	}
+
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return isAdmin() ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN")) : List.of();
+	}
+}
@@ -1,6 +1,5 @@
 package com.team8.project2.global.security;
 
-import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.global.Rq;
 import jakarta.servlet.FilterChain;
@@ -8,7 +7,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,22 +21,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     private final Rq rq;
     private final MemberService memberService;
 
-    private boolean isAuthorizationHeaderPresent() {
-        String authorizationHeader = rq.getHeader("Authorization");
-        return authorizationHeader != null && authorizationHeader.startsWith("Bearer ");
-    }
-
-    private String extractAccessToken() {
-        if (isAuthorizationHeaderPresent()) {
-            String authorizationHeader = rq.getHeader("Authorization");
-            return authorizationHeader.substring("Bearer ".length()).trim();
-        }
-        return rq.getValueFromCookie("accessToken");
-    }
-
-    private Member authenticateMember(String accessToken) {
-        Optional<Member> opMember = memberService.getMemberByAccessToken(accessToken);
-        return opMember.orElse(null);
+    private Actor authenticate(String accessToken) {
+        Optional<Actor> opActor = memberService.getActorByAccessToken(accessToken);
+        return opActor.orElse(null);
     }
 
     @Override
@@ -53,20 +38,19 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String accessToken = extractAccessToken();
+        String accessToken = rq.getAccessToken();
         if (accessToken == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        Member authenticatedMember = authenticateMember(accessToken);
-        if (authenticatedMember == null) {
+        Actor actor = authenticate(accessToken);
+        if (actor == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        rq.setLogin(authenticatedMember);
-        SecurityContextHolder.getContext().setAuthentication(rq.getAuthentication(authenticatedMember));
+        rq.setLogin(actor);
 
         filterChain.doFilter(request, response);
     }
@@ -38,6 +38,7 @@ public class SecurityConfig {
 
 				// 🔹 특정 API 엔드포인트에 대한 인증 예외
 				.requestMatchers(HttpMethod.GET, "/api/v1/playlists", "/api/v1/playlists/{id}").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/v1/playlists/{id}/also-liked", "/api/v1/playlists/{id}/counters").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/members/**", "/api/v1/members/{id}").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/members/members").permitAll()
 				.requestMatchers(HttpMethod.POST, "/api/v1/members/**", "/api/v1/members/{id}").permitAll()
@@ -50,6 +51,7 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.POST, "/api/v1/curations/**").permitAll()
 				.requestMatchers(HttpMethod.DELETE, "/api/v1/curations/**").permitAll()
 				.requestMatchers(HttpMethod.POST, "/api/v1/images/upload").permitAll()
+				.requestMatchers(HttpMethod.POST, "/api/v1/images/presigned", "/api/v1/images/confirm").permitAll()
 				.requestMatchers(HttpMethod.POST, "/api/v1/link/**").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/link/**").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/admin/**").permitAll()
@@ -0,0 +1,93 @@
+package com.team8.project2.global.security.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 원소를 담는 스레드 안전한 Bloom 필터입니다.
+ * <p>
+ * 담은 원소는 항상 "있을 수 있음"으로 답하고(거짓 음성 없음), 담지 않은 원소는 생성 시 지정한 확률 정도로만
+ * 잘못 "있을 수 있음"으로 답합니다. 원소를 지울 수 없으므로 만료된 원소를 비우려면 새 필터를 만들어 교체합니다.
+ * 해시 함수 k개는 64비트 해시 두 개를 조합(double hashing)해 만듭니다.
+ */
+class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashCount;
+	private final AtomicLong insertions = new AtomicLong();
+
+	/**
+	 * @param expectedInsertions 담을 것으로 예상하는 원소 수
+	 * @param falsePositiveRate 예상 원소 수만큼 담았을 때의 목표 거짓 양성 확률
+	 */
+	BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long optimalBits = (long)Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int)Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = (long)wordCount * Long.SIZE;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / n * Math.log(2)));
+	}
+
+	void put(String element) {
+		long hash = fnv1a(element);
+		long h1 = mix(hash);
+		long h2 = mix(hash + 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitSize);
+			long mask = 1L << bit;
+			words.accumulateAndGet((int)(bit >>> 6), mask, (word, m) -> word | m);
+		}
+		insertions.incrementAndGet();
+	}
+
+	boolean mightContain(String element) {
+		long hash = fnv1a(element);
+		long h1 = mix(hash);
+		long h2 = mix(hash + 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitSize);
+			if ((words.get((int)(bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 담은 횟수입니다. (같은 원소를 여러 번 담으면 중복해서 셉니다)
+	 */
+	long insertions() {
+		return insertions.get();
+	}
+
+	/**
+	 * 현재 켜진 비트 비율로 추정한, 담지 않은 원소에 대한 거짓 양성 확률입니다.
+	 */
+	double expectedFalsePositiveRate() {
+		long setBits = 0;
+		for (int i = 0; i < words.length(); i++) {
+			setBits += Long.bitCount(words.get(i));
+		}
+		return Math.pow((double)setBits / bitSize, hashCount);
+	}
+
+	private static long fnv1a(String element) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : element.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// splitmix64 마무리 단계: 비슷한 입력의 해시도 비트가 고르게 퍼지도록 섞음
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,68 @@
+package com.team8.project2.global.security.revocation;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * JVM 메모리를 사용하는 {@link RevokedTokenStore} 구현체입니다. (custom.store.type=local)
+ * 서버 한 대에서만 유효하므로 Redis 없이 테스트나 단일 노드를 실행할 때 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "local")
+public class LocalRevokedTokenStore implements RevokedTokenStore {
+
+	private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+	private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+	private final Map<Long, Instant> revokedMembers = new ConcurrentHashMap<>();
+	private final List<BiConsumer<Long, Instant>> memberListeners = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void add(String tokenId, Instant expiresAt) {
+		revokedTokens.put(tokenId, expiresAt);
+		listeners.forEach(listener -> listener.accept(tokenId));
+	}
+
+	@Override
+	public boolean contains(String tokenId) {
+		Instant expiresAt = revokedTokens.get(tokenId);
+		return expiresAt != null && expiresAt.isAfter(Instant.now());
+	}
+
+	@Override
+	public Collection<String> activeTokenIds() {
+		Instant now = Instant.now();
+		revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+		return List.copyOf(revokedTokens.keySet());
+	}
+
+	@Override
+	public void subscribe(Consumer<String> listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void revokeMember(long memberId, Instant revokedBefore) {
+		revokedMembers.merge(memberId, revokedBefore, (current, next) -> current.isAfter(next) ? current : next);
+		memberListeners.forEach(listener -> listener.accept(memberId, revokedBefore));
+	}
+
+	@Override
+	public Map<Long, Instant> memberRevocations(Instant since) {
+		revokedMembers.values().removeIf(revokedBefore -> revokedBefore.isBefore(since));
+		return Map.copyOf(revokedMembers);
+	}
+
+	@Override
+	public void subscribeMembers(BiConsumer<Long, Instant> listener) {
+		memberListeners.add(listener);
+	}
+}
@@ -0,0 +1,118 @@
+package com.team8.project2.global.security.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis를 사용하는 {@link RevokedTokenStore} 구현체입니다. (기본값)
+ * <p>
+ * 폐기 목록은 만료 시각(ms)을 점수로 하는 정렬 집합 하나에 보관하고, 추가할 때마다 같은 식별자를 채널에 발행합니다.
+ * 정렬 집합에 먼저 추가한 뒤 발행하므로, 알림을 받기 전에 목록을 읽은 서버도 그 식별자를 놓치지 않습니다.
+ * 회원 단위 폐기도 같은 방식으로, 폐기 기준 시각(ms)을 점수로 하는 별도 정렬 집합과 채널("회원ID:기준시각")을 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRevokedTokenStore implements RevokedTokenStore {
+
+	static final String KEY = "revoked_tokens";
+	static final String CHANNEL = "revoked_tokens:events";
+	static final String MEMBER_KEY = "revoked_members";
+	static final String MEMBER_CHANNEL = "revoked_members:events";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+	public RedisRevokedTokenStore(RedisTemplate<String, String> redisTemplate,
+		RedisConnectionFactory connectionFactory) {
+		this.redisTemplate = redisTemplate;
+		listenerContainer.setConnectionFactory(connectionFactory);
+		listenerContainer.afterPropertiesSet();
+	}
+
+	@Override
+	public void add(String tokenId, Instant expiresAt) {
+		redisTemplate.opsForZSet().add(KEY, tokenId, expiresAt.toEpochMilli());
+		redisTemplate.convertAndSend(CHANNEL, tokenId);
+	}
+
+	@Override
+	public boolean contains(String tokenId) {
+		Double expiresAt = redisTemplate.opsForZSet().score(KEY, tokenId);
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	@Override
+	public Collection<String> activeTokenIds() {
+		long now = System.currentTimeMillis();
+		redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now);
+		Set<String> tokenIds = redisTemplate.opsForZSet().rangeByScore(KEY, now, Double.POSITIVE_INFINITY);
+		return tokenIds != null ? tokenIds : Set.of();
+	}
+
+	/**
+	 * 채널을 구독합니다. 연결이 끊기면 컨테이너가 다시 구독하며, 그동안 놓친 알림은 주기적인 필터 재구성으로 복구됩니다.
+	 */
+	@Override
+	public void subscribe(Consumer<String> listener) {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(CHANNEL));
+		if (!listenerContainer.isRunning()) {
+			listenerContainer.start();
+		}
+	}
+
+	@Override
+	public void revokeMember(long memberId, Instant revokedBefore) {
+		// 기준 시각은 폐기 시점의 현재 시각이므로 나중 폐기가 이전 기준을 덮어씀
+		redisTemplate.opsForZSet().add(MEMBER_KEY, String.valueOf(memberId), revokedBefore.toEpochMilli());
+		redisTemplate.convertAndSend(MEMBER_CHANNEL, memberId + ":" + revokedBefore.toEpochMilli());
+	}
+
+	@Override
+	public Map<Long, Instant> memberRevocations(Instant since) {
+		redisTemplate.opsForZSet().removeRangeByScore(MEMBER_KEY, Double.NEGATIVE_INFINITY, since.toEpochMilli() - 1);
+		Set<TypedTuple<String>> entries = redisTemplate.opsForZSet()
+			.rangeByScoreWithScores(MEMBER_KEY, since.toEpochMilli(), Double.POSITIVE_INFINITY);
+		Map<Long, Instant> revocations = new HashMap<>();
+		if (entries != null) {
+			entries.forEach(entry -> revocations.put(Long.parseLong(entry.getValue()),
+				Instant.ofEpochMilli(entry.getScore().longValue())));
+		}
+		return revocations;
+	}
+
+	@Override
+	public void subscribeMembers(BiConsumer<Long, Instant> listener) {
+		listenerContainer.addMessageListener((message, pattern) -> {
+			String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+			listener.accept(Long.parseLong(parts[0]), Instant.ofEpochMilli(Long.parseLong(parts[1])));
+		}, new ChannelTopic(MEMBER_CHANNEL));
+		if (!listenerContainer.isRunning()) {
+			listenerContainer.start();
+		}
+	}
+
+	@PreDestroy
+	public void close() throws Exception {
+		listenerContainer.destroy();
+	}
+}
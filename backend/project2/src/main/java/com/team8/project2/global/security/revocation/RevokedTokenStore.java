@@ -0,0 +1,55 @@
+package com.team8.project2.global.security.revocation;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 폐기된 액세스 토큰의 식별자를 토큰 만료 시각까지 보관하고, 폐기 사실을 모든 서버에 알리는 저장소입니다.
+ * 탈퇴나 권한 변경처럼 회원의 토큰을 한꺼번에 폐기할 때는 회원별 기준 시각을 보관합니다.
+ */
+public interface RevokedTokenStore {
+
+	/**
+	 * 토큰을 폐기 목록에 추가하고 구독 중인 모든 서버(자신 포함)에 알립니다.
+	 * @param tokenId 토큰 식별자
+	 * @param expiresAt 토큰 만료 시각 (이후에는 목록에서 제거됨)
+	 */
+	void add(String tokenId, Instant expiresAt);
+
+	/**
+	 * 아직 만료되지 않은 폐기 토큰인지 확인합니다.
+	 */
+	boolean contains(String tokenId);
+
+	/**
+	 * 만료된 항목을 정리하고, 아직 만료되지 않은 폐기 토큰 식별자를 모두 반환합니다.
+	 */
+	Collection<String> activeTokenIds();
+
+	/**
+	 * 폐기 알림을 받을 리스너를 등록합니다.
+	 */
+	void subscribe(Consumer<String> listener);
+
+	/**
+	 * 회원이 기준 시각 이전에 발급받은 토큰을 모두 폐기하고 구독 중인 모든 서버(자신 포함)에 알립니다.
+	 * @param memberId 회원 ID
+	 * @param revokedBefore 이 시각 이전(같은 초 포함)에 발급된 토큰을 폐기
+	 */
+	void revokeMember(long memberId, Instant revokedBefore);
+
+	/**
+	 * 기준 시각 이전에 기록된 회원 단위 폐기를 정리하고, 남은 폐기를 모두 반환합니다.
+	 * @param since 이보다 먼저 기록된 폐기는 그 사이 발급된 토큰이 모두 만료되어 더 이상 필요 없음
+	 * @return 회원 ID별 폐기 기준 시각
+	 */
+	Map<Long, Instant> memberRevocations(Instant since);
+
+	/**
+	 * 회원 단위 폐기 알림을 받을 리스너를 등록합니다.
+	 */
+	void subscribeMembers(BiConsumer<Long, Instant> listener);
+}
@@ -0,0 +1,244 @@
+package com.team8.project2.global.security.revocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그아웃 등으로 폐기된 액세스 토큰을 만료 전에 거부합니다.
+ * <p>
+ * 폐기 목록의 원본은 {@link RevokedTokenStore}(Redis)에 있고, 서버마다 그 목록을 담은 Bloom 필터를 메모리에 둡니다.
+ * <ul>
+ *     <li>필터에 없다고 나오면(대부분의 요청) 저장소를 조회하지 않고 바로 유효한 토큰으로 판단합니다.</li>
+ *     <li>필터에 있을 수 있다고 나오면 저장소에서 한 번 더 확인하며, 저장소가 응답하지 않으면 폐기된 것으로 간주합니다.</li>
+ *     <li>다른 서버에서 폐기한 토큰은 pub/sub 알림으로 필터에 추가하고, 알림을 놓쳤거나 만료된 항목을 비우기 위해
+ *     주기적으로 저장소에서 필터를 새로 만듭니다.</li>
+ * </ul>
+ * 탈퇴나 권한 변경처럼 회원의 토큰을 한꺼번에 폐기할 때는 회원별 폐기 기준 시각을 기록해, 그 이전에 발급된 토큰을 거부합니다.
+ * 이런 폐기는 드물고 토큰 유효 기간이 지나면 정리되므로, 서버마다 전체 목록을 메모리에 두고 저장소를 조회하지 않습니다.
+ * 확인 결과는 {@code jwt.revocation.checks{result}}로, 필터 거짓 양성 비율은
+ * {@code jwt.revocation.false_positive_rate}(관측값)와 {@code jwt.revocation.bloom.expected_fpp}(추정값)로 노출합니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+	private final RevokedTokenStore store;
+	private final long expectedRevocations;
+	private final double falsePositiveRate;
+	private final Duration tokenLifetime;
+
+	private volatile BloomFilter filter;
+	// 필터를 다시 만드는 동안 받은 알림 (새 필터로 교체한 뒤 반영)
+	private volatile Set<String> receivedDuringRebuild;
+	// 회원 ID별 폐기 기준 시각 (이 시각 이전, 같은 초 포함에 발급된 토큰을 거부)
+	private final Map<Long, Instant> memberRevocations = new ConcurrentHashMap<>();
+
+	private final Counter negatives;
+	private final Counter confirmed;
+	private final Counter falsePositives;
+	private final Counter errors;
+
+	public TokenRevocationService(RevokedTokenStore store, MeterRegistry meterRegistry,
+		@Value("${custom.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+		@Value("${custom.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+		@Value("${custom.jwt.expire-seconds}") long tokenLifetimeSeconds) {
+		this.store = store;
+		this.expectedRevocations = expectedRevocations;
+		this.falsePositiveRate = falsePositiveRate;
+		this.tokenLifetime = Duration.ofSeconds(tokenLifetimeSeconds);
+		this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+
+		this.negatives = checkCounter(meterRegistry, "negative");
+		this.confirmed = checkCounter(meterRegistry, "revoked");
+		this.falsePositives = checkCounter(meterRegistry, "false_positive");
+		this.errors = checkCounter(meterRegistry, "error");
+		Gauge.builder("jwt.revocation.false_positive_rate", this, TokenRevocationService::observedFalsePositiveRate)
+			.description("폐기되지 않은 토큰 중 필터가 잘못 걸러 저장소를 조회한 비율")
+			.register(meterRegistry);
+		Gauge.builder("jwt.revocation.bloom.expected_fpp", this, service -> service.filter.expectedFalsePositiveRate())
+			.description("켜진 비트 비율로 추정한 필터 거짓 양성 확률")
+			.register(meterRegistry);
+		Gauge.builder("jwt.revocation.bloom.entries", this, service -> service.filter.insertions())
+			.description("필터에 담긴 폐기 토큰 수")
+			.register(meterRegistry);
+		Gauge.builder("jwt.revocation.members", memberRevocations, Map::size)
+			.description("토큰을 한꺼번에 폐기한 회원 수")
+			.register(meterRegistry);
+
+		store.subscribe(this::onRevoked);
+		store.subscribeMembers(this::onMemberRevoked);
+		rebuild();
+	}
+
+	private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("jwt.revocation.checks")
+			.description("폐기 여부 확인 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 토큰을 폐기합니다. 이미 만료된 토큰은 무시합니다.
+	 * @param token 액세스 토큰
+	 * @param claims 검증된 클레임
+	 * @return 폐기 목록에 추가했으면 true (저장소 오류면 false)
+	 */
+	public boolean revoke(String token, Claims claims) {
+		Instant expiresAt = claims.getExpiration().toInstant();
+		if (!expiresAt.isAfter(Instant.now())) {
+			return false;
+		}
+
+		String tokenId = tokenId(token, claims);
+		try {
+			store.add(tokenId, expiresAt);
+		} catch (RuntimeException e) {
+			log.warn("[JWT] 토큰 폐기 실패: {}", e.getMessage());
+			return false;
+		}
+		// 알림이 돌아오기 전에 같은 서버로 들어오는 요청도 거부하도록 바로 반영
+		onRevoked(tokenId);
+		return true;
+	}
+
+	/**
+	 * 회원이 지금까지 발급받은 토큰을 모두 폐기합니다. (탈퇴, 권한 변경 시)
+	 * 저장소에 기록하지 못하면 예외를 그대로 던져, 호출한 작업이 다른 서버에서 토큰이 살아 있는 채로 끝나지 않게 합니다.
+	 * 같은 초에 발급된 토큰도 폐기되므로, 그 사이 다시 로그인했다면 한 번 더 로그인해야 합니다.
+	 * @param memberId 회원 ID
+	 */
+	public void revokeMember(long memberId) {
+		Instant revokedBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+		store.revokeMember(memberId, revokedBefore);
+		// 알림이 돌아오기 전에 같은 서버로 들어오는 요청도 거부하도록 바로 반영
+		onMemberRevoked(memberId, revokedBefore);
+	}
+
+	/**
+	 * 폐기된 토큰인지 확인합니다.
+	 * @param token 액세스 토큰
+	 * @param claims 검증된 클레임
+	 */
+	public boolean isRevoked(String token, Claims claims) {
+		if (isRevokedByMember(claims)) {
+			confirmed.increment();
+			return true;
+		}
+		return isRevoked(tokenId(token, claims));
+	}
+
+	private boolean isRevokedByMember(Claims claims) {
+		if (memberRevocations.isEmpty() || !(claims.get("id") instanceof Number memberId)) {
+			return false;
+		}
+		Instant revokedBefore = memberRevocations.get(memberId.longValue());
+		if (revokedBefore == null) {
+			return false;
+		}
+		// 발급 시각은 초 단위이므로 기준 시각과 같은 초에 발급된 토큰도 폐기
+		Date issuedAt = claims.getIssuedAt();
+		return issuedAt == null || !issuedAt.toInstant().isAfter(revokedBefore);
+	}
+
+	boolean isRevoked(String tokenId) {
+		if (!filter.mightContain(tokenId)) {
+			negatives.increment();
+			return false;
+		}
+
+		try {
+			if (store.contains(tokenId)) {
+				confirmed.increment();
+				return true;
+			}
+			falsePositives.increment();
+			return false;
+		} catch (RuntimeException e) {
+			errors.increment();
+			log.warn("[JWT] 토큰 폐기 여부 확인 실패, 폐기된 토큰으로 처리합니다: {}", e.getMessage());
+			return true;
+		}
+	}
+
+	/**
+	 * 토큰 식별자(jti)가 없는 이전 토큰은 서명 부분으로 구분합니다.
+	 */
+	static String tokenId(String token, Claims claims) {
+		return claims.getId() != null ? claims.getId() : token.substring(token.lastIndexOf('.') + 1);
+	}
+
+	void onRevoked(String tokenId) {
+		// 필터를 읽기 전에 기록해야, 교체 직전의 필터에만 담긴 알림도 새 필터에 반영됨
+		Set<String> received = receivedDuringRebuild;
+		if (received != null) {
+			received.add(tokenId);
+		}
+		filter.put(tokenId);
+	}
+
+	void onMemberRevoked(long memberId, Instant revokedBefore) {
+		memberRevocations.merge(memberId, revokedBefore, (current, next) -> current.isAfter(next) ? current : next);
+	}
+
+	/**
+	 * 저장소의 폐기 목록으로 필터를 새로 만들어 교체합니다.
+	 * 만료된 토큰을 필터에서 비우고, 연결이 끊긴 동안 놓친 알림(회원 단위 폐기 포함)을 복구합니다.
+	 */
+	@Scheduled(fixedDelayString = "${custom.jwt.revocation.rebuild-interval:10m}",
+		initialDelayString = "${custom.jwt.revocation.rebuild-interval:10m}")
+	public void rebuild() {
+		Set<String> received = ConcurrentHashMap.newKeySet();
+		receivedDuringRebuild = received;
+		try {
+			Collection<String> tokenIds = store.activeTokenIds();
+			BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, tokenIds.size() * 2L),
+				falsePositiveRate);
+			tokenIds.forEach(rebuilt::put);
+
+			filter = rebuilt;
+			received.forEach(rebuilt::put);
+			log.debug("[JWT] 폐기 토큰 필터 재구성: {}건", tokenIds.size());
+		} catch (RuntimeException e) {
+			log.warn("[JWT] 폐기 토큰 필터 재구성 실패, 기존 필터를 유지합니다: {}", e.getMessage());
+		} finally {
+			receivedDuringRebuild = null;
+		}
+
+		reloadMemberRevocations();
+	}
+
+	/**
+	 * 저장소의 회원 단위 폐기를 합치고, 토큰 유효 기간보다 오래된 항목을 비웁니다.
+	 * 알림으로 받은 항목을 지우지 않도록 교체하지 않고 합칩니다.
+	 */
+	private void reloadMemberRevocations() {
+		Instant since = Instant.now().minus(tokenLifetime);
+		try {
+			store.memberRevocations(since).forEach(this::onMemberRevoked);
+		} catch (RuntimeException e) {
+			log.warn("[JWT] 회원 단위 폐기 목록 갱신 실패: {}", e.getMessage());
+		}
+		memberRevocations.values().removeIf(revokedBefore -> revokedBefore.isBefore(since));
+	}
+
+	double observedFalsePositiveRate() {
+		double notRevoked = negatives.count() + falsePositives.count();
+		return notRevoked == 0 ? 0 : falsePositives.count() / notRevoked;
+	}
+}
@@ -0,0 +1,84 @@
+package com.team8.project2.global.store;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반의 단순한 서킷 브레이커입니다.
+ * <ul>
+ *     <li>CLOSED: 모든 호출을 허용하고, 연속 실패가 임계값에 도달하면 OPEN으로 전환</li>
+ *     <li>OPEN: 호출을 즉시 거절하고, 대기 시간이 지나면 시험 호출 한 건만 허용(HALF_OPEN)</li>
+ *     <li>HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openMillis;
+	private final LongSupplier clock;
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private volatile long openedAt;
+
+	public CircuitBreaker(int failureThreshold, Duration openDuration) {
+		this(failureThreshold, openDuration, System::currentTimeMillis);
+	}
+
+	CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openDuration.toMillis();
+		this.clock = clock;
+	}
+
+	public State getState() {
+		return state.get();
+	}
+
+	/**
+	 * 호출을 진행해도 되는지 확인합니다.
+	 * OPEN 상태에서 대기 시간이 지났다면 이 호출을 시험 호출로 허용합니다.
+	 */
+	public boolean tryAcquire() {
+		return switch (state.get()) {
+			case CLOSED -> true;
+			case OPEN -> clock.getAsLong() - openedAt >= openMillis
+				&& state.compareAndSet(State.OPEN, State.HALF_OPEN);
+			case HALF_OPEN -> false;
+		};
+	}
+
+	/**
+	 * 호출 성공을 기록합니다.
+	 *
+	 * @return 이 호출로 CLOSED 상태로 복구되었으면 true
+	 */
+	public boolean onSuccess() {
+		consecutiveFailures.set(0);
+		return state.getAndSet(State.CLOSED) != State.CLOSED;
+	}
+
+	/**
+	 * 호출 실패를 기록합니다.
+	 */
+	public void onFailure() {
+		if (state.get() == State.HALF_OPEN) {
+			open();
+			return;
+		}
+		if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+			open();
+		}
+	}
+
+	private void open() {
+		openedAt = clock.getAsLong();
+		state.set(State.OPEN);
+	}
+}
@@ -0,0 +1,117 @@
+package com.team8.project2.global.store;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.team8.project2.global.redis.LuaScript;
+
+/**
+ * 카운터, 집합, 정렬 집합을 다루는 키-값 저장소 추상화입니다.
+ * <p>
+ * 좋아요 집합, 조회수 랭킹, 중복 조회 방지 키처럼 서비스가 Redis에 두던 데이터를 이 인터페이스로 다룹니다.
+ * custom.store.type 설정으로 구현체를 고릅니다.
+ * <ul>
+ *     <li>redis (기본값): {@link RedisCounterStore}</li>
+ *     <li>local: {@link LocalCounterStore} (Redis 없이 단일 노드/테스트 실행용)</li>
+ * </ul>
+ * 모든 값은 문자열로 저장되며, 여러 키를 원자적으로 다뤄야 하는 연산은 {@link #execute}로 실행합니다.
+ */
+public interface CounterStore {
+
+	// ===== 문자열 값 =====
+
+	String get(String key);
+
+	void set(String key, String value);
+
+	void set(String key, String value, Duration ttl);
+
+	/**
+	 * 키가 없을 때만 값을 저장합니다.
+	 *
+	 * @return 저장되었으면 true
+	 */
+	boolean setIfAbsent(String key, String value, Duration ttl);
+
+	/**
+	 * 정수 값을 1 증가시키고 증가된 값을 반환합니다. (키가 없으면 0에서 시작)
+	 */
+	long increment(String key);
+
+	void multiSet(Map<String, String> values);
+
+	// ===== 키 =====
+
+	boolean hasKey(String key);
+
+	void delete(String key);
+
+	void delete(Collection<String> keys);
+
+	void rename(String oldKey, String newKey);
+
+	/**
+	 * glob 패턴(*, ?)에 맞는 키 목록을 반환합니다.
+	 * 저장소를 막지 않도록 나누어 조회하므로, 조회 중에 추가/삭제된 키는 포함되지 않거나 포함될 수 있습니다.
+	 */
+	Set<String> keys(String pattern);
+
+	// ===== 집합 =====
+
+	void addToSet(String key, String member);
+
+	Set<String> members(String key);
+
+	boolean isMember(String key, String member);
+
+	long setSize(String key);
+
+	// ===== 정렬 집합 =====
+
+	double incrementScore(String key, String member, double delta);
+
+	/**
+	 * 멤버의 점수를 반환합니다. (없으면 null)
+	 */
+	Double score(String key, String member);
+
+	/**
+	 * 점수 내림차순으로 start~end(포함) 구간의 멤버를 반환합니다.
+	 */
+	List<String> reverseRange(String key, long start, long end);
+
+	void removeFromSortedSet(String key, String member);
+
+	// ===== 해시 =====
+
+	Map<String, String> hashEntries(String key);
+
+	/**
+	 * 해시 필드 값을 반환합니다. (없으면 null)
+	 */
+	String hashGet(String key, String field);
+
+	void hashDelete(String key, String field);
+
+	/**
+	 * 해시 필드의 정수 값을 delta만큼 증가시키고 증가된 값을 반환합니다. (필드가 없으면 0에서 시작)
+	 */
+	long hashIncrement(String key, String field, long delta);
+
+	// ===== 원자적 복합 연산 =====
+
+	/**
+	 * 여러 키에 걸친 연산을 원자적으로 실행합니다.
+	 *
+	 * @return INTEGER 스크립트는 Long, MULTI 스크립트는 원소가 Long 또는 String인 List
+	 */
+	<T> T execute(LuaScript script, List<String> keys, Object... args);
+
+	/**
+	 * 저장된 모든 데이터를 삭제합니다. (테스트용)
+	 */
+	void clear();
+}
@@ -0,0 +1,478 @@
+package com.team8.project2.global.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.global.redis.LuaScript;
+
+/**
+ * JVM 메모리를 사용하는 {@link CounterStore} 구현체입니다. (custom.store.type=local)
+ * <p>
+ * Redis 없이 테스트나 단일 노드를 실행할 때 사용합니다. 키마다 고정된 수의 락 중 하나(락 스트라이핑)를 잡고
+ * 값을 다루므로, 같은 키에 대한 연산은 직렬화되고 서로 다른 키는 대부분 병렬로 처리됩니다.
+ * 여러 키를 쓰는 복합 연산은 관련 락을 항상 같은 순서로 모두 잡아 교착 없이 원자적으로 실행합니다.
+ * 만료 시간이 지난 키는 접근 시 제거되고, 주기적으로도 정리됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "local")
+public class LocalCounterStore implements CounterStore {
+
+	private static final int STRIPES = 64;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+	private final LongSupplier clock;
+
+	public LocalCounterStore() {
+		this(System::currentTimeMillis);
+	}
+
+	LocalCounterStore(LongSupplier clock) {
+		this.clock = clock;
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	// ===== 문자열 값 =====
+
+	@Override
+	public String get(String key) {
+		return locked(key, () -> valueOf(key, String.class));
+	}
+
+	@Override
+	public void set(String key, String value) {
+		locked(key, () -> entries.put(key, new Entry(value, 0L)));
+	}
+
+	@Override
+	public void set(String key, String value, Duration ttl) {
+		locked(key, () -> entries.put(key, new Entry(value, expireAt(ttl))));
+	}
+
+	@Override
+	public boolean setIfAbsent(String key, String value, Duration ttl) {
+		return locked(key, () -> {
+			if (live(key) != null) {
+				return false;
+			}
+			entries.put(key, new Entry(value, expireAt(ttl)));
+			return true;
+		});
+	}
+
+	@Override
+	public long increment(String key) {
+		return locked(key, () -> {
+			Entry entry = live(key);
+			long next = (entry == null ? 0L : Long.parseLong(cast(key, entry, String.class))) + 1;
+			entries.put(key, new Entry(String.valueOf(next), entry == null ? 0L : entry.expireAt));
+			return next;
+		});
+	}
+
+	@Override
+	public void multiSet(Map<String, String> values) {
+		locked(values.keySet(), () -> {
+			values.forEach((key, value) -> entries.put(key, new Entry(value, 0L)));
+			return null;
+		});
+	}
+
+	// ===== 키 =====
+
+	@Override
+	public boolean hasKey(String key) {
+		return locked(key, () -> live(key) != null);
+	}
+
+	@Override
+	public void delete(String key) {
+		locked(key, () -> entries.remove(key));
+	}
+
+	@Override
+	public void delete(Collection<String> keys) {
+		locked(keys, () -> {
+			keys.forEach(entries::remove);
+			return null;
+		});
+	}
+
+	@Override
+	public void rename(String oldKey, String newKey) {
+		locked(List.of(oldKey, newKey), () -> {
+			Entry entry = live(oldKey);
+			if (entry == null) {
+				throw new IllegalStateException("ERR no such key: " + oldKey);
+			}
+			entries.remove(oldKey);
+			entries.put(newKey, entry);
+			return null;
+		});
+	}
+
+	@Override
+	public Set<String> keys(String pattern) {
+		Pattern regex = globToRegex(pattern);
+		long now = clock.getAsLong();
+		Set<String> keys = new HashSet<>();
+		entries.forEach((key, entry) -> {
+			if (!entry.isExpired(now) && regex.matcher(key).matches()) {
+				keys.add(key);
+			}
+		});
+		return keys;
+	}
+
+	// ===== 집합 =====
+
+	@Override
+	public void addToSet(String key, String member) {
+		locked(key, () -> valueOrCreate(key, Set.class, HashSet::new).add(member));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Set<String> members(String key) {
+		return locked(key, () -> {
+			Set<String> set = valueOf(key, Set.class);
+			return set != null ? new HashSet<>(set) : Collections.emptySet();
+		});
+	}
+
+	@Override
+	public boolean isMember(String key, String member) {
+		return locked(key, () -> {
+			Set<?> set = valueOf(key, Set.class);
+			return set != null && set.contains(member);
+		});
+	}
+
+	@Override
+	public long setSize(String key) {
+		return locked(key, () -> {
+			Set<?> set = valueOf(key, Set.class);
+			return set != null ? (long)set.size() : 0L;
+		});
+	}
+
+	private boolean removeFromSet(String key, String member) {
+		return locked(key, () -> {
+			Set<?> set = valueOf(key, Set.class);
+			if (set == null || !set.remove(member)) {
+				return false;
+			}
+			if (set.isEmpty()) {
+				entries.remove(key);
+			}
+			return true;
+		});
+	}
+
+	// ===== 정렬 집합 =====
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public double incrementScore(String key, String member, double delta) {
+		return locked(key, () -> valueOrCreate(key, SortedScores.class, SortedScores::new)
+			.merge(member, delta, Double::sum));
+	}
+
+	@Override
+	public Double score(String key, String member) {
+		return locked(key, () -> {
+			SortedScores scores = valueOf(key, SortedScores.class);
+			return scores != null ? scores.get(member) : null;
+		});
+	}
+
+	@Override
+	public List<String> reverseRange(String key, long start, long end) {
+		return locked(key, () -> {
+			SortedScores scores = valueOf(key, SortedScores.class);
+			if (scores == null || scores.isEmpty()) {
+				return Collections.<String>emptyList();
+			}
+			List<String> ordered = scores.entrySet().stream()
+				.sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+					.thenComparing(Map.Entry.<String, Double>comparingByKey(Comparator.reverseOrder())))
+				.map(Map.Entry::getKey)
+				.toList();
+
+			int size = ordered.size();
+			long from = start < 0 ? Math.max(size + start, 0) : start;
+			long to = Math.min(end < 0 ? size + end : end, size - 1);
+			if (from > to) {
+				return Collections.<String>emptyList();
+			}
+			return new ArrayList<>(ordered.subList((int)from, (int)to + 1));
+		});
+	}
+
+	@Override
+	public void removeFromSortedSet(String key, String member) {
+		locked(key, () -> {
+			SortedScores scores = valueOf(key, SortedScores.class);
+			if (scores != null && scores.remove(member) != null && scores.isEmpty()) {
+				entries.remove(key);
+			}
+			return null;
+		});
+	}
+
+	// ===== 해시 =====
+
+	@Override
+	public Map<String, String> hashEntries(String key) {
+		return locked(key, () -> {
+			HashFields fields = valueOf(key, HashFields.class);
+			return fields != null ? new HashMap<String, String>(fields) : Collections.<String, String>emptyMap();
+		});
+	}
+
+	@Override
+	public String hashGet(String key, String field) {
+		return locked(key, () -> {
+			HashFields fields = valueOf(key, HashFields.class);
+			return fields != null ? fields.get(field) : null;
+		});
+	}
+
+	@Override
+	public void hashDelete(String key, String field) {
+		locked(key, () -> {
+			HashFields fields = valueOf(key, HashFields.class);
+			if (fields != null && fields.remove(field) != null && fields.isEmpty()) {
+				entries.remove(key);
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public long hashIncrement(String key, String field, long delta) {
+		return locked(key, () -> {
+			HashFields fields = valueOrCreate(key, HashFields.class, HashFields::new);
+			long next = Long.parseLong(fields.getOrDefault(field, "0")) + delta;
+			fields.put(field, String.valueOf(next));
+			return next;
+		});
+	}
+
+	private void expire(String key, Duration ttl) {
+		locked(key, () -> {
+			Entry entry = live(key);
+			if (entry != null) {
+				entry.expireAt = expireAt(ttl);
+			}
+			return null;
+		});
+	}
+
+	// ===== 원자적 복합 연산 =====
+
+	/**
+	 * {@link LuaScript}와 같은 의미의 연산을 관련 키의 락을 모두 잡은 상태에서 실행합니다.
+	 * 키와 인자 순서는 각 스크립트 파일의 설명과 같습니다.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T execute(LuaScript script, List<String> keys, Object... args) {
+		Object result = this.<Object>locked(keys, () -> switch (script) {
+			case CURATION_LIKE_TOGGLE -> {
+				long liked = toggle(keys.get(0), String.valueOf(args[0]));
+				addToSet(keys.get(1), String.valueOf(args[1]));
+				yield liked;
+			}
+			case PLAYLIST_LIKE_TOGGLE -> {
+				String memberId = String.valueOf(args[0]);
+				String playlistId = String.valueOf(args[1]);
+				long liked = toggle(keys.get(0), memberId);
+				if (liked == 1L) {
+					addToSet(keys.get(1), playlistId);
+				} else {
+					removeFromSet(keys.get(1), playlistId);
+				}
+				addToSet(keys.get(2), playlistId);
+				addToSet(keys.get(3), playlistId);
+				yield List.of(liked, setSize(keys.get(0)));
+			}
+			case VIEW_ADMIT -> {
+				String id = String.valueOf(args[0]);
+				if (!setIfAbsent(keys.get(0), "1", Duration.ofSeconds(Long.parseLong(String.valueOf(args[1]))))) {
+					String pending = hashEntries(keys.get(1)).get(id);
+					yield List.of(0L, pending != null ? Long.parseLong(pending) : 0L);
+				}
+				long pending = hashIncrement(keys.get(1), id, 1);
+				if (keys.size() > 2) {
+					incrementScore(keys.get(2), id, 1);
+					long rankingTtl = Long.parseLong(String.valueOf(args[2]));
+					if (rankingTtl > 0) {
+						expire(keys.get(2), Duration.ofSeconds(rankingTtl));
+					}
+				}
+				yield List.of(1L, pending);
+			}
+			case LOCK_RELEASE -> {
+				if (!String.valueOf(args[0]).equals(get(keys.get(0)))) {
+					yield 0L;
+				}
+				delete(keys.get(0));
+				yield 1L;
+			}
+		});
+		return (T)result;
+	}
+
+	private long toggle(String key, String member) {
+		if (removeFromSet(key, member)) {
+			return 0L;
+		}
+		addToSet(key, member);
+		return 1L;
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * 만료된 키를 정리합니다.
+	 */
+	@Scheduled(fixedDelay = 60000)
+	public void evictExpired() {
+		long now = clock.getAsLong();
+		entries.forEach((key, entry) -> {
+			if (entry.isExpired(now)) {
+				locked(key, () -> live(key));
+			}
+		});
+	}
+
+	// ===== 내부 구현 =====
+
+	private <T> T locked(String key, Supplier<T> action) {
+		ReentrantLock lock = locks[stripe(key)];
+		lock.lock();
+		try {
+			return action.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private <T> T locked(Collection<String> keys, Supplier<T> action) {
+		// 교착을 막기 위해 항상 낮은 번호의 락부터 잡음
+		TreeSet<Integer> stripes = new TreeSet<>();
+		keys.forEach(key -> stripes.add(stripe(key)));
+
+		List<ReentrantLock> acquired = new ArrayList<>(stripes.size());
+		try {
+			for (int stripe : stripes) {
+				locks[stripe].lock();
+				acquired.add(locks[stripe]);
+			}
+			return action.get();
+		} finally {
+			for (int i = acquired.size() - 1; i >= 0; i--) {
+				acquired.get(i).unlock();
+			}
+		}
+	}
+
+	private int stripe(String key) {
+		return Math.floorMod(key.hashCode(), STRIPES);
+	}
+
+	/** 락을 잡은 상태에서 호출해야 하며, 만료된 키는 제거하고 null을 반환합니다. */
+	private Entry live(String key) {
+		Entry entry = entries.get(key);
+		if (entry != null && entry.isExpired(clock.getAsLong())) {
+			entries.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	private <V> V valueOf(String key, Class<V> type) {
+		Entry entry = live(key);
+		return entry != null ? cast(key, entry, type) : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <V> V valueOrCreate(String key, Class<? super V> type, Supplier<V> factory) {
+		Entry entry = live(key);
+		if (entry == null) {
+			V value = factory.get();
+			entries.put(key, new Entry(value, 0L));
+			return value;
+		}
+		return (V)cast(key, entry, type);
+	}
+
+	private <V> V cast(String key, Entry entry, Class<V> type) {
+		if (!type.isInstance(entry.value)) {
+			throw new IllegalStateException("WRONGTYPE " + key + " 키의 값 형식이 " + type.getSimpleName() + "이(가) 아닙니다.");
+		}
+		return type.cast(entry.value);
+	}
+
+	private long expireAt(Duration ttl) {
+		return clock.getAsLong() + ttl.toMillis();
+	}
+
+	private static Pattern globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder();
+		for (char c : glob.toCharArray()) {
+			switch (c) {
+				case '*' -> regex.append(".*");
+				case '?' -> regex.append('.');
+				default -> regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private volatile long expireAt; // 0이면 만료 없음
+
+		private Entry(Object value, long expireAt) {
+			this.value = value;
+			this.expireAt = expireAt;
+		}
+
+		private boolean isExpired(long now) {
+			return expireAt > 0 && expireAt <= now;
+		}
+	}
+
+	/** 정렬 집합 값 (멤버 → 점수) */
+	private static final class SortedScores extends HashMap<String, Double> {
+	}
+
+	/** 해시 값 (필드 → 값) */
+	private static final class HashFields extends HashMap<String, String> {
+	}
+}
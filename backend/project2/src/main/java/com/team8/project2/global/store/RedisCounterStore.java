@@ -0,0 +1,179 @@
+package com.team8.project2.global.store;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.global.redis.LuaScript;
+import com.team8.project2.global.redis.RedisScriptRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis를 사용하는 {@link CounterStore} 구현체입니다. (기본값)
+ * 복합 연산은 {@link RedisScriptRegistry}의 Lua 스크립트로 실행합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisCounterStore implements CounterStore {
+
+	/** SCAN 한 번에 훑는 키 수 (힌트) */
+	private static final long SCAN_COUNT = 1000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScriptRegistry redisScriptRegistry;
+
+	@Override
+	public String get(String key) {
+		return redisTemplate.opsForValue().get(key);
+	}
+
+	@Override
+	public void set(String key, String value) {
+		redisTemplate.opsForValue().set(key, value);
+	}
+
+	@Override
+	public void set(String key, String value, Duration ttl) {
+		redisTemplate.opsForValue().set(key, value, ttl);
+	}
+
+	@Override
+	public boolean setIfAbsent(String key, String value, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+	}
+
+	@Override
+	public long increment(String key) {
+		Long value = redisTemplate.opsForValue().increment(key);
+		return value != null ? value : 0L;
+	}
+
+	@Override
+	public void multiSet(Map<String, String> values) {
+		redisTemplate.opsForValue().multiSet(values);
+	}
+
+	@Override
+	public boolean hasKey(String key) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+	}
+
+	@Override
+	public void delete(String key) {
+		redisTemplate.delete(key);
+	}
+
+	@Override
+	public void delete(Collection<String> keys) {
+		redisTemplate.delete(keys);
+	}
+
+	@Override
+	public void rename(String oldKey, String newKey) {
+		redisTemplate.rename(oldKey, newKey);
+	}
+
+	@Override
+	public Set<String> keys(String pattern) {
+		// KEYS는 키 공간 전체를 한 번에 훑는 동안 Redis를 막으므로 SCAN으로 나누어 조회
+		Set<String> keys = new HashSet<>();
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(keys::add);
+		}
+		return keys;
+	}
+
+	@Override
+	public void addToSet(String key, String member) {
+		redisTemplate.opsForSet().add(key, member);
+	}
+
+	@Override
+	public Set<String> members(String key) {
+		Set<String> members = redisTemplate.opsForSet().members(key);
+		return members != null ? members : Collections.emptySet();
+	}
+
+	@Override
+	public boolean isMember(String key, String member) {
+		return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, member));
+	}
+
+	@Override
+	public long setSize(String key) {
+		Long size = redisTemplate.opsForSet().size(key);
+		return size != null ? size : 0L;
+	}
+
+	@Override
+	public double incrementScore(String key, String member, double delta) {
+		Double score = redisTemplate.opsForZSet().incrementScore(key, member, delta);
+		return score != null ? score : 0.0;
+	}
+
+	@Override
+	public Double score(String key, String member) {
+		return redisTemplate.opsForZSet().score(key, member);
+	}
+
+	@Override
+	public List<String> reverseRange(String key, long start, long end) {
+		Set<String> range = redisTemplate.opsForZSet().reverseRange(key, start, end);
+		return range != null ? new ArrayList<>(range) : Collections.emptyList();
+	}
+
+	@Override
+	public void removeFromSortedSet(String key, String member) {
+		redisTemplate.opsForZSet().remove(key, member);
+	}
+
+	@Override
+	public Map<String, String> hashEntries(String key) {
+		Map<String, String> entries = new HashMap<>();
+		redisTemplate.opsForHash().entries(key)
+			.forEach((field, value) -> entries.put(field.toString(), value.toString()));
+		return entries;
+	}
+
+	@Override
+	public String hashGet(String key, String field) {
+		Object value = redisTemplate.opsForHash().get(key, field);
+		return value != null ? value.toString() : null;
+	}
+
+	@Override
+	public void hashDelete(String key, String field) {
+		redisTemplate.opsForHash().delete(key, field);
+	}
+
+	@Override
+	public long hashIncrement(String key, String field, long delta) {
+		Long value = redisTemplate.opsForHash().increment(key, field, delta);
+		return value != null ? value : 0L;
+	}
+
+	@Override
+	public <T> T execute(LuaScript script, List<String> keys, Object... args) {
+		return redisScriptRegistry.execute(script, keys, args);
+	}
+
+	@Override
+	public void clear() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+	}
+}
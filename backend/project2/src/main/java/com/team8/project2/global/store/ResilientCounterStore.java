@@ -0,0 +1,387 @@
+package com.team8.project2.global.store;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team8.project2.global.exception.CounterStoreUnavailableException;
+import com.team8.project2.global.redis.LuaScript;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 장애 시에도 서비스가 멈추지 않도록 {@link RedisCounterStore}를 감싸는 구현체입니다.
+ * <p>
+ * 연결 실패나 타임아웃이 연속으로 발생하면 {@link CircuitBreaker}를 열어 이후 호출을 Redis까지 보내지 않고
+ * 즉시 대체 동작으로 처리합니다.
+ * <ul>
+ *     <li>캐시 조회/저장(get, set): 캐시 미스로 처리하고 저장은 생략</li>
+ *     <li>좋아요 여부, 랭킹, 대기 증가분 조회(isMember, reverseRange, score, hashGet): 빈 결과 반환 (호출부가 DB 값으로 대체)</li>
+ *     <li>조회수 집계(VIEW_ADMIT): JVM 메모리에 버퍼링했다가 복구 후 Redis에 재반영</li>
+ *     <li>그 외 연산: {@link CounterStoreUnavailableException} (좋아요 수 표시는 호출부가 DB 값으로 대체)</li>
+ * </ul>
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class ResilientCounterStore implements CounterStore {
+
+	/** 장애 중 버퍼링할 최대 조회 수 (초과분은 집계하지 않음) */
+	static final long MAX_BUFFERED_VIEWS = 100_000;
+
+	private static final String PROBE_KEY = "counter_store:probe";
+
+	private final CounterStore delegate;
+	private final CircuitBreaker circuitBreaker;
+
+	private final LocalCounterStore buffer = new LocalCounterStore();
+	private final Set<String> bufferedPendingKeys = ConcurrentHashMap.newKeySet();
+	private final Set<String> bufferedRankingKeys = ConcurrentHashMap.newKeySet();
+	private final AtomicLong bufferedViews = new AtomicLong();
+	// 버퍼 쓰기(읽기 락)와 재반영(쓰기 락)이 겹치지 않도록 함
+	private final ReadWriteLock replayLock = new ReentrantReadWriteLock();
+
+	private final Counter successCalls;
+	private final Counter failedCalls;
+	private final Counter rejectedCalls;
+	private final Counter droppedViews;
+	private final Counter replayedViews;
+
+	@Autowired
+	public ResilientCounterStore(RedisCounterStore delegate, MeterRegistry meterRegistry,
+		@Value("${custom.redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+		@Value("${custom.redis.circuit-breaker.open-duration:10s}") Duration openDuration) {
+		this(delegate, new CircuitBreaker(failureThreshold, openDuration), meterRegistry);
+	}
+
+	ResilientCounterStore(CounterStore delegate, CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.circuitBreaker = circuitBreaker;
+
+		for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+			Gauge.builder("redis.circuit.state", circuitBreaker, cb -> cb.getState() == state ? 1 : 0)
+				.tag("state", state.name().toLowerCase())
+				.register(meterRegistry);
+		}
+		Gauge.builder("redis.fallback.buffered", bufferedViews, AtomicLong::get).register(meterRegistry);
+
+		this.successCalls = callCounter(meterRegistry, "success");
+		this.failedCalls = callCounter(meterRegistry, "failure");
+		this.rejectedCalls = callCounter(meterRegistry, "not_permitted");
+		this.droppedViews = Counter.builder("redis.fallback.dropped").register(meterRegistry);
+		this.replayedViews = Counter.builder("redis.fallback.replayed").register(meterRegistry);
+	}
+
+	// ===== 문자열 값 =====
+
+	@Override
+	public String get(String key) {
+		return call(() -> delegate.get(key), () -> null);
+	}
+
+	@Override
+	public void set(String key, String value) {
+		run(() -> delegate.set(key, value), () -> { });
+	}
+
+	@Override
+	public void set(String key, String value, Duration ttl) {
+		run(() -> delegate.set(key, value, ttl), () -> { });
+	}
+
+	@Override
+	public boolean setIfAbsent(String key, String value, Duration ttl) {
+		return call(() -> delegate.setIfAbsent(key, value, ttl), this::unavailable);
+	}
+
+	@Override
+	public long increment(String key) {
+		return call(() -> delegate.increment(key), this::unavailable);
+	}
+
+	@Override
+	public void multiSet(Map<String, String> values) {
+		run(() -> delegate.multiSet(values), () -> { });
+	}
+
+	// ===== 키 =====
+
+	@Override
+	public boolean hasKey(String key) {
+		return call(() -> delegate.hasKey(key), this::unavailable);
+	}
+
+	@Override
+	public void delete(String key) {
+		run(() -> delegate.delete(key), this::unavailable);
+	}
+
+	@Override
+	public void delete(Collection<String> keys) {
+		run(() -> delegate.delete(keys), this::unavailable);
+	}
+
+	@Override
+	public void rename(String oldKey, String newKey) {
+		run(() -> delegate.rename(oldKey, newKey), this::unavailable);
+	}
+
+	@Override
+	public Set<String> keys(String pattern) {
+		return call(() -> delegate.keys(pattern), this::unavailable);
+	}
+
+	// ===== 집합 =====
+
+	@Override
+	public void addToSet(String key, String member) {
+		run(() -> delegate.addToSet(key, member), this::unavailable);
+	}
+
+	@Override
+	public Set<String> members(String key) {
+		return call(() -> delegate.members(key), this::unavailable);
+	}
+
+	@Override
+	public boolean isMember(String key, String member) {
+		return call(() -> delegate.isMember(key, member), () -> false);
+	}
+
+	@Override
+	public long setSize(String key) {
+		return call(() -> delegate.setSize(key), this::unavailable);
+	}
+
+	// ===== 정렬 집합 =====
+
+	@Override
+	public double incrementScore(String key, String member, double delta) {
+		return call(() -> delegate.incrementScore(key, member, delta), this::unavailable);
+	}
+
+	@Override
+	public Double score(String key, String member) {
+		return call(() -> delegate.score(key, member), () -> null);
+	}
+
+	@Override
+	public List<String> reverseRange(String key, long start, long end) {
+		return call(() -> delegate.reverseRange(key, start, end), Collections::emptyList);
+	}
+
+	@Override
+	public void removeFromSortedSet(String key, String member) {
+		run(() -> delegate.removeFromSortedSet(key, member), this::unavailable);
+	}
+
+	// ===== 해시 =====
+
+	@Override
+	public Map<String, String> hashEntries(String key) {
+		return call(() -> delegate.hashEntries(key), this::unavailable);
+	}
+
+	@Override
+	public String hashGet(String key, String field) {
+		return call(() -> delegate.hashGet(key, field), () -> null);
+	}
+
+	@Override
+	public void hashDelete(String key, String field) {
+		run(() -> delegate.hashDelete(key, field), this::unavailable);
+	}
+
+	@Override
+	public long hashIncrement(String key, String field, long delta) {
+		return call(() -> delegate.hashIncrement(key, field, delta), this::unavailable);
+	}
+
+	// ===== 원자적 복합 연산 =====
+
+	@Override
+	public <T> T execute(LuaScript script, List<String> keys, Object... args) {
+		if (script == LuaScript.VIEW_ADMIT) {
+			return call(() -> delegate.execute(script, keys, args), () -> admitLocally(keys, args));
+		}
+		return call(() -> delegate.execute(script, keys, args), this::unavailable);
+	}
+
+	@Override
+	public void clear() {
+		run(delegate::clear, this::unavailable);
+	}
+
+	// ===== 복구 =====
+
+	/**
+	 * 열린 서킷을 주기적으로 시험해 복구하고, 복구되면 장애 중 버퍼링한 조회수를 Redis에 재반영합니다.
+	 */
+	@Scheduled(fixedDelay = 5000)
+	public void recover() {
+		if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+			call(() -> delegate.hasKey(PROBE_KEY), () -> false);
+		}
+		if (circuitBreaker.getState() == CircuitBreaker.State.CLOSED && bufferedViews.get() > 0) {
+			replayBuffered();
+		}
+	}
+
+	/**
+	 * 버퍼링한 DB 반영 대기 증가분과 랭킹 점수를 Redis에 더합니다.
+	 * 필드 단위로 반영 후 버퍼에서 지우므로, 중간에 다시 실패해도 이미 반영한 값은 중복 반영되지 않습니다.
+	 */
+	void replayBuffered() {
+		replayLock.writeLock().lock();
+		try {
+			for (String key : List.copyOf(bufferedPendingKeys)) {
+				for (Map.Entry<String, String> entry : buffer.hashEntries(key).entrySet()) {
+					long delta = Long.parseLong(entry.getValue());
+					delegate.hashIncrement(key, entry.getKey(), delta);
+					buffer.hashDelete(key, entry.getKey());
+					bufferedViews.addAndGet(-delta);
+					replayedViews.increment(delta);
+				}
+				bufferedPendingKeys.remove(key);
+			}
+			for (String key : List.copyOf(bufferedRankingKeys)) {
+				for (String member : buffer.reverseRange(key, 0, -1)) {
+					Double score = buffer.score(key, member);
+					if (score != null) {
+						delegate.incrementScore(key, member, score);
+					}
+					buffer.removeFromSortedSet(key, member);
+				}
+				bufferedRankingKeys.remove(key);
+			}
+			// 복구 후에는 Redis의 중복 조회 방지 키를 사용하므로 버퍼의 나머지 키는 필요 없음
+			buffer.clear();
+			bufferedViews.set(0);
+			log.info("Redis 장애 중 버퍼링한 조회수를 재반영했습니다.");
+		} catch (RuntimeException e) {
+			if (!isUnavailable(e)) {
+				throw e;
+			}
+			circuitBreaker.onFailure();
+			log.warn("버퍼링한 조회수 재반영 중 Redis 연결 실패, 다음 복구 시 이어서 반영합니다: {}", e.getMessage());
+		} finally {
+			replayLock.writeLock().unlock();
+		}
+	}
+
+	CircuitBreaker.State getState() {
+		return circuitBreaker.getState();
+	}
+
+	// ===== 내부 구현 =====
+
+	private <T> T call(Supplier<T> action, Supplier<T> fallback) {
+		if (!circuitBreaker.tryAcquire()) {
+			rejectedCalls.increment();
+			return fallback.get();
+		}
+
+		try {
+			T result = action.get();
+			recordSuccess();
+			return result;
+		} catch (RuntimeException e) {
+			if (!isUnavailable(e)) {
+				// Redis가 응답한 오류(WRONGTYPE 등)는 장애가 아니므로 그대로 전달
+				recordSuccess();
+				throw e;
+			}
+			failedCalls.increment();
+			circuitBreaker.onFailure();
+			log.warn("Redis 호출 실패, 대체 동작으로 처리합니다: {}", e.getMessage());
+			return fallback.get();
+		}
+	}
+
+	private void run(Runnable action, Runnable fallback) {
+		call(() -> {
+			action.run();
+			return null;
+		}, () -> {
+			fallback.run();
+			return null;
+		});
+	}
+
+	private void recordSuccess() {
+		successCalls.increment();
+		if (circuitBreaker.onSuccess()) {
+			log.info("Redis 연결이 복구되어 서킷을 닫습니다.");
+		}
+	}
+
+	private <T> T unavailable() {
+		throw new CounterStoreUnavailableException();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T admitLocally(List<String> keys, Object... args) {
+		replayLock.readLock().lock();
+		try {
+			if (bufferedViews.get() >= MAX_BUFFERED_VIEWS) {
+				droppedViews.increment();
+				return (T)List.of(0L, 0L);
+			}
+			List<Object> result = buffer.execute(LuaScript.VIEW_ADMIT, keys, args);
+			if (Long.parseLong(result.get(0).toString()) == 1L) {
+				bufferedViews.incrementAndGet();
+				bufferedPendingKeys.add(keys.get(1));
+				if (keys.size() > 2) {
+					bufferedRankingKeys.add(keys.get(2));
+				}
+			}
+			return (T)result;
+		} finally {
+			replayLock.readLock().unlock();
+		}
+	}
+
+	private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder("redis.circuit.calls").tag("outcome", outcome).register(meterRegistry);
+	}
+
+	/**
+	 * 연결 실패나 타임아웃처럼 Redis를 사용할 수 없는 상태에서 발생한 예외인지 확인합니다.
+	 */
+	static boolean isUnavailable(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof DataAccessResourceFailureException
+				|| cause instanceof QueryTimeoutException
+				|| cause instanceof RedisConnectionException
+				|| cause instanceof RedisCommandTimeoutException
+				|| cause instanceof TimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
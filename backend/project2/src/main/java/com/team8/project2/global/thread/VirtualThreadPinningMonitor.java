@@ -0,0 +1,135 @@
+package com.team8.project2.global.thread;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 상황을 JFR 이벤트(jdk.VirtualThreadPinned)로 감지합니다.
+ * <p>
+ * synchronized 블록 안에서 I/O를 기다리는 드라이버 등은 캐리어 스레드를 점유해 가상 스레드의 이점을 없앱니다.
+ * 고정이 발생한 코드 위치별로 {@code jvm.threads.virtual.pinned} 타이머를 기록하고,
+ * 위치마다 처음 한 번은 스택 트레이스를 경고 로그로 남깁니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+
+	/** 메트릭 태그로 구분할 최대 위치 수 (초과분은 "other"로 집계) */
+	static final int MAX_SITES = 100;
+
+	private static final int LOGGED_FRAMES = 20;
+
+	private final MeterRegistry meterRegistry;
+	private final Duration threshold;
+	private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+	private volatile RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+		@Value("${custom.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+		this.meterRegistry = meterRegistry;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (stream != null) {
+			return;
+		}
+		RecordingStream recording = new RecordingStream();
+		recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recording.onEvent(PINNED_EVENT, this::record);
+		recording.startAsync();
+		stream = recording;
+		log.info("가상 스레드 고정 감지를 시작합니다. (기준 {}ms)", threshold.toMillis());
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (stream != null) {
+			stream.close();
+			stream = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	void record(RecordedEvent event) {
+		List<RecordedFrame> frames = frames(event.getStackTrace());
+		String site = pinnedAt(frames);
+		if (reportedSites.size() >= MAX_SITES && !reportedSites.contains(site)) {
+			site = "other";
+		}
+
+		Timer.builder(METRIC_NAME)
+			.description("가상 스레드가 캐리어 스레드에 고정된 시간")
+			.tag("site", site)
+			.register(meterRegistry)
+			.record(event.getDuration());
+
+		if (reportedSites.add(site)) {
+			log.warn("가상 스레드가 캐리어 스레드에 고정되었습니다. ({}ms, {})\n{}",
+				event.getDuration().toMillis(), site, format(frames));
+		}
+	}
+
+	private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+		return stackTrace == null ? List.of() : stackTrace.getFrames();
+	}
+
+	/**
+	 * JDK 내부 프레임을 건너뛰고 고정을 일으킨 첫 애플리케이션/라이브러리 프레임을 찾습니다.
+	 */
+	static String pinnedAt(List<RecordedFrame> frames) {
+		RecordedFrame first = null;
+		for (RecordedFrame frame : frames) {
+			if (!frame.isJavaFrame()) {
+				continue;
+			}
+			if (first == null) {
+				first = frame;
+			}
+			String type = frame.getMethod().getType().getName();
+			if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+				return describe(frame);
+			}
+		}
+		return first == null ? "unknown" : describe(first);
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+	}
+
+	private static String format(List<RecordedFrame> frames) {
+		return frames.stream()
+			.limit(LOGGED_FRAMES)
+			.map(frame -> "\tat " + describe(frame) + ":" + frame.getLineNumber())
+			.collect(Collectors.joining("\n"));
+	}
+}
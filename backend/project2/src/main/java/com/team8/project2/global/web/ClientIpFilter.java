@@ -0,0 +1,43 @@
+package com.team8.project2.global.web;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청마다 클라이언트 IP를 한 번만 구해 요청 속성({@link #CLIENT_IP_ATTRIBUTE})에 담는 필터입니다.
+ * 캐시 응답 필터가 발행하는 조회 이벤트에서도 사용할 수 있도록 다른 필터보다 먼저 실행합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class ClientIpFilter extends OncePerRequestFilter {
+
+	public static final String CLIENT_IP_ATTRIBUTE = ClientIpFilter.class.getName() + ".CLIENT_IP";
+
+	private final ClientIpResolver clientIpResolver;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		request.setAttribute(CLIENT_IP_ATTRIBUTE, clientIpResolver.resolve(request));
+		filterChain.doFilter(request, response);
+	}
+
+	/**
+	 * 필터가 구한 클라이언트 IP를 반환합니다. 필터를 거치지 않은 요청이면 직접 연결한 상대의 주소를 반환합니다.
+	 */
+	public static String getClientIp(HttpServletRequest request) {
+		Object clientIp = request.getAttribute(CLIENT_IP_ATTRIBUTE);
+		return clientIp instanceof String ip ? ip : request.getRemoteAddr();
+	}
+}
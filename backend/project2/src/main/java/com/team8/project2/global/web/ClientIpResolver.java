@@ -0,0 +1,206 @@
+package com.team8.project2.global.web;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청을 보낸 클라이언트의 IP를 구합니다.
+ * <p>
+ * 전달 헤더는 직접 연결한 상대가 신뢰하는 프록시일 때만 읽습니다. X-Forwarded-For는 오른쪽(가장 가까운 홉)부터
+ * 신뢰하는 프록시를 건너뛰고 처음 만나는 주소를 클라이언트로 보며, 헤더가 없으면 X-Real-IP를 사용합니다.
+ * 클라이언트가 로컬 루프백이면 서버 호스트 식별값("호스트명/주소")을 대신 사용하는데, 이 값은 시작할 때 한 번만 구해
+ * 요청마다 DNS를 조회하지 않습니다. IP 문자열도 직접 파싱하므로 호스트명이 섞인 헤더 값으로 DNS 조회가 일어나지 않습니다.
+ */
+@Slf4j
+@Component
+public class ClientIpResolver {
+
+	static final String X_FORWARDED_FOR = "X-Forwarded-For";
+	static final String X_REAL_IP = "X-Real-IP";
+
+	private final List<Cidr> trustedProxies;
+	private final String hostIdentity;
+
+	@Autowired
+	public ClientIpResolver(
+		@Value("${custom.client-ip.trusted-proxies:127.0.0.1/32,::1/128}") List<String> trustedProxies) {
+		this(trustedProxies, lookupHostIdentity());
+	}
+
+	ClientIpResolver(List<String> trustedProxies, String hostIdentity) {
+		this.trustedProxies = trustedProxies.stream()
+			.map(String::trim)
+			.filter(cidr -> !cidr.isEmpty())
+			.map(Cidr::parse)
+			.toList();
+		this.hostIdentity = hostIdentity;
+	}
+
+	private static String lookupHostIdentity() {
+		try {
+			InetAddress address = InetAddress.getLocalHost();
+			return address.getHostName() + "/" + address.getHostAddress();
+		} catch (UnknownHostException e) {
+			log.warn("[ClientIp] 호스트 정보를 구하지 못해 기본값을 사용합니다: {}", e.getMessage());
+			return "localhost/127.0.0.1";
+		}
+	}
+
+	/**
+	 * @param request 클라이언트 요청
+	 * @return 클라이언트 IP (루프백이면 서버 호스트 식별값)
+	 */
+	public String resolve(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		byte[] remote = parseAddress(remoteAddr);
+		String clientIp = remoteAddr;
+		byte[] client = remote;
+
+		if (remote != null && isTrusted(remote)) {
+			String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+			if (forwardedFor != null && !forwardedFor.isBlank()) {
+				String[] hops = forwardedFor.split(",");
+				for (int i = hops.length - 1; i >= 0; i--) {
+					String hop = hops[i].trim();
+					if (hop.isEmpty() || "unknown".equalsIgnoreCase(hop)) {
+						continue;
+					}
+					clientIp = hop;
+					client = parseAddress(hop);
+					if (client == null || !isTrusted(client)) {
+						break;
+					}
+				}
+			} else {
+				String realIp = request.getHeader(X_REAL_IP);
+				if (realIp != null && !realIp.isBlank()) {
+					clientIp = realIp.trim();
+					client = parseAddress(clientIp);
+				}
+			}
+		}
+
+		return client != null && isLoopback(client) ? hostIdentity : clientIp;
+	}
+
+	private boolean isTrusted(byte[] address) {
+		for (Cidr cidr : trustedProxies) {
+			if (cidr.contains(address)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLoopback(byte[] address) {
+		if (address.length == 4) {
+			return address[0] == 127;
+		}
+		for (int i = 0; i < 15; i++) {
+			if (address[i] != 0) {
+				return false;
+			}
+		}
+		return address[15] == 1;
+	}
+
+	/**
+	 * IP 문자열을 바이트 배열로 파싱합니다. IP 형식이 아니면 null을 반환하며, 어떤 경우에도 DNS를 조회하지 않습니다.
+	 */
+	static byte[] parseAddress(String value) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		if (value.indexOf(':') >= 0) {
+			// 숫자나 ':', '['로 시작하면서 ':'가 있는 값은 IPv6 리터럴로만 해석되어 DNS를 조회하지 않음 (영역 ID는 무시)
+			char first = value.charAt(0);
+			if (Character.digit(first, 16) < 0 && first != ':' && first != '[') {
+				return null;
+			}
+			int zone = value.indexOf('%');
+			try {
+				return InetAddress.getByName(zone < 0 ? value : value.substring(0, zone)).getAddress();
+			} catch (UnknownHostException e) {
+				return null;
+			}
+		}
+		return parseIpv4(value);
+	}
+
+	private static byte[] parseIpv4(String value) {
+		byte[] address = new byte[4];
+		int octet = 0;
+		int digits = 0;
+		int part = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				if (digits == 0 || part == 3) {
+					return null;
+				}
+				address[part++] = (byte)octet;
+				octet = 0;
+				digits = 0;
+			} else if (c >= '0' && c <= '9' && digits < 3) {
+				octet = octet * 10 + (c - '0');
+				digits++;
+				if (octet > 255) {
+					return null;
+				}
+			} else {
+				return null;
+			}
+		}
+		if (digits == 0 || part != 3) {
+			return null;
+		}
+		address[3] = (byte)octet;
+		return address;
+	}
+
+	/**
+	 * 신뢰하는 프록시 주소 대역 (예: 10.0.0.0/8, ::1/128, 단일 주소)
+	 */
+	record Cidr(byte[] network, int prefixLength) {
+
+		static Cidr parse(String value) {
+			int slash = value.indexOf('/');
+			String address = slash < 0 ? value : value.substring(0, slash);
+			byte[] network = parseAddress(address);
+			if (network == null) {
+				throw new IllegalArgumentException("신뢰 프록시 주소 형식이 올바르지 않습니다: " + value);
+			}
+			int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1));
+			if (prefixLength < 0 || prefixLength > network.length * 8) {
+				throw new IllegalArgumentException("신뢰 프록시 대역 길이가 올바르지 않습니다: " + value);
+			}
+			return new Cidr(network, prefixLength);
+		}
+
+		boolean contains(byte[] address) {
+			if (address.length != network.length) {
+				return false;
+			}
+			int fullBytes = prefixLength / 8;
+			for (int i = 0; i < fullBytes; i++) {
+				if (address[i] != network[i]) {
+					return false;
+				}
+			}
+			int remainingBits = prefixLength % 8;
+			if (remainingBits == 0) {
+				return true;
+			}
+			int mask = 0xFF << (8 - remainingBits);
+			return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.team8.project2.global.web;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)에 사용하는 리소스 버전입니다.
+ * <p>
+ * 응답 본문에 영향을 주는 값(수정 시각, 카운터, 조회자별 플래그 등)을 모아 강한 ETag를 만들고,
+ * 클라이언트가 같은 버전을 보내면 본문을 만들지 않고 304로 응답합니다.
+ * 응답은 조회자마다 다를 수 있으므로 공유 캐시에는 저장하지 않고(private) 매번 재검증(no-cache)하게 합니다.
+ *
+ * @param eTag 따옴표를 포함한 강한 ETag
+ * @param lastModified 마지막 수정 시각 (없으면 null)
+ */
+public record ResourceVersion(String eTag, Instant lastModified) {
+
+	/**
+	 * 본문에 영향을 주는 값들로 리소스 버전을 만듭니다.
+	 *
+	 * @param lastModified 마지막 수정 시각
+	 * @param parts ETag 계산에 사용할 값 (null 허용)
+	 */
+	public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+		String source = Arrays.stream(parts)
+			.map(part -> Objects.toString(part, ""))
+			.collect(Collectors.joining("|"));
+		Instant modified = lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant() : null;
+		return new ResourceVersion("\"" + digest(source) + "\"", modified);
+	}
+
+	/**
+	 * 요청의 조건부 헤더와 비교해 변경되지 않았는지 확인합니다.
+	 * If-None-Match가 있으면 ETag만 비교하고, 없을 때만 If-Modified-Since를 비교합니다.
+	 */
+	public boolean isNotModified(HttpServletRequest request) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if (tag.equals("*") || tag.equals(eTag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		if (lastModified == null) {
+			return false;
+		}
+		long ifModifiedSince;
+		try {
+			ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		// HTTP 날짜는 초 단위이므로 밀리초를 버리고 비교
+		return ifModifiedSince >= 0 && lastModified.toEpochMilli() / 1000 * 1000 <= ifModifiedSince;
+	}
+
+	/**
+	 * 본문 없이 304 응답을 만듭니다.
+	 */
+	public <T> ResponseEntity<T> notModified() {
+		return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED)).build();
+	}
+
+	/**
+	 * 검증 헤더를 포함한 200 응답을 만듭니다.
+	 */
+	public <T> ResponseEntity<T> ok(T body) {
+		return withValidators(ResponseEntity.ok()).body(body);
+	}
+
+	private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder) {
+		builder.eTag(eTag).cacheControl(CacheControl.noCache().cachePrivate());
+		if (lastModified != null) {
+			builder.lastModified(lastModified);
+		}
+		return builder;
+	}
+
+	private static String digest(String source) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash, 0, 12);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
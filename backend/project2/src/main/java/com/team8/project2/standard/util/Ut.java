@@ -7,11 +7,12 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Map;
-import java.util.TimeZone;
 
 public class Ut {
     private static final Logger log = LoggerFactory.getLogger(Ut.class);
@@ -34,9 +35,6 @@ public class Ut {
 
             Date issuedAt = new Date();
             Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
-            System.out.println("[JVM 시간대] " + TimeZone.getDefault().getID());
-            log.info("[expiration]"+expiration);
-            log.info("[issuedAt]"+issuedAt.toString());
 
             return Jwts.builder()
                     .claims(claims)
@@ -47,8 +45,6 @@ public class Ut {
         }
 
         public static boolean isValidToken(String keyString, String token) {
-            long currentTime = System.currentTimeMillis();
-            System.out.println("[현재 서버 시간] " + new Date(currentTime));
             try {
                 SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
 
@@ -60,13 +56,13 @@ public class Ut {
 
                 return true; // 토큰이 정상적으로 검증되면 true 반환
             } catch (ExpiredJwtException e) {
-                System.out.println("[JWT] 토큰 만료됨: " + e.getMessage());
+                log.debug("[JWT] 토큰 만료됨: {}", e.getMessage());
             } catch (SignatureException e) {
-                System.out.println("[JWT] 서명 불일치: " + e.getMessage());
+                log.debug("[JWT] 서명 불일치: {}", e.getMessage());
             } catch (MalformedJwtException e) {
-                System.out.println("[JWT] 형식 오류: " + e.getMessage());
+                log.debug("[JWT] 형식 오류: {}", e.getMessage());
             } catch (Exception e) {
-                System.out.println("[JWT] 기타 오류: " + e.getMessage());
+                log.debug("[JWT] 기타 오류: {}", e.getMessage());
             }
             return false;
         }
@@ -82,4 +78,23 @@ public class Ut {
                     .getPayload();
         }
     }
+
+    public static class Tx {
+        /**
+         * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다. 트랜잭션 밖이면 바로 실행합니다.
+         * 롤백되면 실행하지 않으므로, DB 반영이 끝난 뒤에만 지워야 하는 Redis 키 정리 등에 사용합니다.
+         */
+        public static void afterCommit(Runnable action) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                action.run();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
 }
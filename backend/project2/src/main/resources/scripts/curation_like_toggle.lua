@@ -0,0 +1,14 @@
+-- 큐레이션 좋아요 토글
+-- KEYS[1] 큐레이션 좋아요 집합, KEYS[2] 유사도 재계산 대상
+-- ARGV[1] 회원 ID, ARGV[2] 큐레이션 ID
+-- 반환값: 1이면 좋아요 추가, 0이면 좋아요 취소
+local liked
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    redis.call('SREM', KEYS[1], ARGV[1])
+    liked = 0
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+    liked = 1
+end
+redis.call('SADD', KEYS[2], ARGV[2])
+return liked
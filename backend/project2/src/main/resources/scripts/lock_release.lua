@@ -0,0 +1,8 @@
+-- 락 해제 (획득할 때 저장한 소유자 토큰이 같을 때만 삭제)
+-- KEYS[1] 락 키
+-- ARGV[1] 소유자 토큰
+-- 반환값: 1이면 해제, 0이면 다른 소유자의 락이거나 이미 만료됨
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
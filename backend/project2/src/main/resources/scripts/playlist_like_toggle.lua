@@ -0,0 +1,17 @@
+-- 플레이리스트 좋아요 토글
+-- KEYS[1] 플레이리스트 좋아요 집합, KEYS[2] 회원별 좋아요 목록, KEYS[3] DB 동기화 대상, KEYS[4] 유사도 재계산 대상
+-- ARGV[1] 회원 ID, ARGV[2] 플레이리스트 ID
+-- 반환값: {좋아요 여부(1/0), 토글 후 좋아요 수}
+local liked
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    redis.call('SREM', KEYS[1], ARGV[1])
+    redis.call('SREM', KEYS[2], ARGV[2])
+    liked = 0
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+    redis.call('SADD', KEYS[2], ARGV[2])
+    liked = 1
+end
+redis.call('SADD', KEYS[3], ARGV[2])
+redis.call('SADD', KEYS[4], ARGV[2])
+return {liked, redis.call('SCARD', KEYS[1])}
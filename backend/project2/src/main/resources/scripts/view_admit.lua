@@ -0,0 +1,15 @@
+-- 조회 인정 및 집계
+-- KEYS[1] 중복 조회 방지 키, KEYS[2] DB 반영 대기 증가분 해시, KEYS[3] 랭킹 ZSET (선택)
+-- ARGV[1] 대상 ID, ARGV[2] 중복 방지 TTL(초), ARGV[3] 랭킹 ZSET TTL(초, 0이면 만료 없음)
+-- 반환값: {인정 여부(1/0), DB 반영 대기 증가분}
+if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[2]) then
+    return {0, tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')}
+end
+local pending = redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+if KEYS[3] then
+    redis.call('ZINCRBY', KEYS[3], 1, ARGV[1])
+    if tonumber(ARGV[3]) > 0 then
+        redis.call('EXPIRE', KEYS[3], ARGV[3])
+    end
+end
+return {1, pending}
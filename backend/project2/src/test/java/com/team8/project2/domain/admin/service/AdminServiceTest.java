@@ -3,6 +3,7 @@ package com.team8.project2.domain.admin.service;
 import com.team8.project2.domain.admin.dto.StatsResDto;
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
 import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.domain.member.service.MemberService;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
 import com.team8.project2.global.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,9 @@ class AdminServiceTest {
     @Mock
     private PlaylistRepository playlistRepository;
 
+    @Mock
+    private MemberService memberService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -67,6 +71,7 @@ class AdminServiceTest {
 
         adminService.deleteMemberById(memberId);
 
+        verify(memberService, times(1)).revokeAccessTokens(memberId);
         verify(memberRepository, times(1)).deleteById(memberId);
     }
 
@@ -80,6 +85,7 @@ class AdminServiceTest {
         NotFoundException exception = assertThrows(NotFoundException.class, () -> adminService.deleteMemberById(memberId));
 
         assertEquals("멤버를 찾을 수 없습니다.", exception.getMessage());
+        verifyNoInteractions(memberService);
     }
 
     // ✅ 통계 데이터 조회 테스트
@@ -26,6 +26,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -166,6 +168,35 @@ public class ApiV1CurationControllerTest {
 				.andExpect(jsonPath("$.data.comments[0].content").value("comment test content"));
 	}
 
+	@Test
+	@DisplayName("ETag가 같으면 큐레이션 상세를 304로 응답해야 한다")
+	void getCurationNotModified() throws Exception {
+		String eTag = mockMvc.perform(get("/api/v1/curation/{id}", 1L))
+				.andExpect(status().isOk())
+				.andExpect(header().exists("ETag"))
+				.andExpect(header().exists("Last-Modified"))
+				.andReturn().getResponse().getHeader("ETag");
+
+		mockMvc.perform(get("/api/v1/curation/{id}", 1L).header("If-None-Match", eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", eTag))
+				.andExpect(content().string(""));
+
+		mockMvc.perform(get("/api/v1/curation/{id}", 1L).header("If-None-Match", "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.title").value("curation test title"));
+	}
+
+	@Test
+	@DisplayName("큐레이션의 실시간 카운터를 조회할 수 있다")
+	void getCounters() throws Exception {
+		mockMvc.perform(get("/api/v1/curation/{id}/counters", 1L))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value("200-1"))
+				.andExpect(jsonPath("$.data.viewCount").isNumber())
+				.andExpect(jsonPath("$.data.likeCount").isNumber());
+	}
+
 	@Test
 	@DisplayName("큐레이션을 전체 조회할 수 있다")
 	void findAll() throws Exception {
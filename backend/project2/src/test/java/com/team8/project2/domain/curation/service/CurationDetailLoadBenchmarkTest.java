@@ -0,0 +1,108 @@
+package com.team8.project2.domain.curation.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.team8.project2.domain.curation.curation.service.CurationService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 인기 큐레이션 상세 동시 조회 부하 테스트입니다. (./gradlew benchmark)
+ * 동시 요청은 한 번의 로딩을 공유하므로, 동시성이 늘어도 요청당 쿼리 수는 줄고 전체 쿼리 수는 크게 늘지 않아야 합니다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CurationDetailLoadBenchmarkTest {
+
+	private static final long CURATION_ID = 1L;
+	private static final int[] CONCURRENCY = {1, 8, 32, 128};
+	private static final int ROUNDS = 50;
+
+	@Autowired
+	private CurationService curationService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	@DisplayName("동시 요청 수가 늘어도 상세 로딩 쿼리 수는 크게 늘지 않아야 한다")
+	void queryCountStaysFlat() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		double[] queriesPerRequest = new double[CONCURRENCY.length];
+
+		for (int i = 0; i < CONCURRENCY.length; i++) {
+			int threads = CONCURRENCY[i];
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				// 워밍업
+				run(executor, threads, 5);
+
+				statistics.clear();
+				long start = System.nanoTime();
+				run(executor, threads, ROUNDS);
+				long elapsed = System.nanoTime() - start;
+
+				long requests = (long)threads * ROUNDS;
+				long statements = statistics.getPrepareStatementCount();
+				queriesPerRequest[i] = (double)statements / requests;
+				System.out.printf("[curation-detail] concurrency=%4d  requests=%6d  queries=%6d  "
+						+ "queries/request=%6.3f  queries/s=%8.1f  requests/s=%8.1f%n",
+					threads, requests, statements, queriesPerRequest[i],
+					statements / (elapsed / 1e9), requests / (elapsed / 1e9));
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		assertThat(queriesPerRequest[CONCURRENCY.length - 1]).isLessThan(queriesPerRequest[0]);
+	}
+
+	/**
+	 * 모든 스레드가 같은 시점에 같은 큐레이션을 조회하는 라운드를 반복합니다.
+	 */
+	private void run(ExecutorService executor, int threads, int rounds) throws Exception {
+		CyclicBarrier barrier = new CyclicBarrier(threads);
+		List<Future<?>> futures = new ArrayList<>(threads);
+		for (int t = 0; t < threads; t++) {
+			int viewer = t;
+			futures.add(executor.submit(() -> {
+				MockHttpServletRequest request = new MockHttpServletRequest();
+				request.setRemoteAddr("10.0.0." + viewer);
+				RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+				try {
+					for (int r = 0; r < rounds; r++) {
+						barrier.await(10, TimeUnit.SECONDS);
+						curationService.getCuration(CURATION_ID, request);
+					}
+				} finally {
+					RequestContextHolder.resetRequestAttributes();
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+	}
+}
@@ -8,16 +8,28 @@ import com.team8.project2.domain.curation.curation.entity.SearchOrder;
 import com.team8.project2.domain.curation.curation.repository.CurationLinkRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationRepository;
 import com.team8.project2.domain.curation.curation.repository.CurationTagRepository;
+import com.team8.project2.domain.curation.curation.service.CurationDetailLoader;
 import com.team8.project2.domain.curation.curation.service.CurationService;
 import com.team8.project2.domain.curation.like.entity.Like;
 import com.team8.project2.domain.curation.like.repository.LikeRepository;
 import com.team8.project2.domain.curation.tag.entity.Tag;
 import com.team8.project2.domain.curation.tag.service.TagService;
+import com.team8.project2.domain.image.service.CurationImageService;
 import com.team8.project2.domain.link.entity.Link;
 import com.team8.project2.domain.link.service.LinkService;
 import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.domain.member.service.MemberService;
+import com.team8.project2.domain.recommendation.service.ItemSimilarityService;
+import com.team8.project2.global.Rq;
+import com.team8.project2.global.dto.CounterResDto;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.redis.ViewAdmission;
+import com.team8.project2.global.redis.ViewCounter;
+import com.team8.project2.global.redis.ViewTarget;
+import com.team8.project2.global.security.Actor;
+import com.team8.project2.global.store.CounterStore;
+import com.team8.project2.global.web.ResourceVersion;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,11 +37,11 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.ListOperations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +49,7 @@ import java.util.Optional;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -67,7 +80,28 @@ class CurationServiceTest {
 	private TagService tagService;
 
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
+	private CounterStore counterStore;
+
+	@Mock
+	private ItemSimilarityService itemSimilarityService;
+
+	@Mock
+	private ViewCounter viewCounter;
+
+	@Mock
+	private Rq rq;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CurationDetailLoader curationDetailLoader;
+
+	@Mock
+	private MemberService memberService;
+
+	@Mock
+	private CurationImageService curationImageService;
 
 	@InjectMocks
 	private  CurationService curationService;
@@ -159,7 +193,7 @@ class CurationServiceTest {
 		when(curationTagRepository.saveAll(ArgumentMatchers.anyList())).thenReturn(List.of(new CurationTag()));
 
 		// When: 큐레이션 업데이트 호출
-		Curation updatedCuration = curationService.updateCuration(1L, "Updated Title", "Updated Content", urls, tags, member);
+		Curation updatedCuration = curationService.updateCuration(1L, "Updated Title", "Updated Content", urls, tags, Actor.from(member));
 
 		// Then: 상호작용 검증
 		verify(curationRepository, times(1)).findById(1L);
@@ -171,6 +205,7 @@ class CurationServiceTest {
 		assertNotNull(updatedCuration);
 		assertEquals("Updated Title", updatedCuration.getTitle());
 		assertEquals("Updated Content", updatedCuration.getContent());
+		assertEquals(1L, updatedCuration.getContentVersion());
 	}
 
 
@@ -178,7 +213,6 @@ class CurationServiceTest {
 	@Test
 	@DisplayName("실패 - 존재하지 않는 큐레이션을 수정하면 실패한다")
 	void UpdateCurationNotFound() {
-		Member member = new Member(); // Member 객체 생성
 		List<String> urls = Arrays.asList("http://updated-url.com");
 		List<String> tags = Arrays.asList("tag1", "tag2", "tag3");
 
@@ -187,7 +221,7 @@ class CurationServiceTest {
 
 		// Check if exception is thrown
 		try {
-			curationService.updateCuration(1L, "Updated Title", "Updated Content", urls, tags, member);
+			curationService.updateCuration(1L, "Updated Title", "Updated Content", urls, tags, Actor.from(member));
 		} catch (ServiceException e) {
 			assert e.getMessage().contains("해당 큐레이션을 찾을 수 없습니다.");
 		}
@@ -203,7 +237,7 @@ class CurationServiceTest {
 		doNothing().when(curationRepository).deleteById(anyLong());
 
 		// Execute the service method to delete curation
-		curationService.deleteCuration(1L, member);
+		curationService.deleteCuration(1L, Actor.from(member));
 
 		// Verify the delete operation was called once
 		verify(curationRepository, times(1)).deleteById(1L);
@@ -216,7 +250,7 @@ class CurationServiceTest {
 		when(curationRepository.findById(anyLong())).thenReturn(Optional.empty());
 
 		// Check if exception is thrown
-		assertThatThrownBy(() -> curationService.deleteCuration(1L, member))
+		assertThatThrownBy(() -> curationService.deleteCuration(1L, Actor.from(member)))
 				.isInstanceOf(ServiceException.class)
 				.hasMessageContaining("해당 큐레이션을 찾을 수 없습니다.");
 
@@ -232,11 +266,10 @@ class CurationServiceTest {
 		HttpServletRequest request = mock(HttpServletRequest.class);
 		when(request.getRemoteAddr()).thenReturn("192.168.0.1");  // IP를 임의로 설정
 
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(viewCounter.admit(eq(ViewTarget.CURATION), eq(1L), anyString())).thenReturn(new ViewAdmission(true, 1));
 
-		// Mocking repository to return a Curation
-		when(curationRepository.findById(anyLong())).thenReturn(Optional.of(curation));
+		// Mocking loader to return a shared detail
+		when(curationDetailLoader.load(1L)).thenReturn(CurationDetailResDto.fromEntity(curation, false, false, false));
 
 		CurationDetailResDto retrievedCuration = curationService.getCuration(1L, request);
 
@@ -246,36 +279,99 @@ class CurationServiceTest {
 	}
 
 	@Test
-	@DisplayName("큐레이션 조회수는 한 번만 증가해야 한다")
-	void GetCurationMultipleTimes() {
-
+	@DisplayName("공유된 상세 DTO는 변경하지 않고, 조회자별 값과 실시간 좋아요 수를 복사본에 덮어써야 한다")
+	void GetCurationOverlaysViewer() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getRemoteAddr()).thenReturn("192.168.0.1");
+		Member viewer = Member.builder().id(2L).username("viewer").build();
+		CurationDetailResDto shared = CurationDetailResDto.fromEntity(curation, false, false, false);
+
+		when(curationDetailLoader.load(1L)).thenReturn(shared);
+		when(viewCounter.admit(ViewTarget.CURATION, 1L, "192.168.0.1")).thenReturn(new ViewAdmission(true, 1));
+		when(rq.isLogin()).thenReturn(true);
+		when(rq.getActor()).thenReturn(Actor.from(viewer));
+		when(counterStore.isMember("curation_like:1", "2")).thenReturn(true);
+		when(counterStore.setSize("curation_like:1")).thenReturn(7L);
+		when(memberService.isFollowed(1L, 2L)).thenReturn(true);
+
+		CurationDetailResDto result = curationService.getCuration(1L, request);
+
+		assertEquals(7L, result.getLikeCount());
+		assert result.isLiked() && result.isFollowed() && result.isLogin();
+		assert !shared.isLiked() && !shared.isFollowed() && !shared.isLogin();
+		assertEquals(0L, shared.getLikeCount());
+	}
 
+	@Test
+	@DisplayName("큐레이션 상세는 DB 조회수를 응답하고, 대기 증가분은 카운터 조회에만 반영해야 한다")
+	void GetCurationMultipleTimes() {
 		// HttpServletRequest 모킹
 		HttpServletRequest request = mock(HttpServletRequest.class);
 		when(request.getRemoteAddr()).thenReturn("192.168.0.1");  // IP를 임의로 설정
 
-		// Given: Redis와 큐레이션 관련 의존성 준비
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-		// 첫 번째 조회에서만 true 반환하고, 그 이후에는 false 반환하도록 설정
-		when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-				.thenReturn(true)  // 첫 번째 조회에서는 키가 없으므로 true 반환
-				.thenReturn(false); // 두 번째 이후의 조회에서는 키가 이미 있으므로 false 반환
-
-		// 큐레이션 조회 로직이 제대로 동작하도록 설정
+		// 이미 조회한 IP라 인정되지 않았지만, 다른 조회 3건이 아직 DB에 반영되지 않은 상태
+		when(viewCounter.admit(ViewTarget.CURATION, 1L, "192.168.0.1")).thenReturn(new ViewAdmission(false, 3));
+		when(viewCounter.pending(ViewTarget.CURATION, 1L)).thenReturn(3L);
+		when(curationDetailLoader.load(1L)).thenReturn(CurationDetailResDto.fromEntity(curation, false, false, false));
 		when(curationRepository.findById(1L)).thenReturn(Optional.of(curation));
 
 		// 조회수 초기 상태 저장
 		Long initialViewCount = curation.getViewCount();
 
-		// When: 큐레이션을 여러 번 조회한다
-		curationService.getCuration(1L, request);  // 첫 번째 조회
-		curationService.getCuration(1L, request);  // 두 번째 조회
-		curationService.getCuration(1L, request);  // 세 번째 조회
+		// When
+		CurationDetailResDto result = curationService.getCuration(1L, request);
+		CounterResDto counters = curationService.getCounters(1L);
 
-		// Then: 조회수는 한 번만 증가해야 한다
-		assertEquals(initialViewCount + 1, curation.getViewCount()); // 조회수가 1만 증가해야 한다.
+		// Then
+		assertEquals(initialViewCount, result.getViewCount());
+		assertEquals(initialViewCount + 3, counters.getViewCount());
+		verify(viewCounter, times(1)).admit(ViewTarget.CURATION, 1L, "192.168.0.1");
+		verify(curationRepository, never()).save(any(Curation.class));
+	}
+
+	@Test
+	@DisplayName("큐레이션 버전은 조회할 때마다 같고, 본문에 보이는 값이 바뀌면 달라져야 한다")
+	void GetCurationVersion() {
+		LocalDateTime modifiedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+		Object[] row = {modifiedAt, 0L, 10L, 2L, 1L, modifiedAt.minusDays(1), 1L, modifiedAt.plusHours(1),
+			modifiedAt.minusDays(2), 0L, null, 5L, modifiedAt.minusDays(3)};
+		Object[] commented = row.clone();
+		commented[6] = 2L;
+		commented[7] = modifiedAt.plusHours(2);
+		Object[] linkEdited = row.clone();
+		linkEdited[12] = modifiedAt.plusHours(3);
+		Object[] tagsEdited = row.clone();
+		tagsEdited[1] = 1L;
+		when(curationRepository.findDetailVersion(1L)).thenReturn(List.<Object[]>of(row), List.<Object[]>of(row),
+			List.<Object[]>of(commented), List.<Object[]>of(linkEdited), List.<Object[]>of(tagsEdited));
+		when(counterStore.setSize("curation_like:1")).thenReturn(2L);
+
+		ResourceVersion first = curationService.getCurationVersion(1L);
+		ResourceVersion second = curationService.getCurationVersion(1L);
+		ResourceVersion afterComment = curationService.getCurationVersion(1L);
+		ResourceVersion afterLinkEdit = curationService.getCurationVersion(1L);
+		ResourceVersion afterTagsEdit = curationService.getCurationVersion(1L);
+
+		assertEquals(first, second);
+		assertNotEquals(first.eTag(), afterComment.eTag());
+		assertEquals(modifiedAt.plusHours(2).atZone(ZoneId.systemDefault()).toInstant(), afterComment.lastModified());
+		// 링크 제목/설명 등이 수정되면 버전이 달라져야 함
+		assertNotEquals(first.eTag(), afterLinkEdit.eTag());
+		assertEquals(modifiedAt.plusHours(3).atZone(ZoneId.systemDefault()).toInstant(), afterLinkEdit.lastModified());
+		// 태그만 바뀌어도 구성 버전이 올라가 버전이 달라져야 함
+		assertNotEquals(first.eTag(), afterTagsEdit.eTag());
+		verify(curationRepository, never()).findById(anyLong());
+	}
+
+	@Test
+	@DisplayName("실패 - 존재하지 않는 큐레이션의 버전을 조회하면 실패한다")
+	void GetCurationVersionNotFound() {
+		when(curationRepository.findDetailVersion(1L)).thenReturn(List.of());
+
+		assertThatThrownBy(() -> curationService.getCurationVersion(1L))
+			.isInstanceOf(ServiceException.class)
+			.hasMessageContaining("해당 큐레이션을 찾을 수 없습니다.");
 	}
 
 	@Test
@@ -283,20 +379,15 @@ class CurationServiceTest {
 	void GetCurationNotFound() {
 		// HttpServletRequest 모킹
 		HttpServletRequest request = mock(HttpServletRequest.class);
-		when(request.getRemoteAddr()).thenReturn("192.168.0.1");  // IP를 임의로 설정
 
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-		// Mocking repository to return empty Optional
-		when(curationRepository.findById(anyLong())).thenReturn(Optional.empty());
+		// Mocking loader to throw not found
+		when(curationDetailLoader.load(1L)).thenThrow(new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다."));
 
 		// Check if exception is thrown
-		try {
-			curationService.getCuration(1L, request);
-		} catch (ServiceException e) {
-			assert e.getMessage().contains("해당 큐레이션을 찾을 수 없습니다.");
-		}
+		assertThatThrownBy(() -> curationService.getCuration(1L, request))
+			.isInstanceOf(ServiceException.class)
+			.hasMessageContaining("해당 큐레이션을 찾을 수 없습니다.");
+		verify(viewCounter, never()).admit(any(), any(), any());
 	}
 
 	@Test
@@ -321,15 +412,6 @@ class CurationServiceTest {
 	void likeCuration() {
 		Long expectedId = 1L;
 
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-		ListOperations<String, Object> listOps = mock(ListOperations.class);
-		when(listOps.rightPop(anyString(), any(Duration.class)))
-				.thenReturn(expectedId.toString())
-				.thenReturn(null);
-
-		when(redisTemplate.opsForList()).thenReturn(listOps);
 		when(curationRepository.findById(anyLong())).thenReturn(Optional.of(curation));
 		when(memberRepository.findById(anyLong())).thenReturn(Optional.of(new Member()));
 		when(likeRepository.findByCurationAndMember(any(Curation.class), any(Member.class))).thenReturn(
@@ -354,15 +436,6 @@ class CurationServiceTest {
 	void likeCurationWithCancel() {
 		Long expectedId = 1L;
 
-		ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-		ListOperations<String, Object> listOps = mock(ListOperations.class);
-		when(listOps.rightPop(anyString(), any(Duration.class)))
-				.thenReturn(expectedId.toString())
-				.thenReturn(null);
-
-		when(redisTemplate.opsForList()).thenReturn(listOps);
 		when(curationRepository.findById(anyLong())).thenReturn(Optional.of(curation));
 		when(memberRepository.findById(anyLong())).thenReturn(Optional.of(new Member()));
 		when(likeRepository.findByCurationAndMember(any(Curation.class), any(Member.class)))
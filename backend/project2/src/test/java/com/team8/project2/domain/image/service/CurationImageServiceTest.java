@@ -0,0 +1,190 @@
+package com.team8.project2.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
+import com.team8.project2.domain.image.entity.CurationImage;
+import com.team8.project2.domain.image.repository.CurationImageRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CurationImageServiceTest {
+
+	private static final String BASE_URL = "https://linkurator-bucket.s3.amazonaws.com/";
+	// "meme"의 SHA-256
+	private static final String MEME_HASH = "a28a9ca63e8460b03dff84b5645c6c2a30f48149c0e5b273525cf4b80fe8a8ca";
+
+	@Mock
+	private S3Uploader s3Uploader;
+
+	@Mock
+	private ImageUploadService imageUploadService;
+
+	@Mock
+	private CurationImageRepository curationImageRepository;
+
+	@Mock
+	private S3DeletionQueue s3DeletionQueue;
+
+	@InjectMocks
+	private CurationImageService curationImageService;
+
+	private final MockMultipartFile meme = new MockMultipartFile("file", "meme.PNG", "image/png", "meme".getBytes());
+
+	@Test
+	@DisplayName("처음 올리는 이미지는 내용 해시로 객체 키를 정해 업로드하고 등록한다")
+	void uploadNewImage() throws Exception {
+		when(curationImageRepository.findByContentHash(MEME_HASH)).thenReturn(Optional.empty());
+		when(s3Uploader.getBaseUrl()).thenReturn(BASE_URL);
+
+		String imageUrl = curationImageService.uploadImage(meme);
+
+		ArgumentCaptor<CurationImage> saved = ArgumentCaptor.forClass(CurationImage.class);
+		verify(curationImageRepository).saveAndFlush(saved.capture());
+		assertThat(saved.getValue().getContentHash()).isEqualTo(MEME_HASH);
+		assertThat(saved.getValue().getImageName()).isEqualTo("curation_" + MEME_HASH + ".png");
+		verify(s3Uploader).uploadFile(meme, "curation_" + MEME_HASH + ".png");
+		assertThat(imageUrl).isEqualTo(BASE_URL + "curation_" + MEME_HASH + ".png");
+	}
+
+	@Test
+	@DisplayName("내용이 같은 이미지가 있으면 업로드하지 않고 기존 URL을 반환한다")
+	void uploadDuplicateImage() throws Exception {
+		CurationImage existing = CurationImage.builder().id(3L).imageName("curation_" + MEME_HASH + ".png")
+			.contentHash(MEME_HASH).refCount(5).build();
+		when(curationImageRepository.findByContentHash(MEME_HASH)).thenReturn(Optional.of(existing));
+		when(s3Uploader.getBaseUrl()).thenReturn(BASE_URL);
+
+		String imageUrl = curationImageService.uploadImage(meme);
+
+		assertThat(imageUrl).isEqualTo(BASE_URL + existing.getImageName());
+		verify(s3Uploader, never()).uploadFile(any(), anyString());
+		verify(curationImageRepository, never()).saveAndFlush(any());
+		verify(curationImageRepository).refreshUploadedAtIfUnused(eq(3L), any());
+	}
+
+	@Test
+	@DisplayName("presigned URL을 발급하면 연결되지 않은 이미지로 등록해, 확인하지 않은 업로드도 정리되게 한다")
+	void issueUploadUrlRegistersPendingImage() {
+		PresignedUploadReqDto request = new PresignedUploadReqDto();
+		PresignedUploadResDto upload = new PresignedUploadResDto("curation_abc.png", "https://upload-url",
+			BASE_URL + "curation_abc.png", LocalDateTime.now().plusMinutes(10));
+		when(imageUploadService.issue("curation_", request, false)).thenReturn(upload);
+
+		assertThat(curationImageService.issueUploadUrl(request)).isSameAs(upload);
+
+		ArgumentCaptor<CurationImage> saved = ArgumentCaptor.forClass(CurationImage.class);
+		verify(curationImageRepository).save(saved.capture());
+		assertThat(saved.getValue().getImageName()).isEqualTo("curation_abc.png");
+		assertThat(saved.getValue().getCurationId()).isNull();
+	}
+
+	@Test
+	@DisplayName("발급 시 등록된 이미지는 업로드를 확인할 때 다시 등록하지 않는다")
+	void confirmPendingImage() {
+		when(curationImageRepository.findByImageName("curation_abc.png"))
+			.thenReturn(Optional.of(CurationImage.builder().id(1L).imageName("curation_abc.png").build()));
+		when(s3Uploader.getBaseUrl()).thenReturn(BASE_URL);
+
+		assertThat(curationImageService.confirmUpload("curation_abc.png")).isEqualTo(BASE_URL + "curation_abc.png");
+
+		verify(imageUploadService).verifyUploaded("curation_", "curation_abc.png");
+		verify(curationImageRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("참조 수가 0이 된 이미지는 바로 지우지 않고 미사용 이미지로 되돌려 정리 유예 기간을 준다")
+	void release() {
+		LocalDateTime uploadedAt = LocalDateTime.now().minusDays(30);
+		CurationImage shared = CurationImage.builder().id(1L).imageName("shared.png").curationId(1L).refCount(2)
+			.uploadedAt(uploadedAt).build();
+		CurationImage single = CurationImage.builder().id(2L).imageName("single.png").curationId(1L).refCount(1)
+			.uploadedAt(uploadedAt).build();
+		when(curationImageRepository.findByImageNameIn(Set.of("shared.png", "single.png")))
+			.thenReturn(List.of(shared, single));
+
+		curationImageService.release(Set.of("shared.png", "single.png"));
+
+		assertThat(shared.getRefCount()).isEqualTo(1);
+		assertThat(shared.getCurationId()).isEqualTo(1L);
+		assertThat(single.getRefCount()).isZero();
+		assertThat(single.getCurationId()).isNull();
+		assertThat(single.getUploadedAt()).isAfter(uploadedAt);
+		verify(curationImageRepository, never()).deleteAllInBatch(any());
+		verifyNoInteractions(s3DeletionQueue);
+	}
+
+	@Test
+	@DisplayName("중복 업로드로 받은 이미지는 원래 큐레이션이 참조를 해제한 뒤에도 연결할 수 있다")
+	void attachAfterOriginalReleased() {
+		CurationImage image = CurationImage.builder().id(1L).imageName("shared.png").curationId(1L).refCount(1)
+			.build();
+		when(curationImageRepository.findByImageNameIn(Set.of("shared.png"))).thenReturn(List.of(image));
+
+		curationImageService.release(Set.of("shared.png"));
+		curationImageService.attach(2L, Set.of("shared.png"));
+
+		assertThat(image.getRefCount()).isEqualTo(1);
+		assertThat(image.getCurationId()).isEqualTo(2L);
+		verifyNoInteractions(s3DeletionQueue);
+	}
+
+	@Test
+	@DisplayName("참조가 남아 있으면 미사용 이미지로 되돌리지 않는다")
+	void releaseSharedImage() {
+		CurationImage shared = CurationImage.builder().id(1L).imageName("shared.png").curationId(1L).refCount(3).build();
+		when(curationImageRepository.findByImageNameIn(Set.of("shared.png"))).thenReturn(List.of(shared));
+
+		curationImageService.release(Set.of("shared.png"));
+
+		assertThat(shared.getRefCount()).isEqualTo(2);
+		assertThat(shared.getCurationId()).isEqualTo(1L);
+		verifyNoInteractions(s3DeletionQueue);
+	}
+
+	@Test
+	@DisplayName("큐레이션에 포함된 이미지의 참조 수를 늘리고 처음 연결된 큐레이션 번호를 유지한다")
+	void attach() {
+		CurationImage unused = CurationImage.builder().id(1L).imageName("new.png").build();
+		CurationImage shared = CurationImage.builder().id(2L).imageName("shared.png").curationId(7L).refCount(1).build();
+		when(curationImageRepository.findByImageNameIn(Set.of("new.png", "shared.png")))
+			.thenReturn(List.of(unused, shared));
+
+		curationImageService.attach(9L, Set.of("new.png", "shared.png"));
+
+		assertThat(unused.getCurationId()).isEqualTo(9L);
+		assertThat(unused.getRefCount()).isEqualTo(1);
+		assertThat(shared.getCurationId()).isEqualTo(7L);
+		assertThat(shared.getRefCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("참조 수 도입 전에 연결된 이미지를 다른 큐레이션이 참조하면 처음 큐레이션의 참조도 센다")
+	void attachLegacyImage() {
+		CurationImage legacy = CurationImage.builder().id(1L).imageName("legacy.png").curationId(7L).build();
+		when(curationImageRepository.findByImageNameIn(Set.of("legacy.png"))).thenReturn(List.of(legacy));
+
+		curationImageService.attach(9L, Set.of("legacy.png"));
+		curationImageService.release(Set.of("legacy.png"));
+
+		assertThat(legacy.getRefCount()).isEqualTo(1);
+		assertThat(legacy.getCurationId()).isEqualTo(7L);
+		verifyNoInteractions(s3DeletionQueue);
+	}
+}
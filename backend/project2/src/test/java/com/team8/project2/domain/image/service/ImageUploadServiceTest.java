@@ -0,0 +1,109 @@
+package com.team8.project2.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.team8.project2.domain.image.dto.PresignedUploadReqDto;
+import com.team8.project2.domain.image.dto.PresignedUploadResDto;
+import com.team8.project2.global.exception.ServiceException;
+
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageUploadServiceTest {
+
+	private static final String BASE_URL = "https://bucket.s3.amazonaws.com/";
+
+	@Mock
+	private S3Uploader s3Uploader;
+
+	private ImageUploadService imageUploadService;
+
+	@BeforeEach
+	void setUp() {
+		imageUploadService = new ImageUploadService(s3Uploader, DataSize.ofMegabytes(10), Duration.ofMinutes(10));
+	}
+
+	private PresignedUploadReqDto request(String fileName, String contentType, long contentLength) {
+		PresignedUploadReqDto request = new PresignedUploadReqDto();
+		request.setFileName(fileName);
+		request.setContentType(contentType);
+		request.setContentLength(contentLength);
+		return request;
+	}
+
+	@Test
+	@DisplayName("접두사와 확장자를 붙인 객체 키로 presigned URL을 발급한다")
+	void issue() {
+		when(s3Uploader.presignUpload(anyString(), eq("image/png"), eq(1024L), eq(Duration.ofMinutes(10))))
+			.thenReturn("https://upload-url");
+		when(s3Uploader.getBaseUrl()).thenReturn(BASE_URL);
+
+		PresignedUploadResDto response = imageUploadService.issue("curation_", request("cat.PNG", "image/png", 1024),
+			false);
+		PresignedUploadResDto profile = imageUploadService.issue("profile_1_", request("me.png", "image/png", 1024),
+			true);
+
+		assertThat(response.getImageName()).startsWith("curation_").doesNotContain("v-").endsWith(".png");
+		assertThat(response.getUploadUrl()).isEqualTo("https://upload-url");
+		assertThat(response.getImageUrl()).isEqualTo(BASE_URL + response.getImageName());
+		assertThat(profile.getImageName()).startsWith("profile_1_v-").endsWith(".png");
+	}
+
+	@Test
+	@DisplayName("이미지가 아니거나 최대 크기를 넘으면 URL을 발급하지 않는다")
+	void issueRejectsInvalidFile() {
+		assertThatThrownBy(() -> imageUploadService.issue("curation_", request("a.exe", "application/octet-stream", 10),
+			false))
+			.isInstanceOf(ServiceException.class);
+		assertThatThrownBy(() -> imageUploadService.issue("curation_",
+			request("a.png", "image/png", DataSize.ofMegabytes(11).toBytes()), false))
+			.isInstanceOf(ServiceException.class);
+
+		verify(s3Uploader, never()).presignUpload(anyString(), anyString(), anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("다른 접두사로 발급된 객체 키는 확인하지 않는다")
+	void verifyRejectsForeignKey() {
+		assertThatThrownBy(() -> imageUploadService.verifyUploaded("profile_1_", "profile_2_abc.png"))
+			.isInstanceOf(ServiceException.class)
+			.hasMessageContaining("발급되지 않은");
+		assertThatThrownBy(() -> imageUploadService.verifyUploaded("profile_1_", "profile_1_/../abc.png"))
+			.isInstanceOf(ServiceException.class);
+
+		verify(s3Uploader, never()).findObject(anyString());
+	}
+
+	@Test
+	@DisplayName("업로드되지 않은 객체 키는 404 예외가 발생한다")
+	void verifyMissingObject() {
+		when(s3Uploader.findObject("curation_abc.png")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> imageUploadService.verifyUploaded("curation_", "curation_abc.png"))
+			.isInstanceOf(ServiceException.class)
+			.extracting("code").isEqualTo("404-1");
+	}
+
+	@Test
+	@DisplayName("업로드된 객체의 형식과 크기가 올바르면 통과한다")
+	void verifyUploaded() {
+		when(s3Uploader.findObject("curation_abc.png")).thenReturn(Optional.of(
+			HeadObjectResponse.builder().contentType("image/png").contentLength(2048L).build()));
+
+		assertThatCode(() -> imageUploadService.verifyUploaded("curation_", "curation_abc.png"))
+			.doesNotThrowAnyException();
+	}
+}
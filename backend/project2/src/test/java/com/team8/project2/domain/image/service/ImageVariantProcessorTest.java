@@ -0,0 +1,146 @@
+package com.team8.project2.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.team8.project2.domain.image.entity.ImageVariant;
+
+public class ImageVariantProcessorTest {
+
+	private static final String UUID = "3f2b8c1e-7a4d-4e5f-9b6a-0c1d2e3f4a5b";
+
+	private final ImageVariantProcessor processor = new ImageVariantProcessor(0.85f, 40_000_000);
+
+	private static byte[] image(int width, int height, String format, int type) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, type);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setPaint(new GradientPaint(0, 0, Color.RED, width, height, Color.BLUE));
+		graphics.fillRect(0, 0, width, height);
+		graphics.dispose();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, format, out);
+		return out.toByteArray();
+	}
+
+	private static BufferedImage decode(byte[] bytes) throws IOException {
+		return ImageIO.read(new ByteArrayInputStream(bytes));
+	}
+
+	@Test
+	@DisplayName("긴 변을 기준으로 비율을 유지해 변형 이미지마다 축소한다")
+	void process() throws IOException {
+		Map<ImageVariant, byte[]> variants = processor.process(
+			image(3000, 1500, "jpg", BufferedImage.TYPE_INT_RGB));
+
+		assertThat(variants).containsOnlyKeys(ImageVariant.values());
+		BufferedImage thumbnail = decode(variants.get(ImageVariant.THUMBNAIL));
+		assertThat(thumbnail.getWidth()).isEqualTo(160);
+		assertThat(thumbnail.getHeight()).isEqualTo(80);
+	}
+
+	@Test
+	@DisplayName("원본이 변형 크기보다 작으면 확대하지 않고, 투명 PNG도 JPEG로 만든다")
+	void processSmallTransparentImage() throws IOException {
+		Map<ImageVariant, byte[]> variants = processor.process(
+			image(100, 150, "png", BufferedImage.TYPE_INT_ARGB));
+
+		BufferedImage thumbnail = decode(variants.get(ImageVariant.THUMBNAIL));
+		assertThat(thumbnail.getWidth()).isEqualTo(100);
+		assertThat(thumbnail.getHeight()).isEqualTo(150);
+	}
+
+	@Test
+	@DisplayName("ImageIO가 읽을 수 없는 형식이면 변형 이미지를 만들지 않고, 픽셀 수가 너무 많으면 예외가 발생한다")
+	void rejectsUnsupportedOrHugeImages() throws IOException {
+		assertThat(processor.process("not an image".getBytes())).isEmpty();
+
+		ImageVariantProcessor strict = new ImageVariantProcessor(0.85f, 1_000);
+		byte[] large = image(100, 100, "png", BufferedImage.TYPE_INT_RGB);
+		assertThatThrownBy(() -> strict.process(large)).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	@DisplayName("변형 이미지 객체 키는 원본 키에서 정해진다")
+	void variantKeys() {
+		String imageName = "profile_1_" + ImageVariant.keyIdOf("image/png", UUID) + ".png";
+
+		assertThat(ImageVariant.hasVariants(imageName)).isTrue();
+		assertThat(ImageVariant.THUMBNAIL.keyOf("profile_1_abc.png")).isEqualTo("profile_1_abc.png.thumb.jpg");
+		assertThat(ImageVariant.withVariants(List.of(imageName)))
+			.containsExactly(imageName, imageName + ".thumb.jpg");
+	}
+
+	@Test
+	@DisplayName("변형 이미지를 만들지 않는 원본은 표시가 없어 원본만 지운다")
+	void originalsWithoutVariants() {
+		String svg = ImageVariant.keyIdOf("image/svg+xml", UUID) + "_default-profile.svg";
+
+		// SVG 등 ImageIO가 읽지 못하는 형식
+		assertThat(ImageVariant.hasVariants(svg)).isFalse();
+		assertThat(ImageVariant.hasVariants("default-profile.svg")).isFalse();
+		// 변형 이미지 도입 전에 올린 이미지, 파일 이름에 우연히 들어간 "v-"
+		assertThat(ImageVariant.hasVariants("profile_1_" + UUID + ".png")).isFalse();
+		assertThat(ImageVariant.hasVariants(UUID + "_dev-notes.png")).isFalse();
+		assertThat(ImageVariant.withVariants(List.of(svg))).containsExactly(svg);
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName("코어 수만큼의 작업자로 원본을 처리해 코어당 처리량을 측정한다")
+	void benchmarkThroughputPerCore() throws Exception {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int imagesPerSize = 40;
+		List<byte[]> originals = List.of(
+			image(1280, 960, "jpg", BufferedImage.TYPE_INT_RGB),
+			image(4032, 3024, "jpg", BufferedImage.TYPE_INT_RGB),
+			image(800, 800, "png", BufferedImage.TYPE_INT_ARGB));
+
+		// 워밍업
+		for (byte[] original : originals) {
+			processor.process(original);
+		}
+
+		for (byte[] original : originals) {
+			BufferedImage source = decode(original);
+			ExecutorService workers = Executors.newFixedThreadPool(cores);
+			try {
+				long start = System.nanoTime();
+				List<Future<Map<ImageVariant, byte[]>>> results = new ArrayList<>();
+				for (int i = 0; i < imagesPerSize; i++) {
+					results.add(workers.submit(() -> processor.process(original)));
+				}
+				for (Future<Map<ImageVariant, byte[]>> result : results) {
+					assertThat(result.get()).hasSize(ImageVariant.values().length);
+				}
+				double seconds = (System.nanoTime() - start) / 1e9;
+
+				System.out.printf("[ImageVariant benchmark] %dx%d (%dKB), images=%d, workers=%d, "
+						+ "%.1f images/s, %.2f images/s/core%n",
+					source.getWidth(), source.getHeight(), original.length / 1024, imagesPerSize, cores,
+					imagesPerSize / seconds, imagesPerSize / seconds / cores);
+			} finally {
+				workers.shutdown();
+			}
+		}
+	}
+}
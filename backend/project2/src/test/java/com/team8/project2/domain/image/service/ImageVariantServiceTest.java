@@ -0,0 +1,140 @@
+package com.team8.project2.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.team8.project2.domain.image.entity.ImageVariant;
+import com.team8.project2.domain.image.entity.ImageVariantTask;
+import com.team8.project2.domain.image.event.ImageUploadedEvent;
+import com.team8.project2.domain.image.event.ImageVariantsCreatedEvent;
+import com.team8.project2.domain.image.repository.ImageVariantTaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageVariantServiceTest {
+
+	private static final String IMAGE_NAME = "profile_1_v-3f2b8c1e-7a4d-4e5f-9b6a-0c1d2e3f4a5b.png";
+
+	private ImageVariantService imageVariantService;
+
+	@Mock
+	private S3Uploader s3Uploader;
+
+	@Mock
+	private ImageVariantProcessor imageVariantProcessor;
+
+	@Mock
+	private ImageVariantTaskRepository imageVariantTaskRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void setUp() {
+		imageVariantService = new ImageVariantService(s3Uploader, imageVariantProcessor, imageVariantTaskRepository,
+			eventPublisher, transactionManager, new SimpleMeterRegistry(), Duration.ofSeconds(30), Duration.ofHours(1));
+	}
+
+	private ImageVariantTask task(int attempts) {
+		return ImageVariantTask.builder().id(1L).objectKey(IMAGE_NAME).attempts(attempts)
+			.nextAttemptAt(LocalDateTime.now()).build();
+	}
+
+	@Test
+	@DisplayName("변형 이미지를 만드는 원본만 작업으로 남긴다")
+	void enqueue() {
+		imageVariantService.enqueue(new ImageUploadedEvent(IMAGE_NAME));
+		imageVariantService.enqueue(new ImageUploadedEvent("default-profile.svg"));
+
+		ArgumentCaptor<ImageVariantTask> saved = ArgumentCaptor.forClass(ImageVariantTask.class);
+		verify(imageVariantTaskRepository).save(saved.capture());
+		assertThat(saved.getValue().getObjectKey()).isEqualTo(IMAGE_NAME);
+		// 커밋 직후의 처리와 겹치지 않도록 주기적 재시도는 나중에 시작
+		assertThat(saved.getValue().getNextAttemptAt()).isAfter(LocalDateTime.now());
+	}
+
+	@Test
+	@DisplayName("변형 이미지를 모두 올리면 작업을 지우고 완료 이벤트를 발행한다")
+	void run() throws IOException {
+		byte[] original = "original".getBytes();
+		byte[] thumbnail = "thumbnail".getBytes();
+		when(s3Uploader.downloadFile(IMAGE_NAME)).thenReturn(original);
+		when(imageVariantProcessor.process(original)).thenReturn(Map.of(ImageVariant.THUMBNAIL, thumbnail));
+
+		imageVariantService.run(task(0));
+
+		verify(s3Uploader).uploadBytes(ImageVariant.THUMBNAIL.keyOf(IMAGE_NAME), "image/jpeg", thumbnail);
+		verify(imageVariantTaskRepository).deleteAllByIdInBatch(List.of(1L));
+		ArgumentCaptor<ImageVariantsCreatedEvent> event = ArgumentCaptor.forClass(ImageVariantsCreatedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getImageName()).isEqualTo(IMAGE_NAME);
+	}
+
+	@Test
+	@DisplayName("저장소 오류로 실패하면 작업을 남겨 두고 다음 시도 시각을 늦춘다")
+	void retryOnStorageFailure() {
+		ImageVariantTask task = task(2);
+		when(s3Uploader.downloadFile(IMAGE_NAME)).thenThrow(SdkClientException.create("timeout"));
+		when(imageVariantTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+		LocalDateTime before = LocalDateTime.now();
+		imageVariantService.run(task);
+
+		assertThat(task.getAttempts()).isEqualTo(3);
+		assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plusMinutes(2));
+		assertThat(task.getLastError()).isEqualTo("timeout");
+		verify(imageVariantTaskRepository, never()).deleteAllByIdInBatch(any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("처리 전에 원본이 지워졌으면 작업을 지우고 완료 이벤트를 발행하지 않는다")
+	void dropWhenOriginalIsGone() {
+		when(s3Uploader.downloadFile(IMAGE_NAME)).thenThrow(NoSuchKeyException.builder().message("gone").build());
+
+		imageVariantService.run(task(0));
+
+		verify(imageVariantTaskRepository).deleteAllByIdInBatch(List.of(1L));
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("재시작 등으로 처리되지 못한 작업은 주기적 재시도에서 처리한다")
+	void retryPending() throws IOException {
+		LocalDateTime now = LocalDateTime.now();
+		when(imageVariantTaskRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now,
+			PageRequest.of(0, ImageVariantService.RETRY_BATCH_SIZE))).thenReturn(List.of(task(0)));
+		when(s3Uploader.downloadFile(IMAGE_NAME)).thenReturn("original".getBytes());
+		when(imageVariantProcessor.process(any())).thenReturn(Map.of(ImageVariant.THUMBNAIL, new byte[] {1}));
+
+		imageVariantService.retryPending(now);
+
+		verify(imageVariantTaskRepository).deleteAllByIdInBatch(List.of(1L));
+		verify(eventPublisher).publishEvent(any(ImageVariantsCreatedEvent.class));
+	}
+}
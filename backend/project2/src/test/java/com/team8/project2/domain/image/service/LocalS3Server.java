@@ -0,0 +1,145 @@
+package com.team8.project2.domain.image.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 테스트용 로컬 S3 대역입니다.
+ * 경로 방식(path-style) 요청 중 삭제 큐 테스트에 필요한 것만 메모리로 흉내 냅니다.
+ * <ul>
+ *     <li>POST /{bucket}?delete: DeleteObjects (실패시킬 키와 요청 전체 실패를 지정 가능)</li>
+ *     <li>PUT /{bucket}/{key}: PutObject</li>
+ * </ul>
+ */
+class LocalS3Server implements AutoCloseable {
+
+	private static final Pattern KEY = Pattern.compile("<Key>(.*?)</Key>");
+
+	private final HttpServer server;
+	private final Set<String> objects = ConcurrentHashMap.newKeySet();
+	private final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+	private final List<List<String>> deleteRequests = new CopyOnWriteArrayList<>();
+	private volatile boolean unavailable;
+
+	LocalS3Server() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	/**
+	 * 이 서버로 요청을 보내는 S3 클라이언트를 만듭니다. (SDK 재시도 없음)
+	 */
+	S3Client client() {
+		return S3Client.builder()
+			.endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+			.region(Region.AP_NORTHEAST_2)
+			.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+			.forcePathStyle(true)
+			.overrideConfiguration(config -> config.retryStrategy(AwsRetryStrategy.doNotRetry()))
+			.build();
+	}
+
+	void putObjects(Collection<String> keys) {
+		objects.addAll(keys);
+	}
+
+	Set<String> objects() {
+		return objects;
+	}
+
+	/** 지정한 키는 DeleteObjects 응답에서 오류로 돌려줍니다. */
+	void failDeletesOf(Collection<String> keys) {
+		failingKeys.clear();
+		failingKeys.addAll(keys);
+	}
+
+	/** 모든 요청에 503 응답을 돌려줍니다. */
+	void setUnavailable(boolean unavailable) {
+		this.unavailable = unavailable;
+	}
+
+	/** 받은 DeleteObjects 요청별 객체 키 목록 */
+	List<List<String>> deleteRequests() {
+		return deleteRequests;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			if (unavailable) {
+				respond(exchange, 503, "<Error><Code>ServiceUnavailable</Code><Message>Reduce your request rate.</Message></Error>");
+				return;
+			}
+
+			String method = exchange.getRequestMethod();
+			String query = exchange.getRequestURI().getRawQuery();
+			if (method.equals("POST") && query != null && query.startsWith("delete")) {
+				respond(exchange, 200, deleteObjects(new String(body, StandardCharsets.UTF_8)));
+			} else if (method.equals("PUT")) {
+				String path = exchange.getRequestURI().getPath();
+				objects.add(path.substring(path.indexOf('/', 1) + 1));
+				respond(exchange, 200, "");
+			} else {
+				respond(exchange, 501, "<Error><Code>NotImplemented</Code><Message>" + method + "</Message></Error>");
+			}
+		}
+	}
+
+	private String deleteObjects(String requestXml) {
+		List<String> keys = new ArrayList<>();
+		Matcher matcher = KEY.matcher(requestXml);
+		while (matcher.find()) {
+			keys.add(matcher.group(1));
+		}
+		deleteRequests.add(keys);
+
+		StringBuilder result = new StringBuilder(
+			"<?xml version=\"1.0\" encoding=\"UTF-8\"?><DeleteResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+		for (String key : keys) {
+			if (failingKeys.contains(key)) {
+				result.append("<Error><Key>").append(key)
+					.append("</Key><Code>InternalError</Code><Message>We encountered an internal error.</Message></Error>");
+			} else {
+				objects.remove(key);
+			}
+		}
+		return result.append("</DeleteResult>").toString();
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/xml");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+	}
+}
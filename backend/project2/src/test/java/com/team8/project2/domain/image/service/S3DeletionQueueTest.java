@@ -0,0 +1,168 @@
+package com.team8.project2.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team8.project2.domain.image.entity.S3DeletionTask;
+import com.team8.project2.domain.image.repository.S3DeletionTaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class S3DeletionQueueTest {
+
+	@Autowired
+	private S3DeletionTaskRepository s3DeletionTaskRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private LocalS3Server localS3;
+	private SimpleMeterRegistry meterRegistry;
+	private S3DeletionQueue s3DeletionQueue;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		localS3 = new LocalS3Server();
+		S3Uploader s3Uploader = new S3Uploader(localS3.client(), null);
+		ReflectionTestUtils.setField(s3Uploader, "bucketName", "test-bucket");
+
+		meterRegistry = new SimpleMeterRegistry();
+		s3DeletionQueue = new S3DeletionQueue(s3DeletionTaskRepository, s3Uploader, meterRegistry,
+			Duration.ofSeconds(30), Duration.ofHours(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3DeletionTaskRepository.deleteAll();
+		localS3.close();
+	}
+
+	private void enqueue(List<String> keys) {
+		localS3.putObjects(keys);
+		s3DeletionQueue.enqueue(keys);
+	}
+
+	private long batches(String result) {
+		return meterRegistry.get("s3.delete.batch").tag("result", result).timer().count();
+	}
+
+	@Test
+	@DisplayName("대기 중인 객체를 최대 1000개씩 묶어 DeleteObjects 요청으로 삭제해야 한다.")
+	void deletesInBatchesOfThousand() {
+		List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "image-" + i + ".png").toList();
+		enqueue(keys);
+
+		s3DeletionQueue.drain();
+
+		assertThat(localS3.deleteRequests()).extracting(List::size).containsExactly(1000, 1000, 500);
+		assertThat(localS3.objects()).isEmpty();
+		assertThat(s3DeletionTaskRepository.count()).isZero();
+		assertThat(batches("success")).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("일부 객체 삭제가 실패하면 해당 객체만 백오프 후 다시 시도해야 한다.")
+	void retriesOnlyFailedKeys() {
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		enqueue(List.of("a.png", "b.png", "c.png"));
+		localS3.failDeletesOf(List.of("b.png"));
+
+		s3DeletionQueue.drain(now);
+
+		List<S3DeletionTask> remaining = s3DeletionTaskRepository.findAll();
+		assertThat(remaining).extracting(S3DeletionTask::getObjectKey).containsExactly("b.png");
+		assertThat(remaining.get(0).getAttempts()).isEqualTo(1);
+		assertThat(remaining.get(0).getNextAttemptAt()).isEqualTo(now.plusSeconds(30));
+		assertThat(remaining.get(0).getLastError()).contains("InternalError");
+		assertThat(localS3.objects()).containsExactly("b.png");
+		assertThat(batches("partial")).isEqualTo(1);
+
+		// 대기 시간 전에는 다시 시도하지 않음
+		s3DeletionQueue.drain(now);
+		assertThat(localS3.deleteRequests()).hasSize(1);
+
+		localS3.failDeletesOf(List.of());
+		s3DeletionQueue.drain(now.plusSeconds(30));
+		assertThat(localS3.objects()).isEmpty();
+		assertThat(s3DeletionTaskRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("S3 요청 자체가 실패하면 모든 작업의 재시도 간격을 두 배씩 늘려야 한다.")
+	void backsOffWhenS3IsUnavailable() {
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		enqueue(List.of("x.png", "y.png"));
+		localS3.setUnavailable(true);
+
+		s3DeletionQueue.drain(now);
+		LocalDateTime retryAt = now.plusSeconds(30);
+		s3DeletionQueue.drain(retryAt);
+
+		assertThat(s3DeletionTaskRepository.findAll()).allSatisfy(task -> {
+			assertThat(task.getAttempts()).isEqualTo(2);
+			assertThat(task.getNextAttemptAt()).isEqualTo(retryAt.plusSeconds(60));
+		});
+		assertThat(batches("failure")).isEqualTo(2);
+
+		localS3.setUnavailable(false);
+		s3DeletionQueue.drain(retryAt.plusSeconds(60));
+		assertThat(localS3.objects()).isEmpty();
+		assertThat(s3DeletionTaskRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("삭제 예약은 호출한 트랜잭션이 롤백되면 함께 취소되어야 한다.")
+	void enqueueJoinsCallerTransaction() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			s3DeletionQueue.enqueue(List.of("rolled-back.png"));
+			status.setRollbackOnly();
+		});
+
+		assertThat(s3DeletionTaskRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("시각을 지정한 삭제 예약은 그 전에 취소하면 삭제하지 않아야 한다.")
+	void delayedDeletionCanBeCancelled() {
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		localS3.putObjects(List.of("confirmed.png", "abandoned.png"));
+		s3DeletionQueue.enqueue(List.of("confirmed.png"), now.plusDays(1));
+		s3DeletionQueue.enqueue(List.of("abandoned.png"), now.plusDays(1));
+
+		s3DeletionQueue.drain(now);
+		assertThat(localS3.deleteRequests()).isEmpty();
+
+		s3DeletionQueue.cancel("confirmed.png");
+		s3DeletionQueue.drain(now.plusDays(1));
+
+		assertThat(localS3.objects()).containsExactly("confirmed.png");
+		assertThat(s3DeletionTaskRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("재시도 대기 시간은 최대값을 넘지 않아야 한다.")
+	void capsBackoff() {
+		assertThat(s3DeletionQueue.backoff(0)).isEqualTo(Duration.ofSeconds(30));
+		assertThat(s3DeletionQueue.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(s3DeletionQueue.backoff(10)).isEqualTo(Duration.ofHours(1));
+		assertThat(s3DeletionQueue.backoff(100)).isEqualTo(Duration.ofHours(1));
+	}
+}
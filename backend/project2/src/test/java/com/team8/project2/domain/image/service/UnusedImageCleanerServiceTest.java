@@ -1,46 +1,110 @@
 package com.team8.project2.domain.image.service;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.team8.project2.domain.image.entity.CurationImage;
+import com.team8.project2.domain.image.entity.ImageCleanupRun;
+import com.team8.project2.domain.image.entity.ImageVariant;
 import com.team8.project2.domain.image.repository.CurationImageRepository;
+import com.team8.project2.domain.image.repository.ImageCleanupRunRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class UnusedImageCleanerServiceTest {
 
-	@InjectMocks
+	private static final int CHUNK_SIZE = 2;
+
 	private UnusedImageCleanerService unusedImageCleanerService;
 
 	@Mock
 	private CurationImageRepository curationImageRepository;
 
 	@Mock
-	private S3Uploader s3Uploader;
+	private ImageCleanupRunRepository imageCleanupRunRepository;
+
+	@Mock
+	private S3DeletionQueue s3DeletionQueue;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final LocalDateTime now = LocalDateTime.of(2025, 3, 20, 5, 0);
+
+	@BeforeEach
+	void setUp() {
+		unusedImageCleanerService = new UnusedImageCleanerService(curationImageRepository, imageCleanupRunRepository,
+			s3DeletionQueue, transactionManager, new SimpleMeterRegistry(), CHUNK_SIZE);
+	}
+
+	private CurationImage image(long id) {
+		return CurationImage.builder().id(id).imageName("image-" + id + ".png").build();
+	}
 
 	@Test
-	@DisplayName("이미지 삭제 스케줄러에서 삭제 작업이 수행된다")
+	@DisplayName("미사용 이미지를 청크 단위로 삭제하고 S3 삭제를 예약한 뒤 작업을 완료 처리한다")
 	public void testCleanUnusedImages() {
-		var imageName = "imageName.png";
-		when(curationImageRepository.findUnusedImages(any(LocalDateTime.class)))
-			.thenReturn(List.of(CurationImage.builder()
-				.imageName(imageName)
-				.build()));
-
-		// when: cleanUnusedImages 메서드 호출
-		unusedImageCleanerService.cleanUnusedImages();
-
-		// then: deleteUnusedImage 메서드가 호출되었는지 확인
-		verify(curationImageRepository, times(1)).delete(any(CurationImage.class));
-		verify(s3Uploader, times(1)).deleteFile(imageName);
+		LocalDateTime cutoffDate = now.minusDays(1);
+		ImageCleanupRun run = ImageCleanupRun.builder().id(1L).cutoffDate(cutoffDate).startedAt(now).build();
+		when(imageCleanupRunRepository.findFirstByFinishedAtIsNullOrderByIdDesc()).thenReturn(Optional.empty());
+		when(imageCleanupRunRepository.save(any(ImageCleanupRun.class))).thenReturn(run);
+		when(imageCleanupRunRepository.findById(1L)).thenReturn(Optional.of(run));
+		when(curationImageRepository.findUnusedImages(eq(cutoffDate), anyLong(), eq(PageRequest.of(0, CHUNK_SIZE))))
+			.thenReturn(List.of(image(1), image(2)), List.of(image(3)), List.of());
+
+		// when: 정리 작업 실행
+		UnusedImageCleanerService.CleanupReport report = unusedImageCleanerService.clean(now);
+
+		// then: 청크마다 일괄 삭제와 S3 삭제 예약, 체크포인트 갱신
+		verify(curationImageRepository).findUnusedImages(cutoffDate, 0L, PageRequest.of(0, CHUNK_SIZE));
+		verify(curationImageRepository).findUnusedImages(cutoffDate, 2L, PageRequest.of(0, CHUNK_SIZE));
+		verify(curationImageRepository).findUnusedImages(cutoffDate, 3L, PageRequest.of(0, CHUNK_SIZE));
+		verify(curationImageRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(curationImageRepository).deleteAllByIdInBatch(List.of(3L));
+		verify(s3DeletionQueue).enqueue(ImageVariant.withVariants(List.of("image-1.png", "image-2.png")));
+		verify(s3DeletionQueue).enqueue(ImageVariant.withVariants(List.of("image-3.png")));
+		verify(transactionManager, times(4)).commit(any());
+
+		assertThat(report.deleted()).isEqualTo(3);
+		assertThat(report.chunks()).isEqualTo(2);
+		assertThat(run.getDeletedCount()).isEqualTo(3);
+		assertThat(run.getLastImageId()).isEqualTo(3L);
+		assertThat(run.isFinished()).isTrue();
+	}
+
+	@Test
+	@DisplayName("중단된 작업이 있으면 기준 시각과 마지막 처리 ID를 이어받아 처리한다")
+	public void testResumeInterruptedRun() {
+		LocalDateTime cutoffDate = now.minusDays(3);
+		ImageCleanupRun interrupted = ImageCleanupRun.builder()
+			.id(7L).cutoffDate(cutoffDate).lastImageId(100L).deletedCount(40).startedAt(now.minusDays(2)).build();
+		when(imageCleanupRunRepository.findFirstByFinishedAtIsNullOrderByIdDesc()).thenReturn(Optional.of(interrupted));
+		when(imageCleanupRunRepository.findById(7L)).thenReturn(Optional.of(interrupted));
+		when(curationImageRepository.findUnusedImages(eq(cutoffDate), anyLong(), eq(PageRequest.of(0, CHUNK_SIZE))))
+			.thenReturn(List.of(image(101)), List.of());
+
+		UnusedImageCleanerService.CleanupReport report = unusedImageCleanerService.clean(now);
+
+		verify(imageCleanupRunRepository, never()).save(any());
+		verify(curationImageRepository).findUnusedImages(cutoffDate, 100L, PageRequest.of(0, CHUNK_SIZE));
+		verify(curationImageRepository).findUnusedImages(cutoffDate, 101L, PageRequest.of(0, CHUNK_SIZE));
+		assertThat(report.runId()).isEqualTo(7L);
+		assertThat(report.deleted()).isEqualTo(1);
+		assertThat(interrupted.getDeletedCount()).isEqualTo(41);
+		assertThat(interrupted.isFinished()).isTrue();
 	}
-}
\ No newline at end of file
+}
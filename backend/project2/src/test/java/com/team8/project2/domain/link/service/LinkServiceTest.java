@@ -1,9 +1,13 @@
 package com.team8.project2.domain.link.service;
 
+import com.team8.project2.domain.link.dto.LinkClickResDto;
 import com.team8.project2.domain.link.dto.LinkReqDTO;
 import com.team8.project2.domain.link.entity.Link;
 import com.team8.project2.domain.link.repository.LinkRepository;
 import com.team8.project2.global.exception.ServiceException;
+import com.team8.project2.global.redis.ViewAdmission;
+import com.team8.project2.global.redis.ViewCounter;
+import com.team8.project2.global.redis.ViewTarget;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
-import java.time.Duration;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,7 +29,7 @@ class LinkServiceTest {
     private LinkRepository linkRepository;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private ViewCounter viewCounter;
 
     @Mock
     private HttpServletRequest request;
@@ -163,81 +165,69 @@ class LinkServiceTest {
 
     // 링크 클릭수 증가 테스트 (새로운 클릭)
     @Test
-    @DisplayName("링크 클릭수는 한 번만 증가해야 한다")
+    @DisplayName("새 클릭은 DB 클릭수에 대기 증가분을 더해 응답하고 DB에는 즉시 쓰지 않아야 한다")
     void GetLinkAndIncrementClick_NewClick() {
-        // Given: Redis와 링크 관련 의존성 준비
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(request.getRemoteAddr()).thenReturn("192.168.0.1"); // Mock IP 설정
-
-        // 첫 번째 클릭에서만 true 반환하고, 그 이후에는 false 반환하도록 설정
-        when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-                .thenReturn(true)  // 첫 번째 클릭에서는 키가 없으므로 true 반환
-                .thenReturn(false); // 두 번째 이후의 클릭에서는 키가 이미 있으므로 false 반환
-
-        // 링크 클릭 로직이 제대로 동작하도록 설정
+        // Given
+        when(request.getRemoteAddr()).thenReturn("192.168.0.1");
         when(linkRepository.findById(1L)).thenReturn(Optional.of(link));
-        when(linkRepository.save(any(Link.class))).thenReturn(link);
+        when(viewCounter.admit(ViewTarget.LINK, 1L, "192.168.0.1")).thenReturn(new ViewAdmission(true, 1));
 
-        // 클릭수 초기 상태 저장
-        int initialClickCount = link.getClick();
+        // When
+        LinkClickResDto result = linkService.getLinkAndIncrementClick(1L, request);
 
-        // When: 링크를 여러 번 클릭한다
-        linkService.getLinkAndIncrementClick(1L, request);  // 첫 번째 클릭
-        linkService.getLinkAndIncrementClick(1L, request);  // 두 번째 클릭
-        linkService.getLinkAndIncrementClick(1L, request);  // 세 번째 클릭
-
-        // Then: 클릭수는 한 번만 증가해야 한다
-        assertEquals(initialClickCount + 1, link.getClick()); // 클릭수가 1만 증가해야 한다.
+        // Then
+        assertEquals(1, result.getClick());
+        verify(viewCounter, times(1)).admit(ViewTarget.LINK, 1L, "192.168.0.1");
+        verify(linkRepository, never()).save(any(Link.class));
     }
 
     // 이미 클릭한 사용자에 대해 클릭수 증가하지 않는 테스트
     @Test
-    @DisplayName("이미 클릭한 경우 클릭수가 증가하지 않아야 한다")
+    @DisplayName("이미 클릭한 경우 대기 증가분만 반영되고 클릭수가 더 늘지 않아야 한다")
     void GetLinkAndIncrementClick_AlreadyClicked() {
-        // Given: Redis와 링크 관련 의존성 준비
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // Given: 다른 사용자의 클릭 2건이 아직 DB에 반영되지 않은 상태
         when(request.getRemoteAddr()).thenReturn("192.168.0.1");
-
-        // 이미 클릭한 경우 false 반환하도록 설정
-        when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-                .thenReturn(false); // 이미 클릭했으므로 false 반환
-
-        // 링크 클릭 로직이 제대로 동작하도록 설정
         when(linkRepository.findById(1L)).thenReturn(Optional.of(link));
+        when(viewCounter.admit(ViewTarget.LINK, 1L, "192.168.0.1")).thenReturn(new ViewAdmission(false, 2));
 
-        // 클릭수 초기 상태 저장
-        int initialClickCount = link.getClick();
+        // When
+        LinkClickResDto result = linkService.getLinkAndIncrementClick(1L, request);
 
-        // When: 링크를 클릭한다
-        linkService.getLinkAndIncrementClick(1L, request);  // 클릭 시도
-
-        // Then: 클릭수는 증가하지 않아야 한다
-        assertEquals(initialClickCount, link.getClick()); // 클릭수가 증가하지 않아야 한다.
-        verify(linkRepository, times(0)).save(any(Link.class)); // 링크 클릭수 증가하지 않음
+        // Then
+        assertEquals(2, result.getClick());
+        verify(linkRepository, never()).save(any(Link.class));
     }
 
     // 링크가 존재하지 않으면 예외 발생 테스트
     @Test
-    @DisplayName("링크가 존재하지 않으면 예외가 발생해야 한다")
+    @DisplayName("링크가 존재하지 않으면 예외가 발생하고 클릭이 기록되지 않아야 한다")
     void GetLinkAndIncrementClick_LinkNotFound() {
-        // Given: Redis와 링크 관련 의존성 준비
-        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // Given
         when(request.getRemoteAddr()).thenReturn("192.168.0.1");
-
-        // 첫 번째 클릭에서만 true 반환하도록 설정
-        when(valueOperations.setIfAbsent(anyString(), eq("true"), eq(Duration.ofMinutes(10))))
-                .thenReturn(true); // 첫 번째 클릭에서는 키가 없으므로 true 반환
-
-        // 링크 조회 시 존재하지 않는 링크를 반환하도록 설정
         when(linkRepository.findById(1L)).thenReturn(Optional.empty());
 
-        // When & Then: 링크가 존재하지 않으면 예외 발생
+        // When & Then
         ServiceException exception = assertThrows(ServiceException.class, () -> linkService.getLinkAndIncrementClick(1L, request));
         assertEquals("404-1", exception.getCode());
         assertEquals("해당 링크를 찾을 수 없습니다.", exception.getMessage());
+        verify(viewCounter, never()).admit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 클릭수 증가분을 DB에 반영해야 한다")
+    void SyncClickCountsToDB() {
+        // Given
+        when(viewCounter.flushPending(eq(ViewTarget.LINK), any())).thenAnswer(invocation -> {
+            BiConsumer<Long, Long> applier = invocation.getArgument(1);
+            applier.accept(1L, 3L);
+            return 1;
+        });
+
+        // When
+        linkService.syncClickCountsToDB();
+
+        // Then
+        verify(linkRepository, times(1)).increaseClick(1L, 3);
     }
 
 }
\ No newline at end of file
@@ -292,6 +292,12 @@ public class ApiV1MemberControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("200-3"))
                 .andDo(print());
+
+        // 로그아웃한 토큰은 만료 전이라도 다시 사용할 수 없음
+        mvc.perform(get("/api/v1/members/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized())
+                .andDo(print());
     }
 
     @Nested
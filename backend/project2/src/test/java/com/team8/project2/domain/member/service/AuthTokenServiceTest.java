@@ -1,6 +1,8 @@
 package com.team8.project2.domain.member.service;
 
 import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.entity.RoleEnum;
+import com.team8.project2.global.security.Actor;
 import com.team8.project2.standard.util.Ut;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
+import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -46,14 +49,41 @@ public class AuthTokenServiceTest {
 
         assertThat(accessToken).isNotBlank();
 
-        // Payload 검증
-        Map<String, Object> parsedPayload = authTokenService.getPayload(accessToken);
-        assertThat(parsedPayload).containsEntry("id", testMember.getId());
-        assertThat(parsedPayload).containsEntry("memberId", testMember.getMemberId());
+        // 클레임으로 만든 인증 주체 검증
+        Actor actor = authTokenService.getActor(accessToken).orElseThrow();
+        assertThat(actor.getId()).isEqualTo(testMember.getId());
+        assertThat(actor.getMemberId()).isEqualTo(testMember.getMemberId());
+        assertThat(actor.getUsername()).isEqualTo(testMember.getUsername());
+        assertThat(actor.getRole()).isEqualTo(testMember.getRole());
 
         System.out.println("AccessToken = " + accessToken);
     }
 
+    @Test
+    @DisplayName("role 클레임이 없는 이전 토큰은 일반 회원으로 인증한다")
+    void legacyTokenWithoutRole() {
+        String legacyToken = Ut.Jwt.createToken(keyString, expireSeconds,
+                Map.of("id", testMember.getId(), "memberId", testMember.getMemberId()));
+
+        Actor actor = authTokenService.getActor(legacyToken).orElseThrow();
+        assertThat(actor.getRole()).isEqualTo(RoleEnum.MEMBER);
+        assertThat(actor.isAdmin()).isFalse();
+    }
+
+    @Test
+    @DisplayName("권한이 바뀐 회원이 이전에 발급받은 토큰은 거부한다")
+    void revokeTokensOnRoleChange() {
+        // 다른 테스트가 쓰는 회원의 토큰이 폐기되지 않도록 새 회원 사용
+        Member member = memberService.join("revoked" + UUID.randomUUID(), "password", RoleEnum.MEMBER,
+                "revoked@example.com", null);
+        String accessToken = authTokenService.genAccessToken(member);
+        assertThat(authTokenService.getActor(accessToken)).isPresent();
+
+        memberService.changeRole(member.getMemberId(), RoleEnum.ADMIN);
+
+        assertThat(authTokenService.getActor(accessToken)).isEmpty();
+    }
+
     @Test
     @DisplayName("jwt access token 유효성 검사")
     void validateAccessToken() {
@@ -0,0 +1,113 @@
+package com.team8.project2.domain.playlist.service;
+
+import com.team8.project2.domain.curation.curation.repository.CurationRepository;
+import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.link.repository.LinkRepository;
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.playlist.dto.PlaylistDto;
+import com.team8.project2.domain.playlist.dto.PlaylistItemDto;
+import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.domain.playlist.entity.PlaylistItem;
+import com.team8.project2.domain.playlist.repository.PlaylistItemRepository;
+import com.team8.project2.global.security.Actor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlaylistAssemblerTest {
+
+    @InjectMocks
+    private PlaylistAssembler playlistAssembler;
+
+    @Mock
+    private PlaylistItemRepository playlistItemRepository;
+
+    @Mock
+    private LinkRepository linkRepository;
+
+    @Mock
+    private CurationRepository curationRepository;
+
+    @Test
+    @DisplayName("여러 플레이리스트를 변환해도 아이템, 링크, 큐레이션 제목은 각각 한 번만 조회해야 한다.")
+    void shouldLoadItemsLinksAndCurationTitlesOnce() {
+        // Given
+        Member owner = Member.builder().id(1L).username("작성자").build();
+        Playlist first = Playlist.builder().id(1L).title("첫 번째").description("d").member(owner).tags(new HashSet<>()).build();
+        Playlist second = Playlist.builder().id(2L).title("두 번째").description("d").member(owner).tags(new HashSet<>()).build();
+        Playlist empty = Playlist.builder().id(3L).title("빈 목록").description("d").member(owner).tags(new HashSet<>()).build();
+
+        List<PlaylistItem> items = List.of(
+                item(10L, first, 100L, PlaylistItem.PlaylistItemType.LINK, 0),
+                item(11L, first, 200L, PlaylistItem.PlaylistItemType.CURATION, 1),
+                item(12L, second, 100L, PlaylistItem.PlaylistItemType.LINK, 0)
+        );
+        when(playlistItemRepository.findAllByPlaylistIds(List.of(1L, 2L, 3L))).thenReturn(items);
+
+        Link link = Link.builder().id(100L).url("https://example.com").title("링크 제목").description("링크 설명").build();
+        when(linkRepository.findAllById(Set.of(100L))).thenReturn(List.of(link));
+
+        List<Object[]> curationTitles = new ArrayList<>();
+        curationTitles.add(new Object[]{200L, "큐레이션 제목"});
+        when(curationRepository.findTitlesByIds(Set.of(200L))).thenReturn(curationTitles);
+
+        // When
+        List<PlaylistDto> dtos = playlistAssembler.toDtos(List.of(first, second, empty), Actor.from(owner));
+
+        // Then
+        assertEquals(3, dtos.size());
+        assertEquals(2, dtos.get(0).getItems().size());
+        assertEquals("링크 제목", dtos.get(0).getItems().get(0).getTitle());
+        assertEquals("큐레이션 제목", dtos.get(0).getItems().get(1).getTitle());
+        assertEquals(200L, dtos.get(0).getItems().get(1).getCurationId());
+        assertEquals("https://example.com", dtos.get(1).getItems().get(0).getUrl());
+        assertTrue(dtos.get(2).getItems().isEmpty());
+        assertTrue(dtos.get(0).isOwner());
+
+        verify(playlistItemRepository, times(1)).findAllByPlaylistIds(anyCollection());
+        verify(linkRepository, times(1)).findAllById(anyIterable());
+        verify(curationRepository, times(1)).findTitlesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("불러온 아이템 목록으로 변환할 때는 엔티티 목록 순서가 아니라 표시 순서대로 반환해야 한다.")
+    void shouldSortLoadedItemsByDisplayOrder() {
+        // Given: 순서 변경 직후처럼 엔티티 목록 순서와 표시 순서가 다른 상태
+        Member owner = Member.builder().id(1L).username("작성자").build();
+        Playlist playlist = Playlist.builder().id(1L).title("플레이리스트").description("d").member(owner)
+                .tags(new HashSet<>()).build();
+        playlist.setItems(new ArrayList<>(List.of(
+                item(10L, playlist, 100L, PlaylistItem.PlaylistItemType.LINK, 2),
+                item(11L, playlist, 101L, PlaylistItem.PlaylistItemType.LINK, 0),
+                item(12L, playlist, 102L, PlaylistItem.PlaylistItemType.LINK, 1),
+                item(9L, playlist, 103L, PlaylistItem.PlaylistItemType.LINK, 1)
+        )));
+        when(linkRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        // When
+        PlaylistDto dto = playlistAssembler.toDtoWithItems(playlist, Actor.from(owner));
+
+        // Then
+        assertEquals(List.of(11L, 9L, 12L, 10L), dto.getItems().stream().map(PlaylistItemDto::getId).toList());
+        verifyNoInteractions(playlistItemRepository);
+    }
+
+    private PlaylistItem item(Long id, Playlist playlist, Long itemId, PlaylistItem.PlaylistItemType type, int order) {
+        return PlaylistItem.builder()
+                .id(id)
+                .playlist(playlist)
+                .itemId(itemId)
+                .itemType(type)
+                .displayOrder(order)
+                .build();
+    }
+}
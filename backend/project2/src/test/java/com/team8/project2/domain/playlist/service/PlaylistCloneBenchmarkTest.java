@@ -0,0 +1,105 @@
+package com.team8.project2.domain.playlist.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.team8.project2.domain.member.entity.Member;
+import com.team8.project2.domain.member.repository.MemberRepository;
+import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.domain.playlist.entity.PlaylistItem;
+import com.team8.project2.domain.playlist.repository.PlaylistItemRepository;
+import com.team8.project2.domain.playlist.repository.PlaylistRepository;
+import com.team8.project2.global.Rq;
+import com.team8.project2.global.security.Actor;
+
+/**
+ * 플레이리스트 복제 지연 시간 측정 테스트입니다. (./gradlew benchmark)
+ * 아이템 수가 늘어나도 복제 쿼리 수가 일정하므로 지연 시간이 크게 늘지 않아야 합니다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+class PlaylistCloneBenchmarkTest {
+
+	private static final int[] ITEM_COUNTS = {10, 100, 500, 2000};
+	private static final int WARMUP = 3;
+	private static final int ITERATIONS = 10;
+
+	@Autowired
+	private PlaylistService playlistService;
+
+	@Autowired
+	private PlaylistRepository playlistRepository;
+
+	@Autowired
+	private PlaylistItemRepository playlistItemRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private Rq rq;
+
+	@Test
+	@DisplayName("복제 지연 시간은 아이템 수와 무관하게 일정해야 한다")
+	void cloneLatencyStaysFlat() {
+		Member member = memberRepository.findById(1L).get();
+		rq.setLogin(Actor.from(member));
+
+		for (int itemCount : ITEM_COUNTS) {
+			Long sourceId = createPlaylist(member, itemCount);
+
+			for (int i = 0; i < WARMUP; i++) {
+				playlistService.addPublicPlaylist(sourceId);
+			}
+
+			long[] elapsed = new long[ITERATIONS];
+			Long clonedId = null;
+			for (int i = 0; i < ITERATIONS; i++) {
+				long start = System.nanoTime();
+				clonedId = playlistService.addPublicPlaylist(sourceId);
+				elapsed[i] = System.nanoTime() - start;
+			}
+
+			Arrays.sort(elapsed);
+			System.out.printf("[clone] items=%5d  p50=%7.2fms  max=%7.2fms%n",
+				itemCount, elapsed[ITERATIONS / 2] / 1e6, elapsed[ITERATIONS - 1] / 1e6);
+
+			assertThat(playlistItemRepository.findIdsByPlaylistId(clonedId)).hasSize(itemCount);
+		}
+	}
+
+	private Long createPlaylist(Member member, int itemCount) {
+		Playlist playlist = Playlist.builder()
+			.title("benchmark-" + itemCount)
+			.description("복제 벤치마크")
+			.isPublic(true)
+			.member(member)
+			.tags(new HashSet<>())
+			.build();
+
+		List<PlaylistItem> items = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			items.add(PlaylistItem.builder()
+				.itemId((long)i + 1)
+				.itemType(PlaylistItem.PlaylistItemType.LINK)
+				.displayOrder(i)
+				.playlist(playlist)
+				.build());
+		}
+		playlist.setItems(items);
+
+		return playlistRepository.save(playlist).getId();
+	}
+}
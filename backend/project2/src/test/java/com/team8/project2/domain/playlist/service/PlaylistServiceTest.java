@@ -4,13 +4,24 @@ import com.team8.project2.domain.member.entity.Member;
 import com.team8.project2.domain.member.repository.MemberRepository;
 import com.team8.project2.domain.playlist.dto.PlaylistCreateDto;
 import com.team8.project2.domain.playlist.dto.PlaylistDto;
+import com.team8.project2.domain.playlist.dto.PlaylistExplorePageDto;
+import com.team8.project2.domain.playlist.dto.PlaylistItemDto;
+import com.team8.project2.domain.playlist.dto.PlaylistItemMoveDto;
 import com.team8.project2.domain.playlist.dto.PlaylistUpdateDto;
 import com.team8.project2.domain.playlist.entity.Playlist;
+import com.team8.project2.domain.playlist.entity.PlaylistExploreSort;
 import com.team8.project2.domain.playlist.entity.PlaylistItem;
+import com.team8.project2.domain.playlist.event.PlaylistItemRebalanceEvent;
+import com.team8.project2.domain.playlist.repository.PlaylistItemRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistLikeRepository;
 import com.team8.project2.domain.playlist.repository.PlaylistRepository;
+import com.team8.project2.domain.recommendation.service.ItemSimilarityService;
+import com.team8.project2.global.Rq;
 import com.team8.project2.global.exception.BadRequestException;
 import com.team8.project2.global.exception.NotFoundException;
+import com.team8.project2.global.redis.LuaScript;
+import com.team8.project2.global.security.Actor;
+import com.team8.project2.global.store.CounterStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,9 +29,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
@@ -43,13 +53,25 @@ class PlaylistServiceTest {
     private PlaylistLikeRepository playlistLikeRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private CounterStore counterStore;
 
     @Mock
-    private ZSetOperations<String, Object> zSetOperations;
+    private ItemSimilarityService itemSimilarityService;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private PlaylistExploreCache playlistExploreCache;
+
+    @Mock
+    private PlaylistItemRepository playlistItemRepository;
+
+    @Mock
+    private Rq rq;
+
+    @Mock
+    private PlaylistAssembler playlistAssembler;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private Playlist samplePlaylist;
 
@@ -74,8 +96,19 @@ class PlaylistServiceTest {
         lenient().when(memberRepository.findById(sampleMember.getId())).thenReturn(Optional.of(sampleMember));
         lenient().when(playlistRepository.findById(samplePlaylist.getId())).thenReturn(Optional.of(samplePlaylist));
 
-        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(playlistAssembler.toDtos(anyList(), any())).thenAnswer(invocation -> {
+            List<Playlist> playlists = invocation.getArgument(0);
+            Actor actor = invocation.getArgument(1);
+            return playlists.stream().map(playlist -> toDto(playlist, actor)).toList();
+        });
+        lenient().when(playlistAssembler.toDtoWithItems(any(), any())).thenAnswer(invocation ->
+                toDto(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    private static PlaylistDto toDto(Playlist playlist, Actor actor) {
+        return PlaylistDto.of(playlist, playlist.getItems().stream()
+                .map(item -> PlaylistItemDto.of(item, item.getLink(), null))
+                .toList(), actor);
     }
 
     @Test
@@ -162,6 +195,8 @@ class PlaylistServiceTest {
         assertNotNull(updatedPlaylist);
         assertEquals(request.getTitle(), updatedPlaylist.getTitle());
         assertEquals(request.getDescription(), updatedPlaylist.getDescription());
+        // 태그/아이템 변경은 수정 시각에 반영되지 않을 수 있으므로 구성 버전이 올라가야 함
+        assertEquals(1L, samplePlaylist.getContentVersion());
     }
 
     @Test
@@ -308,28 +343,40 @@ class PlaylistServiceTest {
         playlistService.recordPlaylistView(playlistId);
 
         // Then
-        verify(zSetOperations, times(1)).incrementScore("playlist:view_count", playlistId.toString(), 1);
+        verify(counterStore, times(1)).incrementScore("playlist:view_count", playlistId.toString(), 1);
     }
 
     /** ✅ 좋아요 증가 테스트 (Redis 반영) */
     @Test
-    @DisplayName("좋아요가 Redis에서 정상적으로 증가해야 한다.")
+    @DisplayName("좋아요는 Lua 스크립트 한 번으로 Redis에 반영되고 DB에는 즉시 쓰지 않아야 한다.")
     void shouldIncreaseLikeCountInRedis() {
         Long playlistId = 1L;
         Long memberId = 1L;
 
         // Given
-        when(zSetOperations.score("playlist:like_count", playlistId.toString()))
-                .thenReturn(1.0);
-        when(redisTemplate.opsForZSet().incrementScore("playlist:like_count", playlistId.toString(), 1))
-                .thenReturn(1.0);
+        when(playlistRepository.existsById(playlistId)).thenReturn(true);
+        when(counterStore.execute(eq(LuaScript.PLAYLIST_LIKE_TOGGLE), anyList(), any(), any()))
+                .thenReturn(List.of(1L, 1L));
 
         // When
-        playlistService.likePlaylist(playlistId, memberId);
+        long likeCount = playlistService.likePlaylist(playlistId, memberId);
 
         // Then
-        verify(zSetOperations, times(1)).incrementScore("playlist:like_count", playlistId.toString(), 1);
-        assertEquals(1L, samplePlaylist.getLikeCount());
+        assertEquals(1L, likeCount);
+        verify(counterStore, times(1)).execute(eq(LuaScript.PLAYLIST_LIKE_TOGGLE),
+                eq(List.of("playlist_like:1", "member_liked_playlists:1", "playlist:like_dirty", "similarity:dirty:playlist")),
+                eq(1L), eq(1L));
+        verify(playlistRepository, never()).save(any(Playlist.class));
+        assertEquals(0L, samplePlaylist.getLikeCount());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 플레이리스트에는 좋아요를 누를 수 없어야 한다.")
+    void shouldNotLikeMissingPlaylist() {
+        when(playlistRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> playlistService.likePlaylist(99L, 1L));
+        verify(counterStore, never()).execute(any(LuaScript.class), anyList(), any(), any());
     }
 
     /** ✅ 추천 플레이리스트 조회 테스트 (Redis 캐싱 적용) */
@@ -340,7 +387,7 @@ class PlaylistServiceTest {
         List<Long> cachedPlaylistIds = Arrays.asList(2L, 3L);
 
         // Given - Redis에서 추천 데이터가 존재하는 경우
-        when(valueOperations.get("playlist:recommend:" + playlistId)).thenReturn(cachedPlaylistIds);
+        when(counterStore.get("playlist:recommend:" + playlistId)).thenReturn("2,3");
         when(playlistRepository.findAllById(cachedPlaylistIds))
                 .thenReturn(Arrays.asList(
                         Playlist.builder().id(2L).title("추천1").description("설명1").tags(new HashSet<>()).build(),
@@ -352,7 +399,7 @@ class PlaylistServiceTest {
 
         // Then
         assertEquals(2, recommendations.size());
-        verify(valueOperations, times(1)).get("playlist:recommend:" + playlistId);
+        verify(counterStore, times(1)).get("playlist:recommend:" + playlistId);
         verify(playlistRepository, times(1)).findAllById(cachedPlaylistIds);
     }
 
@@ -467,17 +514,17 @@ class PlaylistServiceTest {
         String sortType = "combined";
 
         // ✅ Redis 캐시 없음
-        when(valueOperations.get("playlist:recommend:" + playlistId)).thenReturn(null);
+        when(counterStore.get("playlist:recommend:" + playlistId)).thenReturn(null);
 
         // ✅ 정확한 key 값으로 Stubbing 설정
-        Set<Object> trendingPlaylists = new HashSet<>(Arrays.asList("2", "3"));
-        Set<Object> popularPlaylists = new HashSet<>(Arrays.asList("3", "4"));
+        List<String> trendingPlaylists = Arrays.asList("2", "3");
+        List<String> popularPlaylists = Arrays.asList("3", "4");
 
-        doReturn(trendingPlaylists).when(zSetOperations).reverseRange(eq("playlist:view_count"), eq(0L), eq(5L));
-        doReturn(popularPlaylists).when(zSetOperations).reverseRange(eq("playlist:like_count"), eq(0L), eq(5L));
+        doReturn(trendingPlaylists).when(counterStore).reverseRange(eq("playlist:view_count"), eq(0L), eq(5L));
+        doReturn(popularPlaylists).when(counterStore).reverseRange(eq("playlist:like_count"), eq(0L), eq(5L));
 
-        doReturn(trendingPlaylists).when(zSetOperations).reverseRange(eq("trending:24h"), eq(0L), eq(5L));
-        doReturn(popularPlaylists).when(zSetOperations).reverseRange(eq("popular:24h"), eq(0L), eq(5L));
+        doReturn(trendingPlaylists).when(counterStore).reverseRange(eq("trending:24h"), eq(0L), eq(5L));
+        doReturn(popularPlaylists).when(counterStore).reverseRange(eq("popular:24h"), eq(0L), eq(5L));
 
         // ✅ Mock된 플레이리스트 데이터 준비
         List<Long> recommendedPlaylistIds = Arrays.asList(2L, 3L, 4L);
@@ -496,10 +543,188 @@ class PlaylistServiceTest {
         // ✅ 검증
         assertEquals(3, recommendations.size());
 
-        verify(valueOperations, times(1)).set(eq("playlist:recommend:" + playlistId), any(), any());
+        verify(counterStore, times(1)).set(eq("playlist:recommend:" + playlistId), any(), any());
+    }
+
+
+
+
+
+    @Test
+    @DisplayName("공개 플레이리스트 탐색은 캐시가 있으면 DB를 조회하지 않아야 한다.")
+    void shouldReturnCachedExplorePage() {
+        // Given
+        PlaylistExplorePageDto cachedPage = PlaylistExplorePageDto.builder()
+                .playlists(List.of())
+                .hasNext(false)
+                .build();
+        when(playlistExploreCache.get(PlaylistExploreSort.RECENT, null, 20)).thenReturn(Optional.of(cachedPage));
+
+        // When
+        PlaylistExplorePageDto page = playlistService.getPublicPlaylists(PlaylistExploreSort.RECENT, null, 20);
+
+        // Then
+        assertSame(cachedPage, page);
+        verify(playlistRepository, never()).findPublicByRecent(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("공개 플레이리스트 탐색은 다음 페이지가 있으면 마지막 항목 기준 커서를 반환해야 한다.")
+    void shouldReturnNextCursorWhenMorePlaylistsExist() {
+        // Given
+        List<Playlist> playlists = List.of(
+                Playlist.builder().id(5L).title("p5").description("d").likeCount(10L).viewCount(3L).tags(new HashSet<>()).build(),
+                Playlist.builder().id(4L).title("p4").description("d").likeCount(7L).viewCount(1L).tags(new HashSet<>()).build(),
+                Playlist.builder().id(3L).title("p3").description("d").likeCount(7L).viewCount(0L).tags(new HashSet<>()).build()
+        );
+        when(playlistExploreCache.get(PlaylistExploreSort.LIKES, null, 2)).thenReturn(Optional.empty());
+        when(playlistRepository.findPublicByLikes(eq(Long.MAX_VALUE), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(playlists);
+        List<Object[]> itemCounts = new ArrayList<>();
+        itemCounts.add(new Object[]{5L, 4L});
+        when(playlistRepository.countItemsByPlaylistIds(List.of(5L, 4L))).thenReturn(itemCounts);
+
+        // When
+        PlaylistExplorePageDto page = playlistService.getPublicPlaylists(PlaylistExploreSort.LIKES, null, 2);
+
+        // Then
+        assertEquals(2, page.getPlaylists().size());
+        assertTrue(page.isHasNext());
+        assertEquals("7_4", page.getNextCursor());
+        assertEquals(4L, page.getPlaylists().get(0).getItemCount());
+        assertEquals(0L, page.getPlaylists().get(1).getItemCount());
+        verify(playlistExploreCache).put(PlaylistExploreSort.LIKES, null, 2, page);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 탐색하면 예외가 발생해야 한다.")
+    void shouldThrowWhenExploreCursorIsInvalid() {
+        when(playlistExploreCache.get(PlaylistExploreSort.VIEWS, "abc", 20)).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class,
+                () -> playlistService.getPublicPlaylists(PlaylistExploreSort.VIEWS, "abc", 20));
+    }
+
+    @Test
+    @DisplayName("공개 플레이리스트 복제는 아이템과 태그를 한 번에 복사하고 그룹 관계를 재연결해야 한다.")
+    void shouldClonePublicPlaylistWithSetBasedCopy() {
+        // Given
+        Member owner = Member.builder().id(2L).username("원본 작성자").build();
+        Playlist publicPlaylist = Playlist.builder()
+                .id(5L).title("공개").description("설명").isPublic(true).member(owner)
+                .tags(new HashSet<>()).build();
+        when(playlistRepository.findById(5L)).thenReturn(Optional.of(publicPlaylist));
+        when(rq.getActor()).thenReturn(Actor.from(sampleMember));
+        when(playlistRepository.save(any(Playlist.class))).thenAnswer(invocation -> {
+            Playlist saved = invocation.getArgument(0);
+            saved.setId(10L);
+            return saved;
+        });
+        when(playlistItemRepository.findParentItemIdsByPlaylistId(5L)).thenReturn(List.of(11L));
+        when(playlistItemRepository.findIdsByPlaylistId(5L)).thenReturn(List.of(11L, 12L, 13L));
+        when(playlistItemRepository.findIdsByPlaylistId(10L)).thenReturn(List.of(21L, 22L, 23L));
+
+        // When
+        Long newPlaylistId = playlistService.addPublicPlaylist(5L);
+
+        // Then
+        assertEquals(10L, newPlaylistId);
+        verify(playlistItemRepository).copyItems(5L, 10L);
+        verify(playlistRepository).copyTags(5L, 10L);
+        verify(playlistItemRepository, times(1)).updateParentItemId(10L, 11L, 21L);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 비공개 플레이리스트는 복제할 수 없어야 한다.")
+    void shouldNotClonePrivatePlaylistOfOtherMember() {
+        // Given
+        Member owner = Member.builder().id(2L).username("원본 작성자").build();
+        Playlist privatePlaylist = Playlist.builder()
+                .id(6L).title("비공개").description("설명").isPublic(false).member(owner)
+                .tags(new HashSet<>()).build();
+        when(playlistRepository.findById(6L)).thenReturn(Optional.of(privatePlaylist));
+        when(rq.getActor()).thenReturn(Actor.from(sampleMember));
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> playlistService.addPublicPlaylist(6L));
+        verify(playlistItemRepository, never()).copyItems(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("아이템 이동 시 이동한 아이템의 순서 키만 앞뒤 아이템 사이 값으로 변경되어야 한다.")
+    void shouldMoveItemBetweenNeighbors() {
+        // Given
+        PlaylistItem item1 = PlaylistItem.builder().id(1L).itemId(100L).displayOrder(1024).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem item2 = PlaylistItem.builder().id(2L).itemId(101L).displayOrder(2048).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem item3 = PlaylistItem.builder().id(3L).itemId(102L).displayOrder(3072).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        samplePlaylist.setItems(new ArrayList<>(Arrays.asList(item1, item2, item3)));
+        samplePlaylist.setMember(sampleMember);
+        when(rq.getActor()).thenReturn(Actor.from(sampleMember));
+
+        // When
+        playlistService.movePlaylistItem(1L, 3L, new PlaylistItemMoveDto(1L, 2L, null));
+
+        // Then
+        assertEquals(1024, item1.getDisplayOrder());
+        assertEquals(1536, item3.getDisplayOrder());
+        assertEquals(2048, item2.getDisplayOrder());
+        verify(eventPublisher, never()).publishEvent(any(PlaylistItemRebalanceEvent.class));
     }
 
+    @Test
+    @DisplayName("순서 키 사이에 빈 값이 없으면 전체 아이템을 재배치해야 한다.")
+    void shouldRenumberWhenNoGapLeft() {
+        // Given
+        PlaylistItem item1 = PlaylistItem.builder().id(1L).itemId(100L).displayOrder(0).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem item2 = PlaylistItem.builder().id(2L).itemId(101L).displayOrder(1).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem item3 = PlaylistItem.builder().id(3L).itemId(102L).displayOrder(2).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        samplePlaylist.setItems(new ArrayList<>(Arrays.asList(item1, item2, item3)));
+        samplePlaylist.setMember(sampleMember);
+        when(rq.getActor()).thenReturn(Actor.from(sampleMember));
+
+        // When
+        playlistService.movePlaylistItem(1L, 3L, new PlaylistItemMoveDto(1L, 2L, null));
+
+        // Then
+        assertTrue(item1.getDisplayOrder() < item3.getDisplayOrder());
+        assertTrue(item3.getDisplayOrder() < item2.getDisplayOrder());
+        assertEquals(PlaylistOrderKeys.GAP, item2.getDisplayOrder() - item3.getDisplayOrder());
+    }
+
+    @Test
+    @DisplayName("그룹 헤더를 이동하면 하위 아이템도 함께 이동해야 한다.")
+    void shouldMoveGroupWithChildren() {
+        // Given
+        PlaylistItem header = PlaylistItem.builder().id(1L).itemId(100L).displayOrder(1024).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem child = PlaylistItem.builder().id(2L).itemId(101L).displayOrder(1536).parentItemId(1L).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem last = PlaylistItem.builder().id(3L).itemId(102L).displayOrder(2048).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        samplePlaylist.setItems(new ArrayList<>(Arrays.asList(header, child, last)));
+        samplePlaylist.setMember(sampleMember);
+        when(rq.getActor()).thenReturn(Actor.from(sampleMember));
 
+        // When
+        playlistService.movePlaylistItem(1L, 1L, new PlaylistItemMoveDto(3L, null, null));
 
+        // Then
+        assertTrue(last.getDisplayOrder() < header.getDisplayOrder());
+        assertTrue(header.getDisplayOrder() < child.getDisplayOrder());
+        assertEquals(1L, child.getParentItemId());
+        assertEquals(2048, last.getDisplayOrder());
+    }
 
+    @Test
+    @DisplayName("앞뒤 아이템이 인접하지 않으면 이동이 거부되어야 한다.")
+    void shouldRejectMoveWithStaleNeighbors() {
+        // Given
+        PlaylistItem item1 = PlaylistItem.builder().id(1L).itemId(100L).displayOrder(1024).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem item2 = PlaylistItem.builder().id(2L).itemId(101L).displayOrder(2048).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        PlaylistItem item3 = PlaylistItem.builder().id(3L).itemId(102L).displayOrder(3072).itemType(PlaylistItem.PlaylistItemType.LINK).build();
+        samplePlaylist.setItems(new ArrayList<>(Arrays.asList(item1, item2, item3)));
+        samplePlaylist.setMember(sampleMember);
+        when(rq.getActor()).thenReturn(Actor.from(sampleMember));
+
+        // When & Then
+        assertThrows(BadRequestException.class,
+                () -> playlistService.movePlaylistItem(1L, 1L, new PlaylistItemMoveDto(3L, 2L, null)));
+    }
 }
@@ -0,0 +1,92 @@
+package com.team8.project2.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.team8.project2.domain.recommendation.service.ItemSimilarityCalculator.Neighbor;
+
+class ItemSimilarityCalculatorTest {
+
+	@Test
+	@DisplayName("공동 좋아요가 많은 항목일수록 높은 유사도로 정렬된다")
+	void topKOrdersByCosineSimilarity() {
+		Map<Long, Set<Long>> itemLikers = Map.of(
+			1L, Set.of(1L, 2L, 3L),
+			2L, Set.of(1L, 2L, 3L),
+			3L, Set.of(1L, 9L),
+			4L, Set.of(7L, 8L)
+		);
+
+		ItemSimilarityCalculator calculator = new ItemSimilarityCalculator(itemLikers);
+		List<Neighbor> neighbors = calculator.topK(List.of(1L), 10).get(1L);
+
+		assertThat(neighbors).extracting(Neighbor::itemId).containsExactly(2L, 3L);
+		assertThat(neighbors.get(0).score()).isCloseTo(1.0, within(1e-9));
+		assertThat(neighbors.get(1).score()).isCloseTo(1 / Math.sqrt(6), within(1e-9));
+	}
+
+	@Test
+	@DisplayName("변경된 항목과 회원을 공유하는 항목만 증분 계산 대상이 된다")
+	void withCoLikedItemsReturnsAffectedItems() {
+		Map<Long, Set<Long>> itemLikers = Map.of(
+			1L, Set.of(1L, 2L),
+			2L, Set.of(2L),
+			3L, Set.of(5L)
+		);
+
+		ItemSimilarityCalculator calculator = new ItemSimilarityCalculator(itemLikers);
+
+		assertThat(calculator.withCoLikedItems(List.of(1L, 99L))).containsExactlyInAnyOrder(1L, 2L, 99L);
+		assertThat(calculator.topK(List.of(99L), 10).get(99L)).isEmpty();
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName("합성 데이터 100만 건 좋아요로 전체 상위 K 이웃을 계산한다")
+	void benchmarkOneMillionLikes() {
+		int likeCount = 1_000_000;
+		int memberCount = 100_000;
+		int itemCount = 20_000;
+		Random random = new Random(42);
+
+		// 인기 항목에 좋아요가 몰리도록 제곱 분포로 항목 선택
+		Map<Long, Set<Long>> itemLikers = new HashMap<>();
+		for (int i = 0; i < likeCount; i++) {
+			long itemId = (long)(itemCount * Math.pow(random.nextDouble(), 2));
+			long memberId = random.nextInt(memberCount);
+			itemLikers.computeIfAbsent(itemId, id -> new HashSet<>()).add(memberId);
+		}
+
+		long buildStart = System.nanoTime();
+		ItemSimilarityCalculator calculator = new ItemSimilarityCalculator(itemLikers);
+		long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+
+		long fullStart = System.nanoTime();
+		Map<Long, List<Neighbor>> all = calculator.topK(calculator.itemIds(), 20);
+		long fullMs = (System.nanoTime() - fullStart) / 1_000_000;
+
+		List<Long> changed = new ArrayList<>(calculator.itemIds()).subList(0, 100);
+		long incrementalStart = System.nanoTime();
+		Set<Long> targets = calculator.withCoLikedItems(changed);
+		calculator.topK(targets, 20);
+		long incrementalMs = (System.nanoTime() - incrementalStart) / 1_000_000;
+
+		System.out.printf("[ItemSimilarity benchmark] items=%d, likes=%d, build=%dms, full=%dms, "
+				+ "incremental(100 changed -> %d targets)=%dms, parallelism=%d%n",
+			calculator.itemCount(), likeCount, buildMs, fullMs, targets.size(), incrementalMs,
+			Runtime.getRuntime().availableProcessors());
+
+		assertThat(all).hasSize(calculator.itemCount());
+	}
+}
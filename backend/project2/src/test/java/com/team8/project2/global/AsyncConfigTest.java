@@ -0,0 +1,122 @@
+package com.team8.project2.global;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncConfigTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private AsyncConfig asyncConfig;
+	private ThreadPoolTaskExecutor executor;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		asyncConfig = new AsyncConfig(meterRegistry);
+		ReflectionTestUtils.setField(asyncConfig, "awaitTermination", Duration.ofSeconds(5));
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private void start(int queueCapacity, RejectedExecutionHandler rejectionPolicy) {
+		executor = asyncConfig.executor("test", "test-", 1, queueCapacity, rejectionPolicy);
+		executor.initialize();
+	}
+
+	/**
+	 * 유일한 작업 스레드를 붙잡아 두어 이후 작업이 큐에 쌓이게 합니다.
+	 */
+	private void occupyWorker() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private double rejected() {
+		return meterRegistry.get("executor.rejected").tag("name", "test").counter().count();
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 거부 횟수를 기록하고 버림 정책에 따라 작업을 버려야 한다.")
+	void discardsWhenSaturated() throws Exception {
+		start(1, new ThreadPoolExecutor.DiscardPolicy());
+		AtomicInteger ran = new AtomicInteger();
+		occupyWorker();
+
+		executor.execute(ran::incrementAndGet); // 큐에 대기
+		executor.execute(ran::incrementAndGet); // 거부
+
+		assertThat(rejected()).isEqualTo(1.0);
+		release.countDown();
+		executor.shutdown();
+		assertThat(ran).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("호출자 실행 정책이면 큐가 가득 찼을 때 호출한 스레드에서 작업을 실행해야 한다.")
+	void runsOnCallerWhenSaturated() throws Exception {
+		start(1, new ThreadPoolExecutor.CallerRunsPolicy());
+		AtomicReference<Thread> runner = new AtomicReference<>();
+		occupyWorker();
+
+		executor.execute(() -> { });
+		executor.execute(() -> runner.set(Thread.currentThread()));
+
+		assertThat(rejected()).isEqualTo(1.0);
+		assertThat(runner.get()).isEqualTo(Thread.currentThread());
+	}
+
+	@Test
+	@DisplayName("종료 시 큐에 남은 작업을 모두 처리한 뒤 종료해야 한다.")
+	void drainsQueueOnShutdown() throws Exception {
+		start(10, new ThreadPoolExecutor.DiscardPolicy());
+		AtomicInteger ran = new AtomicInteger();
+		occupyWorker();
+		for (int i = 0; i < 5; i++) {
+			executor.execute(() -> {
+				try {
+					Thread.sleep(20);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				ran.incrementAndGet();
+			});
+		}
+
+		release.countDown();
+		executor.shutdown();
+
+		assertThat(ran).hasValue(5);
+		assertThat(executor.getThreadPoolExecutor().isTerminated()).isTrue();
+	}
+}
@@ -0,0 +1,221 @@
+package com.team8.project2.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team8.project2.global.Rq;
+import com.team8.project2.global.store.LocalCounterStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheFilterTest {
+
+	private static final String BODY = "{\"code\":\"200-1\",\"msg\":\"조회 성공\",\"data\":{\"title\":\"큐레이션\"}}";
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private Rq rq;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ResponseCache responseCache;
+	private ResponseCacheFilter filter;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		responseCache = new ResponseCache(new VersionedCache(new LocalCounterStore(), new ObjectMapper()), meterRegistry);
+		filter = new ResponseCacheFilter(responseCache, eventPublisher, rq);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private MockHttpServletRequest get(String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setRequestURI(uri);
+		return request;
+	}
+
+	private FilterChain countingChain(AtomicInteger calls) {
+		return (req, res) -> {
+			calls.incrementAndGet();
+			res.setContentType("application/json");
+			res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+		};
+	}
+
+	private double count(String endpoint, String result) {
+		return meterRegistry.get("http.response.cache").tag("endpoint", endpoint).tag("result", result)
+			.counter().count();
+	}
+
+	@Test
+	@DisplayName("같은 요청은 두 번째부터 캐시된 응답을 내보내야 한다.")
+	void servesFromCacheOnSecondRequest() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		filter.doFilter(get("/api/v1/curation/trending-tag"), first, countingChain(calls));
+		MockHttpServletResponse second = new MockHttpServletResponse();
+		filter.doFilter(get("/api/v1/curation/trending-tag"), second, countingChain(calls));
+
+		assertThat(calls).hasValue(1);
+		assertThat(first.getHeader("X-Cache")).isEqualTo("MISS");
+		assertThat(second.getHeader("X-Cache")).isEqualTo("HIT");
+		assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+		assertThat(count("trending_tag", "hit")).isEqualTo(1.0);
+		assertThat(count("trending_tag", "miss")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("캐시된 응답에도 ETag를 내보내고, 조건부 요청은 캐시를 거치지 않아야 한다.")
+	void keepsValidatorsAndBypassesConditionalRequests() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		FilterChain chainWithETag = (req, res) -> {
+			((HttpServletResponse)res).setHeader("ETag", "\"v1\"");
+			countingChain(calls).doFilter(req, res);
+		};
+
+		filter.doFilter(get("/api/v1/playlists/3"), new MockHttpServletResponse(), chainWithETag);
+		MockHttpServletResponse cached = new MockHttpServletResponse();
+		filter.doFilter(get("/api/v1/playlists/3"), cached, chainWithETag);
+
+		MockHttpServletRequest conditional = get("/api/v1/playlists/3");
+		conditional.addHeader("If-None-Match", "\"v1\"");
+		filter.doFilter(conditional, new MockHttpServletResponse(), chainWithETag);
+
+		assertThat(cached.getHeader("X-Cache")).isEqualTo("HIT");
+		assertThat(cached.getHeader("ETag")).isEqualTo("\"v1\"");
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("로그인 사용자의 요청은 캐싱하지 않아야 한다.")
+	void bypassesForLoggedInUser() throws Exception {
+		when(rq.isLogin()).thenReturn(true);
+		AtomicInteger calls = new AtomicInteger();
+
+		filter.doFilter(get("/api/v1/curation/trending-tag"), new MockHttpServletResponse(), countingChain(calls));
+		filter.doFilter(get("/api/v1/curation/trending-tag"), new MockHttpServletResponse(), countingChain(calls));
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("버전을 올리면 목록형 캐시가 무효화되고, 상세형 캐시는 ID별로 삭제되어야 한다.")
+	void invalidatesByVersionAndEvictsById() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+
+		filter.doFilter(get("/api/v1/curation"), new MockHttpServletResponse(), countingChain(calls));
+		responseCache.invalidate(CachedEndpoint.CURATION_SEARCH);
+		filter.doFilter(get("/api/v1/curation"), new MockHttpServletResponse(), countingChain(calls));
+
+		filter.doFilter(get("/api/v1/playlists/1"), new MockHttpServletResponse(), countingChain(calls));
+		responseCache.evict(CachedEndpoint.PLAYLIST_DETAIL, 1L);
+		filter.doFilter(get("/api/v1/playlists/1"), new MockHttpServletResponse(), countingChain(calls));
+
+		assertThat(calls).hasValue(4);
+	}
+
+	@Test
+	@DisplayName("캐시된 플레이리스트 상세 응답을 내보낼 때 조회 이벤트를 발행해야 한다.")
+	void publishesEventOnCachedResponse() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+
+		filter.doFilter(get("/api/v1/playlists/7"), new MockHttpServletResponse(), countingChain(calls));
+		filter.doFilter(get("/api/v1/playlists/7"), new MockHttpServletResponse(), countingChain(calls));
+
+		verify(eventPublisher).publishEvent(argThat((Object event) ->
+			event instanceof CachedResponseServedEvent served
+				&& served.getEndpoint() == CachedEndpoint.PLAYLIST_DETAIL
+				&& served.getPathId().equals("7")));
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 캐시 미스는 한 번만 처리하고 결과를 함께 사용해야 한다.")
+	void coalescesConcurrentMisses() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain slowChain = (req, res) -> {
+			leaderStarted.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			countingChain(calls).doFilter(req, res);
+		};
+
+		MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+		Future<?> leader = executor.submit(() -> {
+			filter.doFilter(get("/api/v1/curation/trending-curation"), leaderResponse, slowChain);
+			return null;
+		});
+		assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+		Future<?> follower = executor.submit(() -> {
+			filter.doFilter(get("/api/v1/curation/trending-curation"), followerResponse, slowChain);
+			return null;
+		});
+		Thread.sleep(100);
+		release.countDown();
+		leader.get(5, TimeUnit.SECONDS);
+		follower.get(5, TimeUnit.SECONDS);
+
+		assertThat(calls).hasValue(1);
+		assertThat(followerResponse.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("쿼리 파라미터는 이름과 값 순서에 관계없이 같은 키로 정규화되어야 한다.")
+	void normalizesQuery() {
+		String a = ResponseCache.normalizeQuery(Map.of(
+			"tags", new String[] {"java", "spring"}, "page", new String[] {"0"}, "title", new String[] {""}));
+		String b = ResponseCache.normalizeQuery(Map.of(
+			"page", new String[] {"0"}, "tags", new String[] {"spring", "java"}));
+
+		assertThat(a).isEqualTo(b).isEqualTo("page=0&tags=java,spring");
+	}
+
+	@Test
+	@DisplayName("큐레이터 정보 경로와 겹치는 다른 회원 API는 캐싱 대상이 아니어야 한다.")
+	void excludesReservedMemberPaths() {
+		assertThat(CachedEndpoint.resolve("/api/v1/members/me")).isEmpty();
+		assertThat(CachedEndpoint.resolve("/api/v1/members/following")).isEmpty();
+		assertThat(CachedEndpoint.resolve("/api/v1/members/curator")).contains(CachedEndpoint.MEMBER_PROFILE);
+		assertThat(CachedEndpoint.resolve("/api/v1/playlists/explore")).isEmpty();
+	}
+}
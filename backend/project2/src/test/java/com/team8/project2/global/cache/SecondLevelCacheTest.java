@@ -0,0 +1,91 @@
+package com.team8.project2.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.team8.project2.domain.curation.curation.dto.CurationDetailResDto;
+import com.team8.project2.domain.curation.curation.entity.Curation;
+import com.team8.project2.domain.curation.curation.service.CurationDetailLoader;
+import com.team8.project2.domain.curation.tag.entity.Tag;
+import com.team8.project2.domain.link.entity.Link;
+import com.team8.project2.domain.member.entity.Member;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class SecondLevelCacheTest {
+
+	private static final Long CURATION_ID = 1L;
+
+	@Autowired
+	private CurationDetailLoader curationDetailLoader;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	private long dbLoads(Class<?> entity) {
+		return statistics.getEntityStatistics(entity.getName()).getLoadCount();
+	}
+
+	private long hits(String region) {
+		return statistics.getDomainDataRegionStatistics(region).getHitCount();
+	}
+
+	@Test
+	@DisplayName("큐레이션 상세를 다시 읽을 때 태그, 링크, 회원은 DB가 아닌 2차 캐시에서 읽어야 한다.")
+	void repeatedDetailReadsUseSecondLevelCache() {
+		CurationDetailResDto first = curationDetailLoader.load(CURATION_ID);
+		assertThat(first.getTags()).isNotEmpty();
+		assertThat(first.getUrls()).isNotEmpty();
+
+		statistics.clear();
+		CurationDetailResDto second = curationDetailLoader.load(CURATION_ID);
+
+		assertThat(second.getTags()).hasSameSizeAs(first.getTags());
+		assertThat(second.getUrls()).hasSameSizeAs(first.getUrls());
+		assertThat(second.getAuthorName()).isEqualTo(first.getAuthorName());
+
+		assertThat(dbLoads(Tag.class)).isZero();
+		assertThat(dbLoads(Link.class)).isZero();
+		assertThat(dbLoads(Member.class)).isZero();
+		assertThat(statistics.getCollectionStatistics(Curation.class.getName() + ".tags").getLoadCount()).isZero();
+		assertThat(statistics.getCollectionStatistics(Curation.class.getName() + ".curationLinks").getLoadCount())
+			.isZero();
+
+		assertThat(hits(CacheRegions.TAG)).isPositive();
+		assertThat(hits(CacheRegions.LINK)).isPositive();
+		assertThat(hits(CacheRegions.MEMBER)).isPositive();
+		assertThat(hits(CacheRegions.CURATION_TAGS)).isPositive();
+		assertThat(hits(CacheRegions.CURATION_LINKS)).isPositive();
+	}
+
+	@Test
+	@DisplayName("캐시 리전별 통계를 조회할 수 있어야 한다.")
+	void exposesRegionStatistics() {
+		curationDetailLoader.load(CURATION_ID);
+
+		assertThat(statistics.isStatisticsEnabled()).isTrue();
+		assertThat(statistics.getSecondLevelCacheRegionNames())
+			.contains(CacheRegions.TAG, CacheRegions.LINK, CacheRegions.MEMBER,
+				CacheRegions.CURATION_TAGS, CacheRegions.CURATION_LINKS, CacheRegions.PLAYLIST_TAGS);
+		assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.TAG).getElementCountInMemory())
+			.isPositive();
+	}
+}
@@ -0,0 +1,125 @@
+package com.team8.project2.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.team8.project2.global.exception.ServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+	private static final int CALLERS = 8;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlight<Long, String> singleFlight;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		singleFlight = new SingleFlight<>("test", meterRegistry);
+		executor = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("single.flight.calls").tag("name", "test").tag("result", result).counter().count();
+	}
+
+	/**
+	 * 첫 호출의 로더를 멈춰 둔 채 나머지 호출을 보내고, 모두 대기 중일 때 로더를 풀어 줍니다.
+	 */
+	private List<Future<String>> callConcurrently(Long key, CountDownLatch release, AtomicInteger loads,
+		RuntimeException failure) throws Exception {
+		CountDownLatch leaderStarted = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> singleFlight.execute(key, () -> {
+			loads.incrementAndGet();
+			leaderStarted.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return "detail-" + key;
+		})));
+		assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		for (int i = 1; i < CALLERS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute(key, () -> {
+				loads.incrementAndGet();
+				return "detail-" + key;
+			})));
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (count("shared") < CALLERS - 1 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		release.countDown();
+		return results;
+	}
+
+	@Test
+	@DisplayName("같은 키의 동시 호출은 로더를 한 번만 실행하고 결과를 공유해야 한다.")
+	void sharesInFlightLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+
+		List<Future<String>> results = callConcurrently(1L, new CountDownLatch(1), loads, null);
+
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("detail-1");
+		}
+		assertThat(loads).hasValue(1);
+		assertThat(count("loaded")).isEqualTo(1.0);
+		assertThat(count("shared")).isEqualTo(CALLERS - 1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("로더의 예외는 대기 중인 호출에도 그대로 전달되어야 한다.")
+	void propagatesFailureToWaiters() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		ServiceException notFound = new ServiceException("404-1", "해당 큐레이션을 찾을 수 없습니다.");
+
+		List<Future<String>> results = callConcurrently(2L, new CountDownLatch(1), loads, notFound);
+
+		for (Future<String> result : results) {
+			assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(notFound);
+		}
+		assertThat(loads).hasValue(1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("로딩이 끝난 뒤의 호출은 결과를 재사용하지 않고 다시 로딩해야 한다.")
+	void doesNotCacheCompletedLoads() {
+		AtomicInteger loads = new AtomicInteger();
+
+		singleFlight.execute(3L, () -> "v" + loads.incrementAndGet());
+		String second = singleFlight.execute(3L, () -> "v" + loads.incrementAndGet());
+
+		assertThat(second).isEqualTo("v2");
+		assertThat(count("shared")).isZero();
+	}
+}
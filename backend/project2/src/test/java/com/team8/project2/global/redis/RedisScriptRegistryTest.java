@@ -0,0 +1,102 @@
+package com.team8.project2.global.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RedisScriptRegistryTest {
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private RedisConnection connection;
+
+	@Mock
+	private RedisScriptingCommands scriptingCommands;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RedisScriptRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		registry = new RedisScriptRegistry(redisTemplate, meterRegistry);
+
+		lenient().when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+		lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+			.thenAnswer(invocation -> ((RedisCallback<?>)invocation.getArgument(0)).doInRedis(connection));
+	}
+
+	@Test
+	@DisplayName("시작 시 등록된 모든 스크립트를 SCRIPT LOAD 해야 한다.")
+	void loadAllScripts() {
+		registry.loadAll();
+
+		verify(scriptingCommands, times(LuaScript.values().length)).scriptLoad(any(byte[].class));
+	}
+
+	@Test
+	@DisplayName("스크립트는 EVALSHA로 실행되고 키와 인자가 순서대로 전달되어야 한다.")
+	void executeWithEvalSha() {
+		when(scriptingCommands.evalSha(anyString(), eq(ReturnType.MULTI), eq(2), any(byte[][].class)))
+			.thenReturn(List.of(1L, "3".getBytes(StandardCharsets.UTF_8)));
+
+		List<Object> result = registry.execute(LuaScript.PLAYLIST_LIKE_TOGGLE, List.of("k1", "k2"), 7L, "x");
+
+		assertThat(result).containsExactly(1L, "3");
+		verify(scriptingCommands).evalSha(anyString(), eq(ReturnType.MULTI), eq(2),
+			argThat((byte[][] keysAndArgs) -> keysAndArgs.length == 4
+				&& new String(keysAndArgs[0], StandardCharsets.UTF_8).equals("k1")
+				&& new String(keysAndArgs[2], StandardCharsets.UTF_8).equals("7")));
+		verify(scriptingCommands, never()).eval(any(byte[].class), any(), anyInt(), any(byte[][].class));
+		assertThat(meterRegistry.get("redis.script").tag("script", "playlist_like_toggle").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("NOSCRIPT 오류가 나면 스크립트를 다시 로드하고 재시도해야 한다.")
+	void reloadOnNoScript() {
+		when(scriptingCommands.evalSha(anyString(), eq(ReturnType.INTEGER), eq(2), any(byte[][].class)))
+			.thenThrow(new RedisSystemException("NOSCRIPT No matching script. Please use EVAL.", null))
+			.thenReturn(1L);
+
+		Long result = registry.execute(LuaScript.CURATION_LIKE_TOGGLE, List.of("k1", "k2"), 1L, 2L);
+
+		assertThat(result).isEqualTo(1L);
+		verify(scriptingCommands, times(1)).scriptLoad(any(byte[].class));
+		verify(scriptingCommands, times(2)).evalSha(anyString(), eq(ReturnType.INTEGER), eq(2), any(byte[][].class));
+		assertThat(meterRegistry.get("redis.script.reload").tag("script", "curation_like_toggle").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("NOSCRIPT가 아닌 오류는 그대로 전파되어야 한다.")
+	void propagateOtherErrors() {
+		when(scriptingCommands.evalSha(anyString(), any(ReturnType.class), anyInt(), any(byte[][].class)))
+			.thenThrow(new RedisSystemException("WRONGTYPE Operation against a key", null));
+
+		assertThatThrownBy(() -> registry.execute(LuaScript.CURATION_LIKE_TOGGLE, List.of("k1", "k2"), 1L, 2L))
+			.isInstanceOf(RedisSystemException.class);
+		verify(scriptingCommands, never()).scriptLoad(any(byte[].class));
+	}
+}
@@ -0,0 +1,113 @@
+package com.team8.project2.global.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.team8.project2.global.store.CounterStore;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCounterTest {
+
+	@Mock
+	private CounterStore counterStore;
+
+	@InjectMocks
+	private ViewCounter viewCounter;
+
+	@Test
+	@DisplayName("랭킹 ZSET이 있는 대상은 중복 방지 키, 대기 해시, 랭킹 키를 한 번에 전달해야 한다.")
+	void admitWithRanking() {
+		when(counterStore.execute(eq(LuaScript.VIEW_ADMIT), anyList(), any(), any(), any()))
+			.thenReturn(List.of(1L, 4L));
+
+		ViewAdmission admission = viewCounter.admit(ViewTarget.CURATION, 7L, "1.2.3.4");
+
+		assertThat(admission.admitted()).isTrue();
+		assertThat(admission.pending()).isEqualTo(4L);
+		verify(counterStore).execute(LuaScript.VIEW_ADMIT,
+			List.of("view_count:7:1.2.3.4", "curation:view_pending", "day_view_count:"),
+			7L, 86400L, 86400L);
+	}
+
+	@Test
+	@DisplayName("랭킹 ZSET이 없는 대상은 키 두 개만 전달해야 한다.")
+	void admitWithoutRanking() {
+		when(counterStore.execute(eq(LuaScript.VIEW_ADMIT), anyList(), any(), any(), any()))
+			.thenReturn(List.of(0L, 2L));
+
+		ViewAdmission admission = viewCounter.admit(ViewTarget.LINK, 3L, "1.2.3.4");
+
+		assertThat(admission.admitted()).isFalse();
+		assertThat(admission.pending()).isEqualTo(2L);
+		verify(counterStore).execute(LuaScript.VIEW_ADMIT,
+			List.of("link:click:3:1.2.3.4", "link:click_pending"),
+			3L, 600L, 0L);
+	}
+
+	@Test
+	@DisplayName("대기 증가분을 처리 중 키로 옮긴 뒤 모두 전달하고 삭제해야 한다.")
+	void flushPending() {
+		when(counterStore.hasKey("playlist:view_pending:processing")).thenReturn(false);
+		when(counterStore.hasKey("playlist:view_pending")).thenReturn(true);
+		when(counterStore.hashEntries("playlist:view_pending:processing")).thenReturn(Map.of("1", "5", "2", "1"));
+
+		Map<Long, Long> applied = new HashMap<>();
+		int flushed = viewCounter.flushPending(ViewTarget.PLAYLIST, applied::put);
+
+		assertThat(flushed).isEqualTo(2);
+		assertThat(applied).containsEntry(1L, 5L).containsEntry(2L, 1L);
+		verify(counterStore).rename("playlist:view_pending", "playlist:view_pending:processing");
+		verify(counterStore).delete("playlist:view_pending:processing");
+	}
+
+	@Test
+	@DisplayName("이전 배치가 남긴 처리 중 목록이 있으면 그것부터 처리해야 한다.")
+	void resumeProcessing() {
+		when(counterStore.hasKey("link:click_pending:processing")).thenReturn(true);
+		when(counterStore.hashEntries("link:click_pending:processing")).thenReturn(Map.of("9", "1"));
+
+		int flushed = viewCounter.flushPending(ViewTarget.LINK, (id, delta) -> {
+		});
+
+		assertThat(flushed).isEqualTo(1);
+		verify(counterStore, never()).rename(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서는 커밋된 뒤에만 처리 중 목록을 삭제하고, 롤백되면 남겨 두어야 한다.")
+	void deleteProcessingKeyAfterCommit() {
+		when(counterStore.hasKey("curation:view_pending:processing")).thenReturn(true);
+		when(counterStore.hashEntries("curation:view_pending:processing")).thenReturn(Map.of("1", "3"));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			viewCounter.flushPending(ViewTarget.CURATION, (id, delta) -> {
+			});
+			verify(counterStore, never()).delete(anyString());
+
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			// 롤백: 삭제하지 않음
+			synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+			verify(counterStore, never()).delete(anyString());
+			// 커밋: 삭제
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+			verify(counterStore).delete("curation:view_pending:processing");
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.team8.project2.global.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.team8.project2.standard.util.Ut;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AccessTokenVerifierTest {
+
+	private static final String KEY = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AccessTokenVerifier verifier = new AccessTokenVerifier(KEY, 100, meterRegistry);
+
+	private static String token(int expireSeconds) {
+		return Ut.Jwt.createToken(KEY, expireSeconds, Map.of("id", 1L, "memberId", "memberId"));
+	}
+
+	private double cacheRequests(String result) {
+		return meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", result)
+			.functionCounter().count();
+	}
+
+	@Test
+	@DisplayName("유효한 토큰은 한 번만 검증하고 이후에는 캐시된 클레임을 사용한다")
+	void verifyOnceThenCache() {
+		String token = token(60);
+
+		Optional<Claims> first = verifier.verify(token);
+		Optional<Claims> second = verifier.verify(token);
+
+		assertThat(first).isPresent();
+		assertThat(first.get().get("memberId")).isEqualTo("memberId");
+		assertThat(second.get()).isSameAs(first.get());
+		assertThat(cacheRequests("miss")).isEqualTo(1);
+		assertThat(cacheRequests("hit")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("서명이 다르거나 형식이 잘못된 토큰은 거부하고 캐시하지 않는다")
+	void rejectInvalidTokens() {
+		String otherKeyToken = Ut.Jwt.createToken(KEY.toUpperCase(), 60, Map.of("id", 1L));
+		String token = token(60);
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+		assertThat(verifier.verify(otherKeyToken)).isEmpty();
+		assertThat(verifier.verify(tampered)).isEmpty();
+		assertThat(verifier.verify("this.is.a.fake.token")).isEmpty();
+		assertThat(verifier.verify(otherKeyToken)).isEmpty();
+		assertThat(cacheRequests("hit")).isZero();
+	}
+
+	@Test
+	@DisplayName("캐시된 토큰도 만료 시각이 지나면 거부한다")
+	void expiredTokenIsNotServedFromCache() throws InterruptedException {
+		String token = token(1);
+		assertThat(verifier.verify(token)).isPresent();
+
+		Thread.sleep(1100);
+
+		assertThat(verifier.verify(token)).isEmpty();
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName("요청당 인증 비용: 기존 방식(키 생성 + 두 번 파싱)과 검증기(캐시 미적중/적중)를 비교한다")
+	void benchmarkPerRequestCost() {
+		int iterations = 50_000;
+		// 캐시 미적중을 재기 위해 요청마다 다른 토큰 사용
+		String[] tokens = IntStream.range(0, iterations)
+			.mapToObj(i -> Ut.Jwt.createToken(KEY, 3600, Map.of("id", (long)i, "memberId", "member" + i)))
+			.toArray(String[]::new);
+		String token = tokens[0];
+
+		IntConsumer legacy = i -> {
+			if (Ut.Jwt.isValidToken(KEY, tokens[i])) {
+				Ut.Jwt.getPayload(KEY, tokens[i]);
+			}
+		};
+		IntConsumer miss = i -> verifier.verify(tokens[i]);
+		IntConsumer hit = i -> verifier.verify(token);
+
+		// 워밍업
+		for (IntConsumer run : List.of(legacy, miss, hit)) {
+			nanosPerOp(run, iterations / 5);
+		}
+
+		System.out.printf("[JWT benchmark] legacy=%.0fns/op, verifier(miss)=%.0fns/op, verifier(hit)=%.0fns/op%n",
+			nanosPerOp(legacy, iterations), nanosPerOp(miss, iterations), nanosPerOp(hit, iterations));
+	}
+
+	private static double nanosPerOp(IntConsumer run, int iterations) {
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			run.accept(i);
+		}
+		return (double)(System.nanoTime() - start) / iterations;
+	}
+}
@@ -0,0 +1,44 @@
+package com.team8.project2.global.security.revocation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTest {
+
+	@Test
+	@DisplayName("담은 원소는 항상 있을 수 있다고 답한다")
+	void noFalseNegatives() {
+		BloomFilter filter = new BloomFilter(10_000, 0.001);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+		assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("token-" + i));
+		assertThat(filter.insertions()).isEqualTo(10_000);
+	}
+
+	@Test
+	@DisplayName("예상 크기만큼 담아도 거짓 양성 비율이 목표치 근처에 머문다")
+	void falsePositiveRateNearTarget() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+		long falsePositives = IntStream.range(0, 100_000)
+			.filter(i -> filter.mightContain("other-" + i))
+			.count();
+
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+		assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+	}
+
+	@Test
+	@DisplayName("빈 필터는 아무것도 담고 있지 않다")
+	void emptyFilter() {
+		BloomFilter filter = new BloomFilter(100, 0.001);
+
+		assertThat(filter.mightContain("token")).isFalse();
+		assertThat(filter.expectedFalsePositiveRate()).isZero();
+	}
+}
@@ -0,0 +1,177 @@
+package com.team8.project2.global.security.revocation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TokenRevocationServiceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private static Claims claims(String jti, Instant expiresAt) {
+		return Jwts.claims().id(jti).expiration(Date.from(expiresAt)).build();
+	}
+
+	private static Claims memberClaims(long memberId, Instant issuedAt) {
+		return Jwts.claims().id("jti-" + memberId + "-" + issuedAt.toEpochMilli()).add("id", memberId)
+			.issuedAt(Date.from(issuedAt)).expiration(Date.from(issuedAt.plusSeconds(3600))).build();
+	}
+
+	private double checks(String result) {
+		return meterRegistry.get("jwt.revocation.checks").tag("result", result).counter().count();
+	}
+
+	@Test
+	@DisplayName("폐기한 토큰만 폐기된 것으로 판단한다")
+	void revokeThenCheck() {
+		TokenRevocationService service = new TokenRevocationService(new LocalRevokedTokenStore(), meterRegistry,
+			1000, 0.001, 3600);
+		Claims revoked = claims("revoked", Instant.now().plusSeconds(60));
+		Claims active = claims("active", Instant.now().plusSeconds(60));
+
+		assertThat(service.revoke("a.b.c", revoked)).isTrue();
+
+		assertThat(service.isRevoked("a.b.c", revoked)).isTrue();
+		assertThat(service.isRevoked("d.e.f", active)).isFalse();
+		assertThat(checks("revoked")).isEqualTo(1);
+		assertThat(checks("negative")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("회원 단위로 폐기하면 그 전에 발급된 토큰만 거부한다")
+	void revokeMember() {
+		LocalRevokedTokenStore store = new LocalRevokedTokenStore();
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+		Instant now = Instant.now();
+		Claims before = memberClaims(1L, now.minusSeconds(60));
+		Claims other = memberClaims(2L, now.minusSeconds(60));
+
+		service.revokeMember(1L);
+
+		assertThat(service.isRevoked("a.b.c", before)).isTrue();
+		assertThat(service.isRevoked("d.e.f", other)).isFalse();
+		assertThat(service.isRevoked("g.h.i", memberClaims(1L, now.plusSeconds(2)))).isFalse();
+		assertThat(store.memberRevocations(now.minusSeconds(3600))).containsKey(1L);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 회원 단위로 폐기하면 알림이나 재구성으로 반영한다")
+	void memberRevocationFromOtherServer() {
+		RevokedTokenStore store = mock(RevokedTokenStore.class);
+		when(store.activeTokenIds()).thenReturn(List.of());
+		when(store.memberRevocations(any())).thenReturn(Map.of());
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+		Instant now = Instant.now();
+
+		// 알림으로 반영
+		service.onMemberRevoked(1L, now);
+		// 알림을 놓친 폐기는 재구성 때 반영
+		when(store.memberRevocations(any())).thenReturn(Map.of(2L, now));
+		service.rebuild();
+
+		assertThat(service.isRevoked("a.b.c", memberClaims(1L, now.minusSeconds(1)))).isTrue();
+		assertThat(service.isRevoked("d.e.f", memberClaims(2L, now.minusSeconds(1)))).isTrue();
+	}
+
+	@Test
+	@DisplayName("회원 단위 폐기를 저장소에 기록하지 못하면 예외를 던진다")
+	void revokeMemberFailsWhenStoreUnavailable() {
+		RevokedTokenStore store = mock(RevokedTokenStore.class);
+		when(store.activeTokenIds()).thenReturn(List.of());
+		doThrow(new IllegalStateException("connection refused")).when(store).revokeMember(anyLong(), any());
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+
+		assertThatThrownBy(() -> service.revokeMember(1L)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("이미 만료된 토큰은 폐기 목록에 추가하지 않는다")
+	void ignoreExpiredToken() {
+		LocalRevokedTokenStore store = new LocalRevokedTokenStore();
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+
+		assertThat(service.revoke("a.b.c", claims("expired", Instant.now().minusSeconds(1)))).isFalse();
+		assertThat(store.activeTokenIds()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("jti가 없는 이전 토큰은 서명 부분으로 구분한다")
+	void legacyTokenId() {
+		Claims legacy = Jwts.claims().expiration(Date.from(Instant.now().plusSeconds(60))).build();
+
+		assertThat(TokenRevocationService.tokenId("header.payload.signature", legacy)).isEqualTo("signature");
+		assertThat(TokenRevocationService.tokenId("header.payload.signature",
+			claims("jti", Instant.now().plusSeconds(60)))).isEqualTo("jti");
+	}
+
+	@Test
+	@DisplayName("필터가 잘못 걸러낸 토큰은 저장소에서 확인해 통과시키고 거짓 양성으로 기록한다")
+	void falsePositiveConfirmedByStore() {
+		// 비트가 64개뿐인 필터를 가득 채워 모든 조회가 "있을 수 있음"이 되게 함
+		TokenRevocationService service = new TokenRevocationService(new LocalRevokedTokenStore(), meterRegistry,
+			1, 0.5, 3600);
+		IntStream.range(0, 200).forEach(i -> service.onRevoked("filler-" + i));
+
+		assertThat(service.isRevoked("not-revoked")).isFalse();
+		assertThat(checks("false_positive")).isEqualTo(1);
+		assertThat(meterRegistry.get("jwt.revocation.false_positive_rate").gauge().value()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("필터에 걸린 토큰을 저장소에서 확인할 수 없으면 폐기된 것으로 처리한다")
+	void failClosedOnStoreError() {
+		RevokedTokenStore store = mock(RevokedTokenStore.class);
+		when(store.activeTokenIds()).thenReturn(List.of("revoked"));
+		when(store.contains(anyString())).thenThrow(new IllegalStateException("connection refused"));
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+
+		assertThat(service.isRevoked("revoked")).isTrue();
+		assertThat(service.isRevoked("active")).isFalse();
+		assertThat(checks("error")).isEqualTo(1);
+		verify(store, times(1)).contains(anyString());
+	}
+
+	@Test
+	@DisplayName("재구성하면 다른 서버에서 폐기한 토큰을 반영하고 만료된 토큰은 비운다")
+	void rebuildFromStore() {
+		RevokedTokenStore store = mock(RevokedTokenStore.class);
+		when(store.activeTokenIds()).thenReturn(List.of("expiring"));
+		when(store.contains(anyString())).thenReturn(false);
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+
+		// 알림을 놓친 폐기 토큰이 저장소에 생기고, 기존 항목은 만료됨
+		when(store.activeTokenIds()).thenReturn(List.of("missed"));
+		when(store.contains("missed")).thenReturn(true);
+		service.rebuild();
+
+		assertThat(service.isRevoked("missed")).isTrue();
+		assertThat(service.isRevoked("expiring")).isFalse();
+		assertThat(meterRegistry.get("jwt.revocation.bloom.entries").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재구성에 실패하면 기존 필터를 유지한다")
+	void keepFilterWhenRebuildFails() {
+		LocalRevokedTokenStore store = spy(new LocalRevokedTokenStore());
+		TokenRevocationService service = new TokenRevocationService(store, meterRegistry, 1000, 0.001, 3600);
+		service.revoke("a.b.c", claims("revoked", Instant.now().plusSeconds(60)));
+
+		doThrow(new IllegalStateException("connection refused")).when(store).activeTokenIds();
+		service.rebuild();
+
+		assertThat(service.isRevoked("revoked")).isTrue();
+	}
+}
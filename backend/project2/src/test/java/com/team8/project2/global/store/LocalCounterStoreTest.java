@@ -0,0 +1,134 @@
+package com.team8.project2.global.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.team8.project2.global.redis.LuaScript;
+
+class LocalCounterStoreTest {
+
+	private AtomicLong now;
+	private LocalCounterStore store;
+
+	@BeforeEach
+	void setUp() {
+		now = new AtomicLong(1_000_000L);
+		store = new LocalCounterStore(now::get);
+	}
+
+	@Test
+	@DisplayName("TTL이 지난 키는 조회되지 않고 다시 저장할 수 있어야 한다.")
+	void expiresKeys() {
+		assertThat(store.setIfAbsent("view:1", "1", Duration.ofSeconds(10))).isTrue();
+		assertThat(store.setIfAbsent("view:1", "1", Duration.ofSeconds(10))).isFalse();
+
+		now.addAndGet(10_000L);
+
+		assertThat(store.hasKey("view:1")).isFalse();
+		assertThat(store.keys("view:*")).isEmpty();
+		assertThat(store.setIfAbsent("view:1", "1", Duration.ofSeconds(10))).isTrue();
+	}
+
+	@Test
+	@DisplayName("락 해제는 소유자 토큰이 같을 때만 락을 삭제해야 한다.")
+	void lockRelease() {
+		store.setIfAbsent("lock", "owner-2", Duration.ofMinutes(1));
+
+		Long byOther = store.execute(LuaScript.LOCK_RELEASE, List.of("lock"), "owner-1");
+		assertThat(byOther).isZero();
+		assertThat(store.get("lock")).isEqualTo("owner-2");
+
+		Long byOwner = store.execute(LuaScript.LOCK_RELEASE, List.of("lock"), "owner-2");
+		assertThat(byOwner).isEqualTo(1L);
+		assertThat(store.hasKey("lock")).isFalse();
+	}
+
+	@Test
+	@DisplayName("정렬 집합은 점수 내림차순으로 범위를 반환해야 한다.")
+	void reverseRange() {
+		store.incrementScore("rank", "a", 1);
+		store.incrementScore("rank", "b", 3);
+		store.incrementScore("rank", "c", 2);
+		store.incrementScore("rank", "a", 5);
+
+		assertThat(store.reverseRange("rank", 0, 1)).containsExactly("a", "b");
+		assertThat(store.reverseRange("rank", 0, -1)).containsExactly("a", "b", "c");
+		assertThat(store.score("rank", "a")).isEqualTo(6.0);
+		assertThat(store.score("rank", "z")).isNull();
+	}
+
+	@Test
+	@DisplayName("다른 형식의 값이 있는 키를 사용하면 예외가 발생해야 한다.")
+	void rejectsWrongType() {
+		store.set("plain", "value");
+
+		assertThatThrownBy(() -> store.addToSet("plain", "1"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("WRONGTYPE");
+	}
+
+	@Test
+	@DisplayName("플레이리스트 좋아요 토글은 Lua 스크립트와 같은 결과를 반환해야 한다.")
+	void playlistLikeToggle() {
+		List<String> keys = List.of("playlist_like:1", "member_liked_playlists:7", "dirty", "similarity");
+
+		List<Object> liked = store.execute(LuaScript.PLAYLIST_LIKE_TOGGLE, keys, 7L, 1L);
+		assertThat(liked).containsExactly(1L, 1L);
+		assertThat(store.isMember("member_liked_playlists:7", "1")).isTrue();
+
+		List<Object> unliked = store.execute(LuaScript.PLAYLIST_LIKE_TOGGLE, keys, 7L, 1L);
+		assertThat(unliked).containsExactly(0L, 0L);
+		assertThat(store.hasKey("playlist_like:1")).isFalse();
+		assertThat(store.members("dirty")).containsExactly("1");
+	}
+
+	@Test
+	@DisplayName("조회 인정은 중복 방지 TTL 동안 한 번만 집계되어야 한다.")
+	void viewAdmit() {
+		List<String> keys = List.of("view:1:ip", "pending", "ranking");
+
+		List<Object> first = store.execute(LuaScript.VIEW_ADMIT, keys, 1L, 60L, 0L);
+		List<Object> second = store.execute(LuaScript.VIEW_ADMIT, keys, 1L, 60L, 0L);
+
+		assertThat(first).containsExactly(1L, 1L);
+		assertThat(second).containsExactly(0L, 1L);
+		assertThat(store.score("ranking", "1")).isEqualTo(1.0);
+		assertThat(store.hashEntries("pending")).containsEntry("1", "1");
+	}
+
+	@Test
+	@DisplayName("동시에 토글해도 최종 좋아요 수가 정확해야 한다.")
+	void concurrentToggles() throws InterruptedException {
+		int threads = 1000;
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch latch = new CountDownLatch(threads);
+
+		for (int i = 0; i < threads; i++) {
+			long memberId = i % 100;
+			executor.submit(() -> {
+				try {
+					store.execute(LuaScript.CURATION_LIKE_TOGGLE,
+						List.of("curation_like:1", "similarity:dirty:curation"), memberId, 1L);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// 회원마다 10번씩 토글했으므로 모두 취소된 상태
+		assertThat(store.setSize("curation_like:1")).isZero();
+	}
+}
@@ -0,0 +1,129 @@
+package com.team8.project2.global.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.team8.project2.global.exception.CounterStoreUnavailableException;
+import com.team8.project2.global.redis.LuaScript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientCounterStoreTest {
+
+	private static final List<String> VIEW_KEYS = List.of("view_count:1:ip", "curation:view_pending", "day_view_count:");
+
+	@Mock
+	private CounterStore delegate;
+
+	private AtomicLong now;
+	private SimpleMeterRegistry meterRegistry;
+	private ResilientCounterStore store;
+
+	@BeforeEach
+	void setUp() {
+		now = new AtomicLong(1_000_000L);
+		meterRegistry = new SimpleMeterRegistry();
+		store = new ResilientCounterStore(delegate,
+			new CircuitBreaker(3, Duration.ofSeconds(10), now::get), meterRegistry);
+	}
+
+	private void openCircuit() {
+		when(delegate.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+		for (int i = 0; i < 3; i++) {
+			store.get("key");
+		}
+	}
+
+	@Test
+	@DisplayName("연속 연결 실패가 임계값에 도달하면 서킷이 열리고 이후 호출은 Redis로 보내지 않아야 한다.")
+	void opensAfterConsecutiveFailures() {
+		openCircuit();
+
+		assertThat(store.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(store.get("key")).isNull();
+		assertThat(store.isMember("curation_like:1", "1")).isFalse();
+		assertThatThrownBy(() -> store.setSize("curation_like:1"))
+			.isInstanceOf(CounterStoreUnavailableException.class);
+		verify(delegate, times(3)).get(anyString());
+		verify(delegate, never()).setSize(anyString());
+
+		assertThat(meterRegistry.get("redis.circuit.state").tag("state", "open").gauge().value()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("redis.circuit.calls").tag("outcome", "not_permitted").counter().count())
+			.isEqualTo(3.0);
+	}
+
+	@Test
+	@DisplayName("Redis가 응답한 오류는 장애로 집계하지 않아야 한다.")
+	void commandErrorsDoNotOpenCircuit() {
+		when(delegate.setSize(anyString())).thenThrow(new IllegalStateException("WRONGTYPE"));
+
+		for (int i = 0; i < 5; i++) {
+			assertThatThrownBy(() -> store.setSize("key")).isInstanceOf(IllegalStateException.class);
+		}
+
+		assertThat(store.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("서킷이 열린 동안의 조회는 로컬에서 중복 확인 후 버퍼링되고, 복구되면 Redis에 재반영되어야 한다.")
+	void buffersViewsAndReplaysAfterRecovery() {
+		openCircuit();
+
+		List<Object> first = store.execute(LuaScript.VIEW_ADMIT, VIEW_KEYS, 1L, 86400L, 86400L);
+		List<Object> duplicate = store.execute(LuaScript.VIEW_ADMIT, VIEW_KEYS, 1L, 86400L, 86400L);
+		store.execute(LuaScript.VIEW_ADMIT,
+			List.of("view_count:1:other", "curation:view_pending", "day_view_count:"), 1L, 86400L, 86400L);
+
+		assertThat(first).containsExactly(1L, 1L);
+		assertThat(duplicate).containsExactly(0L, 1L);
+		verify(delegate, never()).execute(any(), anyList(), any(Object[].class));
+
+		// 대기 시간이 지나면 복구 작업의 시험 호출로 서킷이 닫히고 버퍼가 재반영됨
+		now.addAndGet(10_000L);
+		when(delegate.hasKey(anyString())).thenReturn(false);
+		store.recover();
+
+		assertThat(store.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		verify(delegate).hashIncrement("curation:view_pending", "1", 2L);
+		verify(delegate).incrementScore("day_view_count:", "1", 2.0);
+		assertThat(meterRegistry.get("redis.fallback.buffered").gauge().value()).isZero();
+		assertThat(meterRegistry.get("redis.fallback.replayed").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("시험 호출이 실패하면 서킷이 다시 열려야 한다.")
+	void reopensWhenProbeFails() {
+		openCircuit();
+		now.addAndGet(10_000L);
+		when(delegate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("still down"));
+
+		store.recover();
+
+		assertThat(store.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	@DisplayName("좋아요 토글은 서킷이 열려 있으면 즉시 실패해야 한다.")
+	void likeToggleFailsFast() {
+		openCircuit();
+
+		assertThatThrownBy(() -> store.execute(LuaScript.CURATION_LIKE_TOGGLE,
+			List.of("curation_like:1", "similarity:dirty:curation"), 1L, 1L))
+			.isInstanceOf(CounterStoreUnavailableException.class);
+		verify(delegate, never()).execute(any(), anyList(), any(Object[].class));
+	}
+}
@@ -0,0 +1,178 @@
+package com.team8.project2.global.thread;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import com.sun.net.httpserver.HttpServer;
+import com.team8.project2.Project2Application;
+import com.team8.project2.domain.link.entity.Link;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 느린 외부 링크의 메타데이터를 가져오는 요청에서 플랫폼 스레드와 가상 스레드의 처리량을 비교합니다. (./gradlew benchmark)
+ * <p>
+ * 외부 사이트 대신 지연 후 응답하는 로컬 서버를 띄우고, {@link Link#loadMetadata()}를 호출하는 엔드포인트에
+ * Tomcat 스레드 수보다 많은 동시 요청을 보냅니다. 플랫폼 스레드 모드는 스레드 수에 묶이고,
+ * 가상 스레드 모드는 대기 중에 캐리어 스레드를 반납하므로 처리량이 동시 요청 수만큼 늘어야 합니다.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+	private static final int TOMCAT_THREADS = 50;
+	private static final int CONCURRENCY = 200;
+	private static final int REQUESTS = 1000;
+	private static final long UPSTREAM_DELAY_MS = 200;
+
+	private static final String PREVIEW_PATH = "/api/v1/link/benchmark-preview";
+
+	private HttpServer upstream;
+	private ExecutorService clientExecutor;
+	private HttpClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		upstream.createContext("/", exchange -> {
+			try {
+				Thread.sleep(UPSTREAM_DELAY_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] html = ("<html><head><meta property=\"og:title\" content=\"slow link\">"
+				+ "</head><body></body></html>").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+			exchange.sendResponseHeaders(200, html.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(html);
+			}
+		});
+		upstream.start();
+
+		clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		client = HttpClient.newBuilder().executor(clientExecutor).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		upstream.stop(0);
+		clientExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("느린 링크 요청이 몰릴 때 가상 스레드 모드의 처리량이 더 높아야 한다")
+	void virtualThreadsOutperformPlatformThreadsOnSlowLinks() throws Exception {
+		double platform = measure(false);
+		double virtual = measure(true);
+
+		System.out.printf("[slow-link] virtual/platform throughput = %.2fx%n", virtual / platform);
+		assertThat(virtual).isGreaterThan(platform);
+	}
+
+	/**
+	 * 지정한 스레드 모드로 애플리케이션을 띄워 초당 처리 요청 수를 측정합니다.
+	 */
+	private double measure(boolean virtual) throws Exception {
+		String mode = virtual ? "virtual" : "platform";
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Project2Application.class)
+			.profiles("test")
+			.properties(
+				"server.port=0",
+				"spring.threads.virtual.enabled=" + virtual,
+				"server.tomcat.threads.max=" + TOMCAT_THREADS,
+				"spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+				"spring.jpa.properties.hibernate.show_sql=false",
+				"logging.level.org.hibernate.sql=warn",
+				"logging.level.org.hibernate.orm.jdbc.bind=warn",
+				"logging.level.org.springframework.transaction.interceptor=warn")
+			.initializers(applicationContext -> ((GenericApplicationContext)applicationContext)
+				.registerBean("benchmarkPreviewRoute", RouterFunction.class, VirtualThreadLoadBenchmarkTest::previewRoute))
+			.run()) {
+
+			String port = context.getEnvironment().getProperty("local.server.port");
+			URI uri = URI.create("http://127.0.0.1:" + port + PREVIEW_PATH
+				+ "?url=http://127.0.0.1:" + upstream.getAddress().getPort() + "/article");
+
+			// 워밍업
+			run(uri, CONCURRENCY);
+
+			long start = System.nanoTime();
+			run(uri, REQUESTS);
+			double seconds = (System.nanoTime() - start) / 1e9;
+			double throughput = REQUESTS / seconds;
+
+			long pinned = context.getBean(MeterRegistry.class)
+				.find(VirtualThreadPinningMonitor.METRIC_NAME).timers().stream()
+				.mapToLong(Timer::count)
+				.sum();
+			System.out.printf("[slow-link] mode=%-8s  tomcatThreads=%3d  concurrency=%3d  requests=%5d  "
+					+ "elapsed=%6.2fs  requests/s=%8.1f  pinnedEvents=%d%n",
+				mode, TOMCAT_THREADS, CONCURRENCY, REQUESTS, seconds, throughput, pinned);
+			return throughput;
+		}
+	}
+
+	/**
+	 * 최대 {@link #CONCURRENCY}개의 요청을 동시에 보내고 모두 성공할 때까지 기다립니다.
+	 */
+	private void run(URI uri, int requests) throws Exception {
+		Semaphore permits = new Semaphore(CONCURRENCY);
+		List<Future<Integer>> futures = new ArrayList<>(requests);
+		for (int i = 0; i < requests; i++) {
+			permits.acquire();
+			futures.add(clientExecutor.submit(() -> {
+				try {
+					return client.send(HttpRequest.newBuilder(uri).GET().build(),
+						HttpResponse.BodyHandlers.discarding()).statusCode();
+				} finally {
+					permits.release();
+				}
+			}));
+		}
+		for (Future<Integer> future : futures) {
+			assertThat(future.get(60, TimeUnit.SECONDS)).isEqualTo(200);
+		}
+	}
+
+	/**
+	 * 링크 메타데이터만 가져오는 벤치마크용 엔드포인트입니다. (DB 커넥션 풀의 영향을 배제)
+	 */
+	private static RouterFunction<ServerResponse> previewRoute() {
+		return RouterFunctions.route()
+			.GET(PREVIEW_PATH, request -> {
+				Link link = Link.builder().url(request.param("url").orElseThrow()).build();
+				link.loadMetadata();
+				return ServerResponse.ok().body(link.getTitle());
+			})
+			.build();
+	}
+}
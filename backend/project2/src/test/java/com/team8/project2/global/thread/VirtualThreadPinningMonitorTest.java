@@ -0,0 +1,76 @@
+package com.team8.project2.global.thread;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+	private final Object lock = new Object();
+
+	private SimpleMeterRegistry meterRegistry;
+	private VirtualThreadPinningMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+		monitor.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		monitor.stop();
+	}
+
+	/**
+	 * synchronized 블록 안에서 대기해 가상 스레드를 캐리어 스레드에 고정시킵니다.
+	 */
+	private void blockWhileHoldingMonitor() {
+		synchronized (lock) {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("synchronized 블록에서 대기한 가상 스레드는 고정 위치와 함께 기록되어야 한다.")
+	void recordsPinnedSite() throws Exception {
+		Thread.ofVirtual().start(this::blockWhileHoldingMonitor).join();
+
+		// JFR 스트림은 주기적으로 이벤트를 내보내므로 기록될 때까지 기다립니다.
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (meterRegistry.find(VirtualThreadPinningMonitor.METRIC_NAME).timer() == null
+			&& System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+
+		Timer timer = meterRegistry.find(VirtualThreadPinningMonitor.METRIC_NAME).timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isPositive();
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(10);
+		assertThat(timer.getId().getTag("site")).startsWith(VirtualThreadPinningMonitorTest.class.getName());
+	}
+
+	@Test
+	@DisplayName("중지한 뒤에는 다시 시작할 수 있어야 한다.")
+	void restartsAfterStop() {
+		monitor.stop();
+		assertThat(monitor.isRunning()).isFalse();
+
+		monitor.start();
+		assertThat(monitor.isRunning()).isTrue();
+	}
+}
@@ -0,0 +1,157 @@
+package com.team8.project2.global.web;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+class ClientIpResolverTest {
+
+	private static final String HOST = "app-server/10.0.0.5";
+
+	private final ClientIpResolver resolver = new ClientIpResolver(
+		List.of("127.0.0.1/32", "::1/128", "10.0.0.0/8"), HOST);
+
+	private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(remoteAddr);
+		if (forwardedFor != null) {
+			request.addHeader("X-Forwarded-For", forwardedFor);
+		}
+		return request;
+	}
+
+	@Test
+	@DisplayName("신뢰하지 않는 곳에서 직접 연결하면 전달 헤더를 무시한다")
+	void ignoreHeadersFromUntrustedPeer() {
+		MockHttpServletRequest request = request("203.0.113.7", "1.1.1.1");
+		request.addHeader("X-Real-IP", "2.2.2.2");
+
+		assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	@DisplayName("신뢰하는 프록시를 거친 요청은 오른쪽부터 처음 만나는 신뢰하지 않는 주소를 클라이언트로 본다")
+	void skipTrustedHopsFromRight() {
+		// 클라이언트가 임의로 넣은 1.1.1.1은 무시하고, 첫 프록시가 기록한 주소를 사용
+		assertThat(resolver.resolve(request("10.0.0.2", "1.1.1.1, 198.51.100.4, 10.0.0.1")))
+			.isEqualTo("198.51.100.4");
+		assertThat(resolver.resolve(request("10.0.0.2", "198.51.100.4"))).isEqualTo("198.51.100.4");
+	}
+
+	@Test
+	@DisplayName("X-Forwarded-For가 없으면 신뢰하는 프록시가 보낸 X-Real-IP를 사용한다")
+	void fallBackToRealIp() {
+		MockHttpServletRequest request = request("10.0.0.2", null);
+		request.addHeader("X-Real-IP", "198.51.100.4");
+
+		assertThat(resolver.resolve(request)).isEqualTo("198.51.100.4");
+	}
+
+	@Test
+	@DisplayName("IP 형식이 아닌 값은 DNS를 조회하지 않고 그대로 클라이언트 식별값으로 사용한다")
+	void keepUnparseableHop() {
+		assertThat(resolver.resolve(request("10.0.0.2", "evil.example.com"))).isEqualTo("evil.example.com");
+		assertThat(ClientIpResolver.parseAddress("evil.example.com")).isNull();
+		assertThat(ClientIpResolver.parseAddress("host:80")).isNull();
+		assertThat(ClientIpResolver.parseAddress("256.1.1.1")).isNull();
+		assertThat(ClientIpResolver.parseAddress("1.2.3")).isNull();
+		assertThat(ClientIpResolver.parseAddress("1.2.3.4")).containsExactly(1, 2, 3, 4);
+		assertThat(ClientIpResolver.parseAddress("fe80::1%eth0")).hasSize(16);
+	}
+
+	@Test
+	@DisplayName("루프백 클라이언트는 시작할 때 구한 호스트 식별값으로 바꾼다")
+	void loopbackUsesCachedHostIdentity() {
+		assertThat(resolver.resolve(request("127.0.0.1", null))).isEqualTo(HOST);
+		assertThat(resolver.resolve(request("0:0:0:0:0:0:0:1", null))).isEqualTo(HOST);
+		assertThat(resolver.resolve(request("10.0.0.2", "127.0.0.1"))).isEqualTo(HOST);
+	}
+
+	@Test
+	@DisplayName("필터는 구한 IP를 요청 속성에 담고, 필터를 거치지 않은 요청은 연결 주소를 사용한다")
+	void filterExposesAttribute() throws Exception {
+		MockHttpServletRequest request = request("10.0.0.2", "198.51.100.4");
+
+		new ClientIpFilter(resolver).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(request.getAttribute(ClientIpFilter.CLIENT_IP_ATTRIBUTE)).isEqualTo("198.51.100.4");
+		assertThat(ClientIpFilter.getClientIp(request)).isEqualTo("198.51.100.4");
+		assertThat(ClientIpFilter.getClientIp(request("203.0.113.7", null))).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	@DisplayName("잘못된 신뢰 프록시 설정은 시작할 때 거부한다")
+	void rejectInvalidTrustedProxy() {
+		assertThatThrownBy(() -> new ClientIpResolver(List.of("proxy.internal"), HOST))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new ClientIpResolver(List.of("10.0.0.0/33"), HOST))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName("요청당 IP 확인 비용: 기존 헤더 체인(루프백마다 호스트 조회)과 리졸버를 비교한다")
+	void benchmarkPerRequestCost() {
+		int iterations = 50_000;
+		ClientIpResolver configured = new ClientIpResolver(List.of("127.0.0.1/32", "::1/128", "10.0.0.0/8"));
+		HttpServletRequest loopback = request("127.0.0.1", null);
+		HttpServletRequest proxied = request("10.0.0.2", "1.1.1.1, 198.51.100.4, 10.0.0.1");
+
+		// 워밍업
+		for (HttpServletRequest request : List.of(loopback, proxied)) {
+			nanosPerOp(ClientIpResolverTest::legacyClientIp, request, iterations / 5);
+			nanosPerOp(configured::resolve, request, iterations / 5);
+		}
+
+		System.out.printf("[ClientIp benchmark] loopback: legacy=%.0fns/op, resolver=%.0fns/op%n",
+			nanosPerOp(ClientIpResolverTest::legacyClientIp, loopback, iterations),
+			nanosPerOp(configured::resolve, loopback, iterations));
+		System.out.printf("[ClientIp benchmark] proxied: legacy=%.0fns/op, resolver=%.0fns/op%n",
+			nanosPerOp(ClientIpResolverTest::legacyClientIp, proxied, iterations),
+			nanosPerOp(configured::resolve, proxied, iterations));
+	}
+
+	private static double nanosPerOp(Function<HttpServletRequest, String> resolve, HttpServletRequest request,
+		int iterations) {
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			resolve.apply(request);
+		}
+		return (double)(System.nanoTime() - start) / iterations;
+	}
+
+	// 서비스마다 복사되어 있던 기존 방식 (비교용)
+	private static String legacyClientIp(HttpServletRequest request) {
+		String ip = request.getHeader("X-Forwarded-For");
+		for (String header : List.of("Proxy-Client-IP", "WL-Proxy-Client-IP", "HTTP_CLIENT_IP",
+			"HTTP_X_FORWARDED_FOR", "X-Real-IP", "X-RealIP", "REMOTE_ADDR")) {
+			if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+				ip = request.getHeader(header);
+			}
+		}
+		if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+			ip = request.getRemoteAddr();
+		}
+		if ("0:0:0:0:0:0:0:1".equals(ip) || "127.0.0.1".equals(ip)) {
+			try {
+				InetAddress address = InetAddress.getLocalHost();
+				ip = address.getHostName() + "/" + address.getHostAddress();
+			} catch (UnknownHostException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		return ip;
+	}
+}
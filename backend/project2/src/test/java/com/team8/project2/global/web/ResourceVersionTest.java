@@ -0,0 +1,73 @@
+package com.team8.project2.global.web;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ResourceVersionTest {
+
+	private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 500_000_000);
+
+	@Test
+	@DisplayName("같은 값으로 만든 버전은 같은 ETag를, 다른 값이면 다른 ETag를 가져야 한다.")
+	void eTagDependsOnParts() {
+		ResourceVersion version = ResourceVersion.of(MODIFIED_AT, 1L, 10L, true);
+
+		assertThat(ResourceVersion.of(MODIFIED_AT, 1L, 10L, true)).isEqualTo(version);
+		assertThat(ResourceVersion.of(MODIFIED_AT, 1L, 11L, true).eTag()).isNotEqualTo(version.eTag());
+		assertThat(version.eTag()).startsWith("\"").endsWith("\"");
+	}
+
+	@Test
+	@DisplayName("If-None-Match가 있으면 ETag만 비교해야 한다.")
+	void comparesETagFirst() {
+		ResourceVersion version = ResourceVersion.of(MODIFIED_AT, 1L);
+		MockHttpServletRequest matching = new MockHttpServletRequest();
+		matching.addHeader("If-None-Match", "\"other\", W/" + version.eTag());
+		MockHttpServletRequest stale = new MockHttpServletRequest();
+		stale.addHeader("If-None-Match", "\"other\"");
+		stale.addHeader("If-Modified-Since", toEpochMilli(MODIFIED_AT.plusDays(1)));
+
+		assertThat(version.isNotModified(matching)).isTrue();
+		assertThat(version.isNotModified(stale)).isFalse();
+	}
+
+	@Test
+	@DisplayName("If-Modified-Since는 초 단위로 비교해야 한다.")
+	void comparesLastModifiedInSeconds() {
+		ResourceVersion version = ResourceVersion.of(MODIFIED_AT, 1L);
+		MockHttpServletRequest sameSecond = new MockHttpServletRequest();
+		sameSecond.addHeader("If-Modified-Since", toEpochMilli(MODIFIED_AT.withNano(0)));
+		MockHttpServletRequest earlier = new MockHttpServletRequest();
+		earlier.addHeader("If-Modified-Since", toEpochMilli(MODIFIED_AT.minusSeconds(1)));
+
+		assertThat(version.isNotModified(sameSecond)).isTrue();
+		assertThat(version.isNotModified(earlier)).isFalse();
+		assertThat(version.isNotModified(new MockHttpServletRequest())).isFalse();
+	}
+
+	@Test
+	@DisplayName("304 응답에는 본문 없이 검증 헤더만 포함되어야 한다.")
+	void notModifiedHasValidatorsOnly() {
+		ResourceVersion version = ResourceVersion.of(MODIFIED_AT, 1L);
+
+		ResponseEntity<String> response = version.notModified();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getBody()).isNull();
+		assertThat(response.getHeaders().getETag()).isEqualTo(version.eTag());
+		assertThat(response.getHeaders().getLastModified()).isEqualTo(toEpochMilli(MODIFIED_AT.withNano(0)));
+		assertThat(response.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+	}
+
+	private long toEpochMilli(LocalDateTime time) {
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -21,6 +21,7 @@ interface Curation {
   content: string;
   authorName: string;
   memberImgUrl: string;
+  memberImgThumbUrl?: string;
   createdAt: string;
   modifiedAt: string;
   likeCount: number;
@@ -629,12 +630,21 @@ export default function PostList() {
                   <div className="flex items-center justify-between">
                     <div className="flex items-center space-x-2">
                       <Avatar className="h-8 w-8">
+                        {/* 썸네일이 없으면 (이전에 올린 이미지) 원본 이미지 사용 */}
                         <AvatarImage
-                          src={curation.memberImgUrl}
+                          src={curation.memberImgThumbUrl || curation.memberImgUrl}
                           alt={curation.authorName}
                         />
                         <AvatarFallback>
-                          {curation.authorName.substring(0, 2).toUpperCase()}
+                          <Avatar className="h-8 w-8">
+                            <AvatarImage
+                              src={curation.memberImgUrl}
+                              alt={curation.authorName}
+                            />
+                            <AvatarFallback>
+                              {curation.authorName.substring(0, 2).toUpperCase()}
+                            </AvatarFallback>
+                          </Avatar>
                         </AvatarFallback>
                       </Avatar>
                       <div>
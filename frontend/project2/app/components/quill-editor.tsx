@@ -77,24 +77,50 @@ const QuillEditor = forwardRef<QuillEditorRef, QuillEditorProps>(
               try {
                 setIsUploading(true);
 
-                // FormData 생성 및 파일 추가
-                const formData = new FormData();
-                formData.append("file", file);
-
-                // 서버에 이미지 업로드 요청
                 const apiUrl =
                   process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
-                const response = await fetch(`${apiUrl}/api/v1/images/upload`, {
-                  method: "POST",
-                  body: formData,
-                });
 
-                if (!response.ok) {
+                // 1. 직접 업로드용 URL 발급
+                const presignResponse = await fetch(
+                  `${apiUrl}/api/v1/images/presigned`,
+                  {
+                    method: "POST",
+                    headers: { "Content-Type": "application/json" },
+                    body: JSON.stringify({
+                      fileName: file.name,
+                      contentType: file.type,
+                      contentLength: file.size,
+                    }),
+                  }
+                );
+                if (!presignResponse.ok) {
+                  throw new Error("이미지 업로드에 실패했습니다.");
+                }
+                const { data: presigned } = await presignResponse.json();
+
+                // 2. 저장소에 파일 직접 업로드
+                const uploadResponse = await fetch(presigned.uploadUrl, {
+                  method: "PUT",
+                  headers: { "Content-Type": file.type },
+                  body: file,
+                });
+                if (!uploadResponse.ok) {
                   throw new Error("이미지 업로드에 실패했습니다.");
                 }
 
-                // 업로드된 이미지 URL 받기
-                const imageUrl = await response.text();
+                // 3. 업로드 확인 후 이미지 URL 받기
+                const confirmResponse = await fetch(
+                  `${apiUrl}/api/v1/images/confirm`,
+                  {
+                    method: "POST",
+                    headers: { "Content-Type": "application/json" },
+                    body: JSON.stringify({ imageName: presigned.imageName }),
+                  }
+                );
+                if (!confirmResponse.ok) {
+                  throw new Error("이미지 업로드에 실패했습니다.");
+                }
+                const { data: imageUrl } = await confirmResponse.json();
 
                 // 현재 커서 위치 저장
                 const range = quillRef.current.getSelection(true);
@@ -95,6 +95,9 @@ export default function PostDetail() {
 
       const data = await response.json();
       setPost(data.data);
+
+      // 상세 본문은 캐시되므로 조회수/좋아요 수는 카운터 API로 따로 가져옵니다. (실패해도 본문 값 유지)
+      fetchCounters();
     } catch (err) {
       setError((err as Error).message);
       console.error("Error fetching curation data:", err);
@@ -103,6 +106,35 @@ export default function PostDetail() {
     }
   }
 
+  // 실시간 조회수/좋아요 수 불러오기
+  async function fetchCounters() {
+    try {
+      const response = await fetch(`${API_URL}/api/v1/curation/${id}/counters`, {
+        method: "GET",
+        credentials: "include",
+        cache: "no-store",
+        headers: {
+          Accept: "application/json",
+        },
+      });
+
+      if (!response.ok) return;
+
+      const counters = (await response.json()).data;
+      setPost((prev) =>
+        prev
+          ? {
+              ...prev,
+              viewCount: counters.viewCount,
+              likeCount: counters.likeCount,
+            }
+          : prev
+      );
+    } catch (err) {
+      console.error("Error fetching curation counters:", err);
+    }
+  }
+
   // 최초 데이터 불러오기
   useEffect(() => {
     fetchData();
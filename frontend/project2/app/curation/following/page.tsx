@@ -28,6 +28,7 @@ interface Curation {
   viewCount?: number;
   authorName: string;
   memberImgUrl: string;
+  memberImgThumbUrl?: string;
 }
 
 // API 응답 인터페이스 정의
@@ -307,12 +308,21 @@ export default function FollowingCurations() {
                   {/* 작성자 정보 추가 */}
                   <div className="flex items-center space-x-2">
                     <Avatar className="h-8 w-8">
+                      {/* 썸네일이 없으면 (이전에 올린 이미지) 원본 이미지 사용 */}
                       <AvatarImage
-                        src={curation.memberImgUrl}
+                        src={curation.memberImgThumbUrl || curation.memberImgUrl}
                         alt={curation.authorName}
                       />
                       <AvatarFallback>
-                        {curation.authorName.substring(0, 2).toUpperCase()}
+                        <Avatar className="h-8 w-8">
+                          <AvatarImage
+                            src={curation.memberImgUrl}
+                            alt={curation.authorName}
+                          />
+                          <AvatarFallback>
+                            {curation.authorName.substring(0, 2).toUpperCase()}
+                          </AvatarFallback>
+                        </Avatar>
                       </AvatarFallback>
                     </Avatar>
                     <div>
@@ -63,6 +63,8 @@ export default function ExplorePlaylists() {
     tags: [] as string[],
   });
   const [allTags, setAllTags] = useState<string[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
   // 현재 경로를 세션 스토리지에 저장
   useEffect(() => {
@@ -71,36 +73,48 @@ export default function ExplorePlaylists() {
     sessionStorage.setItem("playlistReturnPath", pathname);
   }, [pathname]);
 
-  // 모든 플레이리스트 가져오기
-  useEffect(() => {
-    async function fetchAllPlaylists() {
-      try {
-        setIsLoading(true);
-        const res = await fetch(
-          "http://localhost:8080/api/v1/playlists/explore",
-          {
-            // 로그인한 경우에만 credentials 포함
-            ...(sessionStorage.getItem("isLoggedIn") === "true"
-              ? { credentials: "include" }
-              : {}),
-            cache: "no-store",
-          }
-        );
+  // 공개 플레이리스트 페이지 가져오기 (커서 기반)
+  async function fetchPlaylistPage(cursor: string | null) {
+    const params = new URLSearchParams({ size: "50" });
+    if (cursor) {
+      params.set("cursor", cursor);
+    }
+    const res = await fetch(
+      `http://localhost:8080/api/v1/playlists/explore?${params.toString()}`,
+      {
+        // 로그인한 경우에만 credentials 포함
+        ...(sessionStorage.getItem("isLoggedIn") === "true"
+          ? { credentials: "include" }
+          : {}),
+        cache: "no-store",
+      }
+    );
 
-        if (!res.ok) {
-          throw new Error("전체 플레이리스트 데이터를 불러오지 못했습니다.");
+    if (!res.ok) {
+      throw new Error("전체 플레이리스트 데이터를 불러오지 못했습니다.");
+    }
+
+    const result = await res.json();
+    const page: Playlist[] = result.data.playlists;
+    setPlaylists((prev) => (cursor ? [...prev, ...page] : page));
+    setNextCursor(result.data.hasNext ? result.data.nextCursor : null);
+    // 모든 태그 추출
+    setAllTags((prev) => {
+      const extractedTags = new Set<string>(cursor ? prev : []);
+      page.forEach((playlist: Playlist) => {
+        if (playlist.tags && Array.isArray(playlist.tags)) {
+          playlist.tags.forEach((tag) => extractedTags.add(tag));
         }
+      });
+      return Array.from(extractedTags);
+    });
+  }
 
-        const result = await res.json();
-        setPlaylists(result.data);
-        // 모든 태그 추출
-        const extractedTags = new Set<string>();
-        result.data.forEach((playlist: Playlist) => {
-          if (playlist.tags && Array.isArray(playlist.tags)) {
-            playlist.tags.forEach((tag) => extractedTags.add(tag));
-          }
-        });
-        setAllTags(Array.from(extractedTags));
+  useEffect(() => {
+    async function fetchFirstPage() {
+      try {
+        setIsLoading(true);
+        await fetchPlaylistPage(null);
       } catch (error) {
         console.error("플레이리스트 로딩 오류", error);
         setError((error as Error).message);
@@ -109,9 +123,23 @@ export default function ExplorePlaylists() {
       }
     }
 
-    fetchAllPlaylists();
+    fetchFirstPage();
   }, []);
 
+  // 다음 페이지 불러오기
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      setIsLoadingMore(true);
+      await fetchPlaylistPage(nextCursor);
+    } catch (error) {
+      console.error("플레이리스트 로딩 오류", error);
+      toast.error((error as Error).message);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   // 플레이리스트를 사용자의 플레이리스트에 추가
   const clonePlaylist = async (playlistId: number, e: React.MouseEvent) => {
     e.preventDefault();
@@ -185,8 +213,8 @@ export default function ExplorePlaylists() {
     .filter(
       (playlist) =>
         playlist.title.toLowerCase().includes(searchQuery.toLowerCase()) &&
-        (playlist.items?.length || 0) >= filterOptions.minLinks &&
-        (playlist.items?.length || 0) <= filterOptions.maxLinks &&
+        (playlist.itemCount ?? playlist.items?.length ?? 0) >= filterOptions.minLinks &&
+        (playlist.itemCount ?? playlist.items?.length ?? 0) <= filterOptions.maxLinks &&
         (playlist.likeCount || 0) >= filterOptions.minLikes &&
         // 태그 필터링 추가
         (filterOptions.tags.length === 0 ||
@@ -380,7 +408,7 @@ export default function ExplorePlaylists() {
                       className="flex items-center gap-1 font-normal"
                     >
                       <LinkIcon className="w-3 h-3" />
-                      <span>{playlist.items?.length || 0} 링크</span>
+                      <span>{playlist.itemCount ?? playlist.items?.length ?? 0} 링크</span>
                     </Badge>
 
                     <LikeButton
@@ -416,6 +444,14 @@ export default function ExplorePlaylists() {
         </div>
       )}
 
+      {nextCursor && (
+        <div className="flex justify-center mt-6">
+          <Button variant="outline" onClick={loadMore} disabled={isLoadingMore}>
+            {isLoadingMore ? "불러오는 중..." : "더 보기"}
+          </Button>
+        </div>
+      )}
+
       {/* 필터 다이얼로그 */}
       <Dialog open={showFilterDialog} onOpenChange={setShowFilterDialog}>
         <DialogContent>
@@ -185,6 +185,32 @@ export default function PlaylistDetailPage() {
 
         setPlaylist(result.data);
 
+        // 상세 본문은 캐시되므로 조회수/좋아요 수는 카운터 API로 따로 가져옵니다. (실패해도 본문 값 유지)
+        try {
+          const countersResponse = await fetch(
+            `http://localhost:8080/api/v1/playlists/${params.id}/counters?_t=${timestamp}`,
+            {
+              cache: "no-store",
+              signal: AbortSignal.timeout(5000),
+            }
+          );
+
+          if (countersResponse.ok) {
+            const counters = (await countersResponse.json()).data;
+            setPlaylist((prev) =>
+              prev
+                ? {
+                    ...prev,
+                    viewCount: counters.viewCount,
+                    likeCount: counters.likeCount,
+                  }
+                : prev
+            );
+          }
+        } catch (countersError) {
+          console.error("카운터 로딩 오류:", countersError);
+        }
+
         // 로그인 상태인 경우 좋아요 상태 확인 및 세션 스토리지에 저장
         if (sessionStorage.getItem("isLoggedIn") === "true") {
           try {
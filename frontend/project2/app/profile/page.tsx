@@ -173,14 +173,42 @@ export default function ProfilePage() {
     setIsImageUploading(true);
 
     try {
-      const formData = new FormData();
-      formData.append("file", file);
+      // 1. 직접 업로드용 URL 발급
+      const presignResponse = await fetch(
+        "http://localhost:8080/api/v1/members/profile/images/presigned",
+        {
+          method: "POST",
+          headers: { "Content-Type": "application/json" },
+          body: JSON.stringify({
+            fileName: file.name,
+            contentType: file.type,
+            contentLength: file.size,
+          }),
+          credentials: "include",
+        }
+      );
+      if (!presignResponse.ok) {
+        throw new Error("이미지 업로드에 실패했습니다.");
+      }
+      const { data: presigned } = await presignResponse.json();
+
+      // 2. 저장소에 파일 직접 업로드
+      const uploadResponse = await fetch(presigned.uploadUrl, {
+        method: "PUT",
+        headers: { "Content-Type": file.type },
+        body: file,
+      });
+      if (!uploadResponse.ok) {
+        throw new Error("이미지 업로드에 실패했습니다.");
+      }
 
+      // 3. 업로드 확인 후 프로필 이미지 변경
       const response = await fetch(
-        "http://localhost:8080/api/v1/members/profile/images/upload",
+        "http://localhost:8080/api/v1/members/profile/images/confirm",
         {
           method: "POST",
-          body: formData,
+          headers: { "Content-Type": "application/json" },
+          body: JSON.stringify({ imageName: presigned.imageName }),
           credentials: "include",
         }
       );
@@ -25,6 +25,7 @@ export interface Playlist {
   isPublic: boolean;
   createdAt: string;
   items?: PlaylistItem[];
+  itemCount?: number;
   tags?: string[];
   viewCount: number;
   likeCount: number;